@@ -0,0 +1,114 @@
+package com.nba.standings.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Routes read-only transactions to read replicas and everything else to the primary.
+ *
+ * Connections for {@code @Transactional(readOnly = true)} work, including Spring Data's own
+ * read methods, are taken from the replicas in turn. Read-write transactions and work outside
+ * a transaction use the primary. The routing decision is made when a connection is obtained,
+ * so this must sit behind a LazyConnectionDataSourceProxy: the transaction manager asks for a
+ * connection before the transaction is marked read-only.
+ *
+ * Read-your-writes: replicas apply the primary's changes with some lag, so for a short window
+ * after a read-write transaction commits, read-only transactions on the same thread also go to
+ * the primary. A request that writes and then reads its own data back therefore sees it, while
+ * the commits of other requests and of background work, such as the snapshot write-behind
+ * flushes, leave the replicas in use for everyone else. Readers on other threads or instances
+ * that miss fall through to the read-write path, which checks the primary again before
+ * calculating.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private static final String PRIMARY = "primary";
+
+    private final List<String> replicaKeys = new ArrayList<>();
+    private final List<DataSource> replicas;
+    private final long readYourWritesWindowNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    /** Read-only transactions on a thread use the primary until this System.nanoTime() value. */
+    private final ThreadLocal<Long> primaryReadsUntil = new ThreadLocal<>();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration readYourWritesWindow) {
+        this(primary, replicas, readYourWritesWindow, System::nanoTime);
+    }
+
+    ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration readYourWritesWindow,
+                             LongSupplier nanoClock) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("At least one replica is required");
+        }
+        this.replicas = List.copyOf(replicas);
+        this.readYourWritesWindowNanos = readYourWritesWindow.toNanos();
+        this.nanoClock = nanoClock;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = "replica-" + i;
+            replicaKeys.add(key);
+            targets.put(key, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        primaryReadsUntil.set(nanoClock.getAsLong() + readYourWritesWindowNanos);
+                    }
+                });
+            }
+            return PRIMARY;
+        }
+        Long until = primaryReadsUntil.get();
+        if (until != null) {
+            if (nanoClock.getAsLong() - until < 0) {
+                return PRIMARY;
+            }
+            primaryReadsUntil.remove();
+        }
+        return replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+    }
+
+    /**
+     * Close the replica pools, which are owned by this data source. The primary is a bean of its own.
+     * A replica that fails to close is logged and skipped, so the others are still closed.
+     */
+    @Override
+    public void close() {
+        for (int i = 0; i < replicas.size(); i++) {
+            if (replicas.get(i) instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    logger.warn("Failed to close {}", replicaKeys.get(i), e);
+                }
+            }
+        }
+    }
+}
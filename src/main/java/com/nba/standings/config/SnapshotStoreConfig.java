@@ -0,0 +1,38 @@
+package com.nba.standings.config;
+
+import com.nba.standings.repository.JdbcBulkInserter;
+import com.nba.standings.repository.PackedStandingsSnapshotRepository;
+import com.nba.standings.repository.StandingsSnapshotRepository;
+import com.nba.standings.service.PackedSnapshotStore;
+import com.nba.standings.service.RowSnapshotStore;
+import com.nba.standings.service.SnapshotStore;
+import com.nba.standings.service.TeamRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the standings snapshot storage format
+ */
+@Configuration
+public class SnapshotStoreConfig {
+    
+    @Value("${standings.snapshots.format:rows}")
+    private String format;
+    
+    /**
+     * Selects the format standings snapshots are stored in:
+     * "packed" for one packed_standings_snapshots row per date,
+     * anything else for one standings_snapshots row per team and date
+     */
+    @Bean
+    public SnapshotStore snapshotStore(JdbcBulkInserter jdbcBulkInserter,
+                                       StandingsSnapshotRepository standingsSnapshotRepository,
+                                       PackedStandingsSnapshotRepository packedStandingsSnapshotRepository,
+                                       TeamRegistry teamRegistry) {
+        if ("packed".equalsIgnoreCase(format)) {
+            return new PackedSnapshotStore(jdbcBulkInserter, packedStandingsSnapshotRepository, teamRegistry);
+        }
+        return new RowSnapshotStore(jdbcBulkInserter, standingsSnapshotRepository);
+    }
+}
@@ -0,0 +1,33 @@
+package com.nba.standings.config;
+
+import com.nba.standings.service.PrimitiveStandingsEngine;
+import com.nba.standings.service.StandingsCalculator;
+import com.nba.standings.service.StandingsEngine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Configuration for the standings calculation engine
+ */
+@Configuration
+public class StandingsEngineConfig {
+    
+    @Value("${standings.engine:primitive}")
+    private String engine;
+    
+    /**
+     * Selects the engine used for full standings calculations:
+     * "primitive" (the default) for the array-based PrimitiveStandingsEngine,
+     * anything else for the reference StandingsCalculator
+     */
+    @Bean
+    @Primary
+    public StandingsEngine standingsEngine(StandingsCalculator standingsCalculator) {
+        if ("primitive".equalsIgnoreCase(engine)) {
+            return new PrimitiveStandingsEngine();
+        }
+        return standingsCalculator;
+    }
+}
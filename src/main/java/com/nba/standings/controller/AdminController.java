@@ -0,0 +1,64 @@
+package com.nba.standings.controller;
+
+import com.nba.standings.service.ProjectionService;
+import com.nba.standings.service.SnapshotBackfillService;
+import com.nba.standings.service.SnapshotBackfillService.BackfillResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * REST controller for administrative operations on cached standings data.
+ */
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminController.class);
+
+    private final SnapshotBackfillService snapshotBackfillService;
+    private final ProjectionService projectionService;
+
+    public AdminController(SnapshotBackfillService snapshotBackfillService, ProjectionService projectionService) {
+        this.snapshotBackfillService = snapshotBackfillService;
+        this.projectionService = projectionService;
+    }
+
+    /**
+     * Materialize standings snapshots for every missing date of a season.
+     *
+     * @param date any date within the season to backfill (format: yyyy-MM-dd), defaults to today
+     * @return ResponseEntity containing the counts of what was written
+     */
+    @PostMapping("/snapshots/backfill")
+    public ResponseEntity<BackfillResult> backfillSnapshots(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        LocalDate seasonDate = date != null ? date : LocalDate.now();
+        logger.info("ADMIN: Backfilling standings snapshots for season containing {}", seasonDate);
+
+        BackfillResult result = snapshotBackfillService.backfillSeason(seasonDate);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Fetch the rest of the current season from the NBA API so projections see the latest
+     * results and the remaining schedule.
+     *
+     * @return ResponseEntity containing the number of newly saved final games
+     */
+    @PostMapping("/schedule/refresh")
+    public ResponseEntity<Map<String, Integer>> refreshSchedule() {
+        logger.info("ADMIN: Refreshing remaining schedule");
+
+        int savedGames = projectionService.refreshSchedule();
+        return ResponseEntity.ok(Map.of("savedGames", savedGames));
+    }
+}
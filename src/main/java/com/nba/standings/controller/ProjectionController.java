@@ -0,0 +1,71 @@
+package com.nba.standings.controller;
+
+import com.nba.standings.dto.ProjectionsResponseDTO;
+import com.nba.standings.dto.TeamProjectionDTO;
+import com.nba.standings.service.ProjectionService;
+import com.nba.standings.service.ProjectionService.Projections;
+import com.nba.standings.service.ProjectionService.TeamProjection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * REST controller for season projection endpoints.
+ */
+@RestController
+@RequestMapping("/api/projections")
+public class ProjectionController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectionController.class);
+
+    private final ProjectionService projectionService;
+
+    public ProjectionController(ProjectionService projectionService) {
+        this.projectionService = projectionService;
+    }
+
+    /**
+     * Get seed, playoff and play-in probabilities for every team in the current season,
+     * simulated from the current standings and the remaining schedule.
+     *
+     * @return ResponseEntity containing the projections grouped by conference
+     */
+    @GetMapping
+    public ResponseEntity<ProjectionsResponseDTO> getProjections() {
+        Projections projections = projectionService.getProjections();
+
+        Map<String, List<TeamProjectionDTO>> byConference = projections.teams().stream()
+                .sorted(Comparator.comparingInt(TeamProjection::conferenceRank))
+                .collect(Collectors.groupingBy(
+                        projection -> projection.team().getConference().name(),
+                        Collectors.mapping(this::convertToDTO, Collectors.toList())));
+
+        logger.info("Successfully projected {} teams from {} simulations",
+                projections.teams().size(), projections.simulations());
+
+        return ResponseEntity.ok(new ProjectionsResponseDTO(
+                projections.asOf(), projections.simulations(), projections.remainingGames(), byConference));
+    }
+
+    private TeamProjectionDTO convertToDTO(TeamProjection projection) {
+        return new TeamProjectionDTO(
+                projection.conferenceRank(),
+                projection.team().getTeamName(),
+                projection.wins(),
+                projection.losses(),
+                projection.projectedWins(),
+                projection.playoffProbability(),
+                projection.playInProbability(),
+                Arrays.stream(projection.seedProbabilities()).boxed().toList()
+        );
+    }
+}
@@ -1,23 +1,40 @@
 package com.nba.standings.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nba.standings.dto.StandingsResponseDTO;
 import com.nba.standings.dto.TeamStandingDTO;
+import com.nba.standings.model.enums.ClinchStatus;
 import com.nba.standings.model.enums.GroupBy;
+import com.nba.standings.service.ClinchService;
 import com.nba.standings.service.StandingsCalculator.TeamStanding;
+import com.nba.standings.service.StandingsResponseCache;
+import com.nba.standings.service.StandingsResponseCache.ResponseBody;
 import com.nba.standings.service.StandingsService;
+import com.nba.standings.service.StandingsTimeline;
 import com.nba.standings.util.SeasonDateUtility;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -30,25 +47,61 @@ public class StandingsController {
     
     private static final Logger logger = LoggerFactory.getLogger(StandingsController.class);
     
+    /** How long clients may reuse standings of a finished season, whose clinch statuses are final too. */
+    private static final CacheControl FINALIZED_CACHE_CONTROL =
+            CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+    
+    /**
+     * How long clients may reuse the standings of the current season, which change as games finish
+     * and whose clinch statuses change with the remaining schedule.
+     */
+    private static final CacheControl PROVISIONAL_CACHE_CONTROL =
+            CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic();
+    
     private final StandingsService standingsService;
     private final SeasonDateUtility seasonDateUtility;
+    private final ObjectMapper objectMapper;
+    private final ClinchService clinchService;
+    private final StandingsResponseCache standingsResponseCache;
     
-    public StandingsController(StandingsService standingsService, SeasonDateUtility seasonDateUtility) {
+    public StandingsController(StandingsService standingsService, SeasonDateUtility seasonDateUtility,
+                               ObjectMapper objectMapper, ClinchService clinchService,
+                               StandingsResponseCache standingsResponseCache) {
         this.standingsService = standingsService;
         this.seasonDateUtility = seasonDateUtility;
+        this.objectMapper = objectMapper;
+        this.clinchService = clinchService;
+        this.standingsResponseCache = standingsResponseCache;
     }
     
     /**
      * Get NBA standings for a specific date grouped by division or conference.
+     * Each team includes its clinch status as of that date when the remaining schedule is known.
+     * 
+     * The response is a StandingsResponseDTO serialized as JSON. For past dates the serialized
+     * body, plain and gzipped, is cached and written out as is on later requests. Clients that
+     * accept gzip get the gzipped body.
+     * 
+     * Every response carries an ETag, and a request whose If-None-Match matches it gets 304 Not
+     * Modified. For past dates the ETag is the content version of the date (see
+     * {@link StandingsService#getStandingsVersion(LocalDate)}), which is looked up and compared
+     * before any standings are loaded; a cached date is answered without even that lookup.
+     * Today's standings are provisional and tagged with a hash of their content instead.
+     * Standings of a finished season are final and marked immutable; the current season's get a
+     * short max-age, since clinch statuses change with the remaining schedule.
      * 
      * @param date the date to retrieve standings for (format: yyyy-MM-dd)
      * @param groupBy how to group the standings (DIVISION or CONFERENCE)
-     * @return ResponseEntity containing the standings response
+     * @param acceptEncoding the Accept-Encoding request header, if any
+     * @param ifNoneMatch the If-None-Match request header, if any
+     * @return ResponseEntity containing the serialized standings response
      */
     @GetMapping
-    public ResponseEntity<StandingsResponseDTO> getStandings(
+    public ResponseEntity<byte[]> getStandings(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
-            @RequestParam GroupBy groupBy) {
+            @RequestParam GroupBy groupBy,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         
         logger.info("========== CONTROLLER: getStandings called ==========");
         logger.info("CONTROLLER: Received date parameter: {}", date);
@@ -57,23 +110,196 @@ public class StandingsController {
         logger.info("CONTROLLER: Date year: {}, month: {}, day: {}", date.getYear(), date.getMonthValue(), date.getDayOfMonth());
         logger.info("CONTROLLER: Received groupBy parameter: {}", groupBy);
         
-        // Validate date is within current season
-        logger.info("CONTROLLER: Validating date is within current season...");
-        seasonDateUtility.validateDateWithinCurrentSeason(date);
+        // Validate date is within a played season
+        logger.info("CONTROLLER: Validating date...");
+        seasonDateUtility.validateDate(date);
         logger.info("CONTROLLER: Date validation passed");
         
+        boolean gzip = acceptsGzip(acceptEncoding);
+        
+        // Past dates already served are written out from the serialized body cache
+        Optional<ResponseBody> cached = standingsResponseCache.getBody(date, groupBy);
+        if (cached.isPresent()) {
+            logger.info("Standings for date={}, groupBy={} served from response body cache", date, groupBy);
+            return toResponse(cached.get(), date, gzip);
+        }
+        
+        // Past dates are tagged with their content version, read before the standings so the
+        // standings are at least as new as the tag
+        boolean past = date.isBefore(LocalDate.now());
+        String etag = null;
+        if (past) {
+            etag = "W/\"" + groupBy + "-" + standingsService.getStandingsVersion(date).token() + "\"";
+            if (matchesIfNoneMatch(ifNoneMatch, etag)) {
+                logger.info("Standings for date={}, groupBy={} not modified", date, groupBy);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                        .eTag(etag)
+                        .cacheControl(cacheControl(date))
+                        .build();
+            }
+        }
+        long calculationToken = standingsResponseCache.startCalculation();
+        
         // Get standings from service
         Map<String, List<TeamStanding>> standings = standingsService.getStandings(date, groupBy);
         
         // Transform TeamStanding objects to TeamStandingDTO objects
-        Map<String, List<TeamStandingDTO>> standingDTOs = transformToDTO(standings, groupBy);
+        Map<Long, ClinchStatus> clinchStatuses = clinchService.getClinchStatuses(date);
+        Map<String, List<TeamStandingDTO>> standingDTOs = transformToDTO(standings, groupBy, clinchStatuses);
         
-        // Build response
+        // Build and serialize response
         StandingsResponseDTO response = new StandingsResponseDTO(date, groupBy, standingDTOs);
+        ResponseBody body = serialize(response, etag);
+        
+        // Today's standings still change as games finish, so only past dates are cached
+        if (past) {
+            standingsResponseCache.putBody(date, groupBy, body, calculationToken);
+        }
         
         logger.info("Successfully retrieved standings for date={}, groupBy={}", date, groupBy);
         
-        return ResponseEntity.ok(response);
+        return toResponse(body, date, gzip);
+    }
+    
+    /**
+     * Get NBA standings for every date in a range grouped by division or conference.
+     * The response is a JSON array with one standings response per date, streamed as each
+     * date is calculated rather than built up in memory.
+     * 
+     * @param from the first date of the range (format: yyyy-MM-dd)
+     * @param to the last date of the range (format: yyyy-MM-dd)
+     * @param groupBy how to group the standings (DIVISION or CONFERENCE)
+     * @return ResponseEntity streaming the standings for each date
+     */
+    @GetMapping("/timeline")
+    public ResponseEntity<StreamingResponseBody> getTimeline(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam GroupBy groupBy) {
+        
+        logger.info("CONTROLLER: getTimeline called with from={}, to={}, groupBy={}", from, to, groupBy);
+        
+        // Validate both ends of the range are within the same played season
+        seasonDateUtility.validateDateRange(from, to);
+        
+        // Load the games up front so data errors are reported before streaming starts
+        StandingsTimeline timeline = standingsService.getTimeline(from, to, groupBy);
+        
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.writeStartArray();
+                timeline.forEachDate((date, standings) -> {
+                    StandingsResponseDTO response =
+                            new StandingsResponseDTO(date, groupBy, transformToDTO(standings, groupBy, Map.of()));
+                    try {
+                        generator.writeObject(response);
+                        generator.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+            logger.info("Successfully streamed standings timeline from {} to {}", from, to);
+        };
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+    
+    /**
+     * Serialize a standings response to UTF-8 JSON along with its gzip encoding.
+     * 
+     * @param response the standings response
+     * @param etag the entity tag of the response's content version, or null to tag it with a hash
+     * @return the serialized response body
+     */
+    private ResponseBody serialize(StandingsResponseDTO response, String etag) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(response);
+            return etag != null ? ResponseBody.of(json, etag) : ResponseBody.of(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * Build a JSON response from a serialized body, gzipped if the client accepts it.
+     * Spring answers a matching If-None-Match with 304 and no body.
+     * 
+     * @param body the serialized response body
+     * @param date the date of the standings (determines how long clients may cache them)
+     * @param gzip whether to send the gzipped body
+     * @return the response entity
+     */
+    private ResponseEntity<byte[]> toResponse(ResponseBody body, LocalDate date, boolean gzip) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .eTag(body.etag())
+                .cacheControl(cacheControl(date));
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzip());
+        }
+        return builder.body(body.json());
+    }
+    
+    /**
+     * Choose how long clients may cache the standings of a date.
+     * A season is finished once yesterday belongs to a later season, leaving a day for late games.
+     * 
+     * @param date the date of the standings
+     * @return the cache control for the date
+     */
+    private CacheControl cacheControl(LocalDate date) {
+        boolean finalized = SeasonDateUtility.seasonOf(date) < SeasonDateUtility.seasonOf(LocalDate.now().minusDays(1));
+        return finalized ? FINALIZED_CACHE_CONTROL : PROVISIONAL_CACHE_CONTROL;
+    }
+    
+    /**
+     * Check whether an If-None-Match header matches an entity tag, using weak comparison.
+     * 
+     * @param ifNoneMatch the If-None-Match header, or null if absent
+     * @param etag the entity tag of the current content
+     * @return true if the header lists the tag or is a wildcard
+     */
+    private boolean matchesIfNoneMatch(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaqueTag = stripWeakPrefix(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || stripWeakPrefix(tag).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static String stripWeakPrefix(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+    
+    /**
+     * Check whether an Accept-Encoding header allows gzip.
+     * 
+     * @param acceptEncoding the Accept-Encoding header, or null if absent
+     * @return true if gzip is listed and not refused with q=0
+     */
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
     }
     
     /**
@@ -82,17 +308,19 @@ public class StandingsController {
      * 
      * @param standings map of group name to list of team standings
      * @param groupBy how the standings are grouped (determines which rank to use)
+     * @param clinchStatuses map of team ID to clinch status, teams without one get none
      * @return map of group name to list of team standing DTOs
      */
     private Map<String, List<TeamStandingDTO>> transformToDTO(
             Map<String, List<TeamStanding>> standings, 
-            GroupBy groupBy) {
+            GroupBy groupBy,
+            Map<Long, ClinchStatus> clinchStatuses) {
         
         return standings.entrySet().stream()
                 .collect(Collectors.toMap(
                         Map.Entry::getKey,
                         entry -> entry.getValue().stream()
-                                .map(standing -> convertToDTO(standing, groupBy))
+                                .map(standing -> convertToDTO(standing, groupBy, clinchStatuses))
                                 .collect(Collectors.toList())
                 ));
     }
@@ -103,19 +331,38 @@ public class StandingsController {
      * 
      * @param standing the team standing to convert
      * @param groupBy how the standings are grouped (determines which rank to use)
+     * @param clinchStatuses map of team ID to clinch status
      * @return the team standing DTO
      */
-    private TeamStandingDTO convertToDTO(TeamStanding standing, GroupBy groupBy) {
+    private TeamStandingDTO convertToDTO(TeamStanding standing, GroupBy groupBy,
+                                         Map<Long, ClinchStatus> clinchStatuses) {
         Integer rank = (groupBy == GroupBy.DIVISION) 
                 ? standing.getDivisionRank() 
                 : standing.getConferenceRank();
         
-        return new TeamStandingDTO(
+        TeamStandingDTO dto = new TeamStandingDTO(
                 rank,
                 standing.getTeam().getTeamName(),
                 standing.getWins(),
                 standing.getLosses(),
                 standing.getWinPct()
         );
+        dto.setStreak(formatStreak(standing.getStreak()));
+        dto.setLastTen(standing.getLastTenWins() + "-" + standing.getLastTenLosses());
+        dto.setClinchStatus(clinchStatuses.get(standing.getTeam().getId()));
+        return dto;
+    }
+    
+    /**
+     * Format a streak as W or L followed by its length.
+     * 
+     * @param streak positive for consecutive wins, negative for consecutive losses
+     * @return the formatted streak, or null if the team has not played
+     */
+    private String formatStreak(int streak) {
+        if (streak == 0) {
+            return null;
+        }
+        return (streak > 0 ? "W" : "L") + Math.abs(streak);
     }
 }
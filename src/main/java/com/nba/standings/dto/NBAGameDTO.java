@@ -28,6 +28,8 @@ public class NBAGameDTO {
     
     private String status;
     
+    private Boolean postseason;
+    
     // Constructors
     public NBAGameDTO() {
     }
@@ -89,6 +91,19 @@ public class NBAGameDTO {
         this.status = status;
     }
     
+    public void setPostseason(Boolean postseason) {
+        this.postseason = postseason;
+    }
+    
+    /**
+     * Checks if the game is a playoff or play-in game rather than a regular-season game.
+     * 
+     * @return true if the API marks the game as postseason, false otherwise
+     */
+    public boolean isPostseason() {
+        return Boolean.TRUE.equals(postseason);
+    }
+    
     /**
      * Checks if the game has finished (status is "Final").
      * 
@@ -0,0 +1,60 @@
+package com.nba.standings.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for projections API response.
+ * The projections map uses Conference enum names (EASTERN, WESTERN) as keys,
+ * with each conference's teams ordered by current rank.
+ */
+public class ProjectionsResponseDTO {
+    private LocalDate asOf;
+    private Integer simulations;
+    private Integer remainingGames;
+    private Map<String, List<TeamProjectionDTO>> projections;
+
+    public ProjectionsResponseDTO() {
+    }
+
+    public ProjectionsResponseDTO(LocalDate asOf, Integer simulations, Integer remainingGames,
+                                  Map<String, List<TeamProjectionDTO>> projections) {
+        this.asOf = asOf;
+        this.simulations = simulations;
+        this.remainingGames = remainingGames;
+        this.projections = projections;
+    }
+
+    public LocalDate getAsOf() {
+        return asOf;
+    }
+
+    public void setAsOf(LocalDate asOf) {
+        this.asOf = asOf;
+    }
+
+    public Integer getSimulations() {
+        return simulations;
+    }
+
+    public void setSimulations(Integer simulations) {
+        this.simulations = simulations;
+    }
+
+    public Integer getRemainingGames() {
+        return remainingGames;
+    }
+
+    public void setRemainingGames(Integer remainingGames) {
+        this.remainingGames = remainingGames;
+    }
+
+    public Map<String, List<TeamProjectionDTO>> getProjections() {
+        return projections;
+    }
+
+    public void setProjections(Map<String, List<TeamProjectionDTO>> projections) {
+        this.projections = projections;
+    }
+}
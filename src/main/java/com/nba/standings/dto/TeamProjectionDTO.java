@@ -0,0 +1,97 @@
+package com.nba.standings.dto;
+
+import java.util.List;
+
+public class TeamProjectionDTO {
+    private Integer rank;
+    private String teamName;
+    private Integer wins;
+    private Integer losses;
+    private Double projectedWins;
+    private Double playoffProbability;
+    private Double playInProbability;
+    
+    /**
+     * Probability of finishing at each conference seed; the first element is seed 1.
+     */
+    private List<Double> seedProbabilities;
+
+    public TeamProjectionDTO() {
+    }
+
+    public TeamProjectionDTO(Integer rank, String teamName, Integer wins, Integer losses, Double projectedWins,
+                             Double playoffProbability, Double playInProbability, List<Double> seedProbabilities) {
+        this.rank = rank;
+        this.teamName = teamName;
+        this.wins = wins;
+        this.losses = losses;
+        this.projectedWins = projectedWins;
+        this.playoffProbability = playoffProbability;
+        this.playInProbability = playInProbability;
+        this.seedProbabilities = seedProbabilities;
+    }
+
+    public Integer getRank() {
+        return rank;
+    }
+
+    public void setRank(Integer rank) {
+        this.rank = rank;
+    }
+
+    public String getTeamName() {
+        return teamName;
+    }
+
+    public void setTeamName(String teamName) {
+        this.teamName = teamName;
+    }
+
+    public Integer getWins() {
+        return wins;
+    }
+
+    public void setWins(Integer wins) {
+        this.wins = wins;
+    }
+
+    public Integer getLosses() {
+        return losses;
+    }
+
+    public void setLosses(Integer losses) {
+        this.losses = losses;
+    }
+
+    public Double getProjectedWins() {
+        return projectedWins;
+    }
+
+    public void setProjectedWins(Double projectedWins) {
+        this.projectedWins = projectedWins;
+    }
+
+    public Double getPlayoffProbability() {
+        return playoffProbability;
+    }
+
+    public void setPlayoffProbability(Double playoffProbability) {
+        this.playoffProbability = playoffProbability;
+    }
+
+    public Double getPlayInProbability() {
+        return playInProbability;
+    }
+
+    public void setPlayInProbability(Double playInProbability) {
+        this.playInProbability = playInProbability;
+    }
+
+    public List<Double> getSeedProbabilities() {
+        return seedProbabilities;
+    }
+
+    public void setSeedProbabilities(List<Double> seedProbabilities) {
+        this.seedProbabilities = seedProbabilities;
+    }
+}
@@ -1,5 +1,7 @@
 package com.nba.standings.dto;
 
+import com.nba.standings.model.enums.ClinchStatus;
+
 import java.math.BigDecimal;
 
 public class TeamStandingDTO {
@@ -8,6 +10,22 @@ public class TeamStandingDTO {
     private Integer wins;
     private Integer losses;
     private BigDecimal winPct;
+    
+    /**
+     * Current streak, e.g. "W3" or "L2". Null before the team has played.
+     */
+    private String streak;
+    
+    /**
+     * Record over the last 10 games, e.g. "7-3".
+     */
+    private String lastTen;
+    
+    /**
+     * Whether the team has clinched or been eliminated from a playoff or play-in spot.
+     * Null when the remaining schedule is not known.
+     */
+    private ClinchStatus clinchStatus;
 
     public TeamStandingDTO() {
     }
@@ -59,4 +77,28 @@ public class TeamStandingDTO {
     public void setWinPct(BigDecimal winPct) {
         this.winPct = winPct;
     }
+
+    public String getStreak() {
+        return streak;
+    }
+
+    public void setStreak(String streak) {
+        this.streak = streak;
+    }
+
+    public String getLastTen() {
+        return lastTen;
+    }
+
+    public void setLastTen(String lastTen) {
+        this.lastTen = lastTen;
+    }
+
+    public ClinchStatus getClinchStatus() {
+        return clinchStatus;
+    }
+
+    public void setClinchStatus(ClinchStatus clinchStatus) {
+        this.clinchStatus = clinchStatus;
+    }
 }
@@ -3,7 +3,7 @@ package com.nba.standings.exception;
 /**
  * Exception thrown when date validation fails.
  * This exception is thrown when a user provides a date that is invalid
- * (e.g., before the current NBA season started or in the future).
+ * (e.g., before the first NBA season started or in the future).
  */
 public class InvalidDateException extends RuntimeException {
     
@@ -1,5 +1,6 @@
 package com.nba.standings.model.entity;
 
+import com.nba.standings.util.SeasonDateUtility;
 import jakarta.persistence.*;
 import org.hibernate.annotations.Immutable;
 import java.time.LocalDate;
@@ -13,6 +14,7 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "games", indexes = {
     @Index(name = "idx_game_date", columnList = "game_date"),
+    @Index(name = "idx_game_season_date", columnList = "season, game_date"),
     @Index(name = "idx_home_team", columnList = "home_team_id"),
     @Index(name = "idx_away_team", columnList = "away_team_id")
 })
@@ -29,6 +31,12 @@ public class Game {
     @Column(name = "game_date", nullable = false)
     private LocalDate gameDate;
     
+    /**
+     * The season the game belongs to, identified by the year in which it started.
+     */
+    @Column(nullable = false)
+    private Integer season;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "home_team_id", nullable = false)
     private Team homeTeam;
@@ -54,6 +62,7 @@ public class Game {
                 Integer homeScore, Integer awayScore) {
         this.nbaGameId = nbaGameId;
         this.gameDate = gameDate;
+        this.season = SeasonDateUtility.seasonOf(gameDate);
         this.homeTeam = homeTeam;
         this.awayTeam = awayTeam;
         this.homeScore = homeScore;
@@ -73,6 +82,10 @@ public class Game {
         return gameDate;
     }
     
+    public Integer getSeason() {
+        return season;
+    }
+    
     public Team getHomeTeam() {
         return homeTeam;
     }
@@ -0,0 +1,234 @@
+package com.nba.standings.model.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Entity holding the standings of every team for one date in a single row.
+ *
+ * This is the compact alternative to StandingsSnapshot, which stores one row per team and date:
+ * the records of all teams are packed, ordered by team ID, into one binary payload keyed by the
+ * snapshot date, so reading a date's standings is a single primary key lookup. The payload layout
+ * is identified by the format version column.
+ *
+ * Format version 1 (all values big-endian):
+ * <pre>
+ *   u16 team count N, u8 flags (bit 0: head-to-head present)
+ *   N times: u16 team ID, u16 wins, u16 losses, u8 division rank, u8 conference rank,
+ *            i8 streak, u16 last-10 results
+ *   if head-to-head is present: N x N u8 head-to-head wins, row by row
+ * </pre>
+ * A rank of 0 stands for a team without a rank.
+ */
+@Entity
+@Table(name = "packed_standings_snapshots")
+@Immutable
+public class PackedStandingsSnapshot {
+
+    /** The payload format written by {@link #encode(List)}. */
+    public static final short FORMAT_VERSION = 1;
+
+    private static final int FLAG_HEAD_TO_HEAD = 1;
+
+    @Id
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;
+
+    @Column(name = "format_version", nullable = false)
+    private Short formatVersion;
+
+    @Column(nullable = false)
+    private byte[] payload;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * One team's standing within a packed snapshot.
+     *
+     * @param teamId the internal team ID
+     * @param wins the team's wins
+     * @param losses the team's losses
+     * @param divisionRank the team's division rank, or null if it has none
+     * @param conferenceRank the team's conference rank, or null if it has none
+     * @param streak the team's current streak, positive for wins and negative for losses
+     * @param lastTenResults the results of the team's last 10 games as bits
+     * @param headToHeadWins wins against each team of the snapshot, in team ID order,
+     *                       or null if head-to-head is not tracked
+     */
+    public record Entry(long teamId, int wins, int losses, Integer divisionRank, Integer conferenceRank,
+                        int streak, int lastTenResults, int[] headToHeadWins) {
+
+        /**
+         * @param snapshot a row-per-team snapshot
+         * @return the snapshot's values as an entry
+         */
+        public static Entry of(StandingsSnapshot snapshot) {
+            return new Entry(snapshot.getTeam().getId(), snapshot.getWins(), snapshot.getLosses(),
+                    snapshot.getDivisionRank(), snapshot.getConferenceRank(), snapshot.getStreak(),
+                    snapshot.getLastTenResults(), snapshot.getHeadToHeadWins());
+        }
+
+        /**
+         * @param snapshotDate the date of the snapshot
+         * @param team the entry's team
+         * @return the entry as an unsaved row-per-team snapshot
+         */
+        public StandingsSnapshot toSnapshot(LocalDate snapshotDate, Team team) {
+            return StandingsSnapshot.restore(snapshotDate, team, wins, losses, divisionRank, conferenceRank,
+                    headToHeadWins, streak, lastTenResults);
+        }
+    }
+
+    // Constructors
+    public PackedStandingsSnapshot() {
+    }
+
+    public PackedStandingsSnapshot(LocalDate snapshotDate, List<Entry> entries) {
+        this.snapshotDate = snapshotDate;
+        this.formatVersion = FORMAT_VERSION;
+        this.payload = encode(entries);
+    }
+
+    /**
+     * Pack entries into a payload of the current format version.
+     * Head-to-head results are only stored if every entry has a full row of them.
+     *
+     * @param entries the entries, in any order
+     * @return the payload, with the entries ordered by team ID
+     * @throws IllegalArgumentException if a value does not fit the format
+     */
+    public static byte[] encode(List<Entry> entries) {
+        List<Entry> sorted = new ArrayList<>(entries);
+        sorted.sort(Comparator.comparingLong(Entry::teamId));
+        int teamCount = sorted.size();
+        boolean headToHead = !sorted.isEmpty() && sorted.stream().allMatch(
+                entry -> entry.headToHeadWins() != null && entry.headToHeadWins().length == teamCount);
+
+        ByteBuffer buffer = ByteBuffer.allocate(3 + teamCount * 11 + (headToHead ? teamCount * teamCount : 0));
+        buffer.putShort((short) checkRange(teamCount, 0, 0xFFFF, "team count"));
+        buffer.put((byte) (headToHead ? FLAG_HEAD_TO_HEAD : 0));
+        for (Entry entry : sorted) {
+            buffer.putShort((short) checkRange(entry.teamId(), 0, 0xFFFF, "team ID"));
+            buffer.putShort((short) checkRange(entry.wins(), 0, 0xFFFF, "wins"));
+            buffer.putShort((short) checkRange(entry.losses(), 0, 0xFFFF, "losses"));
+            buffer.put((byte) encodeRank(entry.divisionRank(), "division rank"));
+            buffer.put((byte) encodeRank(entry.conferenceRank(), "conference rank"));
+            buffer.put((byte) checkRange(entry.streak(), Byte.MIN_VALUE, Byte.MAX_VALUE, "streak"));
+            buffer.putShort((short) checkRange(entry.lastTenResults(), 0, 0xFFFF, "last-10 results"));
+        }
+        if (headToHead) {
+            for (Entry entry : sorted) {
+                for (int wins : entry.headToHeadWins()) {
+                    buffer.put((byte) checkRange(wins, 0, 0xFF, "head-to-head wins"));
+                }
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Unpack a payload of the current format version.
+     *
+     * @param payload the payload
+     * @return the entries, ordered by team ID
+     * @throws IllegalArgumentException if the payload is truncated
+     */
+    public static List<Entry> decode(byte[] payload) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(payload);
+            int teamCount = Short.toUnsignedInt(buffer.getShort());
+            boolean headToHead = (buffer.get() & FLAG_HEAD_TO_HEAD) != 0;
+
+            long[] teamIds = new long[teamCount];
+            int[][] values = new int[teamCount][];
+            Integer[][] ranks = new Integer[teamCount][];
+            for (int i = 0; i < teamCount; i++) {
+                teamIds[i] = Short.toUnsignedInt(buffer.getShort());
+                int wins = Short.toUnsignedInt(buffer.getShort());
+                int losses = Short.toUnsignedInt(buffer.getShort());
+                ranks[i] = new Integer[] {decodeRank(buffer.get()), decodeRank(buffer.get())};
+                values[i] = new int[] {wins, losses, buffer.get(), Short.toUnsignedInt(buffer.getShort())};
+            }
+
+            List<Entry> entries = new ArrayList<>(teamCount);
+            for (int i = 0; i < teamCount; i++) {
+                int[] headToHeadWins = null;
+                if (headToHead) {
+                    headToHeadWins = new int[teamCount];
+                    for (int j = 0; j < teamCount; j++) {
+                        headToHeadWins[j] = Byte.toUnsignedInt(buffer.get());
+                    }
+                }
+                int[] value = values[i];
+                entries.add(new Entry(teamIds[i], value[0], value[1], ranks[i][0], ranks[i][1], value[2], value[3],
+                        headToHeadWins));
+            }
+            return entries;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Packed standings payload is truncated", e);
+        }
+    }
+
+    private static long encodeRank(Integer rank, String name) {
+        return rank == null ? 0 : checkRange(rank, 1, 0xFF, name);
+    }
+
+    private static Integer decodeRank(byte rank) {
+        return rank == 0 ? null : Byte.toUnsignedInt(rank);
+    }
+
+    private static long checkRange(long value, long min, long max, String name) {
+        if (value < min || value > max) {
+            throw new IllegalArgumentException(
+                    "Cannot pack " + name + " " + value + ": outside the range " + min + ".." + max);
+        }
+        return value;
+    }
+
+    // Getters only - this is a read-only entity
+    public LocalDate getSnapshotDate() {
+        return snapshotDate;
+    }
+
+    public Short getFormatVersion() {
+        return formatVersion;
+    }
+
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    /**
+     * @return the packed entries, ordered by team ID
+     * @throws IllegalStateException if the payload has an unsupported format version
+     */
+    public List<Entry> getEntries() {
+        if (formatVersion == null || formatVersion != FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported packed standings format version " + formatVersion
+                    + " for " + snapshotDate);
+        }
+        return decode(payload);
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "PackedStandingsSnapshot{" +
+                "snapshotDate=" + snapshotDate +
+                ", formatVersion=" + formatVersion +
+                ", payloadBytes=" + (payload != null ? payload.length : 0) +
+                '}';
+    }
+}
@@ -0,0 +1,87 @@
+package com.nba.standings.model.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing a regular-season NBA game that has not finished yet.
+ * This is a read-only entity - a scheduled game is removed once its final result is saved as a Game.
+ * Provides the remaining schedule for playoff projections.
+ */
+@Entity
+@Table(name = "scheduled_games", indexes = {
+    @Index(name = "idx_scheduled_game_date", columnList = "game_date")
+})
+@Immutable
+public class ScheduledGame {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "nba_game_id", nullable = false, unique = true)
+    private Long nbaGameId;
+    
+    @Column(name = "game_date", nullable = false)
+    private LocalDate gameDate;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "home_team_id", nullable = false)
+    private Team homeTeam;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "away_team_id", nullable = false)
+    private Team awayTeam;
+    
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+    
+    // Constructors
+    public ScheduledGame() {
+    }
+    
+    public ScheduledGame(Long nbaGameId, LocalDate gameDate, Team homeTeam, Team awayTeam) {
+        this.nbaGameId = nbaGameId;
+        this.gameDate = gameDate;
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+    }
+    
+    // Getters only - this is a read-only entity
+    public Long getId() {
+        return id;
+    }
+    
+    public Long getNbaGameId() {
+        return nbaGameId;
+    }
+    
+    public LocalDate getGameDate() {
+        return gameDate;
+    }
+    
+    public Team getHomeTeam() {
+        return homeTeam;
+    }
+    
+    public Team getAwayTeam() {
+        return awayTeam;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    @Override
+    public String toString() {
+        return "ScheduledGame{" +
+                "id=" + id +
+                ", nbaGameId=" + nbaGameId +
+                ", gameDate=" + gameDate +
+                ", homeTeam=" + (homeTeam != null ? homeTeam.getTeamName() : "null") +
+                ", awayTeam=" + (awayTeam != null ? awayTeam.getTeamName() : "null") +
+                '}';
+    }
+}
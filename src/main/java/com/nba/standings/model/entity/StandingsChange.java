@@ -0,0 +1,62 @@
+package com.nba.standings.model.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entity recording a change to the games or schedule of a season.
+ * This is a read-only entity - changes are only ever appended.
+ * The standings and clinch statuses of the season's dates on or after changedFrom may differ
+ * from before the change; earlier dates are unaffected.
+ */
+@Entity
+@Table(name = "standings_changes", indexes = {
+    @Index(name = "idx_standings_change_season_date", columnList = "season, changed_from")
+})
+@Immutable
+public class StandingsChange {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    /**
+     * The season that changed, identified by the year in which it started.
+     */
+    @Column(nullable = false)
+    private Integer season;
+    
+    @Column(name = "changed_from", nullable = false)
+    private LocalDate changedFrom;
+    
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+    
+    // Constructors
+    public StandingsChange() {
+    }
+    
+    public StandingsChange(Integer season, LocalDate changedFrom) {
+        this.season = season;
+        this.changedFrom = changedFrom;
+    }
+    
+    // Getters only - this is a read-only entity
+    public Long getId() {
+        return id;
+    }
+    
+    public Integer getSeason() {
+        return season;
+    }
+    
+    public LocalDate getChangedFrom() {
+        return changedFrom;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
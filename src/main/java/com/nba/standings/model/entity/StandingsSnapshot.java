@@ -1,8 +1,11 @@
 package com.nba.standings.model.entity;
 
+import com.nba.standings.util.SeasonDateUtility;
 import jakarta.persistence.*;
 import org.hibernate.annotations.Immutable;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -19,6 +22,7 @@ import java.time.LocalDateTime;
     },
     indexes = {
         @Index(name = "idx_snapshot_date", columnList = "snapshot_date"),
+        @Index(name = "idx_snapshot_season_date", columnList = "season, snapshot_date"),
         @Index(name = "idx_team_date", columnList = "team_id, snapshot_date")
     }
 )
@@ -32,6 +36,12 @@ public class StandingsSnapshot {
     @Column(name = "snapshot_date", nullable = false)
     private LocalDate snapshotDate;
     
+    /**
+     * The season of the snapshot date, identified by the year in which it started.
+     */
+    @Column(nullable = false)
+    private Integer season;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "team_id", nullable = false)
     private Team team;
@@ -51,6 +61,26 @@ public class StandingsSnapshot {
     @Column(name = "conference_rank", nullable = false)
     private Integer conferenceRank;
     
+    /**
+     * The team's wins against every team in the league, ordered by team ID and encoded as
+     * unsigned 16-bit values. Lets incremental calculation resume head-to-head tiebreakers
+     * from this snapshot.
+     */
+    @Column(name = "head_to_head")
+    private byte[] headToHead;
+    
+    /**
+     * Current streak: positive for consecutive wins, negative for consecutive losses.
+     */
+    @Column(nullable = false)
+    private Integer streak = 0;
+    
+    /**
+     * Results of the last 10 games as bits, bit 0 being the most recent game and 1 a win.
+     */
+    @Column(name = "last_ten_results", nullable = false)
+    private Integer lastTenResults = 0;
+    
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
     
@@ -61,6 +91,7 @@ public class StandingsSnapshot {
     public StandingsSnapshot(LocalDate snapshotDate, Team team, Integer wins, Integer losses, 
                             BigDecimal winPct, Integer divisionRank, Integer conferenceRank) {
         this.snapshotDate = snapshotDate;
+        this.season = SeasonDateUtility.seasonOf(snapshotDate);
         this.team = team;
         this.wins = wins;
         this.losses = losses;
@@ -81,7 +112,7 @@ public class StandingsSnapshot {
      */
     public static StandingsSnapshot fromTeamStanding(LocalDate snapshotDate, 
                                                      com.nba.standings.service.StandingsCalculator.TeamStanding standing) {
-        return new StandingsSnapshot(
+        StandingsSnapshot snapshot = new StandingsSnapshot(
                 snapshotDate,
                 standing.getTeam(),
                 standing.getWins(),
@@ -90,6 +121,77 @@ public class StandingsSnapshot {
                 standing.getDivisionRank(),
                 standing.getConferenceRank()
         );
+        snapshot.headToHead = encodeHeadToHead(standing.getHeadToHeadRow());
+        snapshot.streak = standing.getStreak();
+        snapshot.lastTenResults = standing.getLastTenResults();
+        return snapshot;
+    }
+    
+    /**
+     * Restores a snapshot from values stored in another format, such as a packed snapshot.
+     * The winning percentage is derived from the wins and losses.
+     * 
+     * @param snapshotDate the date of the snapshot
+     * @param team the team
+     * @param wins the team's wins
+     * @param losses the team's losses
+     * @param divisionRank the team's division rank, or null if it has none
+     * @param conferenceRank the team's conference rank, or null if it has none
+     * @param headToHeadWins wins against each team indexed by position in the league sorted by team ID,
+     *                       or null if head-to-head is not tracked
+     * @param streak the team's current streak
+     * @param lastTenResults the results of the team's last 10 games as bits
+     * @return a new, unsaved StandingsSnapshot instance
+     */
+    public static StandingsSnapshot restore(LocalDate snapshotDate, Team team, int wins, int losses,
+                                            Integer divisionRank, Integer conferenceRank, int[] headToHeadWins,
+                                            int streak, int lastTenResults) {
+        int totalGames = wins + losses;
+        BigDecimal winPct = totalGames > 0
+                ? BigDecimal.valueOf(wins).divide(BigDecimal.valueOf(totalGames), 3, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+        StandingsSnapshot snapshot = new StandingsSnapshot(
+                snapshotDate, team, wins, losses, winPct, divisionRank, conferenceRank);
+        snapshot.headToHead = encodeHeadToHead(headToHeadWins);
+        snapshot.streak = streak;
+        snapshot.lastTenResults = lastTenResults;
+        return snapshot;
+    }
+    
+    /**
+     * Encode a head-to-head row for the head_to_head column.
+     * 
+     * @param headToHeadWins wins against each team indexed by position in the league sorted by team ID
+     * @return the encoded row, or null if head-to-head is not tracked
+     */
+    public static byte[] encodeHeadToHead(int[] headToHeadWins) {
+        if (headToHeadWins == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(headToHeadWins.length * Short.BYTES);
+        for (int wins : headToHeadWins) {
+            buffer.putShort((short) wins);
+        }
+        return buffer.array();
+    }
+    
+    /**
+     * Decode a head-to-head row from the head_to_head column.
+     * 
+     * @param headToHead the encoded row, or null
+     * @return wins against each team indexed by position in the league sorted by team ID,
+     *         or null if head-to-head is not tracked
+     */
+    public static int[] decodeHeadToHead(byte[] headToHead) {
+        if (headToHead == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(headToHead);
+        int[] headToHeadWins = new int[headToHead.length / Short.BYTES];
+        for (int i = 0; i < headToHeadWins.length; i++) {
+            headToHeadWins[i] = Short.toUnsignedInt(buffer.getShort());
+        }
+        return headToHeadWins;
     }
     
     // Getters only - this is a read-only entity
@@ -101,6 +203,10 @@ public class StandingsSnapshot {
         return snapshotDate;
     }
     
+    public Integer getSeason() {
+        return season;
+    }
+    
     public Team getTeam() {
         return team;
     }
@@ -125,6 +231,22 @@ public class StandingsSnapshot {
         return conferenceRank;
     }
     
+    /**
+     * @return wins against each team indexed by position in the league sorted by team ID,
+     *         or null if the snapshot predates head-to-head tracking
+     */
+    public int[] getHeadToHeadWins() {
+        return decodeHeadToHead(headToHead);
+    }
+    
+    public Integer getStreak() {
+        return streak;
+    }
+    
+    public Integer getLastTenResults() {
+        return lastTenResults;
+    }
+    
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -140,6 +262,7 @@ public class StandingsSnapshot {
                 ", winPct=" + winPct +
                 ", divisionRank=" + divisionRank +
                 ", conferenceRank=" + conferenceRank +
+                ", streak=" + streak +
                 '}';
     }
 }
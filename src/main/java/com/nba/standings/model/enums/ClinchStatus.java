@@ -0,0 +1,19 @@
+package com.nba.standings.model.enums;
+
+/**
+ * Whether a team's path to the postseason is mathematically decided.
+ * Seeds 1-6 of each conference qualify for the playoffs directly and seeds 7-10 reach the
+ * play-in tournament.
+ */
+public enum ClinchStatus {
+    /** Guaranteed a top-6 seed */
+    CLINCHED_PLAYOFF,
+    /** Guaranteed at least a top-10 seed */
+    CLINCHED_PLAY_IN,
+    /** Neither clinched nor eliminated */
+    IN_CONTENTION,
+    /** Cannot finish in the top 6, but can still reach the play-in */
+    ELIMINATED_FROM_TOP_SIX,
+    /** Cannot finish in the top 10 */
+    ELIMINATED
+}
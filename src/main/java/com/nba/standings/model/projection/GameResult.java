@@ -0,0 +1,29 @@
+package com.nba.standings.model.projection;
+
+import com.nba.standings.model.entity.Game;
+
+import java.time.LocalDate;
+
+/**
+ * The outcome of a final game: everything standings are calculated from.
+ * Read with a constructor-expression query, so no Game entities, Team proxies or
+ * dirty-checking snapshots are created for it.
+ *
+ * @param gameDate the date the game was played
+ * @param homeTeamId the internal ID of the home team
+ * @param awayTeamId the internal ID of the away team
+ * @param homeWon whether the home team won
+ */
+public record GameResult(LocalDate gameDate, long homeTeamId, long awayTeamId, boolean homeWon) {
+
+    /**
+     * Create the result of a loaded game.
+     *
+     * @param game the game
+     * @return its result
+     */
+    public static GameResult of(Game game) {
+        return new GameResult(game.getGameDate(), game.getHomeTeam().getId(), game.getAwayTeam().getId(),
+                game.getHomeScore() > game.getAwayScore());
+    }
+}
@@ -0,0 +1,12 @@
+package com.nba.standings.model.projection;
+
+/**
+ * The teams of a scheduled game: all that clinch calculations need from the remaining schedule.
+ * Read with a constructor-expression query, so no ScheduledGame entities or Team proxies are
+ * created for it.
+ *
+ * @param homeTeamId the internal ID of the home team
+ * @param awayTeamId the internal ID of the away team
+ */
+public record Matchup(long homeTeamId, long awayTeamId) {
+}
@@ -0,0 +1,20 @@
+package com.nba.standings.model.projection;
+
+/**
+ * The content version of a date's standings: the changes recorded for its season that affect it.
+ * Two reads with the same version were built from the same games and schedule. Counting the
+ * changes as well as taking the latest one keeps the version moving when a change with a lower
+ * ID commits after one with a higher ID.
+ *
+ * @param changes the number of changes that affect the date
+ * @param lastChange the ID of the latest change that affects the date, or null if there is none
+ */
+public record StandingsVersion(Long changes, Long lastChange) {
+
+    /**
+     * @return the version as a token for entity tags
+     */
+    public String token() {
+        return changes + "." + (lastChange != null ? lastChange : 0);
+    }
+}
@@ -0,0 +1,23 @@
+package com.nba.standings.repository;
+
+import com.nba.standings.model.entity.Game;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Bulk write operations for games, mixed into GameRepository.
+ */
+public interface GameBulkOperations {
+
+    /**
+     * Insert the games that are not stored yet, in one set-based statement keyed on the
+     * unique NBA game ID. Games already in the table are left untouched.
+     * Games use IDENTITY keys, which keep Hibernate from batching saveAll() inserts; this
+     * bypasses the persistence context instead, so the games are not assigned IDs.
+     * 
+     * @param games the games to insert
+     * @return the NBA game IDs of the games that were inserted
+     */
+    Set<Long> insertNew(List<Game> games);
+}
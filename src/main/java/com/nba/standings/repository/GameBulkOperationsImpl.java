@@ -0,0 +1,48 @@
+package com.nba.standings.repository;
+
+import com.nba.standings.model.entity.Game;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Implementation of GameBulkOperations on top of JdbcBulkInserter.
+ */
+class GameBulkOperationsImpl implements GameBulkOperations {
+
+    private static final List<String> GAME_COLUMNS =
+            List.of("nba_game_id", "game_date", "season", "home_team_id", "away_team_id", "home_score", "away_score");
+
+    // games is partitioned by date, so its unique constraint includes game_date; insertNew()
+    // still skips a game whose NBA game ID is stored under another date
+    private static final List<String> GAME_UNIQUE_COLUMNS = List.of("nba_game_id", "game_date");
+
+    private final JdbcBulkInserter jdbcBulkInserter;
+
+    GameBulkOperationsImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcBulkInserter = new JdbcBulkInserter(jdbcTemplate);
+    }
+
+    @Override
+    public Set<Long> insertNew(List<Game> games) {
+        return jdbcBulkInserter.insertNew("games", GAME_COLUMNS, GAME_UNIQUE_COLUMNS, toRows(games));
+    }
+
+    private static List<Object[]> toRows(List<Game> games) {
+        List<Object[]> rows = new ArrayList<>(games.size());
+        for (Game game : games) {
+            rows.add(new Object[] {
+                    game.getNbaGameId(),
+                    game.getGameDate(),
+                    game.getSeason(),
+                    game.getHomeTeam().getId(),
+                    game.getAwayTeam().getId(),
+                    game.getHomeScore(),
+                    game.getAwayScore()
+            });
+        }
+        return rows;
+    }
+}
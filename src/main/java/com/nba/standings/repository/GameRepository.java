@@ -1,51 +1,111 @@
 package com.nba.standings.repository;
 
 import com.nba.standings.model.entity.Game;
+import com.nba.standings.model.projection.GameResult;
+import com.nba.standings.util.SeasonDateUtility;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * Repository interface for Game entity.
- * Provides query methods for retrieving games by date ranges and checking game existence.
+ * Provides query methods for retrieving games by date ranges and checking game existence,
+ * and bulk inserts through GameBulkOperations.
+ * 
+ * On PostgreSQL the games table is partitioned by season on game_date, so queries bounded to a
+ * season's dates only read that season's partition; the unbounded queries read every season.
+ * Season queries filter on the season column, indexed together with game_date, and also bound
+ * game_date so that later seasons' partitions are never read.
  */
 @Repository
-public interface GameRepository extends JpaRepository<Game, Long> {
+public interface GameRepository extends JpaRepository<Game, Long>, GameBulkOperations {
+    
+    /**
+     * Find all games within a date range (inclusive), in date order.
+     * 
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @return list of games within the specified date range, ordered by game date
+     */
+    @Query("SELECT g FROM Game g WHERE g.gameDate BETWEEN :startDate AND :endDate ORDER BY g.gameDate")
+    List<Game> findByGameDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    
+    /**
+     * Find the results of all games within a date range (inclusive), in date order.
+     * Reads only the four columns standings are calculated from, into GameResult records
+     * instead of managed Game entities.
+     * 
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @return the results of the games within the specified date range, ordered by game date
+     */
+    @Query("SELECT new com.nba.standings.model.projection.GameResult(g.gameDate, g.homeTeam.id, g.awayTeam.id, "
+            + "CASE WHEN g.homeScore > g.awayScore THEN true ELSE false END) "
+            + "FROM Game g WHERE g.gameDate BETWEEN :startDate AND :endDate ORDER BY g.gameDate")
+    List<GameResult> findResultsByGameDateBetween(@Param("startDate") LocalDate startDate,
+                                                  @Param("endDate") LocalDate endDate);
     
     /**
-     * Find all games within a date range (inclusive).
+     * Stream the results of all games within a date range (inclusive), in date order.
+     * Rows are fetched from the database in batches as the stream is consumed, so memory use
+     * does not grow with the range, however many seasons it spans. Must be called inside a
+     * transaction (PostgreSQL only uses the fetch size with auto-commit off), and the stream
+     * must be closed.
      * 
      * @param startDate the start date of the range
      * @param endDate the end date of the range
-     * @return list of games within the specified date range
+     * @return the results of the games within the specified date range, ordered by game date
      */
-    List<Game> findByGameDateBetween(LocalDate startDate, LocalDate endDate);
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.nba.standings.model.projection.GameResult(g.gameDate, g.homeTeam.id, g.awayTeam.id, "
+            + "CASE WHEN g.homeScore > g.awayScore THEN true ELSE false END) "
+            + "FROM Game g WHERE g.gameDate BETWEEN :startDate AND :endDate ORDER BY g.gameDate")
+    Stream<GameResult> streamResultsByGameDateBetween(@Param("startDate") LocalDate startDate,
+                                                      @Param("endDate") LocalDate endDate);
     
     /**
-     * Find all games on or before a specific date.
+     * Count the games of a season played on or before a specific date.
      * 
+     * @param season the season, identified by the year in which it started
      * @param date the cutoff date
-     * @return list of games on or before the specified date
+     * @return number of games of the season on or before the specified date
      */
-    List<Game> findByGameDateLessThanEqual(LocalDate date);
+    long countBySeasonAndGameDateLessThanEqual(Integer season, LocalDate date);
     
     /**
-     * Check if a game with the specified NBA game ID already exists.
+     * Find the most recent game date of a season.
      * 
-     * @param nbaGameId the NBA API game ID
-     * @return true if a game with this ID exists, false otherwise
+     * @param season the season, identified by the year in which it started
+     * @return the most recent game date of the season, or null if it has no games
      */
-    boolean existsByNbaGameId(Long nbaGameId);
+    default LocalDate findMostRecentGameDateInSeason(int season) {
+        return findMostRecentGameDateInSeason(season,
+                SeasonDateUtility.seasonStart(season), SeasonDateUtility.seasonEnd(season));
+    }
     
     /**
-     * Find the most recent game date in the database.
-     * Used to determine the starting point for fetching new games.
+     * Find the most recent game date of a season, given its date range.
      * 
-     * @return the most recent game date, or null if no games exist
+     * @param season the season, identified by the year in which it started
+     * @param seasonStart the first date of the season
+     * @param seasonEnd the last date of the season
+     * @return the most recent game date of the season, or null if it has no games
      */
-    @Query("SELECT MAX(g.gameDate) FROM Game g")
-    LocalDate findMostRecentGameDate();
+    @Query("SELECT MAX(g.gameDate) FROM Game g "
+            + "WHERE g.season = :season AND g.gameDate BETWEEN :seasonStart AND :seasonEnd")
+    LocalDate findMostRecentGameDateInSeason(@Param("season") int season, @Param("seasonStart") LocalDate seasonStart,
+                                             @Param("seasonEnd") LocalDate seasonEnd);
 }
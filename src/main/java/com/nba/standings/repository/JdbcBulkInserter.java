@@ -0,0 +1,275 @@
+package com.nba.standings.repository;
+
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk inserts rows with a single round trip where the database allows it.
+ *
+ * On PostgreSQL the rows are streamed with COPY through the driver's CopyManager, which skips
+ * per-row statement overhead entirely. Other databases (H2 in tests) get a JDBC batch insert.
+ * Either way the rows are written on the connection of the current transaction, and columns
+ * that are left out, such as created_at, take their database defaults.
+ *
+ * insertNew() skips rows whose key is already in the table, so re-fetched data costs one
+ * set-based statement rather than an existence check per row. insertIgnoringConflicts() does the
+ * same for tables without a single-column key, for writes that must be idempotent.
+ */
+@Component
+public class JdbcBulkInserter {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    // Upper bound on the keys bound to one IN list in the fallback existence check
+    private static final int KEY_LOOKUP_CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcBulkInserter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Insert rows into a table.
+     *
+     * @param table the table to insert into
+     * @param columns the columns to set, in the order of each row's values
+     * @param rows the rows to insert
+     * @return the number of rows inserted
+     */
+    public long insert(String table, List<String> columns, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        String columnList = String.join(", ", columns);
+        Long copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            if (!connection.isWrapperFor(PGConnection.class)) {
+                return null;
+            }
+            return copy(connection, "COPY " + table + " (" + columnList + ") FROM STDIN", rows);
+        });
+        if (copied != null) {
+            return copied;
+        }
+
+        String placeholders = columns.stream().map(column -> "?").collect(Collectors.joining(", "));
+        jdbcTemplate.batchUpdate("INSERT INTO " + table + " (" + columnList + ") VALUES (" + placeholders + ")", rows);
+        return rows.size();
+    }
+
+    /**
+     * Insert the rows whose key is not in the table yet, and report which ones were inserted.
+     * The first column is the key, a BIGINT column, and a row is new if no stored row has its key.
+     * The key also leads the unique constraint given, which on partitioned tables includes the
+     * partition key as well; the constraint alone would let a row whose partition key changed,
+     * such as a re-dated game, in a second time, so stored keys are checked on their own.
+     *
+     * On PostgreSQL the rows are copied into a session-local staging table and moved over with
+     * INSERT ... SELECT ... WHERE NOT EXISTS ... ON CONFLICT DO NOTHING, so concurrent ingests
+     * of the same rows cannot collide. Other databases look the keys up with one IN query per
+     * 1,000 rows and batch insert the rest.
+     *
+     * @param table the table to insert into
+     * @param columns the columns to set, starting with the key column
+     * @param uniqueColumns the columns of the unique constraint, starting with the key column
+     * @param rows the rows to insert; rows repeating a key are inserted once
+     * @return the keys of the rows that were inserted
+     */
+    public Set<Long> insertNew(String table, List<String> columns, List<String> uniqueColumns, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return Set.of();
+        }
+        Map<Long, Object[]> rowsByKey = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            rowsByKey.putIfAbsent((Long) row[0], row);
+        }
+        List<Object[]> uniqueRows = new ArrayList<>(rowsByKey.values());
+        String keyColumn = columns.get(0);
+        String columnList = String.join(", ", columns);
+
+        Set<Long> upserted = jdbcTemplate.execute((ConnectionCallback<Set<Long>>) connection -> {
+            if (!connection.isWrapperFor(PGConnection.class)) {
+                return null;
+            }
+            String staging = copyToStaging(connection, table, columnList, uniqueRows);
+            Set<Long> inserted = new HashSet<>();
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + table
+                    + " (" + columnList + ") SELECT " + columnList + " FROM " + staging
+                    + " WHERE NOT EXISTS (SELECT 1 FROM " + table + " stored WHERE stored." + keyColumn
+                    + " = " + staging + "." + keyColumn + ")"
+                    + " ON CONFLICT (" + String.join(", ", uniqueColumns) + ") DO NOTHING RETURNING " + keyColumn);
+                 ResultSet keys = insert.executeQuery()) {
+                while (keys.next()) {
+                    inserted.add(keys.getLong(1));
+                }
+            }
+            return inserted;
+        });
+        if (upserted != null) {
+            return upserted;
+        }
+
+        Set<Long> existing = findExistingKeys(table, keyColumn, new ArrayList<>(rowsByKey.keySet()));
+        List<Object[]> newRows = uniqueRows.stream()
+                .filter(row -> !existing.contains((Long) row[0]))
+                .toList();
+        insert(table, columns, newRows);
+        Set<Long> inserted = new HashSet<>();
+        newRows.forEach(row -> inserted.add((Long) row[0]));
+        return inserted;
+    }
+
+    /**
+     * Insert rows, skipping those that conflict with a row already in the table on a unique
+     * constraint. Repeating an insert, or racing another writer of the same rows, is harmless.
+     *
+     * On PostgreSQL the rows are copied into a session-local staging table and moved over with
+     * INSERT ... SELECT ... ON CONFLICT DO NOTHING. Other databases batch one INSERT ... SELECT
+     * ... WHERE NOT EXISTS per row.
+     *
+     * @param table the table to insert into
+     * @param columns the columns to set, in the order of each row's values
+     * @param uniqueColumns the columns of the unique constraint, all of which must be set
+     * @param rows the rows to insert
+     * @return the number of rows inserted
+     */
+    public long insertIgnoringConflicts(String table, List<String> columns, List<String> uniqueColumns,
+                                        List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        String columnList = String.join(", ", columns);
+
+        Long upserted = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            if (!connection.isWrapperFor(PGConnection.class)) {
+                return null;
+            }
+            String staging = copyToStaging(connection, table, columnList, rows);
+            try (Statement insert = connection.createStatement()) {
+                return (long) insert.executeUpdate("INSERT INTO " + table + " (" + columnList + ") SELECT "
+                        + columnList + " FROM " + staging
+                        + " ON CONFLICT (" + String.join(", ", uniqueColumns) + ") DO NOTHING");
+            }
+        });
+        if (upserted != null) {
+            return upserted;
+        }
+
+        int[] uniqueIndexes = uniqueColumns.stream().mapToInt(columns::indexOf).toArray();
+        String placeholders = columns.stream().map(column -> "?").collect(Collectors.joining(", "));
+        String conflict = uniqueColumns.stream().map(column -> column + " = ?").collect(Collectors.joining(" AND "));
+        List<Object[]> arguments = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Object[] values = Arrays.copyOf(row, row.length + uniqueIndexes.length);
+            for (int i = 0; i < uniqueIndexes.length; i++) {
+                values[row.length + i] = row[uniqueIndexes[i]];
+            }
+            arguments.add(values);
+        }
+        int[] counts = jdbcTemplate.batchUpdate("INSERT INTO " + table + " (" + columnList + ") SELECT "
+                + placeholders + " WHERE NOT EXISTS (SELECT 1 FROM " + table + " WHERE " + conflict + ")", arguments);
+        return Arrays.stream(counts).filter(count -> count > 0).count();
+    }
+
+    /**
+     * Copy rows into an empty session-local staging table shaped like the target table.
+     *
+     * @return the name of the staging table
+     */
+    private static String copyToStaging(Connection connection, String table, String columnList, List<Object[]> rows)
+            throws SQLException {
+        String staging = "staging_" + table;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TEMP TABLE IF NOT EXISTS " + staging
+                    + " AS SELECT " + columnList + " FROM " + table + " WITH NO DATA");
+            statement.execute("TRUNCATE " + staging);
+        }
+        copy(connection, "COPY " + staging + " (" + columnList + ") FROM STDIN", rows);
+        return staging;
+    }
+
+    private Set<Long> findExistingKeys(String table, String keyColumn, List<Long> keys) {
+        Set<Long> existing = new HashSet<>();
+        for (int start = 0; start < keys.size(); start += KEY_LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = keys.subList(start, Math.min(start + KEY_LOOKUP_CHUNK_SIZE, keys.size()));
+            String placeholders = chunk.stream().map(key -> "?").collect(Collectors.joining(", "));
+            existing.addAll(jdbcTemplate.queryForList("SELECT " + keyColumn + " FROM " + table
+                    + " WHERE " + keyColumn + " IN (" + placeholders + ")", Long.class, chunk.toArray()));
+        }
+        return existing;
+    }
+
+    private static long copy(Connection connection, String sql, List<Object[]> rows) throws SQLException {
+        try {
+            return connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyIn(sql, new StringReader(toCopyText(rows)));
+        } catch (IOException e) {
+            throw new SQLException("Failed to stream rows for " + sql, e);
+        }
+    }
+
+    /**
+     * Format rows in the COPY text format: one line per row, values separated by tabs.
+     *
+     * @param rows the rows to format
+     * @return the COPY input
+     */
+    static String toCopyText(List<Object[]> rows) {
+        StringBuilder text = new StringBuilder(rows.size() * 64);
+        for (Object[] row : rows) {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    text.append('\t');
+                }
+                appendValue(text, row[i]);
+            }
+            text.append('\n');
+        }
+        return text.toString();
+    }
+
+    private static void appendValue(StringBuilder text, Object value) {
+        if (value == null) {
+            text.append("\\N");
+        } else if (value instanceof byte[] bytes) {
+            // bytea hex format, with the backslash escaped for the text format
+            text.append("\\\\x").append(HEX.formatHex(bytes));
+        } else if (value instanceof BigDecimal decimal) {
+            text.append(decimal.toPlainString());
+        } else if (value instanceof Number || value instanceof Boolean) {
+            text.append(value);
+        } else {
+            String string = value.toString();
+            for (int i = 0; i < string.length(); i++) {
+                char c = string.charAt(i);
+                switch (c) {
+                    case '\\' -> text.append("\\\\");
+                    case '\t' -> text.append("\\t");
+                    case '\n' -> text.append("\\n");
+                    case '\r' -> text.append("\\r");
+                    default -> text.append(c);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.nba.standings.repository;
+
+import com.nba.standings.model.entity.PackedStandingsSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for PackedStandingsSnapshot entity.
+ * Snapshots are keyed by date, so a date's standings are read with findById().
+ */
+@Repository
+public interface PackedStandingsSnapshotRepository extends JpaRepository<PackedStandingsSnapshot, LocalDate> {
+
+    /**
+     * Find the most recent snapshot date within a date range (inclusive).
+     *
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @return the latest snapshot date within the range, or null if none exists
+     */
+    @Query("SELECT MAX(p.snapshotDate) FROM PackedStandingsSnapshot p WHERE p.snapshotDate BETWEEN :startDate AND :endDate")
+    LocalDate findLatestSnapshotDateBetween(@Param("startDate") LocalDate startDate,
+                                           @Param("endDate") LocalDate endDate);
+
+    /**
+     * Find the dates that have snapshots within a date range (inclusive).
+     *
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @return list of snapshot dates within the range
+     */
+    @Query("SELECT p.snapshotDate FROM PackedStandingsSnapshot p WHERE p.snapshotDate BETWEEN :startDate AND :endDate")
+    List<LocalDate> findSnapshotDatesBetween(@Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate);
+}
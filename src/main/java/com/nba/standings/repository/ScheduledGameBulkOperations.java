@@ -0,0 +1,21 @@
+package com.nba.standings.repository;
+
+import com.nba.standings.model.entity.ScheduledGame;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Bulk write operations for scheduled games, mixed into ScheduledGameRepository.
+ */
+public interface ScheduledGameBulkOperations {
+
+    /**
+     * Insert the scheduled games that are not stored yet, in one set-based statement keyed on
+     * the unique NBA game ID. The games are not assigned IDs.
+     * 
+     * @param scheduledGames the scheduled games to insert
+     * @return the NBA game IDs of the scheduled games that were inserted
+     */
+    Set<Long> insertNew(List<ScheduledGame> scheduledGames);
+}
@@ -0,0 +1,37 @@
+package com.nba.standings.repository;
+
+import com.nba.standings.model.entity.ScheduledGame;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Implementation of ScheduledGameBulkOperations on top of JdbcBulkInserter.
+ */
+class ScheduledGameBulkOperationsImpl implements ScheduledGameBulkOperations {
+
+    private static final List<String> SCHEDULED_GAME_COLUMNS =
+            List.of("nba_game_id", "game_date", "home_team_id", "away_team_id");
+
+    private final JdbcBulkInserter jdbcBulkInserter;
+
+    ScheduledGameBulkOperationsImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcBulkInserter = new JdbcBulkInserter(jdbcTemplate);
+    }
+
+    @Override
+    public Set<Long> insertNew(List<ScheduledGame> scheduledGames) {
+        List<Object[]> rows = new ArrayList<>(scheduledGames.size());
+        for (ScheduledGame scheduledGame : scheduledGames) {
+            rows.add(new Object[] {
+                    scheduledGame.getNbaGameId(),
+                    scheduledGame.getGameDate(),
+                    scheduledGame.getHomeTeam().getId(),
+                    scheduledGame.getAwayTeam().getId()
+            });
+        }
+        return jdbcBulkInserter.insertNew("scheduled_games", SCHEDULED_GAME_COLUMNS, List.of("nba_game_id"), rows);
+    }
+}
@@ -0,0 +1,55 @@
+package com.nba.standings.repository;
+
+import com.nba.standings.model.entity.ScheduledGame;
+import com.nba.standings.model.projection.Matchup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for ScheduledGame entity.
+ * Provides query methods for the remaining schedule and for removing games once they are final,
+ * and set-based inserts through ScheduledGameBulkOperations.
+ */
+@Repository
+public interface ScheduledGameRepository extends JpaRepository<ScheduledGame, Long>, ScheduledGameBulkOperations {
+    
+    /**
+     * Find all scheduled games within a date range (inclusive).
+     * 
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @return list of scheduled games within the specified date range
+     */
+    List<ScheduledGame> findByGameDateBetween(LocalDate startDate, LocalDate endDate);
+    
+    /**
+     * Find the teams of the scheduled games within a date range (inclusive) that have no final
+     * game stored yet. Reads only the team IDs, into Matchup records.
+     * 
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @return the matchups of the unplayed scheduled games within the range
+     */
+    @Query("SELECT new com.nba.standings.model.projection.Matchup(s.homeTeam.id, s.awayTeam.id) "
+            + "FROM ScheduledGame s WHERE s.gameDate BETWEEN :startDate AND :endDate "
+            + "AND NOT EXISTS (SELECT 1 FROM Game g WHERE g.nbaGameId = s.nbaGameId)")
+    List<Matchup> findUnplayedMatchupsBetween(@Param("startDate") LocalDate startDate,
+                                              @Param("endDate") LocalDate endDate);
+    
+    /**
+     * Delete the scheduled games with the specified NBA game IDs.
+     * Used when those games have finished and been saved as Game entities.
+     * 
+     * @param nbaGameIds the NBA API game IDs
+     * @return number of scheduled games deleted
+     */
+    @Modifying
+    long deleteByNbaGameIdIn(Collection<Long> nbaGameIds);
+}
@@ -0,0 +1,77 @@
+package com.nba.standings.repository;
+
+import com.nba.standings.util.SeasonDateUtility;
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Creates the season partitions of the games and standings_snapshots tables ahead of time.
+ *
+ * On PostgreSQL both tables are partitioned by season and have no default partition, so a row
+ * dated in a season without a partition is rejected. The migrations create partitions for the
+ * seasons up to the one in which they ran; at startup this creates any that are missing for the
+ * current and the next season, so that a season rolling over never finds its partition absent.
+ * Other databases (H2 in tests) do not partition the tables and are left alone.
+ */
+@Component
+public class SeasonPartitionMaintainer {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeasonPartitionMaintainer.class);
+
+    private static final List<String> PARTITIONED_TABLES = List.of("games", "standings_snapshots");
+
+    private static final int SEASONS_AHEAD = 1;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SeasonPartitionMaintainer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Create the partitions of the current and the next season if they do not exist yet.
+     * Runs ahead of the other startup work that writes to the tables, such as the snapshot backfill.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void createUpcomingPartitions() {
+        int currentSeason = SeasonDateUtility.seasonOf(LocalDate.now());
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (!connection.isWrapperFor(PGConnection.class)) {
+                return null;
+            }
+            try (Statement statement = connection.createStatement()) {
+                for (int season = currentSeason; season <= currentSeason + SEASONS_AHEAD; season++) {
+                    for (String table : PARTITIONED_TABLES) {
+                        statement.execute(partitionDdl(table, season));
+                    }
+                }
+            }
+            logger.info("Season partitions exist through season {}", currentSeason + SEASONS_AHEAD);
+            return null;
+        });
+    }
+
+    /**
+     * @param table the partitioned table
+     * @param season the season, identified by the year in which it started
+     * @return the statement creating the season's partition of the table unless it exists
+     */
+    static String partitionDdl(String table, int season) {
+        return "CREATE TABLE IF NOT EXISTS " + table + "_" + season + " PARTITION OF " + table
+                + " FOR VALUES FROM ('" + SeasonDateUtility.seasonStart(season)
+                + "') TO ('" + SeasonDateUtility.seasonStart(season + 1) + "')";
+    }
+}
@@ -0,0 +1,29 @@
+package com.nba.standings.repository;
+
+import com.nba.standings.model.entity.StandingsChange;
+import com.nba.standings.model.projection.StandingsVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+/**
+ * Repository interface for StandingsChange entity.
+ * Provides the content version of a date from the changes recorded for its season.
+ */
+@Repository
+public interface StandingsChangeRepository extends JpaRepository<StandingsChange, Long> {
+
+    /**
+     * Find the content version of a date: the changes of its season on or before the date.
+     *
+     * @param season the season of the date
+     * @param date the date
+     * @return the version of the date's standings
+     */
+    @Query("SELECT new com.nba.standings.model.projection.StandingsVersion(COUNT(c), MAX(c.id)) "
+            + "FROM StandingsChange c WHERE c.season = :season AND c.changedFrom <= :date")
+    StandingsVersion findVersion(@Param("season") int season, @Param("date") LocalDate date);
+}
@@ -1,9 +1,9 @@
 package com.nba.standings.repository;
 
 import com.nba.standings.model.entity.StandingsSnapshot;
-import com.nba.standings.model.enums.Conference;
-import com.nba.standings.model.enums.Division;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -11,45 +11,43 @@ import java.util.List;
 
 /**
  * Repository interface for StandingsSnapshot entity.
- * Provides query methods for retrieving cached standings snapshots by date, division, and conference.
+ * Provides query methods for retrieving cached standings snapshots by date and season.
+ * On PostgreSQL the table is partitioned by season on snapshot_date, so date-bounded queries only
+ * read the partitions of the seasons they cover.
  */
 @Repository
 public interface StandingsSnapshotRepository extends JpaRepository<StandingsSnapshot, Long> {
     
     /**
-     * Find all standings snapshots for a specific date.
+     * Find all standings snapshots for a specific date, with their teams fetched in the same query.
+     * Used to read a date's cached standings with a single statement; grouping is done in memory.
      * 
      * @param snapshotDate the date to retrieve standings for
-     * @return list of standings snapshots for the specified date
+     * @return list of standings snapshots for the specified date, with their teams initialized
      */
-    List<StandingsSnapshot> findBySnapshotDate(LocalDate snapshotDate);
+    @Query("SELECT s FROM StandingsSnapshot s JOIN FETCH s.team WHERE s.snapshotDate = :snapshotDate")
+    List<StandingsSnapshot> findWithTeamBySnapshotDate(@Param("snapshotDate") LocalDate snapshotDate);
     
     /**
-     * Check if standings snapshots exist for a specific date.
-     * Used to determine if standings need to be calculated or can be retrieved from cache.
+     * Find the most recent snapshot date of a season strictly before a specific date.
+     * Used to pick a checkpoint within the requested date's season; answered from the
+     * (season, snapshot_date) index.
      * 
-     * @param snapshotDate the date to check
-     * @return true if standings exist for this date, false otherwise
+     * @param season the season, identified by the year in which it started
+     * @param date the date to look before
+     * @return the latest snapshot date of the season before the specified date, or null if none exists
      */
-    boolean existsBySnapshotDate(LocalDate snapshotDate);
+    @Query("SELECT MAX(s.snapshotDate) FROM StandingsSnapshot s WHERE s.season = :season AND s.snapshotDate < :date")
+    LocalDate findLatestSnapshotDateInSeasonBefore(@Param("season") int season, @Param("date") LocalDate date);
     
     /**
-     * Find all standings snapshots for a specific date filtered by division.
-     * Uses Spring Data JPA nested property syntax (team.division) to query through the relationship.
+     * Find the distinct dates that have standings snapshots within a date range (inclusive).
+     * Used by the backfill job to skip dates that are already cached.
      * 
-     * @param snapshotDate the date to retrieve standings for
-     * @param division the division to filter by
-     * @return list of standings snapshots for the specified date and division
-     */
-    List<StandingsSnapshot> findBySnapshotDateAndTeam_Division(LocalDate snapshotDate, Division division);
-    
-    /**
-     * Find all standings snapshots for a specific date filtered by conference.
-     * Uses Spring Data JPA nested property syntax (team.conference) to query through the relationship.
-     * 
-     * @param snapshotDate the date to retrieve standings for
-     * @param conference the conference to filter by
-     * @return list of standings snapshots for the specified date and conference
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @return list of snapshot dates within the range
      */
-    List<StandingsSnapshot> findBySnapshotDateAndTeam_Conference(LocalDate snapshotDate, Conference conference);
+    @Query("SELECT DISTINCT s.snapshotDate FROM StandingsSnapshot s WHERE s.snapshotDate BETWEEN :startDate AND :endDate")
+    List<LocalDate> findSnapshotDatesBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 }
@@ -0,0 +1,327 @@
+package com.nba.standings.service;
+
+import com.nba.standings.model.entity.Game;
+import com.nba.standings.model.entity.Team;
+import com.nba.standings.model.enums.ClinchStatus;
+import com.nba.standings.model.projection.GameResult;
+import com.nba.standings.model.projection.Matchup;
+import com.nba.standings.repository.GameRepository;
+import com.nba.standings.repository.ScheduledGameRepository;
+import com.nba.standings.util.SeasonDateUtility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service for determining which teams have clinched a playoff or play-in spot, or been
+ * eliminated, as of a date.
+ *
+ * The games after the date (whether final by now or still scheduled) are treated as remaining,
+ * and every team is checked with ClinchSolver. Statuses are only reported for conferences whose
+ * schedule is complete, i.e. every team's played and remaining games add up to the full season:
+ * standings.clinch.games-per-team games, or fewer in the seasons that were shortened.
+ *
+ * Results are cached per date. Because a clinched or eliminated team stays that way as games
+ * are played, each calculation starts from the statuses of the closest earlier date and only
+ * re-checks teams that were still open. When new games are saved, the cached dates from the
+ * earliest new game onwards are marked stale and recalculated on the next request, again only
+ * for the teams whose status could have changed. When the schedule of a season changes, its
+ * cached dates are dropped, since an added game can reopen any earlier result. A date where
+ * some conference could not be decided is kept only as a stale entry, so it is recalculated on
+ * every request until the missing games arrive.
+ *
+ * A calculation that overlapped an invalidation is returned but not cached, since it may have
+ * read the games as they were before. For the read-your-writes window after an invalidation,
+ * calculations read from the primary rather than a replica that may not have the change yet.
+ *
+ * Only the teams and dates of the games are read, through the GameResult projection and
+ * team-only matchups of the remaining schedule, so no entities are loaded.
+ */
+@Service
+public class ClinchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClinchService.class);
+
+    private static final int[] SPOTS = {ProjectionService.LAST_PLAYOFF_SEED, ProjectionService.LAST_PLAY_IN_SEED};
+    private static final int PLAYOFF = 0;
+    private static final int PLAY_IN = 1;
+
+    // The lockout-shortened 2011-12 and the 2020-21 seasons. In 2019-20 teams finished on
+    // different game counts, so no schedule adds up and no statuses are reported for it
+    private static final Map<Integer, Integer> SHORTENED_SEASON_GAMES = Map.of(2011, 66, 2020, 72);
+
+    private final GameRepository gameRepository;
+    private final ScheduledGameRepository scheduledGameRepository;
+    private final TeamRegistry teamRegistry;
+    private final SeasonDateUtility seasonDateUtility;
+    private final int gamesPerTeam;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate primaryTransaction;
+    private final long primaryReadWindowNanos;
+
+    private final ConcurrentSkipListMap<LocalDate, DateStatuses> cache = new ConcurrentSkipListMap<>();
+
+    /** Incremented on every invalidation, so a calculation that overlapped one is not cached. */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /** Calculations read from the primary until this System.nanoTime() value. */
+    private volatile long primaryReadsUntil = System.nanoTime();
+
+    public ClinchService(GameRepository gameRepository,
+                         ScheduledGameRepository scheduledGameRepository,
+                         TeamRegistry teamRegistry,
+                         SeasonDateUtility seasonDateUtility,
+                         @Value("${standings.clinch.games-per-team:82}") int gamesPerTeam,
+                         @Value("${standings.datasource.read-your-writes-window:5s}") Duration primaryReadWindow,
+                         PlatformTransactionManager transactionManager) {
+        this.gameRepository = gameRepository;
+        this.scheduledGameRepository = scheduledGameRepository;
+        this.teamRegistry = teamRegistry;
+        this.seasonDateUtility = seasonDateUtility;
+        this.gamesPerTeam = gamesPerTeam;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // Read-write transactions are routed to the primary
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.primaryReadWindowNanos = primaryReadWindow.toNanos();
+    }
+
+    /**
+     * Statuses of one date: team IDs, and statuses by spot level and team index.
+     * Teams whose conference schedule was incomplete are not marked solved, and an entry with
+     * unsolved teams starts out stale.
+     */
+    private static final class DateStatuses {
+        private final Long[] teamIds;
+        private final byte[][] statuses;
+        private final boolean[] solved;
+        private volatile boolean stale;
+
+        DateStatuses(Long[] teamIds, byte[][] statuses, boolean[] solved) {
+            this.teamIds = teamIds;
+            this.statuses = statuses;
+            this.solved = solved;
+            for (boolean teamSolved : solved) {
+                if (!teamSolved) {
+                    this.stale = true;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the clinch status of every team as of the end of a date.
+     * Teams in a conference with an incomplete schedule are left out.
+     * Cached dates are served without opening a transaction.
+     *
+     * @param date the date to check
+     * @return map of team ID to clinch status
+     */
+    public Map<Long, ClinchStatus> getClinchStatuses(LocalDate date) {
+        DateStatuses cached = cache.get(date);
+        if (cached == null || cached.stale) {
+            DateStatuses previous = cached;
+            long invalidationToken = invalidations.get();
+            TransactionTemplate transaction = System.nanoTime() - primaryReadsUntil < 0
+                    ? primaryTransaction
+                    : readOnlyTransaction;
+            cached = transaction.execute(status -> calculate(date, previous));
+            store(date, cached, invalidationToken);
+        }
+        return toStatusMap(cached);
+    }
+
+    /**
+     * Mark cached dates on or after the earliest newly saved game as stale.
+     *
+     * @param event the event containing the newly saved games
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onGamesSaved(GamesSavedEvent event) {
+        event.games().stream()
+                .map(Game::getGameDate)
+                .min(LocalDate::compareTo)
+                .ifPresent(earliest -> {
+                    invalidated();
+                    cache.tailMap(earliest, true).values().forEach(statuses -> statuses.stale = true);
+                });
+    }
+
+    /**
+     * Drop the cached dates of the seasons whose schedule changed.
+     *
+     * @param event the event containing the seasons whose schedule changed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onScheduleChanged(ScheduleChangedEvent event) {
+        invalidated();
+        for (int season : event.seasons()) {
+            cache.subMap(SeasonDateUtility.seasonStart(season), true, SeasonDateUtility.seasonEnd(season), true)
+                    .clear();
+        }
+    }
+
+    private synchronized void store(LocalDate date, DateStatuses statuses, long invalidationToken) {
+        if (invalidations.get() != invalidationToken) {
+            logger.info("Not caching clinch statuses for {}: games or schedule changed during calculation", date);
+            return;
+        }
+        cache.put(date, statuses);
+    }
+
+    private void invalidated() {
+        invalidations.incrementAndGet();
+        primaryReadsUntil = System.nanoTime() + primaryReadWindowNanos;
+    }
+
+    private DateStatuses calculate(LocalDate date, DateStatuses previous) {
+        LocalDate seasonStart = seasonDateUtility.determineSeasonStart(date);
+        LocalDate seasonEnd = seasonStart.plusYears(1).minusDays(1);
+        long startTime = System.currentTimeMillis();
+
+        int seasonGamesPerTeam = SHORTENED_SEASON_GAMES.getOrDefault(SeasonDateUtility.seasonOf(date), gamesPerTeam);
+
+        List<Team> allTeams = teamRegistry.teams();
+        List<GameResult> seasonResults = gameRepository.findResultsByGameDateBetween(seasonStart, seasonEnd);
+
+        // Games through the date are played; later games and the scheduled games are remaining
+        List<GameResult> played = new ArrayList<>();
+        List<long[]> remainingTeams = new ArrayList<>();
+        for (GameResult result : seasonResults) {
+            if (result.gameDate().isAfter(date)) {
+                remainingTeams.add(new long[] {result.homeTeamId(), result.awayTeamId()});
+            } else {
+                played.add(result);
+            }
+        }
+        for (Matchup matchup : scheduledGameRepository.findUnplayedMatchupsBetween(seasonStart, seasonEnd)) {
+            remainingTeams.add(new long[] {matchup.homeTeamId(), matchup.awayTeamId()});
+        }
+
+        LeagueRecords records = PrimitiveStandingsEngine.countResults(played.stream(), allTeams);
+        int[] remainingHome = new int[remainingTeams.size()];
+        int[] remainingAway = new int[remainingTeams.size()];
+        int remaining = 0;
+        for (long[] teams : remainingTeams) {
+            int home = records.indexOf(teams[0]);
+            int away = records.indexOf(teams[1]);
+            if (home >= 0 && away >= 0) {
+                remainingHome[remaining] = home;
+                remainingAway[remaining] = away;
+                remaining++;
+            }
+        }
+        ClinchSolver solver = new ClinchSolver(records,
+                Arrays.copyOf(remainingHome, remaining), Arrays.copyOf(remainingAway, remaining));
+
+        // Only conferences where every team's full season is known can be decided
+        int teamCount = records.teamCount();
+        boolean[] solved = new boolean[teamCount];
+        List<int[]> complete = new ArrayList<>();
+        for (int[] members : records.conferenceGroups()) {
+            boolean scheduleComplete = true;
+            for (int team : members) {
+                if (records.wins(team) + records.losses(team) + solver.remainingGames(team) != seasonGamesPerTeam) {
+                    scheduleComplete = false;
+                    break;
+                }
+            }
+            if (scheduleComplete) {
+                complete.add(members);
+                for (int team : members) {
+                    solved[team] = true;
+                }
+            }
+        }
+
+        Long[] teamIds = new Long[teamCount];
+        for (int i = 0; i < teamCount; i++) {
+            teamIds[i] = records.team(i).getId();
+        }
+        byte[][] known = knownStatuses(date, seasonStart, previous, teamIds);
+        byte[][] statuses = solver.solve(complete.toArray(new int[0][]), SPOTS, known);
+
+        logger.info("Calculated clinch statuses for {} ({} of {} teams decidable, {} max-flows) in {} ms",
+                date, complete.stream().mapToInt(members -> members.length).sum(), teamCount,
+                solver.flowsSolved(), System.currentTimeMillis() - startTime);
+        return new DateStatuses(teamIds, statuses, solved);
+    }
+
+    /**
+     * Statuses that are already decided for a date: those of the same date before it went stale,
+     * or else those of the closest earlier date of the same season.
+     *
+     * @return known statuses indexed like teamIds, or null if there are none
+     */
+    private byte[][] knownStatuses(LocalDate date, LocalDate seasonStart, DateStatuses previous, Long[] teamIds) {
+        DateStatuses source = previous;
+        if (source == null) {
+            Map.Entry<LocalDate, DateStatuses> earlier = cache.lowerEntry(date);
+            if (earlier != null && !earlier.getKey().isBefore(seasonStart)) {
+                source = earlier.getValue();
+            }
+        }
+        if (source == null) {
+            return null;
+        }
+
+        Map<Long, Integer> sourceIndex = new HashMap<>();
+        for (int i = 0; i < source.teamIds.length; i++) {
+            if (source.solved[i]) {
+                sourceIndex.put(source.teamIds[i], i);
+            }
+        }
+        byte[][] known = new byte[SPOTS.length][teamIds.length];
+        for (int i = 0; i < teamIds.length; i++) {
+            Integer index = sourceIndex.get(teamIds[i]);
+            if (index != null) {
+                for (int level = 0; level < SPOTS.length; level++) {
+                    known[level][i] = source.statuses[level][index];
+                }
+            }
+        }
+        return known;
+    }
+
+    private Map<Long, ClinchStatus> toStatusMap(DateStatuses dateStatuses) {
+        Map<Long, ClinchStatus> result = new HashMap<>();
+        for (int i = 0; i < dateStatuses.teamIds.length; i++) {
+            if (dateStatuses.solved[i]) {
+                result.put(dateStatuses.teamIds[i],
+                        toClinchStatus(dateStatuses.statuses[PLAYOFF][i], dateStatuses.statuses[PLAY_IN][i]));
+            }
+        }
+        return result;
+    }
+
+    private static ClinchStatus toClinchStatus(byte playoff, byte playIn) {
+        if (playoff == ClinchSolver.CLINCHED) {
+            return ClinchStatus.CLINCHED_PLAYOFF;
+        }
+        if (playIn == ClinchSolver.ELIMINATED) {
+            return ClinchStatus.ELIMINATED;
+        }
+        if (playIn == ClinchSolver.CLINCHED) {
+            return ClinchStatus.CLINCHED_PLAY_IN;
+        }
+        if (playoff == ClinchSolver.ELIMINATED) {
+            return ClinchStatus.ELIMINATED_FROM_TOP_SIX;
+        }
+        return ClinchStatus.IN_CONTENTION;
+    }
+}
@@ -0,0 +1,423 @@
+package com.nba.standings.service;
+
+import java.util.Arrays;
+
+/**
+ * Decides exactly whether teams have clinched or been eliminated from a top-k conference finish,
+ * given current records and the remaining schedule.
+ *
+ * Finishing positions are decided on wins only. Ties count against the team being checked when
+ * testing for a clinch and in its favour when testing for elimination, so a team is only marked
+ * clinched or eliminated when no tiebreaker could change the outcome.
+ * <ul>
+ *   <li>Team x is eliminated from the top k if for every set S of k-1 conference rivals, the rivals
+ *       outside S cannot all be held to at most x's maximum wins. Holding them is a max-flow
+ *       problem over their remaining games against each other; all other games are given to
+ *       x, to a team in S or to the other conference.</li>
+ *   <li>Team x has clinched the top k if no set S of k rivals can all reach x's current wins
+ *       while x loses every remaining game. Games between an S team and anyone outside S go to
+ *       the S team; the games within S are distributed by max-flow.</li>
+ * </ul>
+ * The candidate sets are enumerated with the most threatening teams first, so the common case
+ * (a team that is still open) is settled by the first witness found. The flow network is held
+ * in primitive buffers that are reset rather than reallocated between checks.
+ *
+ * Instances are not thread-safe.
+ */
+final class ClinchSolver {
+
+    static final byte OPEN = 0;
+    static final byte CLINCHED = 1;
+    static final byte ELIMINATED = 2;
+
+    private static final int SOURCE = 0;
+    private static final int SINK = 1;
+
+    private final LeagueRecords records;
+    private final int[] remaining;
+    private final int[][] remainingBetween;
+
+    // Flow network: adjacency lists as linked edge arrays, edge e and e ^ 1 are a forward/reverse pair
+    private int nodeCount;
+    private int edgeCount;
+    private int[] firstEdge = new int[64];
+    private int[] nextEdge = new int[256];
+    private int[] edgeTarget = new int[256];
+    private int[] edgeCapacity = new int[256];
+    private int[] level = new int[64];
+    private int[] currentEdge = new int[64];
+    private int[] queue = new int[64];
+
+    // Flow node of each team in the current network, indexed by team index
+    private final int[] teamNode;
+    private int flowsSolved;
+
+    /**
+     * @param records current records of every team
+     * @param remainingHome team index of the home team of each remaining game
+     * @param remainingAway team index of the away team of each remaining game
+     */
+    ClinchSolver(LeagueRecords records, int[] remainingHome, int[] remainingAway) {
+        int teamCount = records.teamCount();
+        this.records = records;
+        this.remaining = new int[teamCount];
+        this.remainingBetween = new int[teamCount][teamCount];
+        for (int g = 0; g < remainingHome.length; g++) {
+            int home = remainingHome[g];
+            int away = remainingAway[g];
+            remaining[home]++;
+            remaining[away]++;
+            remainingBetween[home][away]++;
+            remainingBetween[away][home]++;
+        }
+        this.teamNode = new int[teamCount];
+    }
+
+    int remainingGames(int team) {
+        return remaining[team];
+    }
+
+    /**
+     * @return number of max-flow problems solved so far
+     */
+    int flowsSolved() {
+        return flowsSolved;
+    }
+
+    /**
+     * Determine the status of every team of the given conferences for each number of spots.
+     * Statuses already known from an earlier check are kept, since with more games played a
+     * clinched or eliminated team can never become open again.
+     *
+     * @param conferences team indexes of each conference to solve
+     * @param spots numbers of qualifying spots, in ascending order
+     * @param known statuses from an earlier check, [spot level][team], or null
+     * @return statuses [spot level][team]; teams outside the given conferences are OPEN
+     */
+    byte[][] solve(int[][] conferences, int[] spots, byte[][] known) {
+        byte[][] statuses = new byte[spots.length][records.teamCount()];
+        for (int[] members : conferences) {
+            for (int team : members) {
+                for (int level = 0; level < spots.length; level++) {
+                    statuses[level][team] = solveTeam(team, members, spots[level],
+                            known != null ? known[level][team] : OPEN,
+                            level > 0 ? statuses[level - 1][team] : OPEN);
+                }
+            }
+        }
+        return statuses;
+    }
+
+    private byte solveTeam(int team, int[] members, int spots, byte knownStatus, byte fewerSpotsStatus) {
+        if (knownStatus != OPEN) {
+            return knownStatus;
+        }
+        if (fewerSpotsStatus == CLINCHED || hasClinchedTop(team, members, spots)) {
+            return CLINCHED;
+        }
+        return canFinishInTop(team, members, spots) ? OPEN : ELIMINATED;
+    }
+
+    /**
+     * Whether the team finishes in the top {@code spots} of its conference in every outcome.
+     */
+    boolean hasClinchedTop(int team, int[] members, int spots) {
+        int target = records.wins(team);
+
+        // Rivals that can reach the team's current wins, most wins first
+        int[] candidates = new int[members.length];
+        int candidateCount = 0;
+        for (int rival : members) {
+            if (rival != team && records.wins(rival) + remaining[rival] >= target) {
+                candidates[candidateCount++] = rival;
+            }
+        }
+        if (candidateCount < spots) {
+            return true;
+        }
+        sortDescending(candidates, candidateCount, false);
+
+        int[] chosen = firstCombination(spots);
+        int[] set = new int[spots];
+        do {
+            for (int i = 0; i < spots; i++) {
+                set[i] = candidates[chosen[i]];
+            }
+            if (canAllReach(set, target)) {
+                return false;
+            }
+        } while (nextCombination(chosen, candidateCount));
+        return true;
+    }
+
+    /**
+     * Whether the team can finish in the top {@code spots} of its conference in some outcome.
+     */
+    boolean canFinishInTop(int team, int[] members, int spots) {
+        int best = records.wins(team) + remaining[team];
+
+        // Rivals already out of reach must finish ahead; the others may be held back
+        int ahead = 0;
+        int[] candidates = new int[members.length];
+        int candidateCount = 0;
+        for (int rival : members) {
+            if (rival == team) {
+                continue;
+            }
+            if (records.wins(rival) > best) {
+                ahead++;
+            } else {
+                candidates[candidateCount++] = rival;
+            }
+        }
+        if (ahead >= spots) {
+            return false;
+        }
+        int allowedAhead = spots - 1 - ahead;
+        if (candidateCount <= allowedAhead) {
+            return true;
+        }
+        sortDescending(candidates, candidateCount, true);
+
+        // Choose which candidates may also finish ahead; the rest must be held to the team's best
+        int[] chosen = firstCombination(allowedAhead);
+        int[] heldBack = new int[candidateCount - allowedAhead];
+        do {
+            int held = 0;
+            for (int i = 0, c = 0; i < candidateCount; i++) {
+                if (c < allowedAhead && chosen[c] == i) {
+                    c++;
+                } else {
+                    heldBack[held++] = candidates[i];
+                }
+            }
+            if (canHoldTo(heldBack, best)) {
+                return true;
+            }
+        } while (nextCombination(chosen, candidateCount));
+        return false;
+    }
+
+    /**
+     * Whether the remaining games among the given teams can be decided so that none of them
+     * exceeds {@code maxWins}. Games against anyone else are lost by these teams.
+     */
+    private boolean canHoldTo(int[] teams, int maxWins) {
+        boolean trivial = true;
+        for (int team : teams) {
+            if (records.wins(team) + remaining[team] > maxWins) {
+                trivial = false;
+                break;
+            }
+        }
+        if (trivial) {
+            return true;
+        }
+
+        int pairs = countPairs(teams);
+        resetNetwork(2 + teams.length + pairs);
+        for (int i = 0; i < teams.length; i++) {
+            teamNode[teams[i]] = 2 + i;
+            addEdge(2 + i, SINK, maxWins - records.wins(teams[i]));
+        }
+        int gamesToPlace = addPairNodes(teams, 2 + teams.length);
+        return maxFlow() == gamesToPlace;
+    }
+
+    /**
+     * Whether every one of the given teams can reach {@code target} wins. Games against teams
+     * outside the set are won by the set member.
+     */
+    private boolean canAllReach(int[] teams, int target) {
+        int needed = 0;
+        int[] deficits = new int[teams.length];
+        for (int i = 0; i < teams.length; i++) {
+            int team = teams[i];
+            int gamesOutsideSet = remaining[team];
+            for (int other : teams) {
+                gamesOutsideSet -= remainingBetween[team][other];
+            }
+            deficits[i] = Math.max(0, target - records.wins(team) - gamesOutsideSet);
+            needed += deficits[i];
+        }
+        if (needed == 0) {
+            return true;
+        }
+
+        int pairs = countPairs(teams);
+        resetNetwork(2 + teams.length + pairs);
+        for (int i = 0; i < teams.length; i++) {
+            teamNode[teams[i]] = 2 + i;
+            addEdge(2 + i, SINK, deficits[i]);
+        }
+        addPairNodes(teams, 2 + teams.length);
+        return maxFlow() == needed;
+    }
+
+    private int countPairs(int[] teams) {
+        int pairs = 0;
+        for (int i = 0; i < teams.length; i++) {
+            for (int j = i + 1; j < teams.length; j++) {
+                if (remainingBetween[teams[i]][teams[j]] > 0) {
+                    pairs++;
+                }
+            }
+        }
+        return pairs;
+    }
+
+    /**
+     * Add a node for every pair of teams with remaining games between them, fed from the source
+     * and draining into either team.
+     *
+     * @return total number of games between the teams
+     */
+    private int addPairNodes(int[] teams, int firstPairNode) {
+        int node = firstPairNode;
+        int games = 0;
+        for (int i = 0; i < teams.length; i++) {
+            for (int j = i + 1; j < teams.length; j++) {
+                int between = remainingBetween[teams[i]][teams[j]];
+                if (between > 0) {
+                    addEdge(SOURCE, node, between);
+                    addEdge(node, teamNode[teams[i]], between);
+                    addEdge(node, teamNode[teams[j]], between);
+                    games += between;
+                    node++;
+                }
+            }
+        }
+        return games;
+    }
+
+    private void resetNetwork(int nodes) {
+        nodeCount = nodes;
+        edgeCount = 0;
+        if (firstEdge.length < nodes) {
+            int size = Math.max(nodes, firstEdge.length * 2);
+            firstEdge = new int[size];
+            level = new int[size];
+            currentEdge = new int[size];
+            queue = new int[size];
+        }
+        Arrays.fill(firstEdge, 0, nodes, -1);
+    }
+
+    private void addEdge(int from, int to, int capacity) {
+        if (edgeCount + 2 > edgeTarget.length) {
+            int size = edgeTarget.length * 2;
+            nextEdge = Arrays.copyOf(nextEdge, size);
+            edgeTarget = Arrays.copyOf(edgeTarget, size);
+            edgeCapacity = Arrays.copyOf(edgeCapacity, size);
+        }
+        edgeTarget[edgeCount] = to;
+        edgeCapacity[edgeCount] = capacity;
+        nextEdge[edgeCount] = firstEdge[from];
+        firstEdge[from] = edgeCount++;
+
+        edgeTarget[edgeCount] = from;
+        edgeCapacity[edgeCount] = 0;
+        nextEdge[edgeCount] = firstEdge[to];
+        firstEdge[to] = edgeCount++;
+    }
+
+    /**
+     * Dinic's algorithm from SOURCE to SINK on the current network.
+     */
+    private int maxFlow() {
+        flowsSolved++;
+        int flow = 0;
+        while (buildLevels()) {
+            System.arraycopy(firstEdge, 0, currentEdge, 0, nodeCount);
+            int pushed;
+            while ((pushed = augment(SOURCE, Integer.MAX_VALUE)) > 0) {
+                flow += pushed;
+            }
+        }
+        return flow;
+    }
+
+    private boolean buildLevels() {
+        Arrays.fill(level, 0, nodeCount, -1);
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = SOURCE;
+        level[SOURCE] = 0;
+        while (head < tail) {
+            int node = queue[head++];
+            for (int e = firstEdge[node]; e >= 0; e = nextEdge[e]) {
+                int target = edgeTarget[e];
+                if (edgeCapacity[e] > 0 && level[target] < 0) {
+                    level[target] = level[node] + 1;
+                    queue[tail++] = target;
+                }
+            }
+        }
+        return level[SINK] >= 0;
+    }
+
+    private int augment(int node, int limit) {
+        if (node == SINK) {
+            return limit;
+        }
+        for (; currentEdge[node] >= 0; currentEdge[node] = nextEdge[currentEdge[node]]) {
+            int e = currentEdge[node];
+            int target = edgeTarget[e];
+            if (edgeCapacity[e] > 0 && level[target] == level[node] + 1) {
+                int pushed = augment(target, Math.min(limit, edgeCapacity[e]));
+                if (pushed > 0) {
+                    edgeCapacity[e] -= pushed;
+                    edgeCapacity[e ^ 1] += pushed;
+                    return pushed;
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Insertion sort of the first {@code count} teams by current wins, or by maximum possible
+     * wins, descending. Conferences hold at most 15 teams.
+     */
+    private void sortDescending(int[] teams, int count, boolean byMaximumWins) {
+        for (int i = 1; i < count; i++) {
+            int team = teams[i];
+            int key = records.wins(team) + (byMaximumWins ? remaining[team] : 0);
+            int j = i - 1;
+            while (j >= 0 && records.wins(teams[j]) + (byMaximumWins ? remaining[teams[j]] : 0) < key) {
+                teams[j + 1] = teams[j];
+                j--;
+            }
+            teams[j + 1] = team;
+        }
+    }
+
+    private static int[] firstCombination(int size) {
+        int[] combination = new int[size];
+        for (int i = 0; i < size; i++) {
+            combination[i] = i;
+        }
+        return combination;
+    }
+
+    /**
+     * Advance to the next combination of indexes in lexicographic order.
+     *
+     * @return false once every combination of {@code combination.length} out of {@code n} has been visited
+     */
+    private static boolean nextCombination(int[] combination, int n) {
+        int k = combination.length;
+        int i = k - 1;
+        while (i >= 0 && combination[i] == n - k + i) {
+            i--;
+        }
+        if (i < 0) {
+            return false;
+        }
+        combination[i]++;
+        for (int j = i + 1; j < k; j++) {
+            combination[j] = combination[j - 1] + 1;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,14 @@
+package com.nba.standings.service;
+
+import com.nba.standings.model.entity.Game;
+
+import java.util.List;
+
+/**
+ * Application event published by NBADataService after new games have been saved.
+ * Listeners use it to keep in-memory standings data in sync with the games table.
+ *
+ * @param games the newly saved games
+ */
+public record GamesSavedEvent(List<Game> games) {
+}
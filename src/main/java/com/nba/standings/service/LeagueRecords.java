@@ -0,0 +1,295 @@
+package com.nba.standings.service;
+
+import com.nba.standings.model.entity.Team;
+import com.nba.standings.model.enums.Conference;
+import com.nba.standings.model.enums.Division;
+import com.nba.standings.service.StandingsCalculator.TeamStanding;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Records of every team in the league held in primitive arrays indexed by team index
+ * (teams sorted by ID). Counts overall, division, conference and head-to-head results, keeps
+ * each team's streak and last-10 bit ring, and ranks divisions and conferences with TiebreakRanker.
+ *
+ * Instances are mutable and not thread-safe. Callers that replay many outcomes from the same
+ * starting point keep one instance per thread and reset it with {@link #copyFrom(LeagueRecords)}.
+ */
+final class LeagueRecords implements TiebreakRanker.Records {
+
+    private final List<Team> teams;
+    private final Map<Long, Integer> indexById;
+    private final Division[] divisions;
+    private final Conference[] conferences;
+    private final int[][] divisionGroups;
+    private final int[][] conferenceGroups;
+
+    private final int[] wins;
+    private final int[] losses;
+    private final int[] divisionWins;
+    private final int[] divisionLosses;
+    private final int[] conferenceWins;
+    private final int[] conferenceLosses;
+    private final int[][] headToHeadWins;
+    private final int[] lastTenResults;
+    private final int[] streaks;
+    private final int[] divisionRanks;
+
+    LeagueRecords(List<Team> allTeams) {
+        List<Team> sorted = new ArrayList<>(allTeams);
+        sorted.sort(Comparator.comparing(Team::getId));
+        int teamCount = sorted.size();
+
+        this.teams = List.copyOf(sorted);
+        this.indexById = new HashMap<>(teamCount * 2);
+        this.divisions = new Division[teamCount];
+        this.conferences = new Conference[teamCount];
+        for (int i = 0; i < teamCount; i++) {
+            Team team = teams.get(i);
+            indexById.put(team.getId(), i);
+            divisions[i] = team.getDivision();
+            conferences[i] = team.getConference();
+        }
+        this.divisionGroups = groupTeams(teams, Division.class, Team::getDivision);
+        this.conferenceGroups = groupTeams(teams, Conference.class, Team::getConference);
+
+        this.wins = new int[teamCount];
+        this.losses = new int[teamCount];
+        this.divisionWins = new int[teamCount];
+        this.divisionLosses = new int[teamCount];
+        this.conferenceWins = new int[teamCount];
+        this.conferenceLosses = new int[teamCount];
+        this.headToHeadWins = new int[teamCount][teamCount];
+        this.lastTenResults = new int[teamCount];
+        this.streaks = new int[teamCount];
+        this.divisionRanks = new int[teamCount];
+    }
+
+    /**
+     * Create a copy with the same teams and records, sharing the immutable team data.
+     */
+    private LeagueRecords(LeagueRecords source) {
+        int teamCount = source.teamCount();
+        this.teams = source.teams;
+        this.indexById = source.indexById;
+        this.divisions = source.divisions;
+        this.conferences = source.conferences;
+        this.divisionGroups = deepCopy(source.divisionGroups);
+        this.conferenceGroups = deepCopy(source.conferenceGroups);
+
+        this.wins = new int[teamCount];
+        this.losses = new int[teamCount];
+        this.divisionWins = new int[teamCount];
+        this.divisionLosses = new int[teamCount];
+        this.conferenceWins = new int[teamCount];
+        this.conferenceLosses = new int[teamCount];
+        this.headToHeadWins = new int[teamCount][teamCount];
+        this.lastTenResults = new int[teamCount];
+        this.streaks = new int[teamCount];
+        this.divisionRanks = new int[teamCount];
+        copyFrom(source);
+    }
+
+    /**
+     * Create an independent copy. The group arrays are copied too, since ranking sorts them in place.
+     */
+    LeagueRecords copy() {
+        return new LeagueRecords(this);
+    }
+
+    /**
+     * Overwrite these records with those of another instance over the same teams.
+     */
+    void copyFrom(LeagueRecords source) {
+        int teamCount = teamCount();
+        System.arraycopy(source.wins, 0, wins, 0, teamCount);
+        System.arraycopy(source.losses, 0, losses, 0, teamCount);
+        System.arraycopy(source.divisionWins, 0, divisionWins, 0, teamCount);
+        System.arraycopy(source.divisionLosses, 0, divisionLosses, 0, teamCount);
+        System.arraycopy(source.conferenceWins, 0, conferenceWins, 0, teamCount);
+        System.arraycopy(source.conferenceLosses, 0, conferenceLosses, 0, teamCount);
+        System.arraycopy(source.lastTenResults, 0, lastTenResults, 0, teamCount);
+        System.arraycopy(source.streaks, 0, streaks, 0, teamCount);
+        System.arraycopy(source.divisionRanks, 0, divisionRanks, 0, teamCount);
+        for (int i = 0; i < teamCount; i++) {
+            System.arraycopy(source.headToHeadWins[i], 0, headToHeadWins[i], 0, teamCount);
+        }
+    }
+
+    int teamCount() {
+        return teams.size();
+    }
+
+    Team team(int index) {
+        return teams.get(index);
+    }
+
+    /**
+     * @return the team index for a team ID, or -1 if the team is unknown
+     */
+    int indexOf(Long teamId) {
+        Integer index = indexById.get(teamId);
+        return index != null ? index : -1;
+    }
+
+    Conference conference(int team) {
+        return conferences[team];
+    }
+
+    void recordWin(int winner, int loser) {
+        wins[winner]++;
+        losses[loser]++;
+        headToHeadWins[winner][loser]++;
+        lastTenResults[winner] = TeamStanding.pushResult(lastTenResults[winner], true);
+        lastTenResults[loser] = TeamStanding.pushResult(lastTenResults[loser], false);
+        streaks[winner] = TeamStanding.extendStreak(streaks[winner], true);
+        streaks[loser] = TeamStanding.extendStreak(streaks[loser], false);
+
+        if (conferences[winner] == conferences[loser]) {
+            conferenceWins[winner]++;
+            conferenceLosses[loser]++;
+            if (divisions[winner] == divisions[loser]) {
+                divisionWins[winner]++;
+                divisionLosses[loser]++;
+            }
+        }
+    }
+
+    /**
+     * Rank every division, then every conference (which needs the division leaders).
+     *
+     * @param conferenceRanks output array indexed by team index
+     */
+    void rank(int[] conferenceRanks) {
+        for (int[] members : divisionGroups) {
+            TiebreakRanker.rankDivision(members, this, divisionRanks);
+        }
+        for (int[] members : conferenceGroups) {
+            TiebreakRanker.rankConference(members, this, conferenceRanks);
+        }
+    }
+
+    /**
+     * @return the team indexes of each conference, as a copy that callers may reorder
+     */
+    int[][] conferenceGroups() {
+        return deepCopy(conferenceGroups);
+    }
+
+    int divisionRank(int team) {
+        return divisionRanks[team];
+    }
+
+    int[] headToHeadRow(int team) {
+        return headToHeadWins[team];
+    }
+
+    int lastTenResults(int team) {
+        return lastTenResults[team];
+    }
+
+    int streak(int team) {
+        return streaks[team];
+    }
+
+    @Override
+    public int wins(int team) {
+        return wins[team];
+    }
+
+    @Override
+    public int losses(int team) {
+        return losses[team];
+    }
+
+    @Override
+    public int headToHeadWins(int team, int opponent) {
+        return headToHeadWins[team][opponent];
+    }
+
+    @Override
+    public int divisionWins(int team) {
+        return divisionWins[team];
+    }
+
+    @Override
+    public int divisionLosses(int team) {
+        return divisionLosses[team];
+    }
+
+    @Override
+    public int conferenceWins(int team) {
+        return conferenceWins[team];
+    }
+
+    @Override
+    public int conferenceLosses(int team) {
+        return conferenceLosses[team];
+    }
+
+    @Override
+    public Division division(int team) {
+        return divisions[team];
+    }
+
+    @Override
+    public String teamName(int team) {
+        return teams.get(team).getTeamName();
+    }
+
+    @Override
+    public boolean isDivisionLeader(int team) {
+        return divisionRanks[team] == 1;
+    }
+
+    /**
+     * Group team indexes by an enum-valued team property, skipping empty groups.
+     *
+     * @return the indexes of the member teams of each group
+     */
+    private static <E extends Enum<E>> int[][] groupTeams(List<Team> teams, Class<E> groupType,
+                                                          Function<Team, E> groupOf) {
+        E[] constants = groupType.getEnumConstants();
+        int[] sizes = new int[constants.length];
+        for (Team team : teams) {
+            sizes[groupOf.apply(team).ordinal()]++;
+        }
+
+        int[][] byOrdinal = new int[constants.length][];
+        int groupCount = 0;
+        for (E group : constants) {
+            if (sizes[group.ordinal()] > 0) {
+                byOrdinal[group.ordinal()] = new int[sizes[group.ordinal()]];
+                groupCount++;
+            }
+        }
+
+        int[] filled = new int[constants.length];
+        for (int i = 0; i < teams.size(); i++) {
+            int ordinal = groupOf.apply(teams.get(i)).ordinal();
+            byOrdinal[ordinal][filled[ordinal]++] = i;
+        }
+
+        int[][] groups = new int[groupCount][];
+        int next = 0;
+        for (int[] members : byOrdinal) {
+            if (members != null) {
+                groups[next++] = members;
+            }
+        }
+        return groups;
+    }
+
+    private static int[][] deepCopy(int[][] arrays) {
+        int[][] copy = new int[arrays.length][];
+        for (int i = 0; i < arrays.length; i++) {
+            copy[i] = arrays[i].clone();
+        }
+        return copy;
+    }
+}
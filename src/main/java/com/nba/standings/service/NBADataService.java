@@ -5,23 +5,34 @@ import com.nba.standings.dto.NBAGameDTO;
 import com.nba.standings.dto.NBAGamesResponse;
 import com.nba.standings.exception.NBAApiException;
 import com.nba.standings.model.entity.Game;
+import com.nba.standings.model.entity.ScheduledGame;
+import com.nba.standings.model.entity.StandingsChange;
 import com.nba.standings.model.entity.Team;
 import com.nba.standings.repository.GameRepository;
-import com.nba.standings.repository.TeamRepository;
+import com.nba.standings.repository.ScheduledGameRepository;
+import com.nba.standings.repository.StandingsChangeRepository;
+import com.nba.standings.util.SeasonDateUtility;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Service for fetching and storing NBA game data from the external NBA API.
  * Handles data transformation and duplicate prevention.
+ * Final games are stored as games; regular-season games that have not finished yet are
+ * stored as the remaining schedule until their final result arrives. Every change is recorded
+ * as a StandingsChange in the same transaction, so the content version of the standings moves
+ * with it.
  */
 @Service
 public class NBADataService {
@@ -29,24 +40,38 @@ public class NBADataService {
     private static final Logger logger = LoggerFactory.getLogger(NBADataService.class);
     
     private final NBAApiClient nbaApiClient;
-    private final TeamRepository teamRepository;
+    private final TeamRegistry teamRegistry;
     private final GameRepository gameRepository;
+    private final ScheduledGameRepository scheduledGameRepository;
+    private final StandingsChangeRepository standingsChangeRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     public NBADataService(NBAApiClient nbaApiClient, 
-                         TeamRepository teamRepository,
-                         GameRepository gameRepository) {
+                         TeamRegistry teamRegistry,
+                         GameRepository gameRepository,
+                         ScheduledGameRepository scheduledGameRepository,
+                         StandingsChangeRepository standingsChangeRepository,
+                         ApplicationEventPublisher eventPublisher) {
         this.nbaApiClient = nbaApiClient;
-        this.teamRepository = teamRepository;
+        this.teamRegistry = teamRegistry;
         this.gameRepository = gameRepository;
+        this.scheduledGameRepository = scheduledGameRepository;
+        this.standingsChangeRepository = standingsChangeRepository;
+        this.eventPublisher = eventPublisher;
     }
     
     /**
      * Fetches games for a date range from the NBA API and saves them to the database.
-     * Skips games that already exist in the database.
+     * Games that already exist in the database are skipped by the insert itself, so the cost
+     * depends on the number of new games rather than the size of the response.
+     * Regular-season games that are not final yet are saved to the remaining schedule,
+     * and removed from it once they are saved as final games.
+     * Publishes a {@link GamesSavedEvent} when new games are saved, and a {@link ScheduleChangedEvent}
+     * when scheduled games are inserted or removed.
      * 
      * @param startDate the start date of the range (inclusive)
      * @param endDate the end date of the range (inclusive)
-     * @return list of newly saved games
+     * @return list of newly saved games; they are inserted in bulk and not assigned IDs
      * @throws NBAApiException (unchecked) if the API call fails
      */
     @Transactional
@@ -69,57 +94,100 @@ public class NBADataService {
         
         logger.info("Received {} games from NBA API", response.getData().size());
         
-        // Build team ID mapping cache
-        Map<Long, Team> teamIdMap = buildTeamIdMap();
-        
-        // Transform and save games
-        List<Game> savedGames = new ArrayList<>();
+        // Transform the response; which games are new is decided by the inserts below
+        List<Game> games = new ArrayList<>();
+        List<ScheduledGame> scheduledGames = new ArrayList<>();
         for (NBAGameDTO gameDTO : response.getData()) {
-            // Skip if game already exists
-            if (gameRepository.existsByNbaGameId(gameDTO.getId())) {
-                logger.debug("Game {} already exists, skipping", gameDTO.getId());
-                continue;
-            }
-            
-            // Skip games that are not finished (only save games with "Final" status)
+            // Games that are not finished go to the remaining schedule instead (regular season only)
             if (!gameDTO.isFinal()) {
-                logger.debug("Game {} is not finished yet (status: {}), skipping", gameDTO.getId(), gameDTO.getStatus());
+                logger.debug("Game {} is not finished yet (status: {})", gameDTO.getId(), gameDTO.getStatus());
+                if (!gameDTO.isPostseason()) {
+                    ScheduledGame scheduledGame = transformToScheduledGame(gameDTO);
+                    if (scheduledGame != null) {
+                        scheduledGames.add(scheduledGame);
+                    }
+                }
                 continue;
             }
             
             // Transform to Game entity
-            Game game = transformToGame(gameDTO, teamIdMap);
+            Game game = transformToGame(gameDTO);
             if (game != null) {
-                savedGames.add(game);
+                games.add(game);
+            }
+        }
+        
+        // Insert the games that are not stored yet in one statement, skipping existing ones
+        List<Game> savedGames = new ArrayList<>();
+        if (!games.isEmpty()) {
+            Set<Long> inserted = new HashSet<>(gameRepository.insertNew(games));
+            for (Game game : games) {
+                if (inserted.remove(game.getNbaGameId())) {
+                    savedGames.add(game);
+                }
             }
         }
         
-        // Batch save all new games
+        // First affected date of each season that changed
+        Map<Integer, LocalDate> changedFrom = new HashMap<>();
         if (!savedGames.isEmpty()) {
-            savedGames = gameRepository.saveAll(savedGames);
-            logger.info("Saved {} new games to database", savedGames.size());
+            logger.info("Saved {} new games to database ({} already stored)", savedGames.size(),
+                    games.size() - savedGames.size());
+            
+            // Games that are now final are no longer part of the remaining schedule
+            long removed = scheduledGameRepository.deleteByNbaGameIdIn(
+                    savedGames.stream().map(Game::getNbaGameId).toList());
+            // A game that was not scheduled adds to the remaining games of every earlier date
+            boolean unscheduled = removed < savedGames.size();
+            for (Game game : savedGames) {
+                int season = SeasonDateUtility.seasonOf(game.getGameDate());
+                markChanged(changedFrom, season,
+                        unscheduled ? SeasonDateUtility.seasonStart(season) : game.getGameDate());
+            }
+            eventPublisher.publishEvent(new GamesSavedEvent(savedGames));
+            if (removed > 0) {
+                eventPublisher.publishEvent(new ScheduleChangedEvent(seasonsOf(
+                        savedGames.stream().map(Game::getGameDate).toList())));
+            }
         } else {
             logger.info("No new games to save");
         }
         
+        if (!scheduledGames.isEmpty()) {
+            Set<Long> inserted = scheduledGameRepository.insertNew(scheduledGames);
+            logger.info("Saved {} new scheduled games to database", inserted.size());
+            if (!inserted.isEmpty()) {
+                Set<Integer> seasons = seasonsOf(scheduledGames.stream()
+                        .filter(scheduledGame -> inserted.contains(scheduledGame.getNbaGameId()))
+                        .map(ScheduledGame::getGameDate)
+                        .toList());
+                // Clinch statuses depend on the whole remaining schedule, so every date is affected
+                for (int season : seasons) {
+                    markChanged(changedFrom, season, SeasonDateUtility.seasonStart(season));
+                }
+                eventPublisher.publishEvent(new ScheduleChangedEvent(seasons));
+            }
+        }
+        
+        if (!changedFrom.isEmpty()) {
+            standingsChangeRepository.saveAll(changedFrom.entrySet().stream()
+                    .map(entry -> new StandingsChange(entry.getKey(), entry.getValue()))
+                    .toList());
+        }
+        
         return savedGames;
     }
     
-    /**
-     * Builds a map of NBA team IDs to internal Team entities for quick lookup.
-     * 
-     * @return map of NBA team ID to Team entity
-     */
-    private Map<Long, Team> buildTeamIdMap() {
-        List<Team> allTeams = teamRepository.findAll();
-        Map<Long, Team> teamIdMap = new HashMap<>();
-        
-        for (Team team : allTeams) {
-            teamIdMap.put(team.getNbaTeamId().longValue(), team);
+    private static void markChanged(Map<Integer, LocalDate> changedFrom, int season, LocalDate date) {
+        changedFrom.merge(season, date, (current, candidate) -> candidate.isBefore(current) ? candidate : current);
+    }
+    
+    private static Set<Integer> seasonsOf(List<LocalDate> dates) {
+        Set<Integer> seasons = new HashSet<>();
+        for (LocalDate date : dates) {
+            seasons.add(SeasonDateUtility.seasonOf(date));
         }
-        
-        logger.debug("Built team ID map with {} teams", teamIdMap.size());
-        return teamIdMap;
+        return seasons;
     }
     
     /**
@@ -127,19 +195,18 @@ public class NBADataService {
      * Maps external team IDs to internal Team entities.
      * 
      * @param gameDTO the NBA API game DTO
-     * @param teamIdMap map of NBA team IDs to Team entities
      * @return Game entity, or null if teams cannot be mapped
      */
-    private Game transformToGame(NBAGameDTO gameDTO, Map<Long, Team> teamIdMap) {
+    private Game transformToGame(NBAGameDTO gameDTO) {
         // Map home team
-        Team homeTeam = teamIdMap.get(gameDTO.getHomeTeam().getId());
+        Team homeTeam = teamRegistry.byNbaTeamId(gameDTO.getHomeTeam().getId());
         if (homeTeam == null) {
             logger.warn("Could not find home team with NBA ID {}", gameDTO.getHomeTeam().getId());
             return null;
         }
         
         // Map away team (visitor team)
-        Team awayTeam = teamIdMap.get(gameDTO.getVisitorTeam().getId());
+        Team awayTeam = teamRegistry.byNbaTeamId(gameDTO.getVisitorTeam().getId());
         if (awayTeam == null) {
             logger.warn("Could not find away team with NBA ID {}", gameDTO.getVisitorTeam().getId());
             return null;
@@ -155,4 +222,22 @@ public class NBADataService {
                 gameDTO.getVisitorTeamScore()
         );
     }
+    
+    /**
+     * Transforms an NBA API game DTO for a game that has not finished yet to a ScheduledGame entity.
+     * 
+     * @param gameDTO the NBA API game DTO
+     * @return ScheduledGame entity, or null if teams cannot be mapped
+     */
+    private ScheduledGame transformToScheduledGame(NBAGameDTO gameDTO) {
+        Team homeTeam = teamRegistry.byNbaTeamId(gameDTO.getHomeTeam().getId());
+        Team awayTeam = teamRegistry.byNbaTeamId(gameDTO.getVisitorTeam().getId());
+        if (homeTeam == null || awayTeam == null) {
+            logger.warn("Could not map teams for scheduled game {} (home NBA ID {}, away NBA ID {})",
+                    gameDTO.getId(), gameDTO.getHomeTeam().getId(), gameDTO.getVisitorTeam().getId());
+            return null;
+        }
+        
+        return new ScheduledGame(gameDTO.getId(), gameDTO.getDate(), homeTeam, awayTeam);
+    }
 }
@@ -0,0 +1,97 @@
+package com.nba.standings.service;
+
+import com.nba.standings.model.entity.PackedStandingsSnapshot;
+import com.nba.standings.model.entity.PackedStandingsSnapshot.Entry;
+import com.nba.standings.model.entity.StandingsSnapshot;
+import com.nba.standings.model.entity.Team;
+import com.nba.standings.repository.JdbcBulkInserter;
+import com.nba.standings.repository.PackedStandingsSnapshotRepository;
+import com.nba.standings.util.SeasonDateUtility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Snapshot store with one packed_standings_snapshots row per date.
+ *
+ * The records of all teams for a date are packed into one binary payload (see
+ * PackedStandingsSnapshot), so a date's standings are read with a single primary key lookup and
+ * take one index entry instead of one per team in each index. The teams are resolved from the
+ * TeamRegistry when the payload is unpacked.
+ */
+public class PackedSnapshotStore implements SnapshotStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(PackedSnapshotStore.class);
+
+    private static final List<String> PACKED_SNAPSHOT_COLUMNS = List.of("snapshot_date", "format_version", "payload");
+
+    private final JdbcBulkInserter jdbcBulkInserter;
+    private final PackedStandingsSnapshotRepository packedStandingsSnapshotRepository;
+    private final TeamRegistry teamRegistry;
+
+    public PackedSnapshotStore(JdbcBulkInserter jdbcBulkInserter,
+                               PackedStandingsSnapshotRepository packedStandingsSnapshotRepository,
+                               TeamRegistry teamRegistry) {
+        this.jdbcBulkInserter = jdbcBulkInserter;
+        this.packedStandingsSnapshotRepository = packedStandingsSnapshotRepository;
+        this.teamRegistry = teamRegistry;
+    }
+
+    @Override
+    public List<StandingsSnapshot> findByDate(LocalDate date) {
+        return packedStandingsSnapshotRepository.findById(date)
+                .map(this::unpack)
+                .orElse(List.of());
+    }
+
+    @Override
+    public LocalDate findLatestDateInSeasonBefore(LocalDate date) {
+        // Packed snapshots are keyed by date alone, so the season is bounded by its dates
+        LocalDate seasonStart = SeasonDateUtility.seasonStart(SeasonDateUtility.seasonOf(date));
+        return packedStandingsSnapshotRepository.findLatestSnapshotDateBetween(seasonStart, date.minusDays(1));
+    }
+
+    @Override
+    public List<LocalDate> findDatesBetween(LocalDate startDate, LocalDate endDate) {
+        return packedStandingsSnapshotRepository.findSnapshotDatesBetween(startDate, endDate);
+    }
+
+    @Override
+    public void saveAllIgnoringExisting(List<StandingsSnapshot> snapshots) {
+        jdbcBulkInserter.insertIgnoringConflicts("packed_standings_snapshots", PACKED_SNAPSHOT_COLUMNS,
+                List.of("snapshot_date"), toRows(snapshots));
+    }
+
+    private static List<Object[]> toRows(List<StandingsSnapshot> snapshots) {
+        Map<LocalDate, List<Entry>> entriesByDate = new LinkedHashMap<>();
+        for (StandingsSnapshot snapshot : snapshots) {
+            entriesByDate.computeIfAbsent(snapshot.getSnapshotDate(), date -> new ArrayList<>())
+                    .add(Entry.of(snapshot));
+        }
+        List<Object[]> rows = new ArrayList<>(entriesByDate.size());
+        entriesByDate.forEach((date, entries) -> rows.add(new Object[] {
+                date, PackedStandingsSnapshot.FORMAT_VERSION, PackedStandingsSnapshot.encode(entries)
+        }));
+        return rows;
+    }
+
+    private List<StandingsSnapshot> unpack(PackedStandingsSnapshot packed) {
+        List<Entry> entries = packed.getEntries();
+        List<StandingsSnapshot> snapshots = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            Team team = teamRegistry.byId(entry.teamId());
+            if (team == null) {
+                logger.warn("Packed snapshot for {} has unknown team ID {}. Skipping team.",
+                        packed.getSnapshotDate(), entry.teamId());
+                continue;
+            }
+            snapshots.add(entry.toSnapshot(packed.getSnapshotDate(), team));
+        }
+        return snapshots;
+    }
+}
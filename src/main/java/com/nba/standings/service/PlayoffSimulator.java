@@ -0,0 +1,211 @@
+package com.nba.standings.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Monte Carlo simulator that plays out the remaining schedule many times and counts how often
+ * each team finishes at each conference seed.
+ *
+ * Each remaining game is decided by a log5 win probability computed once from the current
+ * records, with winning percentages smoothed as (wins + 1) / (games + 2) so teams without games
+ * are treated as .500. The simulations are split recursively across the common fork-join pool.
+ * Every leaf task owns a SplittableRandom split from its parent and a single LeagueRecords it
+ * resets before each simulation, so the hot loop only touches primitive arrays and the result
+ * for a given seed does not depend on how the tasks are scheduled. Seeds are assigned with the
+ * same TiebreakRanker used for the standings.
+ */
+@Component
+public class PlayoffSimulator {
+
+    /**
+     * Number of simulations below which a task runs sequentially instead of splitting further.
+     */
+    static final int LEAF_SIMULATIONS = 4096;
+
+    /**
+     * Seed probabilities and projected wins from a simulation run.
+     */
+    public static final class SimulationResult {
+        private final int simulations;
+        private final int maxSeed;
+        private final long[] seedCounts;
+        private final long[] totalWins;
+
+        SimulationResult(int simulations, int maxSeed, long[] seedCounts, long[] totalWins) {
+            this.simulations = simulations;
+            this.maxSeed = maxSeed;
+            this.seedCounts = seedCounts;
+            this.totalWins = totalWins;
+        }
+
+        public int getSimulations() {
+            return simulations;
+        }
+
+        public int getMaxSeed() {
+            return maxSeed;
+        }
+
+        /**
+         * @param team team index
+         * @param seed 1-based conference seed
+         * @return fraction of simulations in which the team finished at that seed
+         */
+        public double seedProbability(int team, int seed) {
+            if (simulations == 0 || seed < 1 || seed > maxSeed) {
+                return 0.0;
+            }
+            return (double) seedCounts[team * maxSeed + seed - 1] / simulations;
+        }
+
+        /**
+         * @param team team index
+         * @param firstSeed first seed (inclusive) to include
+         * @param lastSeed last seed (inclusive) to include
+         * @return fraction of simulations in which the team finished at any seed in the range
+         */
+        public double seedRangeProbability(int team, int firstSeed, int lastSeed) {
+            double probability = 0.0;
+            for (int seed = firstSeed; seed <= lastSeed; seed++) {
+                probability += seedProbability(team, seed);
+            }
+            return probability;
+        }
+
+        /**
+         * @param team team index
+         * @return average final win total over all simulations
+         */
+        public double projectedWins(int team) {
+            return simulations == 0 ? 0.0 : (double) totalWins[team] / simulations;
+        }
+    }
+
+    /**
+     * Simulate the rest of the season.
+     *
+     * @param start current records of every team; not modified
+     * @param homeTeams team index of the home team of each remaining game
+     * @param awayTeams team index of the away team of each remaining game
+     * @param simulations number of seasons to simulate
+     * @param seed random seed, the same seed always gives the same result
+     * @return seed counts and win totals for every team
+     */
+    SimulationResult simulate(LeagueRecords start, int[] homeTeams, int[] awayTeams, int simulations, long seed) {
+        int teamCount = start.teamCount();
+        int[] conferenceSizes = new int[teamCount];
+        int maxSeed = 0;
+        for (int i = 0; i < teamCount; i++) {
+            maxSeed = Math.max(maxSeed, ++conferenceSizes[start.conference(i).ordinal()]);
+        }
+
+        double[] homeWinProbability = new double[homeTeams.length];
+        for (int g = 0; g < homeTeams.length; g++) {
+            homeWinProbability[g] = log5(smoothedWinPct(start, homeTeams[g]), smoothedWinPct(start, awayTeams[g]));
+        }
+
+        Tally tally = ForkJoinPool.commonPool().invoke(new SimulationTask(
+                start, homeTeams, awayTeams, homeWinProbability, maxSeed, simulations, new SplittableRandom(seed)));
+        return new SimulationResult(simulations, maxSeed, tally.seedCounts, tally.totalWins);
+    }
+
+    private static double smoothedWinPct(LeagueRecords records, int team) {
+        return (records.wins(team) + 1.0) / (records.wins(team) + records.losses(team) + 2.0);
+    }
+
+    /**
+     * Probability that a team with winning percentage a beats a team with winning percentage b.
+     */
+    static double log5(double a, double b) {
+        return (a - a * b) / (a + b - 2 * a * b);
+    }
+
+    /**
+     * Seed counts and win totals accumulated by one task.
+     */
+    private static final class Tally {
+        private final long[] seedCounts;
+        private final long[] totalWins;
+
+        Tally(int teamCount, int maxSeed) {
+            this.seedCounts = new long[teamCount * maxSeed];
+            this.totalWins = new long[teamCount];
+        }
+
+        Tally merge(Tally other) {
+            for (int i = 0; i < seedCounts.length; i++) {
+                seedCounts[i] += other.seedCounts[i];
+            }
+            for (int i = 0; i < totalWins.length; i++) {
+                totalWins[i] += other.totalWins[i];
+            }
+            return this;
+        }
+    }
+
+    private static final class SimulationTask extends RecursiveTask<Tally> {
+        private final LeagueRecords start;
+        private final int[] homeTeams;
+        private final int[] awayTeams;
+        private final double[] homeWinProbability;
+        private final int maxSeed;
+        private final int simulations;
+        private final SplittableRandom random;
+
+        SimulationTask(LeagueRecords start, int[] homeTeams, int[] awayTeams, double[] homeWinProbability,
+                       int maxSeed, int simulations, SplittableRandom random) {
+            this.start = start;
+            this.homeTeams = homeTeams;
+            this.awayTeams = awayTeams;
+            this.homeWinProbability = homeWinProbability;
+            this.maxSeed = maxSeed;
+            this.simulations = simulations;
+            this.random = random;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (simulations <= LEAF_SIMULATIONS) {
+                return simulateSequentially();
+            }
+
+            int half = simulations / 2;
+            SimulationTask left = new SimulationTask(start, homeTeams, awayTeams, homeWinProbability,
+                    maxSeed, half, random.split());
+            SimulationTask right = new SimulationTask(start, homeTeams, awayTeams, homeWinProbability,
+                    maxSeed, simulations - half, random);
+            left.fork();
+            Tally tally = right.compute();
+            return tally.merge(left.join());
+        }
+
+        private Tally simulateSequentially() {
+            int teamCount = start.teamCount();
+            Tally tally = new Tally(teamCount, maxSeed);
+            LeagueRecords records = start.copy();
+            int[] conferenceRanks = new int[teamCount];
+
+            for (int s = 0; s < simulations; s++) {
+                records.copyFrom(start);
+                for (int g = 0; g < homeTeams.length; g++) {
+                    if (random.nextDouble() < homeWinProbability[g]) {
+                        records.recordWin(homeTeams[g], awayTeams[g]);
+                    } else {
+                        records.recordWin(awayTeams[g], homeTeams[g]);
+                    }
+                }
+
+                records.rank(conferenceRanks);
+                for (int team = 0; team < teamCount; team++) {
+                    tally.seedCounts[team * maxSeed + conferenceRanks[team] - 1]++;
+                    tally.totalWins[team] += records.wins(team);
+                }
+            }
+            return tally;
+        }
+    }
+}
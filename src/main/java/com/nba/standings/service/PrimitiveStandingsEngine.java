@@ -0,0 +1,126 @@
+package com.nba.standings.service;
+
+import com.nba.standings.model.entity.Game;
+import com.nba.standings.model.entity.Team;
+import com.nba.standings.model.projection.GameResult;
+import com.nba.standings.service.StandingsCalculator.TeamStanding;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Standings engine that works on primitive arrays instead of per-team objects.
+ *
+ * Team IDs are mapped once to dense indexes 0..N-1 (teams sorted by ID), and wins, losses,
+ * division and conference records and the N x N head-to-head win matrix are counted into
+ * {@code int} arrays held by LeagueRecords. Teams are ranked with the shared TiebreakRanker,
+ * so the output is identical to StandingsCalculator. TeamStanding objects are only built once
+ * ranking is complete, and their BigDecimal winning percentages only when the API response
+ * asks for them.
+ */
+public class PrimitiveStandingsEngine implements StandingsEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrimitiveStandingsEngine.class);
+
+    @Override
+    public Map<Long, TeamStanding> calculateRankedStandings(List<Game> games, List<Team> allTeams) {
+        return rankStandings(countRecords(games, allTeams));
+    }
+
+    @Override
+    public Map<Long, TeamStanding> calculateRankedStandingsFromResults(Stream<GameResult> results, List<Team> allTeams) {
+        return rankStandings(countResults(results, allTeams));
+    }
+
+    /**
+     * Rank counted records and build the standings from them.
+     *
+     * @param records the unranked records
+     * @return Map of team ID to TeamStanding with records and both ranks assigned
+     */
+    private static Map<Long, TeamStanding> rankStandings(LeagueRecords records) {
+        int teamCount = records.teamCount();
+
+        // Rank teams within each division, then each conference
+        int[] conferenceRanks = new int[teamCount];
+        records.rank(conferenceRanks);
+
+        // Build the result objects only once all counting and ranking is done
+        Map<Long, TeamStanding> standings = new HashMap<>(teamCount * 2);
+        for (int i = 0; i < teamCount; i++) {
+            Team team = records.team(i);
+            TeamStanding standing = new TeamStanding(team, i, teamCount);
+            standing.setWins(records.wins(i));
+            standing.setLosses(records.losses(i));
+            standing.setDivisionRecord(records.divisionWins(i), records.divisionLosses(i));
+            standing.setConferenceRecord(records.conferenceWins(i), records.conferenceLosses(i));
+            standing.setHeadToHeadRow(records.headToHeadRow(i));
+            standing.setRecentResults(records.lastTenResults(i), records.streak(i));
+            standing.setDivisionRank(records.divisionRank(i));
+            standing.setConferenceRank(conferenceRanks[i]);
+            standings.put(team.getId(), standing);
+        }
+
+        return standings;
+    }
+
+    /**
+     * Count the results of games into primitive records, skipping games with unknown teams.
+     *
+     * @param games the games to count, in date order
+     * @param allTeams all teams in the league
+     * @return the unranked records
+     */
+    static LeagueRecords countRecords(List<Game> games, List<Team> allTeams) {
+        LeagueRecords records = new LeagueRecords(allTeams);
+        for (Game game : games) {
+            int homeIndex = records.indexOf(game.getHomeTeam().getId());
+            int awayIndex = records.indexOf(game.getAwayTeam().getId());
+
+            if (homeIndex < 0 || awayIndex < 0) {
+                logger.warn("Game {} has missing team data - Home Team ID: {}, Away Team ID: {}. Skipping game.",
+                        game.getNbaGameId(), game.getHomeTeam().getId(), game.getAwayTeam().getId());
+                continue;
+            }
+
+            if (game.getHomeScore() > game.getAwayScore()) {
+                records.recordWin(homeIndex, awayIndex);
+            } else {
+                records.recordWin(awayIndex, homeIndex);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Count game results into primitive records, skipping results with unknown teams.
+     *
+     * @param results the game results to count, in date order
+     * @param allTeams all teams in the league
+     * @return the unranked records
+     */
+    static LeagueRecords countResults(Stream<GameResult> results, List<Team> allTeams) {
+        LeagueRecords records = new LeagueRecords(allTeams);
+        results.forEach(result -> {
+            int homeIndex = records.indexOf(result.homeTeamId());
+            int awayIndex = records.indexOf(result.awayTeamId());
+
+            if (homeIndex < 0 || awayIndex < 0) {
+                logger.warn("Game on {} has missing team data - Home Team ID: {}, Away Team ID: {}. Skipping game.",
+                        result.gameDate(), result.homeTeamId(), result.awayTeamId());
+                return;
+            }
+
+            if (result.homeWon()) {
+                records.recordWin(homeIndex, awayIndex);
+            } else {
+                records.recordWin(awayIndex, homeIndex);
+            }
+        });
+        return records;
+    }
+}
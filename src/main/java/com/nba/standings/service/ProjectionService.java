@@ -0,0 +1,337 @@
+package com.nba.standings.service;
+
+import com.nba.standings.model.entity.Game;
+import com.nba.standings.model.entity.ScheduledGame;
+import com.nba.standings.model.entity.Team;
+import com.nba.standings.repository.GameRepository;
+import com.nba.standings.repository.ScheduledGameRepository;
+import com.nba.standings.service.PlayoffSimulator.SimulationResult;
+import com.nba.standings.util.SeasonDateUtility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Service for projecting the final standings of the current season.
+ * Starts from the records of the games played so far and simulates the remaining schedule
+ * with PlayoffSimulator. Seeds 1-6 qualify for the playoffs directly and seeds 7-10 reach
+ * the play-in tournament.
+ *
+ * The games and schedule are read in a short read-only transaction and the simulation runs after
+ * it has ended, so no database connection is held while simulating. The projection is cached
+ * until games or schedule changes of the current season are saved, or the day changes, and
+ * concurrent requests while it is being calculated wait for the same run. A run that overlapped
+ * a change is returned to its callers but not cached.
+ */
+@Service
+public class ProjectionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectionService.class);
+
+    static final int LAST_PLAYOFF_SEED = 6;
+    static final int LAST_PLAY_IN_SEED = 10;
+
+    private final GameRepository gameRepository;
+    private final TeamRegistry teamRegistry;
+    private final ScheduledGameRepository scheduledGameRepository;
+    private final NBADataService nbaDataService;
+    private final PlayoffSimulator playoffSimulator;
+    private final SeasonDateUtility seasonDateUtility;
+    private final int simulations;
+    private final TransactionTemplate readOnlyTransaction;
+
+    /** The last projection, or null if there is none or it was invalidated. */
+    private volatile Projections cached;
+
+    /** Incremented on every invalidation, so a run that overlapped one is not cached. */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /** The projection currently running, shared by concurrent requests. */
+    private final AtomicReference<CompletableFuture<Projections>> inFlight = new AtomicReference<>();
+
+    public ProjectionService(GameRepository gameRepository,
+                             TeamRegistry teamRegistry,
+                             ScheduledGameRepository scheduledGameRepository,
+                             NBADataService nbaDataService,
+                             PlayoffSimulator playoffSimulator,
+                             SeasonDateUtility seasonDateUtility,
+                             @Value("${standings.projections.simulations:1000000}") int simulations,
+                             PlatformTransactionManager transactionManager) {
+        this.gameRepository = gameRepository;
+        this.teamRegistry = teamRegistry;
+        this.scheduledGameRepository = scheduledGameRepository;
+        this.nbaDataService = nbaDataService;
+        this.playoffSimulator = playoffSimulator;
+        this.seasonDateUtility = seasonDateUtility;
+        this.simulations = simulations;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Projection of one team's final season.
+     *
+     * @param team the team
+     * @param wins current wins
+     * @param losses current losses
+     * @param conferenceRank current conference rank
+     * @param projectedWins average final win total
+     * @param seedProbabilities probability of finishing at each conference seed, index 0 is seed 1
+     * @param playoffProbability probability of a top-6 seed
+     * @param playInProbability probability of a seed from 7 to 10
+     */
+    public record TeamProjection(Team team, int wins, int losses, int conferenceRank, double projectedWins,
+                                 double[] seedProbabilities, double playoffProbability, double playInProbability) {
+    }
+
+    /**
+     * Result of a projection run.
+     *
+     * @param asOf the date the projection was made
+     * @param simulations number of simulated seasons
+     * @param remainingGames number of scheduled games that were simulated
+     * @param teams projection for every team
+     */
+    public record Projections(LocalDate asOf, int simulations, int remainingGames, List<TeamProjection> teams) {
+    }
+
+    /**
+     * The current records of every team and the remaining games between them, by team index.
+     */
+    private record SeasonState(LeagueRecords records, int[] homeTeams, int[] awayTeams) {
+    }
+
+    /**
+     * Project the final standings of the current season from the stored games and schedule.
+     * Returns the cached projection of today if there is one.
+     *
+     * @return the projection for every team
+     */
+    public Projections getProjections() {
+        Projections current = cached;
+        if (current != null && current.asOf().equals(LocalDate.now())) {
+            return current;
+        }
+
+        CompletableFuture<Projections> load = new CompletableFuture<>();
+        CompletableFuture<Projections> running = inFlight.compareAndExchange(null, load);
+        if (running != null) {
+            logger.info("Waiting for the projection already running");
+            return awaitLoad(running);
+        }
+        return runProjection(load);
+    }
+
+    /**
+     * Drop the cached projection when games of the current season are saved.
+     *
+     * @param event the event containing the newly saved games
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGamesSaved(GamesSavedEvent event) {
+        int season = SeasonDateUtility.seasonOf(LocalDate.now());
+        if (event.games().stream().anyMatch(game -> SeasonDateUtility.seasonOf(game.getGameDate()) == season)) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Drop the cached projection when the schedule of the current season changes.
+     *
+     * @param event the event containing the seasons whose schedule changed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        if (event.seasons().contains(SeasonDateUtility.seasonOf(LocalDate.now()))) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Calculate the projection as the single in-flight run, and cache it.
+     *
+     * @param load the registered in-flight run, completed on return
+     * @return the projection for every team
+     */
+    private Projections runProjection(CompletableFuture<Projections> load) {
+        try {
+            long invalidationToken = invalidations.get();
+            LocalDate today = LocalDate.now();
+            SeasonState state = readOnlyTransaction.execute(status -> loadSeasonState(today));
+            Projections projections = project(today, state);
+            storeAfterCommit(projections, invalidationToken);
+            load.complete(projections);
+            return projections;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.compareAndSet(load, null);
+        }
+    }
+
+    /**
+     * Read the current records and the remaining schedule of the season of a date.
+     *
+     * @param today the date of the projection
+     * @return the records and the remaining games
+     */
+    private SeasonState loadSeasonState(LocalDate today) {
+        LocalDate seasonStart = seasonDateUtility.determineSeasonStart(today);
+        LocalDate seasonEnd = seasonStart.plusYears(1).minusDays(1);
+
+        List<Game> games = gameRepository.findByGameDateBetween(seasonStart, seasonEnd);
+        List<Team> allTeams = teamRegistry.teams();
+        LeagueRecords records = PrimitiveStandingsEngine.countRecords(games, allTeams);
+
+        // Games that are final by now are already counted in the records
+        Set<Long> playedGameIds = new HashSet<>(games.size() * 2);
+        for (Game game : games) {
+            playedGameIds.add(game.getNbaGameId());
+        }
+
+        List<ScheduledGame> schedule = scheduledGameRepository.findByGameDateBetween(seasonStart, seasonEnd);
+        int[] homeTeams = new int[schedule.size()];
+        int[] awayTeams = new int[schedule.size()];
+        int remaining = 0;
+        for (ScheduledGame scheduledGame : schedule) {
+            int homeIndex = records.indexOf(scheduledGame.getHomeTeam().getId());
+            int awayIndex = records.indexOf(scheduledGame.getAwayTeam().getId());
+            if (playedGameIds.contains(scheduledGame.getNbaGameId()) || homeIndex < 0 || awayIndex < 0) {
+                continue;
+            }
+            homeTeams[remaining] = homeIndex;
+            awayTeams[remaining] = awayIndex;
+            remaining++;
+        }
+        return new SeasonState(records, Arrays.copyOf(homeTeams, remaining), Arrays.copyOf(awayTeams, remaining));
+    }
+
+    /**
+     * Simulate the rest of the season from loaded records and schedule.
+     *
+     * @param today the date of the projection
+     * @param state the records and the remaining games
+     * @return the projection for every team
+     */
+    private Projections project(LocalDate today, SeasonState state) {
+        LeagueRecords records = state.records();
+        int remaining = state.homeTeams().length;
+
+        long startTime = System.currentTimeMillis();
+        SimulationResult result = playoffSimulator.simulate(records, state.homeTeams(), state.awayTeams(),
+                simulations, System.nanoTime());
+        logger.info("Simulated {} seasons with {} remaining games in {} ms",
+                simulations, remaining, System.currentTimeMillis() - startTime);
+
+        // Current conference ranks, computed on a copy since ranking reorders the groups
+        int[] conferenceRanks = new int[records.teamCount()];
+        records.copy().rank(conferenceRanks);
+
+        List<TeamProjection> projections = new ArrayList<>(records.teamCount());
+        for (int i = 0; i < records.teamCount(); i++) {
+            double[] seedProbabilities = new double[result.getMaxSeed()];
+            for (int seed = 1; seed <= seedProbabilities.length; seed++) {
+                seedProbabilities[seed - 1] = result.seedProbability(i, seed);
+            }
+            projections.add(new TeamProjection(
+                    records.team(i),
+                    records.wins(i),
+                    records.losses(i),
+                    conferenceRanks[i],
+                    result.projectedWins(i),
+                    seedProbabilities,
+                    result.seedRangeProbability(i, 1, LAST_PLAYOFF_SEED),
+                    result.seedRangeProbability(i, LAST_PLAYOFF_SEED + 1, LAST_PLAY_IN_SEED)));
+        }
+
+        return new Projections(today, simulations, remaining, projections);
+    }
+
+    /**
+     * Cache a projection once the current transaction commits, or right away when there is none.
+     * Nothing is cached if the projection was invalidated since the run started.
+     */
+    private void storeAfterCommit(Projections projections, long invalidationToken) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    store(projections, invalidationToken);
+                }
+            });
+        } else {
+            store(projections, invalidationToken);
+        }
+    }
+
+    private synchronized void store(Projections projections, long invalidationToken) {
+        if (invalidations.get() != invalidationToken) {
+            logger.info("Not caching projections: games or schedule changed during the simulation");
+            return;
+        }
+        cached = projections;
+    }
+
+    private synchronized void invalidate() {
+        invalidations.incrementAndGet();
+        cached = null;
+    }
+
+    /**
+     * Wait for another request's run, rethrowing its exception if it failed.
+     *
+     * @param load the in-flight run
+     * @return the projection it calculated
+     */
+    private static Projections awaitLoad(CompletableFuture<Projections> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Fetch the rest of the current season from the NBA API, storing new final games and
+     * the remaining schedule.
+     *
+     * @return number of newly saved final games
+     */
+    @Transactional
+    public int refreshSchedule() {
+        LocalDate today = LocalDate.now();
+        LocalDate seasonStart = seasonDateUtility.determineSeasonStart(today);
+        LocalDate seasonEnd = seasonStart.plusYears(1).minusDays(1);
+
+        LocalDate mostRecentGameDate = gameRepository.findMostRecentGameDateInSeason(seasonStart.getYear());
+        LocalDate fetchStartDate = mostRecentGameDate != null ? mostRecentGameDate : seasonStart;
+
+        logger.info("Refreshing schedule from {} to {}", fetchStartDate, seasonEnd);
+        return nbaDataService.fetchAndSaveGames(fetchStartDate, seasonEnd).size();
+    }
+}
@@ -0,0 +1,74 @@
+package com.nba.standings.service;
+
+import com.nba.standings.model.entity.StandingsSnapshot;
+import com.nba.standings.repository.JdbcBulkInserter;
+import com.nba.standings.repository.StandingsSnapshotRepository;
+import com.nba.standings.util.SeasonDateUtility;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Snapshot store with one standings_snapshots row per team and date.
+ *
+ * Snapshots are read with their teams in a single join-fetched query, and written in bulk with
+ * JdbcBulkInserter instead of saveAll(), which Hibernate cannot batch for IDENTITY keys.
+ */
+public class RowSnapshotStore implements SnapshotStore {
+
+    private static final List<String> SNAPSHOT_COLUMNS = List.of("snapshot_date", "season", "team_id", "wins", "losses",
+            "win_pct", "division_rank", "conference_rank", "head_to_head", "streak", "last_ten_results");
+
+    // uk_snapshot_date_team
+    private static final List<String> SNAPSHOT_UNIQUE_COLUMNS = List.of("snapshot_date", "team_id");
+
+    private final JdbcBulkInserter jdbcBulkInserter;
+    private final StandingsSnapshotRepository standingsSnapshotRepository;
+
+    public RowSnapshotStore(JdbcBulkInserter jdbcBulkInserter, StandingsSnapshotRepository standingsSnapshotRepository) {
+        this.jdbcBulkInserter = jdbcBulkInserter;
+        this.standingsSnapshotRepository = standingsSnapshotRepository;
+    }
+
+    @Override
+    public List<StandingsSnapshot> findByDate(LocalDate date) {
+        return standingsSnapshotRepository.findWithTeamBySnapshotDate(date);
+    }
+
+    @Override
+    public LocalDate findLatestDateInSeasonBefore(LocalDate date) {
+        return standingsSnapshotRepository.findLatestSnapshotDateInSeasonBefore(SeasonDateUtility.seasonOf(date), date);
+    }
+
+    @Override
+    public List<LocalDate> findDatesBetween(LocalDate startDate, LocalDate endDate) {
+        return standingsSnapshotRepository.findSnapshotDatesBetween(startDate, endDate);
+    }
+
+    @Override
+    public void saveAllIgnoringExisting(List<StandingsSnapshot> snapshots) {
+        jdbcBulkInserter.insertIgnoringConflicts("standings_snapshots", SNAPSHOT_COLUMNS, SNAPSHOT_UNIQUE_COLUMNS,
+                toRows(snapshots));
+    }
+
+    private static List<Object[]> toRows(List<StandingsSnapshot> snapshots) {
+        List<Object[]> rows = new ArrayList<>(snapshots.size());
+        for (StandingsSnapshot snapshot : snapshots) {
+            rows.add(new Object[] {
+                    snapshot.getSnapshotDate(),
+                    snapshot.getSeason(),
+                    snapshot.getTeam().getId(),
+                    snapshot.getWins(),
+                    snapshot.getLosses(),
+                    snapshot.getWinPct(),
+                    snapshot.getDivisionRank(),
+                    snapshot.getConferenceRank(),
+                    StandingsSnapshot.encodeHeadToHead(snapshot.getHeadToHeadWins()),
+                    snapshot.getStreak(),
+                    snapshot.getLastTenResults()
+            });
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,13 @@
+package com.nba.standings.service;
+
+import java.util.Set;
+
+/**
+ * Application event published by NBADataService after scheduled games have been inserted or
+ * removed from the remaining schedule.
+ * Listeners use it to drop results that were derived from the previous schedule.
+ *
+ * @param seasons the seasons, by start year, whose schedule changed
+ */
+public record ScheduleChangedEvent(Set<Integer> seasons) {
+}
@@ -0,0 +1,286 @@
+package com.nba.standings.service;
+
+import com.nba.standings.model.entity.Team;
+import com.nba.standings.model.projection.GameResult;
+import com.nba.standings.repository.GameRepository;
+import com.nba.standings.service.StandingsCalculator.TeamStanding;
+import com.nba.standings.util.SeasonDateUtility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory per-season prefix sums of wins and losses.
+ *
+ * For every season, holds dense {@code int[dateOrdinal][teamIndex]} arrays where each cell is a
+ * team's cumulative wins (or losses) through that day of the season, plus a flattened
+ * {@code int[dateOrdinal][teamIndex * teams + opponentIndex]} head-to-head win matrix for the
+ * tiebreakers. Each team's result on each day is also kept, from which a
+ * {@code int[dateOrdinal][teamIndex]} streak and last-10 bit ring are maintained. Standings for
+ * any date then cost O(teams^2) with no database access.
+ *
+ * The cube is filled at startup from a stream of game results, fetched from the games table in
+ * batches so that no Game entities are held however many seasons are stored, and extended
+ * whenever NBADataService commits new games. It only serves dates strictly before the most recent game date of the
+ * season, since games on the most recent date may not all be final yet. A season holding a game
+ * between teams the cube does not know is never served again until the cube is rebuilt.
+ */
+@Component
+public class SeasonStandingsCube {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeasonStandingsCube.class);
+
+    private final GameRepository gameRepository;
+    private final TeamRegistry teamRegistry;
+    private final StandingsCalculator standingsCalculator;
+    private final SeasonDateUtility seasonDateUtility;
+    private final boolean enabled;
+
+    private final Map<LocalDate, SeasonCube> seasons = new ConcurrentHashMap<>();
+    private final Set<LocalDate> poisonedSeasons = ConcurrentHashMap.newKeySet();
+    private volatile List<Team> teams = List.of();
+    private volatile Map<Long, Integer> teamIndexById = Map.of();
+
+    public SeasonStandingsCube(GameRepository gameRepository,
+                               TeamRegistry teamRegistry,
+                               StandingsCalculator standingsCalculator,
+                               SeasonDateUtility seasonDateUtility,
+                               @Value("${standings.cube.enabled:true}") boolean enabled) {
+        this.gameRepository = gameRepository;
+        this.teamRegistry = teamRegistry;
+        this.standingsCalculator = standingsCalculator;
+        this.seasonDateUtility = seasonDateUtility;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Build the cube from the results of all stored games once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        if (!enabled) {
+            logger.info("Season standings cube is disabled");
+            return;
+        }
+
+        List<Team> sortedTeams = new ArrayList<>(teamRegistry.teams());
+        sortedTeams.sort(Comparator.comparing(Team::getId));
+
+        Map<Long, Integer> indexById = new HashMap<>();
+        for (int i = 0; i < sortedTeams.size(); i++) {
+            indexById.put(sortedTeams.get(i).getId(), i);
+        }
+
+        seasons.clear();
+        poisonedSeasons.clear();
+        teams = List.copyOf(sortedTeams);
+        teamIndexById = indexById;
+
+        LocalDate lastSeasonEnd = SeasonDateUtility.seasonEnd(SeasonDateUtility.seasonOf(LocalDate.now()));
+        long loaded = 0;
+        try (Stream<GameResult> results = gameRepository.streamResultsByGameDateBetween(
+                SeasonDateUtility.FIRST_SEASON_START, lastSeasonEnd)) {
+            Iterator<GameResult> iterator = results.iterator();
+            while (iterator.hasNext()) {
+                addResult(iterator.next());
+                loaded++;
+            }
+        }
+        logger.info("Season standings cube loaded with {} games across {} seasons", loaded, seasons.size());
+    }
+
+    /**
+     * Extend the cube with newly saved games once their transaction has committed.
+     * Runs before StandingsResponseCache evicts the affected dates, so that a request arriving
+     * right after the eviction cannot recompute and cache standings from the cube without them.
+     *
+     * @param event the event carrying the newly saved games
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onGamesSaved(GamesSavedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        event.games().forEach(game -> addResult(GameResult.of(game)));
+    }
+
+    /**
+     * Get win-loss records and ranks for all teams as of a date, if the cube can serve it.
+     *
+     * @param date the date to retrieve standings for
+     * @return map of team ID to ranked team standing, or empty if the date is not covered
+     */
+    public Optional<Map<Long, TeamStanding>> getStandings(LocalDate date) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        LocalDate seasonStart = seasonDateUtility.determineSeasonStart(date);
+        SeasonCube cube = seasons.get(seasonStart);
+        if (cube == null || poisonedSeasons.contains(seasonStart)) {
+            return Optional.empty();
+        }
+
+        List<Team> currentTeams = teams;
+        Map<Long, TeamStanding> standings = new HashMap<>();
+
+        cube.lock.readLock().lock();
+        try {
+            if (cube.latestGameDate == null || !date.isBefore(cube.latestGameDate)) {
+                return Optional.empty();
+            }
+
+            int day = cube.dayOrdinal(date);
+            int teamCount = currentTeams.size();
+            int[] wins = cube.wins[day];
+            int[] losses = cube.losses[day];
+            int[] headToHead = cube.headToHead[day];
+            for (int i = 0; i < teamCount; i++) {
+                TeamStanding standing = new TeamStanding(currentTeams.get(i), i, teamCount);
+                standing.setWins(wins[i]);
+                standing.setLosses(losses[i]);
+                standing.setHeadToHeadRow(Arrays.copyOfRange(headToHead, i * teamCount, (i + 1) * teamCount));
+                standing.setRecentResults(cube.lastTenResults[day][i], cube.streaks[day][i]);
+                standings.put(currentTeams.get(i).getId(), standing);
+            }
+        } finally {
+            cube.lock.readLock().unlock();
+        }
+
+        standingsCalculator.deriveGroupRecords(standings);
+        standingsCalculator.assignDivisionRanks(standings);
+        standingsCalculator.assignConferenceRanks(standings);
+        return Optional.of(standings);
+    }
+
+    /**
+     * Record a game result in the prefix sums of its season.
+     * A season whose games reference an unknown team is dropped and marked poisoned, so that later
+     * results cannot rebuild it from a partial set of games. Only a full reload clears the mark.
+     *
+     * @param result the result to add
+     */
+    private void addResult(GameResult result) {
+        LocalDate seasonStart = seasonDateUtility.determineSeasonStart(result.gameDate());
+        if (poisonedSeasons.contains(seasonStart)) {
+            return;
+        }
+
+        Map<Long, Integer> indexById = teamIndexById;
+        Integer homeIndex = indexById.get(result.homeTeamId());
+        Integer awayIndex = indexById.get(result.awayTeamId());
+
+        if (homeIndex == null || awayIndex == null) {
+            logger.warn("Game on {} references a team unknown to the season cube. Dropping season starting {}.",
+                    result.gameDate(), seasonStart);
+            poisonedSeasons.add(seasonStart);
+            seasons.remove(seasonStart);
+            return;
+        }
+
+        int teamCount = teams.size();
+        SeasonCube cube = seasons.computeIfAbsent(seasonStart, start -> new SeasonCube(start, teamCount));
+        boolean homeWon = result.homeWon();
+        cube.add(result.gameDate(), homeWon ? homeIndex : awayIndex, homeWon ? awayIndex : homeIndex);
+    }
+
+    /**
+     * Prefix sums of wins, losses and head-to-head wins for a single season, indexed by day of
+     * season and team index, plus each team's streak and last-10 results as of every day.
+     */
+    private static class SeasonCube {
+        private static final byte WIN = 1;
+        private static final byte LOSS = 2;
+
+        private final LocalDate seasonStart;
+        private final int teamCount;
+        private final int[][] wins;
+        private final int[][] losses;
+        private final int[][] headToHead;
+        private final byte[][] results;
+        private final int[][] lastTenResults;
+        private final int[][] streaks;
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private LocalDate latestGameDate;
+
+        SeasonCube(LocalDate seasonStart, int teamCount) {
+            this.seasonStart = seasonStart;
+            this.teamCount = teamCount;
+            int days = (int) ChronoUnit.DAYS.between(seasonStart, seasonStart.plusYears(1));
+            this.wins = new int[days][teamCount];
+            this.losses = new int[days][teamCount];
+            this.headToHead = new int[days][teamCount * teamCount];
+            this.results = new byte[days][teamCount];
+            this.lastTenResults = new int[days][teamCount];
+            this.streaks = new int[days][teamCount];
+        }
+
+        /**
+         * Recompute a team's streak and last-10 ring from a day to the end of the season.
+         * Games may arrive out of date order, so every later day is rebuilt from the day before.
+         */
+        private void replayRecentResults(int team, int fromDay) {
+            int ring = fromDay > 0 ? lastTenResults[fromDay - 1][team] : 0;
+            int streak = fromDay > 0 ? streaks[fromDay - 1][team] : 0;
+            for (int day = fromDay; day < results.length; day++) {
+                if (results[day][team] != 0) {
+                    boolean won = results[day][team] == WIN;
+                    ring = TeamStanding.pushResult(ring, won);
+                    streak = TeamStanding.extendStreak(streak, won);
+                }
+                lastTenResults[day][team] = ring;
+                streaks[day][team] = streak;
+            }
+        }
+
+        int dayOrdinal(LocalDate date) {
+            return (int) ChronoUnit.DAYS.between(seasonStart, date);
+        }
+
+        void add(LocalDate gameDate, int winnerIndex, int loserIndex) {
+            lock.writeLock().lock();
+            try {
+                int gameDay = dayOrdinal(gameDate);
+                for (int day = gameDay; day < wins.length; day++) {
+                    wins[day][winnerIndex]++;
+                    losses[day][loserIndex]++;
+                    headToHead[day][winnerIndex * teamCount + loserIndex]++;
+                }
+                results[gameDay][winnerIndex] = WIN;
+                results[gameDay][loserIndex] = LOSS;
+                replayRecentResults(winnerIndex, gameDay);
+                replayRecentResults(loserIndex, gameDay);
+                if (latestGameDate == null || gameDate.isAfter(latestGameDate)) {
+                    latestGameDate = gameDate;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+}
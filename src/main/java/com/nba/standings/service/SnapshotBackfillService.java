@@ -0,0 +1,147 @@
+package com.nba.standings.service;
+
+import com.nba.standings.model.entity.StandingsSnapshot;
+import com.nba.standings.model.entity.Team;
+import com.nba.standings.model.projection.GameResult;
+import com.nba.standings.repository.GameRepository;
+import com.nba.standings.service.StandingsCalculator.TeamStanding;
+import com.nba.standings.util.SeasonDateUtility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Materializes standings snapshots for every date of a season in a single pass over its games.
+ *
+ * The games are swept once in date order with StandingsCalculator.sweepStandings(), and the
+ * resulting snapshots are written to the SnapshotStore in batches of whole dates. Dates that
+ * already have snapshots are left untouched, so the backfill can be re-run safely, and rows
+ * written meanwhile by the snapshot write-behind queue are skipped rather than failing the batch. Snapshots are only written for dates before the season's most recent game
+ * date, since games on that date may not all be final yet.
+ */
+@Service
+public class SnapshotBackfillService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotBackfillService.class);
+
+    private final GameRepository gameRepository;
+    private final TeamRegistry teamRegistry;
+    private final SnapshotStore snapshotStore;
+    private final StandingsCalculator standingsCalculator;
+    private final SeasonDateUtility seasonDateUtility;
+    private final int batchSize;
+    private final boolean backfillOnStartup;
+
+    public SnapshotBackfillService(GameRepository gameRepository,
+                                   TeamRegistry teamRegistry,
+                                   SnapshotStore snapshotStore,
+                                   StandingsCalculator standingsCalculator,
+                                   SeasonDateUtility seasonDateUtility,
+                                   @Value("${standings.backfill.batch-size:1000}") int batchSize,
+                                   @Value("${standings.backfill.on-startup:false}") boolean backfillOnStartup) {
+        this.gameRepository = gameRepository;
+        this.teamRegistry = teamRegistry;
+        this.snapshotStore = snapshotStore;
+        this.standingsCalculator = standingsCalculator;
+        this.seasonDateUtility = seasonDateUtility;
+        this.batchSize = batchSize;
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    /**
+     * Result of a backfill run.
+     *
+     * @param seasonStart the start of the backfilled season
+     * @param throughDate the last date snapshots were considered for, or null if the season has no games
+     * @param datesWritten number of dates for which snapshots were written
+     * @param rowsWritten number of snapshot rows written
+     */
+    public record BackfillResult(LocalDate seasonStart, LocalDate throughDate, int datesWritten, int rowsWritten) {
+    }
+
+    /**
+     * Backfill the current season once the application has started, if enabled.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillCurrentSeasonOnStartup() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        BackfillResult result = backfill(LocalDate.now());
+        logger.info("Startup backfill wrote {} snapshots for {} dates", result.rowsWritten(), result.datesWritten());
+    }
+
+    /**
+     * Write standings snapshots for every missing date of the season containing a date.
+     *
+     * @param date any date within the season to backfill
+     * @return counts of what was written
+     */
+    @Transactional
+    public BackfillResult backfillSeason(LocalDate date) {
+        return backfill(date);
+    }
+
+    private BackfillResult backfill(LocalDate date) {
+        LocalDate seasonStart = seasonDateUtility.determineSeasonStart(date);
+        LocalDate seasonEnd = seasonStart.plusYears(1).minusDays(1);
+        long startTime = System.currentTimeMillis();
+
+        List<GameResult> results = gameRepository.findResultsByGameDateBetween(seasonStart, seasonEnd);
+        LocalDate latestGameDate = results.stream()
+                .map(GameResult::gameDate)
+                .max(LocalDate::compareTo)
+                .orElse(null);
+        if (latestGameDate == null || !latestGameDate.isAfter(seasonStart)) {
+            logger.info("No complete game dates to backfill for season starting {}", seasonStart);
+            return new BackfillResult(seasonStart, null, 0, 0);
+        }
+
+        LocalDate throughDate = latestGameDate.minusDays(1);
+        Set<LocalDate> existingDates =
+                new HashSet<>(snapshotStore.findDatesBetween(seasonStart, throughDate));
+        List<Team> allTeams = teamRegistry.teams();
+
+        List<StandingsSnapshot> batch = new ArrayList<>(batchSize);
+        int[] counts = new int[2];
+        standingsCalculator.sweepStandings(results, allTeams, seasonStart, throughDate, (snapshotDate, standings) -> {
+            if (existingDates.contains(snapshotDate)) {
+                return;
+            }
+            for (TeamStanding standing : standings.values()) {
+                // Copied immediately, since the sweep reuses the same TeamStanding instances
+                batch.add(StandingsSnapshot.fromTeamStanding(snapshotDate, standing));
+            }
+            counts[0]++;
+            counts[1] += standings.size();
+            if (batch.size() >= batchSize) {
+                flush(batch);
+            }
+        });
+        flush(batch);
+
+        logger.info("Backfilled {} snapshots for {} dates of season starting {} in {} ms",
+                counts[1], counts[0], seasonStart, System.currentTimeMillis() - startTime);
+        return new BackfillResult(seasonStart, throughDate, counts[0], counts[1]);
+    }
+
+    private void flush(List<StandingsSnapshot> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        snapshotStore.saveAllIgnoringExisting(batch);
+        logger.debug("Inserted batch of {} snapshots", batch.size());
+        batch.clear();
+    }
+}
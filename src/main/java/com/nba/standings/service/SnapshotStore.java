@@ -0,0 +1,49 @@
+package com.nba.standings.service;
+
+import com.nba.standings.model.entity.StandingsSnapshot;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Storage for standings snapshots, the persisted standings of every team as of a date.
+ * Implementations differ only in the storage format, and return StandingsSnapshot instances
+ * whose teams can be read without a session. The active store is selected with the
+ * {@code standings.snapshots.format} property.
+ */
+public interface SnapshotStore {
+
+    /**
+     * Find the snapshots of every team for a date.
+     * 
+     * @param date the date to retrieve standings for
+     * @return the snapshots for the date, or an empty list if the date has none
+     */
+    List<StandingsSnapshot> findByDate(LocalDate date);
+
+    /**
+     * Find the most recent snapshot date strictly before a date, within the date's season.
+     * 
+     * @param date the date to look before
+     * @return the latest snapshot date of the date's season before it, or null if none exists
+     */
+    LocalDate findLatestDateInSeasonBefore(LocalDate date);
+
+    /**
+     * Find the dates that have snapshots within a date range (inclusive).
+     * 
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @return list of snapshot dates within the range
+     */
+    List<LocalDate> findDatesBetween(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Save snapshots, skipping any that are already stored for the same date and team.
+     * Saving the same snapshots again, or concurrently with another writer, is harmless.
+     * All snapshots of a date must be saved in the same call.
+     * 
+     * @param snapshots the snapshots to save
+     */
+    void saveAllIgnoringExisting(List<StandingsSnapshot> snapshots);
+}
@@ -0,0 +1,197 @@
+package com.nba.standings.service;
+
+import com.nba.standings.model.entity.StandingsSnapshot;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind queue for calculated standings snapshots.
+ *
+ * StandingsService hands the snapshots of a freshly calculated date to the queue and responds
+ * right away; a background thread writes them to the SnapshotStore every flush interval, or as
+ * soon as a full batch of dates is waiting. Each batch is written in its own transaction with
+ * SnapshotStore.saveAllIgnoringExisting(), so a date saved meanwhile by another instance or by
+ * the backfill is skipped instead of failing the batch on uk_snapshot_date_team.
+ *
+ * Dates stay queued until the transaction that wrote them has committed: a failed flush is
+ * retried on the next one, and the queue is drained when the application shuts down. Until then
+ * {@link #findPending(LocalDate)} serves the queued snapshots to readers on this instance. If the
+ * database rejects a batch outright, its dates are written one at a time, so that only a date
+ * that cannot be written at all, such as one for a team deleted meanwhile, is given up on. The
+ * queue holds at most a bounded number of dates; past that, snapshots are written synchronously
+ * by the thread that calculated them.
+ *
+ * Loss window: snapshots still queued when the process dies without shutting down cleanly are
+ * lost. In normal operation that is at most one flush interval of dates; while the database is
+ * unreachable, it is everything queued since. Snapshots are derived from the games table, so a
+ * lost date is calculated again on its next miss rather than served wrong.
+ */
+@Component
+public class SnapshotWriteBehindQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotWriteBehindQueue.class);
+
+    private final SnapshotStore snapshotStore;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxPendingDates;
+    private final ScheduledExecutorService flusher;
+
+    /** Snapshots waiting to be written, by date, flushed oldest first. */
+    private final ConcurrentSkipListMap<LocalDate, List<StandingsSnapshot>> pending = new ConcurrentSkipListMap<>();
+
+    public SnapshotWriteBehindQueue(SnapshotStore snapshotStore,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${standings.snapshots.write-behind.batch-size:100}") int batchSize,
+                                    @Value("${standings.snapshots.write-behind.max-pending-dates:10000}") int maxPendingDates,
+                                    @Value("${standings.snapshots.write-behind.flush-interval:1s}") Duration flushInterval) {
+        this.snapshotStore = snapshotStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.maxPendingDates = maxPendingDates;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "snapshot-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queue the snapshots of one date to be written. A date that is already queued keeps its
+     * first snapshots.
+     *
+     * @param date the date of the snapshots
+     * @param snapshots the snapshots of every team for the date
+     */
+    public void enqueue(LocalDate date, List<StandingsSnapshot> snapshots) {
+        if (pending.size() >= maxPendingDates) {
+            logger.warn("Snapshot write-behind queue is full ({} dates). Writing snapshots for {} synchronously",
+                    maxPendingDates, date);
+            try {
+                transactionTemplate.executeWithoutResult(status -> snapshotStore.saveAllIgnoringExisting(snapshots));
+            } catch (RuntimeException e) {
+                logger.warn("Failed to write snapshots for {}. They will be calculated again on the next request",
+                        date, e);
+            }
+            return;
+        }
+        if (pending.putIfAbsent(date, List.copyOf(snapshots)) == null && pending.size() >= batchSize) {
+            flusher.execute(this::flushQuietly);
+        }
+    }
+
+    /**
+     * Find the queued snapshots of a date.
+     *
+     * @param date the date to look up
+     * @return the snapshots waiting to be written for the date, or an empty list if none are
+     */
+    public List<StandingsSnapshot> findPending(LocalDate date) {
+        return pending.getOrDefault(date, List.of());
+    }
+
+    /**
+     * @return the number of dates waiting to be written
+     */
+    public int pendingDates() {
+        return pending.size();
+    }
+
+    /**
+     * Write every queued date, in batches of dates with one transaction each.
+     * A date is removed from the queue only once its batch has committed. When the database
+     * rejects a batch, its dates are retried one at a time, and only a date rejected on its own
+     * is removed without being written.
+     *
+     * @return the number of dates written
+     */
+    public synchronized int flush() {
+        int flushed = 0;
+        while (!pending.isEmpty()) {
+            List<Map.Entry<LocalDate, List<StandingsSnapshot>>> batch = new ArrayList<>(batchSize);
+            for (Map.Entry<LocalDate, List<StandingsSnapshot>> entry : pending.entrySet()) {
+                batch.add(entry);
+                if (batch.size() == batchSize) {
+                    break;
+                }
+            }
+
+            try {
+                write(batch);
+                flushed += batch.size();
+            } catch (DataIntegrityViolationException e) {
+                logger.warn("Queued snapshots for {} dates from {} were rejected. Writing them one date at a time",
+                        batch.size(), batch.get(0).getKey(), e);
+                flushed += writeEachDate(batch);
+            }
+        }
+        return flushed;
+    }
+
+    /**
+     * Write the dates of a batch separately, so that a date the database rejects does not hold
+     * back the others. Other failures are rethrown, leaving the unwritten dates queued.
+     *
+     * @return the number of dates written
+     */
+    private int writeEachDate(List<Map.Entry<LocalDate, List<StandingsSnapshot>>> batch) {
+        int written = 0;
+        for (Map.Entry<LocalDate, List<StandingsSnapshot>> entry : batch) {
+            try {
+                write(List.of(entry));
+                written++;
+            } catch (DataIntegrityViolationException e) {
+                logger.error("Giving up on queued snapshots for {}, which the database rejects. "
+                        + "They will be calculated again on the next request", entry.getKey(), e);
+                pending.remove(entry.getKey(), entry.getValue());
+            }
+        }
+        return written;
+    }
+
+    private void write(List<Map.Entry<LocalDate, List<StandingsSnapshot>>> batch) {
+        List<StandingsSnapshot> snapshots = new ArrayList<>();
+        batch.forEach(entry -> snapshots.addAll(entry.getValue()));
+        transactionTemplate.executeWithoutResult(status -> snapshotStore.saveAllIgnoringExisting(snapshots));
+        batch.forEach(entry -> pending.remove(entry.getKey(), entry.getValue()));
+        logger.info("Wrote {} snapshots for {} dates from the write-behind queue", snapshots.size(), batch.size());
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            logger.warn("Failed to write queued standings snapshots. {} dates will be retried", pending.size(), e);
+        }
+    }
+
+    /**
+     * Stop the background flushes and write whatever is still queued.
+     */
+    @PreDestroy
+    public void close() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(30, TimeUnit.SECONDS);
+        flushQuietly();
+    }
+}
@@ -1,16 +1,22 @@
 package com.nba.standings.service;
 
 import com.nba.standings.model.entity.Game;
+import com.nba.standings.model.entity.StandingsSnapshot;
 import com.nba.standings.model.entity.Team;
 import com.nba.standings.model.enums.Conference;
 import com.nba.standings.model.enums.Division;
+import com.nba.standings.model.projection.GameResult;
+import org.hibernate.Hibernate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 
 /**
  * Service responsible for calculating NBA standings from game results.
@@ -20,7 +26,7 @@ import java.util.*;
  * and winning percentages are calculated atomically to maintain consistency.
  */
 @Service
-public class StandingsCalculator {
+public class StandingsCalculator implements StandingsEngine {
 
     private static final Logger logger = LoggerFactory.getLogger(StandingsCalculator.class);
 
@@ -28,37 +34,86 @@ public class StandingsCalculator {
      * Internal class to hold calculated standings data for a team.
      * Implements Comparable to define natural ordering by win percentage (descending),
      * then by wins (descending), then by team name (alphabetically).
+     * Win percentages are compared exactly from the win-loss records; the rounded
+     * BigDecimal value is only built when it is requested.
+     * 
+     * Also tracks the records used by the NBA tiebreakers: division and conference records, and a
+     * row of the head-to-head win matrix indexed by opponent team index (teams sorted by ID).
+     * The natural ordering does not apply tiebreakers; ranks are assigned by
+     * assignDivisionRanks() and assignConferenceRanks().
+     * 
+     * The current streak and the last 10 results are kept in a fixed-size bit ring (bit 0 is the
+     * most recent game, 1 for a win) and a signed streak counter, updated in place as games are
+     * recorded. Both assume games are recorded in date order.
      */
     public static class TeamStanding implements Comparable<TeamStanding> {
+        /** Number of recent games kept in the last-10 ring */
+        public static final int LAST_TEN_GAMES = 10;
+        private static final int LAST_TEN_MASK = (1 << LAST_TEN_GAMES) - 1;
+
         private final Team team;
+        private final int teamIndex;
         private int wins;
         private int losses;
         private BigDecimal winPct;
         private Integer divisionRank;
         private Integer conferenceRank;
+        private int divisionWins;
+        private int divisionLosses;
+        private int conferenceWins;
+        private int conferenceLosses;
+        private int[] headToHeadWins;
+        private int lastTenResults;
+        private int streak;
 
         public TeamStanding(Team team) {
             this.team = team;
+            this.teamIndex = -1;
             this.wins = 0;
             this.losses = 0;
-            this.winPct = BigDecimal.ZERO;
+        }
+
+        /**
+         * Creates a TeamStanding that tracks head-to-head results against every team in the league.
+         * 
+         * @param team the team
+         * @param teamIndex the team's position in the league sorted by team ID
+         * @param teamCount the number of teams in the league
+         */
+        public TeamStanding(Team team, int teamIndex, int teamCount) {
+            this.team = team;
+            this.teamIndex = teamIndex;
+            this.headToHeadWins = new int[teamCount];
         }
 
         /**
          * Creates a TeamStanding from a StandingsSnapshot entity.
          * This factory method encapsulates the logic of converting a persisted snapshot
          * back into a TeamStanding object for API responses.
+         * The team is unproxied, so the standing stays usable after the session is closed.
          * 
          * @param snapshot the standings snapshot from the database
          * @return a new TeamStanding instance populated with snapshot data
          */
         public static TeamStanding fromSnapshot(com.nba.standings.model.entity.StandingsSnapshot snapshot) {
-            TeamStanding standing = new TeamStanding(snapshot.getTeam());
+            return fromSnapshot(snapshot, (Team) Hibernate.unproxy(snapshot.getTeam()));
+        }
+
+        /**
+         * Creates a TeamStanding from a StandingsSnapshot entity for an already loaded team,
+         * so the snapshot's team proxy does not need to be initialized.
+         * 
+         * @param snapshot the standings snapshot from the database
+         * @param team the snapshot's team
+         * @return a new TeamStanding instance populated with snapshot data
+         */
+        public static TeamStanding fromSnapshot(com.nba.standings.model.entity.StandingsSnapshot snapshot, Team team) {
+            TeamStanding standing = new TeamStanding(team);
             standing.setWins(snapshot.getWins());
             standing.setLosses(snapshot.getLosses());
-            standing.calculateWinPct();
             standing.setDivisionRank(snapshot.getDivisionRank());
             standing.setConferenceRank(snapshot.getConferenceRank());
+            standing.setRecentResults(snapshot.getLastTenResults(), snapshot.getStreak());
             return standing;
         }
 
@@ -76,6 +131,9 @@ public class StandingsCalculator {
         }
 
         public BigDecimal getWinPct() {
+            if (winPct == null) {
+                calculateWinPct();
+            }
             return winPct;
         }
 
@@ -87,13 +145,81 @@ public class StandingsCalculator {
             return conferenceRank;
         }
 
+        public int getTeamIndex() {
+            return teamIndex;
+        }
+
+        public int getDivisionWins() {
+            return divisionWins;
+        }
+
+        public int getDivisionLosses() {
+            return divisionLosses;
+        }
+
+        public int getConferenceWins() {
+            return conferenceWins;
+        }
+
+        public int getConferenceLosses() {
+            return conferenceLosses;
+        }
+
+        /**
+         * @return wins against each opponent indexed by team index, or null if head-to-head is not tracked
+         */
+        public int[] getHeadToHeadRow() {
+            return headToHeadWins;
+        }
+
+        /**
+         * @return the current streak: positive for consecutive wins, negative for consecutive losses
+         */
+        public int getStreak() {
+            return streak;
+        }
+
+        /**
+         * @return results of the last 10 games as bits, bit 0 being the most recent game and 1 a win
+         */
+        public int getLastTenResults() {
+            return lastTenResults;
+        }
+
+        /**
+         * @return number of games held in the last-10 ring
+         */
+        public int getLastTenGames() {
+            return Math.min(wins + losses, LAST_TEN_GAMES);
+        }
+
+        public int getLastTenWins() {
+            return Integer.bitCount(lastTenResults);
+        }
+
+        public int getLastTenLosses() {
+            return getLastTenGames() - getLastTenWins();
+        }
+
+        /**
+         * @return number of wins against the opponent, or 0 if head-to-head is not tracked
+         */
+        public int getHeadToHeadWins(TeamStanding opponent) {
+            if (headToHeadWins == null || opponent.teamIndex < 0 || opponent.teamIndex >= headToHeadWins.length) {
+                return 0;
+            }
+            return headToHeadWins[opponent.teamIndex];
+        }
+
         // Setters
         public void setWins(int wins) {
             this.wins = wins;
+            this.winPct = null;
         }
 
         public void setLosses(int losses) {
             this.losses = losses;
+            this.winPct = null;
         }
 
         public void calculateWinPct() {
@@ -114,18 +240,104 @@ public class StandingsCalculator {
             this.conferenceRank = conferenceRank;
         }
 
+        public void setDivisionRecord(int divisionWins, int divisionLosses) {
+            this.divisionWins = divisionWins;
+            this.divisionLosses = divisionLosses;
+        }
+
+        public void setConferenceRecord(int conferenceWins, int conferenceLosses) {
+            this.conferenceWins = conferenceWins;
+            this.conferenceLosses = conferenceLosses;
+        }
+
+        public void setHeadToHeadRow(int[] headToHeadWins) {
+            this.headToHeadWins = headToHeadWins;
+        }
+
+        public void setRecentResults(int lastTenResults, int streak) {
+            this.lastTenResults = lastTenResults & LAST_TEN_MASK;
+            this.streak = streak;
+        }
+
         public void incrementWins() {
             this.wins++;
+            this.winPct = null;
         }
 
         public void incrementLosses() {
             this.losses++;
+            this.winPct = null;
+        }
+
+        /**
+         * Record a win over another team, updating both teams' overall records and, where
+         * they apply, the head-to-head, conference and division records.
+         * 
+         * @param loser the standing of the losing team
+         */
+        public void recordWinOver(TeamStanding loser) {
+            incrementWins();
+            loser.incrementLosses();
+            lastTenResults = pushResult(lastTenResults, true);
+            streak = extendStreak(streak, true);
+            loser.lastTenResults = pushResult(loser.lastTenResults, false);
+            loser.streak = extendStreak(loser.streak, false);
+
+            if (headToHeadWins != null && loser.teamIndex >= 0 && loser.teamIndex < headToHeadWins.length) {
+                headToHeadWins[loser.teamIndex]++;
+            }
+            if (team.getConference() == loser.team.getConference()) {
+                conferenceWins++;
+                loser.conferenceLosses++;
+                if (team.getDivision() == loser.team.getDivision()) {
+                    divisionWins++;
+                    loser.divisionLosses++;
+                }
+            }
+        }
+
+        /**
+         * Add a result to a last-10 ring, dropping the oldest result once it holds 10.
+         * 
+         * @param lastTenResults the ring before the game
+         * @param won whether the game was won
+         * @return the ring after the game
+         */
+        public static int pushResult(int lastTenResults, boolean won) {
+            return (lastTenResults << 1 | (won ? 1 : 0)) & LAST_TEN_MASK;
+        }
+
+        /**
+         * Extend a streak with a result.
+         * 
+         * @param streak positive for consecutive wins, negative for consecutive losses, 0 before any game
+         * @param won whether the game was won
+         * @return the streak after the game
+         */
+        public static int extendStreak(int streak, boolean won) {
+            if (won) {
+                return streak > 0 ? streak + 1 : 1;
+            }
+            return streak < 0 ? streak - 1 : -1;
+        }
+
+        /**
+         * Compare two win-loss records by exact winning percentage using integer
+         * cross-multiplication (w1 * (w2 + l2) vs w2 * (w1 + l1)).
+         * A record with no games counts as a winning percentage of zero.
+         * 
+         * @return negative, zero or positive as the first record's percentage is lower, equal or higher
+         */
+        public static int compareWinPct(int wins1, int losses1, int wins2, int losses2) {
+            long games1 = Math.max(wins1 + losses1, 1);
+            long games2 = Math.max(wins2 + losses2, 1);
+            return Long.compare(wins1 * games2, wins2 * games1);
         }
 
         @Override
         public int compareTo(TeamStanding other) {
             // Sort by win percentage descending
-            int pctCompare = other.winPct.compareTo(this.winPct);
+            int pctCompare = compareWinPct(other.wins, other.losses, this.wins, this.losses);
             if (pctCompare != 0) {
                 return pctCompare;
             }
@@ -144,43 +356,138 @@ public class StandingsCalculator {
      * This method ensures win-loss records and winning percentages are calculated together
      * to maintain data consistency.
      * 
-     * @param games List of games to process
+     * @param games List of games to process, in date order (streaks and last-10 records depend on it)
      * @param allTeams List of all teams in the league
      * @return Map of team ID to TeamStanding with complete calculated data
      */
     public Map<Long, TeamStanding> calculateStandings(List<Game> games, List<Team> allTeams) {
         // Initialize standings for all teams
-        Map<Long, TeamStanding> standings = new HashMap<>();
-        for (Team team : allTeams) {
-            standings.put(team.getId(), new TeamStanding(team));
-        }
+        Map<Long, TeamStanding> standings = initializeStandings(allTeams);
 
         // Process each game to calculate win-loss records
-        for (Game game : games) {
-            Long homeTeamId = game.getHomeTeam().getId();
-            Long awayTeamId = game.getAwayTeam().getId();
+        applyGames(standings, games);
+
+        // Calculate winning percentages for all teams
+        for (TeamStanding standing : standings.values()) {
+            standing.calculateWinPct();
+        }
 
-            TeamStanding homeStanding = standings.get(homeTeamId);
-            TeamStanding awayStanding = standings.get(awayTeamId);
+        return standings;
+    }
 
-            if (homeStanding == null || awayStanding == null) {
-                logger.warn("Game {} has missing team data - Home Team ID: {}, Away Team ID: {}. Skipping game.",
-                        game.getNbaGameId(), homeTeamId, awayTeamId);
-                continue;
+    /**
+     * Calculate complete standings from game results for all teams.
+     * 
+     * @param results Stream of game results to process, in date order
+     * @param allTeams List of all teams in the league
+     * @return Map of team ID to TeamStanding with complete calculated data
+     */
+    public Map<Long, TeamStanding> calculateStandingsFromResults(Stream<GameResult> results, List<Team> allTeams) {
+        Map<Long, TeamStanding> standings = initializeStandings(allTeams);
+        applyResults(standings, results);
+        for (TeamStanding standing : standings.values()) {
+            standing.calculateWinPct();
+        }
+        return standings;
+    }
+
+    /**
+     * Calculate complete standings and assign division and conference ranks.
+     * 
+     * @param games List of games to process
+     * @param allTeams List of all teams in the league
+     * @return Map of team ID to TeamStanding with records and both ranks assigned
+     */
+    @Override
+    public Map<Long, TeamStanding> calculateRankedStandings(List<Game> games, List<Team> allTeams) {
+        Map<Long, TeamStanding> standings = calculateStandings(games, allTeams);
+        assignDivisionRanks(standings);
+        assignConferenceRanks(standings);
+        return standings;
+    }
+
+    @Override
+    public Map<Long, TeamStanding> calculateRankedStandingsFromResults(Stream<GameResult> results, List<Team> allTeams) {
+        Map<Long, TeamStanding> standings = calculateStandingsFromResults(results, allTeams);
+        assignDivisionRanks(standings);
+        assignConferenceRanks(standings);
+        return standings;
+    }
+
+    /**
+     * Calculate ranked standings for every date in a range in a single pass over the game results.
+     * The results are sorted by date once and applied in order; at the end of each date from
+     * {@code from} to {@code to} the standings are ranked and handed to the consumer.
+     * 
+     * The same TeamStanding instances are updated and re-ranked for every date, so the consumer
+     * must finish with them (e.g. serialize them) before returning.
+     * 
+     * @param results List of game results to process, in any order
+     * @param allTeams List of all teams in the league
+     * @param from the first date to emit standings for
+     * @param to the last date to emit standings for
+     * @param consumer receives each date with the standings as of the end of that date
+     */
+    public void sweepStandings(List<GameResult> results, List<Team> allTeams, LocalDate from, LocalDate to,
+                               BiConsumer<LocalDate, Map<Long, TeamStanding>> consumer) {
+        List<GameResult> sortedResults = new ArrayList<>(results);
+        sortedResults.sort(Comparator.comparing(GameResult::gameDate));
+
+        Map<Long, TeamStanding> standings = initializeStandings(allTeams);
+        int next = 0;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            // Apply every game up to the end of this date
+            int end = next;
+            while (end < sortedResults.size() && !sortedResults.get(end).gameDate().isAfter(date)) {
+                end++;
             }
+            applyResults(standings, sortedResults.subList(next, end).stream());
+            next = end;
 
-            if (game.getHomeScore() > game.getAwayScore()) {
-                // Home team wins
-                homeStanding.incrementWins();
-                awayStanding.incrementLosses();
-            } else {
-                // Away team wins
-                awayStanding.incrementWins();
-                homeStanding.incrementLosses();
+            assignDivisionRanks(standings);
+            assignConferenceRanks(standings);
+            consumer.accept(date, standings);
+        }
+    }
+
+    /**
+     * Calculate complete standings starting from a previously cached snapshot.
+     * The checkpoint supplies each team's win-loss record as of the checkpoint date,
+     * so only the games played after it need to be processed. Produces the same
+     * records as calculateStandings() over the full game list.
+     * 
+     * @param checkpoint standings snapshots for the checkpoint date
+     * @param resultsSinceCheckpoint results of the games played after the checkpoint date, up to the
+     *                               target date, in date order
+     * @param allTeams List of all teams in the league
+     * @return Map of team ID to TeamStanding with complete calculated data
+     */
+    public Map<Long, TeamStanding> calculateStandingsFromCheckpoint(List<StandingsSnapshot> checkpoint,
+                                                                    List<GameResult> resultsSinceCheckpoint,
+                                                                    List<Team> allTeams) {
+        Map<Long, TeamStanding> standings = initializeStandings(allTeams);
+
+        // Seed win-loss records from the checkpoint
+        for (StandingsSnapshot snapshot : checkpoint) {
+            TeamStanding standing = standings.get(snapshot.getTeam().getId());
+            if (standing == null) {
+                logger.warn("Checkpoint snapshot for {} references unknown team ID {}. Skipping.",
+                        snapshot.getSnapshotDate(), snapshot.getTeam().getId());
+                continue;
+            }
+            standing.setWins(snapshot.getWins());
+            standing.setLosses(snapshot.getLosses());
+            standing.setRecentResults(snapshot.getLastTenResults(), snapshot.getStreak());
+            int[] headToHeadRow = snapshot.getHeadToHeadWins();
+            if (headToHeadRow != null && headToHeadRow.length == allTeams.size()) {
+                standing.setHeadToHeadRow(headToHeadRow);
             }
         }
+        deriveGroupRecords(standings);
+
+        // Apply only the games played since the checkpoint
+        applyResults(standings, resultsSinceCheckpoint.stream());
 
-        // Calculate winning percentages for all teams
         for (TeamStanding standing : standings.values()) {
             standing.calculateWinPct();
         }
@@ -188,15 +495,125 @@ public class StandingsCalculator {
         return standings;
     }
 
+    /**
+     * Create an empty standing for every team in the league.
+     * 
+     * @param allTeams List of all teams in the league
+     * @return Map of team ID to TeamStanding with no games recorded
+     */
+    private Map<Long, TeamStanding> initializeStandings(List<Team> allTeams) {
+        List<Team> sortedTeams = new ArrayList<>(allTeams);
+        sortedTeams.sort(Comparator.comparing(Team::getId));
+
+        Map<Long, TeamStanding> standings = new HashMap<>();
+        for (int i = 0; i < sortedTeams.size(); i++) {
+            Team team = sortedTeams.get(i);
+            standings.put(team.getId(), new TeamStanding(team, i, sortedTeams.size()));
+        }
+        return standings;
+    }
+
+    /**
+     * Set every team's division and conference records from its head-to-head results.
+     * Used when head-to-head rows are seeded from stored data rather than built from games.
+     * 
+     * @param standings Map of team ID to TeamStanding with head-to-head rows set
+     */
+    void deriveGroupRecords(Map<Long, TeamStanding> standings) {
+        List<TeamStanding> teams = new ArrayList<>(standings.values());
+        int[] divisionWins = new int[teams.size()];
+        int[] divisionLosses = new int[teams.size()];
+        int[] conferenceWins = new int[teams.size()];
+        int[] conferenceLosses = new int[teams.size()];
+
+        for (int i = 0; i < teams.size(); i++) {
+            Team team = teams.get(i).getTeam();
+            for (int j = 0; j < teams.size(); j++) {
+                Team opponent = teams.get(j).getTeam();
+                if (i == j || team.getConference() != opponent.getConference()) {
+                    continue;
+                }
+                int headToHeadWins = teams.get(i).getHeadToHeadWins(teams.get(j));
+                conferenceWins[i] += headToHeadWins;
+                conferenceLosses[j] += headToHeadWins;
+                if (team.getDivision() == opponent.getDivision()) {
+                    divisionWins[i] += headToHeadWins;
+                    divisionLosses[j] += headToHeadWins;
+                }
+            }
+        }
+
+        for (int i = 0; i < teams.size(); i++) {
+            teams.get(i).setDivisionRecord(divisionWins[i], divisionLosses[i]);
+            teams.get(i).setConferenceRecord(conferenceWins[i], conferenceLosses[i]);
+        }
+    }
+
+    /**
+     * Record the result of each game in the win-loss records of both teams.
+     * 
+     * @param standings Map of team ID to TeamStanding to update
+     * @param games List of games to process
+     */
+    private void applyGames(Map<Long, TeamStanding> standings, List<Game> games) {
+        for (Game game : games) {
+            Long homeTeamId = game.getHomeTeam().getId();
+            Long awayTeamId = game.getAwayTeam().getId();
+            if (!applyResult(standings, homeTeamId, awayTeamId, game.getHomeScore() > game.getAwayScore())) {
+                logger.warn("Game {} has missing team data - Home Team ID: {}, Away Team ID: {}. Skipping game.",
+                        game.getNbaGameId(), homeTeamId, awayTeamId);
+            }
+        }
+    }
+
+    /**
+     * Record each game result in the win-loss records of both teams.
+     * 
+     * @param standings Map of team ID to TeamStanding to update
+     * @param results Stream of game results to process, consumed one at a time
+     */
+    private void applyResults(Map<Long, TeamStanding> standings, Stream<GameResult> results) {
+        results.forEach(result -> {
+            if (!applyResult(standings, result.homeTeamId(), result.awayTeamId(), result.homeWon())) {
+                logger.warn("Game on {} has missing team data - Home Team ID: {}, Away Team ID: {}. Skipping game.",
+                        result.gameDate(), result.homeTeamId(), result.awayTeamId());
+            }
+        });
+    }
+
+    /**
+     * Record one game in the win-loss records of both teams.
+     * 
+     * @return false if either team is unknown, in which case nothing is recorded
+     */
+    private boolean applyResult(Map<Long, TeamStanding> standings, Long homeTeamId, Long awayTeamId, boolean homeWon) {
+        TeamStanding homeStanding = standings.get(homeTeamId);
+        TeamStanding awayStanding = standings.get(awayTeamId);
+
+        if (homeStanding == null || awayStanding == null) {
+            return false;
+        }
+
+        if (homeWon) {
+            // Home team wins
+            homeStanding.recordWinOver(awayStanding);
+        } else {
+            // Away team wins
+            awayStanding.recordWinOver(homeStanding);
+        }
+        return true;
+    }
+
     /**
      * Group teams by division, sort them, and assign division ranks.
+     * Ties in winning percentage are broken with the NBA tiebreakers (see TiebreakRanker).
      * 
      * @param standings Map of all team standings
      * Assign division ranks to each team in the standings map.
      */
     public void assignDivisionRanks(Map<Long, TeamStanding> standings) {
         // Group teams by division
-        Map<Division, List<TeamStanding>> divisionStandings = new HashMap<>();
+        Map<Division, List<TeamStanding>> divisionStandings = new EnumMap<>(Division.class);
         for (TeamStanding standing : standings.values()) {
             Division division = standing.getTeam().getDivision();
             divisionStandings.computeIfAbsent(division, k -> new ArrayList<>()).add(standing);
@@ -204,22 +621,24 @@ public class StandingsCalculator {
 
         // Sort teams within each division and assign ranks
         for (List<TeamStanding> divisionTeams : divisionStandings.values()) {
-            Collections.sort(divisionTeams);
+            int[] ranks = rankGroup(divisionTeams, false);
             for (int i = 0; i < divisionTeams.size(); i++) {
-                divisionTeams.get(i).setDivisionRank(i + 1);
+                divisionTeams.get(i).setDivisionRank(ranks[i]);
             }
         }
     }
 
     /**
      * Group teams by conference, sort them, and assign conference ranks.
+     * Ties in winning percentage are broken with the NBA tiebreakers (see TiebreakRanker),
+     * using division ranks to identify division leaders, so assignDivisionRanks() should run first.
      * 
      * @param standings Map of all team standings
      * Assign conference ranks to each team in the standings map.
      */
     public void assignConferenceRanks(Map<Long, TeamStanding> standings) {
         // Group teams by conference
-        Map<Conference, List<TeamStanding>> conferenceStandings = new HashMap<>();
+        Map<Conference, List<TeamStanding>> conferenceStandings = new EnumMap<>(Conference.class);
         for (TeamStanding standing : standings.values()) {
             Conference conference = standing.getTeam().getConference();
             conferenceStandings.computeIfAbsent(conference, k -> new ArrayList<>()).add(standing);
@@ -227,10 +646,90 @@ public class StandingsCalculator {
 
         // Sort teams within each conference and assign ranks
         for (List<TeamStanding> conferenceTeams : conferenceStandings.values()) {
-            Collections.sort(conferenceTeams);
+            int[] ranks = rankGroup(conferenceTeams, true);
             for (int i = 0; i < conferenceTeams.size(); i++) {
-                conferenceTeams.get(i).setConferenceRank(i + 1);
+                conferenceTeams.get(i).setConferenceRank(ranks[i]);
             }
         }
     }
+
+    /**
+     * Rank the teams of one division or conference.
+     * 
+     * @param group the teams to rank
+     * @param conferenceRanking true for conference ranking, false for division ranking
+     * @return 1-based ranks in the order of the group list
+     */
+    private static int[] rankGroup(List<TeamStanding> group, boolean conferenceRanking) {
+        TeamStanding[] teams = group.toArray(new TeamStanding[0]);
+        int[] members = new int[teams.length];
+        for (int i = 0; i < members.length; i++) {
+            members[i] = i;
+        }
+
+        int[] ranks = new int[teams.length];
+        TiebreakRanker.Records records = new StandingRecords(teams);
+        if (conferenceRanking) {
+            TiebreakRanker.rankConference(members, records, ranks);
+        } else {
+            TiebreakRanker.rankDivision(members, records, ranks);
+        }
+        return ranks;
+    }
+
+    /**
+     * Tiebreaker view over an array of TeamStanding objects, addressed by array position.
+     */
+    private record StandingRecords(TeamStanding[] teams) implements TiebreakRanker.Records {
+        @Override
+        public int wins(int team) {
+            return teams[team].getWins();
+        }
+
+        @Override
+        public int losses(int team) {
+            return teams[team].getLosses();
+        }
+
+        @Override
+        public int headToHeadWins(int team, int opponent) {
+            return teams[team].getHeadToHeadWins(teams[opponent]);
+        }
+
+        @Override
+        public int divisionWins(int team) {
+            return teams[team].getDivisionWins();
+        }
+
+        @Override
+        public int divisionLosses(int team) {
+            return teams[team].getDivisionLosses();
+        }
+
+        @Override
+        public int conferenceWins(int team) {
+            return teams[team].getConferenceWins();
+        }
+
+        @Override
+        public int conferenceLosses(int team) {
+            return teams[team].getConferenceLosses();
+        }
+
+        @Override
+        public Division division(int team) {
+            return teams[team].getTeam().getDivision();
+        }
+
+        @Override
+        public String teamName(int team) {
+            return teams[team].getTeam().getTeamName();
+        }
+
+        @Override
+        public boolean isDivisionLeader(int team) {
+            Integer divisionRank = teams[team].getDivisionRank();
+            return divisionRank != null && divisionRank == 1;
+        }
+    }
 }
@@ -0,0 +1,38 @@
+package com.nba.standings.service;
+
+import com.nba.standings.model.entity.Game;
+import com.nba.standings.model.entity.Team;
+import com.nba.standings.model.projection.GameResult;
+import com.nba.standings.service.StandingsCalculator.TeamStanding;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Strategy for turning a list of games into ranked standings.
+ * Implementations must produce identical records and ranks so they can be swapped freely.
+ * The active engine is selected with the {@code standings.engine} property.
+ */
+public interface StandingsEngine {
+
+    /**
+     * Calculate win-loss records and assign division and conference ranks for all teams.
+     * 
+     * @param games List of games to process
+     * @param allTeams List of all teams in the league
+     * @return Map of team ID to TeamStanding with records and both ranks assigned
+     */
+    Map<Long, TeamStanding> calculateRankedStandings(List<Game> games, List<Team> allTeams);
+
+    /**
+     * Calculate win-loss records and assign division and conference ranks for all teams,
+     * from game results read with the lean GameResult projection. The results are consumed
+     * one at a time, so they can be streamed from the database.
+     * 
+     * @param results Stream of game results to process, in date order
+     * @param allTeams List of all teams in the league
+     * @return Map of team ID to TeamStanding with records and both ranks assigned
+     */
+    Map<Long, TeamStanding> calculateRankedStandingsFromResults(Stream<GameResult> results, List<Team> allTeams);
+}
@@ -0,0 +1,372 @@
+package com.nba.standings.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.nba.standings.model.entity.Game;
+import com.nba.standings.model.enums.GroupBy;
+import com.nba.standings.service.StandingsCalculator.TeamStanding;
+import com.nba.standings.util.SeasonDateUtility;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Size-bounded in-process cache of grouped standings, keyed by date and grouping.
+ *
+ * Two representations are cached: the grouped TeamStanding lists returned by StandingsService,
+ * and the serialized JSON response body (plain and gzipped) that the standings endpoint writes
+ * out for past dates, so a repeated request does no object building or serialization at all.
+ *
+ * Entries are unmodifiable and are only stored once the transaction that calculated them has
+ * committed, so a rolled-back calculation is never served. When new games are saved, every
+ * entry on or after the earliest new game date is evicted from both caches. When the schedule
+ * of a season changes, the response bodies of that season are evicted too, since they include
+ * clinch statuses that depend on the remaining schedule. A calculation that
+ * started before an eviction is not stored, since it may have read the games as they were
+ * before the eviction.
+ *
+ * Lookups never lock; puts and evictions are synchronized with each other.
+ *
+ * Today's standings are provisional: games are still being played, so they are kept separately
+ * with a short freshness window instead. StandingsService keeps serving a provisional entry
+ * after the window has passed while it refreshes the entry in the background, until the entry
+ * expires after the maximum staleness. Saving new games marks provisional entries stale
+ * rather than evicting them.
+ *
+ * Standings are evicted by entry count and response bodies by total bytes (both with Caffeine's
+ * W-TinyLFU policy). Hit, miss, put and eviction counts are published as the {@code cache.*}
+ * metrics tagged {@code cache=standings}, {@code cache=standings-json} and
+ * {@code cache=standings-provisional}, alongside {@code standings.cache.maximum.size} and
+ * {@code standings.cache.maximum.body.bytes}.
+ */
+@Component
+public class StandingsResponseCache implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(StandingsResponseCache.class);
+
+    static final String CACHE_NAME = "standings";
+    static final String BODY_CACHE_NAME = "standings-json";
+    static final String PROVISIONAL_CACHE_NAME = "standings-provisional";
+
+    /** Provisional dates: today, plus yesterday for a while after midnight. */
+    private static final int MAX_PROVISIONAL_DATES = 4;
+
+    /**
+     * Cache key: a date and the grouping requested for it.
+     */
+    record Key(LocalDate date, GroupBy groupBy) {
+    }
+
+    /**
+     * A serialized standings response: the UTF-8 JSON body, its gzip encoding, and a weak
+     * entity tag, either of the content version the body was built from or derived from a hash
+     * of the JSON. The tag is weak because it is shared by both encodings. The arrays are shared
+     * and must not be modified.
+     */
+    public record ResponseBody(byte[] json, byte[] gzip, String etag) {
+
+        /**
+         * @param json the UTF-8 JSON body
+         * @return the body with its gzip encoding and an entity tag of its hash
+         */
+        public static ResponseBody of(byte[] json) {
+            return of(json, "W/\"" + contentHash(json) + "\"");
+        }
+
+        /**
+         * @param json the UTF-8 JSON body
+         * @param etag the entity tag of the body's content version
+         * @return the body with its gzip encoding
+         */
+        public static ResponseBody of(byte[] json, String etag) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(json);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new ResponseBody(json, compressed.toByteArray(), etag);
+        }
+
+        /**
+         * @return the first 128 bits of the SHA-256 hash of the content, in hex
+         */
+        private static String contentHash(byte[] content) {
+            try {
+                byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+                return HexFormat.of().formatHex(Arrays.copyOf(hash, 16));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+
+        int weight() {
+            return json.length + gzip.length;
+        }
+    }
+
+    /**
+     * Provisional standings of a date, ranked and keyed by team ID.
+     *
+     * @param standings the unmodifiable standings
+     * @param freshUntil the {@link System#nanoTime()} at which the standings become stale
+     */
+    public record ProvisionalStandings(Map<Long, TeamStanding> standings, long freshUntil) {
+
+        public boolean isStale() {
+            return System.nanoTime() - freshUntil >= 0;
+        }
+
+        ProvisionalStandings markStale() {
+            return new ProvisionalStandings(standings, System.nanoTime());
+        }
+    }
+
+    private final Cache<Key, Map<String, List<TeamStanding>>> cache;
+    private final Cache<Key, ResponseBody> bodies;
+    private final Cache<LocalDate, ProvisionalStandings> provisional;
+    private final long maximumSize;
+    private final long maximumBodyBytes;
+    private final Duration provisionalFreshness;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public StandingsResponseCache(@Value("${standings.cache.max-entries:512}") long maximumSize,
+                                  @Value("${standings.cache.max-body-bytes:67108864}") long maximumBodyBytes,
+                                  @Value("${standings.cache.provisional-freshness:60s}") Duration provisionalFreshness,
+                                  @Value("${standings.cache.provisional-max-staleness:15m}") Duration provisionalMaxStaleness) {
+        this.maximumSize = maximumSize;
+        this.maximumBodyBytes = maximumBodyBytes;
+        this.provisionalFreshness = provisionalFreshness;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        this.bodies = Caffeine.newBuilder()
+                .maximumWeight(maximumBodyBytes)
+                .<Key, ResponseBody>weigher((key, body) -> body.weight())
+                .recordStats()
+                .build();
+        this.provisional = Caffeine.newBuilder()
+                .maximumSize(MAX_PROVISIONAL_DATES)
+                .expireAfterWrite(provisionalMaxStaleness)
+                .recordStats()
+                .build();
+        logger.info("Standings response cache holds up to {} entries and {} bytes of response bodies "
+                + "(W-TinyLFU eviction); provisional standings are fresh for {} and kept for {}",
+                maximumSize, maximumBodyBytes, provisionalFreshness, provisionalMaxStaleness);
+    }
+
+    /**
+     * Look up the standings for a date and grouping.
+     *
+     * @return the cached standings, or empty on a miss
+     */
+    public Optional<Map<String, List<TeamStanding>>> get(LocalDate date, GroupBy groupBy) {
+        return Optional.ofNullable(cache.getIfPresent(new Key(date, groupBy)));
+    }
+
+    /**
+     * @return a token to pass to {@link #put} for a calculation that starts now
+     */
+    public long startCalculation() {
+        return invalidations.get();
+    }
+
+    /**
+     * Store calculated standings once the current transaction commits, or right away when
+     * there is none. Nothing is stored if entries were evicted since the calculation started.
+     *
+     * @param date the date of the standings
+     * @param groupBy the grouping of the standings
+     * @param standings the calculated standings
+     * @param calculationToken the token returned by {@link #startCalculation()}
+     * @return an unmodifiable copy of the standings, as stored
+     */
+    public Map<String, List<TeamStanding>> put(LocalDate date, GroupBy groupBy,
+                                               Map<String, List<TeamStanding>> standings, long calculationToken) {
+        Map<String, List<TeamStanding>> copy = unmodifiableCopy(standings);
+        storeAfterCommit(cache, new Key(date, groupBy), copy, calculationToken);
+        return copy;
+    }
+
+    /**
+     * Look up the serialized standings response for a date and grouping.
+     *
+     * @return the cached response body, or empty on a miss
+     */
+    public Optional<ResponseBody> getBody(LocalDate date, GroupBy groupBy) {
+        return Optional.ofNullable(bodies.getIfPresent(new Key(date, groupBy)));
+    }
+
+    /**
+     * Store a serialized standings response, with the same commit and eviction rules as
+     * {@link #put}.
+     *
+     * @param date the date of the standings
+     * @param groupBy the grouping of the standings
+     * @param body the serialized response
+     * @param calculationToken the token returned by {@link #startCalculation()}
+     */
+    public void putBody(LocalDate date, GroupBy groupBy, ResponseBody body, long calculationToken) {
+        storeAfterCommit(bodies, new Key(date, groupBy), body, calculationToken);
+    }
+
+    /**
+     * Look up the provisional standings of a date, fresh or stale.
+     *
+     * @return the provisional standings, or empty if there are none or they have expired
+     */
+    public Optional<ProvisionalStandings> getProvisional(LocalDate date) {
+        return Optional.ofNullable(provisional.getIfPresent(date));
+    }
+
+    /**
+     * Store provisional standings once the current transaction commits, or right away when
+     * there is none. Standings from a calculation that overlapped an eviction are stored
+     * already stale, so they are served but refreshed on the next request.
+     *
+     * @param date the date of the standings
+     * @param standings the ranked standings keyed by team ID
+     * @param calculationToken the token returned by {@link #startCalculation()}
+     * @return an unmodifiable copy of the standings, as stored
+     */
+    public Map<Long, TeamStanding> putProvisional(LocalDate date, Map<Long, TeamStanding> standings,
+                                                  long calculationToken) {
+        ProvisionalStandings entry = new ProvisionalStandings(Map.copyOf(standings),
+                System.nanoTime() + provisionalFreshness.toNanos());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    storeProvisional(date, entry, calculationToken);
+                }
+            });
+        } else {
+            storeProvisional(date, entry, calculationToken);
+        }
+        return entry.standings();
+    }
+
+    /**
+     * Evict the entries whose standings include a newly saved game.
+     * Runs after SeasonStandingsCube has applied the games, which standings recomputed after the
+     * eviction are read from.
+     *
+     * @param event the event containing the newly saved games
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onGamesSaved(GamesSavedEvent event) {
+        event.games().stream()
+                .map(Game::getGameDate)
+                .min(LocalDate::compareTo)
+                .ifPresent(this::evictFrom);
+    }
+
+    /**
+     * Evict the response bodies of the seasons whose schedule changed.
+     *
+     * @param event the event containing the seasons whose schedule changed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onScheduleChanged(ScheduleChangedEvent event) {
+        invalidations.incrementAndGet();
+        bodies.asMap().keySet().removeIf(key -> event.seasons().contains(SeasonDateUtility.seasonOf(key.date())));
+        logger.info("Evicted cached response bodies of seasons {}", event.seasons());
+    }
+
+    /**
+     * Evict every entry on or after a date.
+     *
+     * @param earliest the first date to evict
+     */
+    public synchronized void evictFrom(LocalDate earliest) {
+        invalidations.incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> !key.date().isBefore(earliest));
+        bodies.asMap().keySet().removeIf(key -> !key.date().isBefore(earliest));
+        provisional.asMap().replaceAll((date, entry) -> date.isBefore(earliest) ? entry : entry.markStale());
+        logger.info("Evicted cached standings from {} onwards", earliest);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME, Tags.of("policy", "size"));
+        Gauge.builder("standings.cache.maximum.size", () -> maximumSize)
+                .description("Maximum number of entries in the standings response cache")
+                .register(registry);
+        CaffeineCacheMetrics.monitor(registry, bodies, BODY_CACHE_NAME, Tags.of("policy", "weight"));
+        Gauge.builder("standings.cache.maximum.body.bytes", () -> maximumBodyBytes)
+                .description("Maximum total size of the response bodies in the standings response cache")
+                .register(registry);
+        CaffeineCacheMetrics.monitor(registry, provisional, PROVISIONAL_CACHE_NAME,
+                Tags.of("policy", "expire-after-write"));
+    }
+
+    private synchronized void storeProvisional(LocalDate date, ProvisionalStandings entry, long calculationToken) {
+        provisional.put(date, invalidations.get() == calculationToken ? entry : entry.markStale());
+    }
+
+    private <V> void storeAfterCommit(Cache<Key, V> target, Key key, V value, long calculationToken) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    store(target, key, value, calculationToken);
+                }
+            });
+        } else {
+            store(target, key, value, calculationToken);
+        }
+    }
+
+    private synchronized <V> void store(Cache<Key, V> target, Key key, V value, long calculationToken) {
+        if (invalidations.get() != calculationToken) {
+            logger.info("Not caching standings for {} {}: entries were evicted during calculation",
+                    key.date(), key.groupBy());
+            return;
+        }
+        target.put(key, value);
+    }
+
+    private static Map<String, List<TeamStanding>> unmodifiableCopy(Map<String, List<TeamStanding>> standings) {
+        Map<String, List<TeamStanding>> copy = new HashMap<>(standings.size() * 2);
+        standings.forEach((group, teams) -> copy.put(group, List.copyOf(teams)));
+        return Map.copyOf(copy);
+    }
+}
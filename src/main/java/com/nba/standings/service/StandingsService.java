@@ -1,27 +1,39 @@
 package com.nba.standings.service;
 
-import com.nba.standings.model.entity.Game;
 import com.nba.standings.model.entity.StandingsSnapshot;
 import com.nba.standings.model.entity.Team;
 import com.nba.standings.model.enums.Conference;
 import com.nba.standings.model.enums.Division;
 import com.nba.standings.model.enums.GroupBy;
+import com.nba.standings.model.projection.GameResult;
+import com.nba.standings.model.projection.StandingsVersion;
 import com.nba.standings.repository.GameRepository;
-import com.nba.standings.repository.StandingsSnapshotRepository;
-import com.nba.standings.repository.TeamRepository;
+import com.nba.standings.repository.StandingsChangeRepository;
+import com.nba.standings.service.StandingsResponseCache.ProvisionalStandings;
 import com.nba.standings.service.StandingsCalculator.TeamStanding;
 import com.nba.standings.util.SeasonDateUtility;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 /**
  * Service for retrieving NBA standings for a specific date.
@@ -32,74 +44,436 @@ public class StandingsService {
     
     private static final Logger logger = LoggerFactory.getLogger(StandingsService.class);
     
-    private final StandingsSnapshotRepository standingsSnapshotRepository;
+    private final SnapshotStore snapshotStore;
     private final GameRepository gameRepository;
-    private final TeamRepository teamRepository;
+    private final StandingsChangeRepository standingsChangeRepository;
+    private final TeamRegistry teamRegistry;
     private final NBADataService nbaDataService;
     private final StandingsCalculator standingsCalculator;
+    private final StandingsEngine standingsEngine;
     private final SeasonDateUtility seasonDateUtility;
+    private final SeasonStandingsCube seasonStandingsCube;
+    private final StandingsResponseCache standingsResponseCache;
+    private final SnapshotWriteBehindQueue snapshotWriteBehindQueue;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final TaskExecutor refreshExecutor;
     
-    public StandingsService(StandingsSnapshotRepository standingsSnapshotRepository,
+    /** The calculation currently running for each date, shared by concurrent requests for that date. */
+    private final ConcurrentHashMap<LocalDate, InFlightLoad> inFlightLoads = new ConcurrentHashMap<>();
+    
+    /** The provisional calculation currently running for each date, in the foreground or background. */
+    private final ConcurrentHashMap<LocalDate, CompletableFuture<Map<Long, TeamStanding>>> provisionalLoads =
+            new ConcurrentHashMap<>();
+    
+    public StandingsService(SnapshotStore snapshotStore,
                            GameRepository gameRepository,
-                           TeamRepository teamRepository,
+                           StandingsChangeRepository standingsChangeRepository,
+                           TeamRegistry teamRegistry,
                            NBADataService nbaDataService,
                            StandingsCalculator standingsCalculator,
-                           SeasonDateUtility seasonDateUtility) {
-        this.standingsSnapshotRepository = standingsSnapshotRepository;
+                           StandingsEngine standingsEngine,
+                           SeasonDateUtility seasonDateUtility,
+                           SeasonStandingsCube seasonStandingsCube,
+                           StandingsResponseCache standingsResponseCache,
+                           SnapshotWriteBehindQueue snapshotWriteBehindQueue,
+                           PlatformTransactionManager transactionManager,
+                           TaskExecutor refreshExecutor) {
+        this.snapshotStore = snapshotStore;
         this.gameRepository = gameRepository;
-        this.teamRepository = teamRepository;
+        this.standingsChangeRepository = standingsChangeRepository;
+        this.teamRegistry = teamRegistry;
         this.nbaDataService = nbaDataService;
         this.standingsCalculator = standingsCalculator;
+        this.standingsEngine = standingsEngine;
         this.seasonDateUtility = seasonDateUtility;
+        this.seasonStandingsCube = seasonStandingsCube;
+        this.standingsResponseCache = standingsResponseCache;
+        this.snapshotWriteBehindQueue = snapshotWriteBehindQueue;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.refreshExecutor = refreshExecutor;
+    }
+    
+    /**
+     * A load of standings for one date that concurrent requests for the date wait on.
+     * 
+     * @param groupBy the grouping the load was started for
+     * @param result completes with the loaded standings once they are committed
+     */
+    private record InFlightLoad(GroupBy groupBy, CompletableFuture<Map<String, List<TeamStanding>>> result) {
     }
     
     /**
      * Get standings for a specific date grouped by division or conference.
      * 
+     * Standings in the response cache are returned without opening a transaction or touching
+     * the database. On a miss they are looked up in the season cube and the snapshots (including
+     * those still queued for writing) in a read-only transaction, which may be served by a read
+     * replica. Only if they are not stored yet are they calculated in a read-write transaction on
+     * the primary; their snapshots are then queued and written in the background by the
+     * SnapshotWriteBehindQueue. Either way they are cached once the transaction commits.
+     * The returned standings are shared with the cache and must not be modified.
+     * 
+     * Concurrent misses for the same date are coalesced: only the first request fetches games
+     * and calculates standings, and the others wait for it. Those with the same grouping share
+     * its result (or its exception); the rest then read the snapshots it queued.
+     * 
+     * Today's standings are provisional (see {@link #getProvisionalStandings(LocalDate)}).
+     * 
      * @param date the date to retrieve standings for
      * @param groupBy how to group the standings (DIVISION or CONFERENCE)
      * @return map of group name to list of team standings
      */
-    @Transactional
     public Map<String, List<TeamStanding>> getStandings(LocalDate date, GroupBy groupBy) {
-        logger.info("Getting standings for date {} grouped by {}", date, groupBy);
-        
-        // Check if standings exist in cache
-        boolean standingsExist = standingsSnapshotRepository.existsBySnapshotDate(date);
+        if (!date.isBefore(LocalDate.now())) {
+            return groupStandings(getProvisionalStandings(date).values(), groupBy);
+        }
         
-        if (!standingsExist) {
-            logger.info("Standings not cached for {}. Calculating...", date);
-            
-            // Determine the fetch start date (most recent game date or season start)
-            LocalDate fetchStartDate = determineFetchStartDate(date);
-            logger.info("Fetching games from {} to {}", fetchStartDate, date);
-            
-            // Fetch only new games from the fetch start date to requested date
-            nbaDataService.fetchAndSaveGames(fetchStartDate, date);
-            
-            // Get all games up to the requested date for standings calculation
-            List<Game> games = gameRepository.findByGameDateLessThanEqual(date);
-            logger.info("Found {} games up to {}", games.size(), date);
-            
-            // Get all teams
-            List<Team> allTeams = teamRepository.findAll();
-            
-            // Calculate standings
-            Map<Long, TeamStanding> standings = standingsCalculator.calculateStandings(games, allTeams);
-            
-            // Calculate division and conference rankings (modifies standings in place)
-            standingsCalculator.assignDivisionRanks(standings);
-            standingsCalculator.assignConferenceRanks(standings);
+        while (true) {
+            Optional<Map<String, List<TeamStanding>>> cached = standingsResponseCache.get(date, groupBy);
+            if (cached.isPresent()) {
+                logger.debug("Standings for {} grouped by {} served from response cache", date, groupBy);
+                return cached.get();
+            }
             
-            // Save standings snapshots
-            saveStandingsSnapshots(date, standings);
+            InFlightLoad load = new InFlightLoad(groupBy, new CompletableFuture<>());
+            InFlightLoad running = inFlightLoads.putIfAbsent(date, load);
+            if (running == null) {
+                return loadAndCache(date, load);
+            }
             
-            logger.info("Standings calculated and cached for {}", date);
-        } else {
+            logger.info("Waiting for the standings calculation already running for {}", date);
+            Map<String, List<TeamStanding>> result = awaitLoad(running.result());
+            if (running.groupBy() == groupBy) {
+                return result;
+            }
+            // The date is loaded now, so the next attempt reads it from the cache or the snapshots
+        }
+    }
+    
+    /**
+     * Get the content version of a date's standings without loading them: the changes to the
+     * games and schedule of its season recorded by NBADataService that affect the date.
+     * Standings (and clinch statuses) read after this call reflect at least this version.
+     * 
+     * @param date the date of the standings
+     * @return the content version of the date
+     */
+    public StandingsVersion getStandingsVersion(LocalDate date) {
+        return readOnlyTransactionTemplate.execute(status ->
+                standingsChangeRepository.findVersion(SeasonDateUtility.seasonOf(date), date));
+    }
+    
+    /**
+     * Load standings as the single in-flight load for their date, and cache them.
+     * 
+     * @param date the date to retrieve standings for
+     * @param load the registered in-flight load, completed on return
+     * @return map of group name to list of team standings
+     */
+    private Map<String, List<TeamStanding>> loadAndCache(LocalDate date, InFlightLoad load) {
+        try {
+            long calculationToken = standingsResponseCache.startCalculation();
+            Map<String, List<TeamStanding>> standings = readOnlyTransactionTemplate
+                    .execute(status -> findStoredStandings(date, load.groupBy()))
+                    .orElseGet(() -> transactionTemplate.execute(status -> loadStandings(date, load.groupBy())));
+            Map<String, List<TeamStanding>> result =
+                    standingsResponseCache.put(date, load.groupBy(), standings, calculationToken);
+            load.result().complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            load.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(date, load);
+        }
+    }
+    
+    /**
+     * Get today's provisional standings, which change as games finish.
+     * 
+     * They are calculated without saving snapshots and kept in the response cache for a short
+     * freshness window. Once stale, the cached copy is still returned right away while one
+     * background refresh fetches new games and recalculates, so request latency does not depend
+     * on the upstream API. Only when there is no copy at all (or it expired) does a request wait
+     * for the calculation, which concurrent requests share.
+     * 
+     * @param date the date to retrieve standings for (today)
+     * @return map of team ID to ranked team standing, not to be modified
+     */
+    private Map<Long, TeamStanding> getProvisionalStandings(LocalDate date) {
+        Optional<ProvisionalStandings> cached = standingsResponseCache.getProvisional(date);
+        if (cached.isPresent()) {
+            if (cached.get().isStale()) {
+                refreshProvisionalStandings(date);
+            }
+            return cached.get().standings();
+        }
+        
+        CompletableFuture<Map<Long, TeamStanding>> load = new CompletableFuture<>();
+        CompletableFuture<Map<Long, TeamStanding>> running = provisionalLoads.putIfAbsent(date, load);
+        if (running != null) {
+            return awaitLoad(running);
+        }
+        return runProvisionalLoad(date, load);
+    }
+    
+    /**
+     * Start a background refresh of provisional standings, unless one is already running.
+     * A failed refresh leaves the stale copy in place to be retried by the next request.
+     * 
+     * @param date the date to refresh
+     */
+    private void refreshProvisionalStandings(LocalDate date) {
+        CompletableFuture<Map<Long, TeamStanding>> load = new CompletableFuture<>();
+        if (provisionalLoads.putIfAbsent(date, load) != null) {
+            return;
+        }
+        logger.info("Provisional standings for {} are stale. Refreshing in the background", date);
+        refreshExecutor.execute(() -> {
+            try {
+                runProvisionalLoad(date, load);
+            } catch (RuntimeException e) {
+                logger.warn("Failed to refresh provisional standings for {}. Serving the stale copy", date, e);
+            }
+        });
+    }
+    
+    /**
+     * Calculate provisional standings as the single in-flight load for their date, and cache them.
+     * 
+     * @param date the date to calculate standings for
+     * @param load the registered in-flight load, completed on return
+     * @return map of team ID to ranked team standing
+     */
+    private Map<Long, TeamStanding> runProvisionalLoad(LocalDate date, CompletableFuture<Map<Long, TeamStanding>> load) {
+        try {
+            long calculationToken = standingsResponseCache.startCalculation();
+            Map<Long, TeamStanding> standings = transactionTemplate.execute(status -> {
+                fetchGamesThrough(date);
+                Optional<Map<Long, TeamStanding>> cubeStandings = seasonStandingsCube.getStandings(date);
+                return cubeStandings.isPresent()
+                        ? cubeStandings.get()
+                        : calculateStandings(date, teamRegistry.teams());
+            });
+            Map<Long, TeamStanding> result = standingsResponseCache.putProvisional(date, standings, calculationToken);
+            load.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            provisionalLoads.remove(date, load);
+        }
+    }
+    
+    /**
+     * Wait for another request's load, rethrowing its exception if it failed.
+     * 
+     * @param load the in-flight load
+     * @return the standings it loaded
+     */
+    private <T> T awaitLoad(CompletableFuture<T> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+    
+    /**
+     * Find standings in the season cube or the snapshot cache, without calculating them.
+     * 
+     * @param date the date to retrieve standings for
+     * @param groupBy how to group the standings (DIVISION or CONFERENCE)
+     * @return map of group name to list of team standings, or empty if the date is not cached
+     */
+    private Optional<Map<String, List<TeamStanding>>> findStoredStandings(LocalDate date, GroupBy groupBy) {
+        logger.info("Getting standings for date {} grouped by {}", date, groupBy);
+        
+        // Serve from the in-memory season cube when it covers the date (no database access)
+        Optional<Map<Long, TeamStanding>> cubeStandings = seasonStandingsCube.getStandings(date);
+        if (cubeStandings.isPresent()) {
+            logger.info("Standings for {} served from season cube", date);
+            return Optional.of(groupStandings(cubeStandings.get().values(), groupBy));
+        }
+        
+        // Serve snapshots that are calculated but still waiting to be written
+        List<StandingsSnapshot> queued = snapshotWriteBehindQueue.findPending(date);
+        if (!queued.isEmpty()) {
+            logger.info("Standings for {} served from the snapshot write-behind queue", date);
+            return Optional.of(groupStandings(convertSnapshotsToStandings(queued), groupBy));
+        }
+        
+        // Read cached standings, with their teams, in a single query and group them in memory
+        List<StandingsSnapshot> snapshots = snapshotStore.findByDate(date);
+        if (!snapshots.isEmpty()) {
             logger.info("Standings found in cache for {}", date);
+            return Optional.of(groupStandings(convertSnapshotsToStandings(snapshots), groupBy));
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * Load standings from the season cube or the snapshot cache, calculating and saving
+     * snapshots first if the date is not cached yet. The cache is checked again because a
+     * replica may not have the snapshots another instance just saved.
+     * 
+     * @param date the date to retrieve standings for
+     * @param groupBy how to group the standings (DIVISION or CONFERENCE)
+     * @return map of group name to list of team standings
+     */
+    private Map<String, List<TeamStanding>> loadStandings(LocalDate date, GroupBy groupBy) {
+        Optional<Map<String, List<TeamStanding>>> stored = findStoredStandings(date, groupBy);
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+        
+        logger.info("Standings not cached for {}. Calculating...", date);
+        
+        // Fetch only new games up to the requested date
+        fetchGamesThrough(date);
+        
+        // Get all teams
+        List<Team> allTeams = teamRegistry.teams();
+        
+        // Calculate standings and rankings (incrementally from a checkpoint when one is available)
+        Map<Long, TeamStanding> standings = calculateStandings(date, allTeams);
+        
+        // Queue standings snapshots to be saved in the background
+        saveStandingsSnapshots(date, standings);
+        
+        logger.info("Standings calculated for {}", date);
+        return groupStandings(standings.values(), groupBy);
+    }
+    
+    /**
+     * Prepare standings for every date in a range, computed in a single pass over the games.
+     * The range must lie within one season. Games from the season start to the end of the
+     * range are fetched, and their results read once in a read-only transaction without loading
+     * Game entities; the returned timeline computes each date's standings only as it is consumed.
+     * 
+     * @param from the first date of the range
+     * @param to the last date of the range
+     * @param groupBy how to group the standings (DIVISION or CONFERENCE)
+     * @return the standings timeline for the range
+     */
+    public StandingsTimeline getTimeline(LocalDate from, LocalDate to, GroupBy groupBy) {
+        logger.info("Getting standings timeline from {} to {} grouped by {}", from, to, groupBy);
+        
+        fetchGamesThrough(to);
+        
+        // The range lies within a single season, so only that season's games count
+        LocalDate seasonStart = seasonDateUtility.determineSeasonStart(from);
+        List<Team> allTeams = teamRegistry.teams();
+        List<GameResult> results = readOnlyTransactionTemplate.execute(status ->
+                gameRepository.findResultsByGameDateBetween(seasonStart, to));
+        logger.info("Found {} games from {} to {} for timeline", results.size(), seasonStart, to);
+        
+        return new StandingsTimeline(from, to, results, allTeams, standingsCalculator,
+                standings -> groupStandings(standings.values(), groupBy));
+    }
+    
+    /**
+     * Fetch games from the NBA API that are not stored yet, up to the given date.
+     * 
+     * @param date the last date to fetch games for
+     */
+    private void fetchGamesThrough(LocalDate date) {
+        // Determine the fetch start date (most recent game date or season start)
+        Optional<LocalDate> fetchStartDate = determineFetchStartDate(date);
+        if (fetchStartDate.isEmpty()) {
+            logger.info("Games through {} are already stored", date);
+            return;
+        }
+        logger.info("Fetching games from {} to {}", fetchStartDate.get(), date);
+        
+        // Fetch only new games from the fetch start date to requested date
+        nbaDataService.fetchAndSaveGames(fetchStartDate.get(), date);
+    }
+    
+    /**
+     * Calculate win-loss records and rankings for all teams as of the requested date.
+     * 
+     * Strategy:
+     * - If an earlier standings snapshot of the same season exists and is still consistent with
+     *   the stored games, start from it and apply only the games played after it
+     * - Otherwise, aggregate the season's games up to the requested date with the configured engine
+     * 
+     * Every query is bounded to the requested date's season, so only that season's data is read.
+     * 
+     * @param date the date to calculate standings for
+     * @param allTeams list of all teams in the league
+     * @return map of team ID to ranked team standing
+     */
+    private Map<Long, TeamStanding> calculateStandings(LocalDate date, List<Team> allTeams) {
+        LocalDate seasonStart = seasonDateUtility.determineSeasonStart(date);
+        LocalDate checkpointDate = snapshotStore.findLatestDateInSeasonBefore(date);
+        
+        if (checkpointDate != null) {
+            List<StandingsSnapshot> checkpoint = snapshotStore.findByDate(checkpointDate);
+            
+            if (isUsableCheckpoint(seasonStart, checkpointDate, checkpoint, allTeams)) {
+                List<GameResult> newResults =
+                        gameRepository.findResultsByGameDateBetween(checkpointDate.plusDays(1), date);
+                logger.info("Using checkpoint from {} with {} games since", checkpointDate, newResults.size());
+                Map<Long, TeamStanding> standings =
+                        standingsCalculator.calculateStandingsFromCheckpoint(checkpoint, newResults, allTeams);
+                
+                // Calculate division and conference rankings (modifies standings in place)
+                standingsCalculator.assignDivisionRanks(standings);
+                standingsCalculator.assignConferenceRanks(standings);
+                return standings;
+            }
+            logger.info("Checkpoint from {} is stale. Falling back to full calculation", checkpointDate);
+        }
+        
+        // Stream the results of the season's games up to the requested date into the engine,
+        // without loading entities or holding every result in memory
+        logger.info("Calculating standings from games from {} to {}", seasonStart, date);
+        try (Stream<GameResult> results = gameRepository.streamResultsByGameDateBetween(seasonStart, date)) {
+            return standingsEngine.calculateRankedStandingsFromResults(results, allTeams);
         }
-        // Retrieve standings from cache based on groupBy parameter
-        return retrieveStandingsFromCache(date, groupBy);
+    }
+    
+    /**
+     * Check whether a snapshot can be used as a starting point for incremental calculation.
+     * A checkpoint is usable only if it covers every team and accounts for every stored game
+     * of its season up to its date (each game contributes exactly one win). Snapshots taken before all
+     * games of their date were saved fail this check and are not used. Each snapshot must
+     * also carry head-to-head results for the whole league that add up to its wins, so that
+     * tiebreakers can be applied.
+     * 
+     * @param seasonStart the start date of the checkpoint's season
+     * @param checkpointDate the date of the checkpoint
+     * @param checkpoint the standings snapshots for the checkpoint date
+     * @param allTeams list of all teams in the league
+     * @return true if the checkpoint matches the stored games, false otherwise
+     */
+    private boolean isUsableCheckpoint(LocalDate seasonStart, LocalDate checkpointDate, List<StandingsSnapshot> checkpoint, List<Team> allTeams) {
+        if (checkpoint.size() != allTeams.size()) {
+            return false;
+        }
+        
+        long checkpointWins = 0;
+        for (StandingsSnapshot snapshot : checkpoint) {
+            int[] headToHeadWins = snapshot.getHeadToHeadWins();
+            if (headToHeadWins == null || headToHeadWins.length != allTeams.size()
+                    || Arrays.stream(headToHeadWins).sum() != snapshot.getWins()) {
+                return false;
+            }
+            checkpointWins += snapshot.getWins();
+        }
+        
+        return checkpointWins == gameRepository.countBySeasonAndGameDateLessThanEqual(seasonStart.getYear(), checkpointDate);
     }
     
     /**
@@ -107,32 +481,38 @@ public class StandingsService {
      * This optimizes API calls by only fetching games we don't already have.
      * 
      * Strategy:
-     * - If we have games in the database, start from the most recent game date
+     * - If we have games of the requested date's season, start from the most recent game date
      *   (including that date, in case not all games were complete on the previous fetch)
-     * - If we have no games, start from the season start date
+     * - If we have none, start from the season start date
+     * 
+     * A season's games are always fetched from its start without gaps, so when the season has
+     * games after the requested date, every game up to that date is stored already and nothing
+     * is fetched. This is the usual case for past seasons.
      * 
      * @param requestedDate the date the user is requesting standings for
-     * @return the date to start fetching games from
+     * @return the date to start fetching games from, or empty if nothing needs fetching
      */
-    private LocalDate determineFetchStartDate(LocalDate requestedDate) {
-        // Check if we have any games in the database
-        LocalDate mostRecentGameDate = gameRepository.findMostRecentGameDate();
+    private Optional<LocalDate> determineFetchStartDate(LocalDate requestedDate) {
+        // Check if we have any games of the requested date's season in the database
+        LocalDate seasonStart = seasonDateUtility.determineSeasonStart(requestedDate);
+        LocalDate mostRecentGameDate = gameRepository.findMostRecentGameDateInSeason(seasonStart.getYear());
         
         if (mostRecentGameDate != null) {
             // We have games - start from the most recent game date
             // Include that date in case not all games were complete on the previous fetch
-            logger.info("Most recent game date in database: {}", mostRecentGameDate);
-            return mostRecentGameDate;
+            logger.info("Most recent game date in database for season {}: {}", seasonStart.getYear(), mostRecentGameDate);
+            return mostRecentGameDate.isAfter(requestedDate) ? Optional.empty() : Optional.of(mostRecentGameDate);
         } else {
-            // No games in database - start from season start
-            LocalDate seasonStart = seasonDateUtility.determineSeasonStart(requestedDate);
+            // No games of this season in database - start from season start
             logger.info("No games in database. Starting from season start: {}", seasonStart);
-            return seasonStart;
+            return Optional.of(seasonStart);
         }
     }
     
     /**
-     * Save standings snapshots to the database for caching.
+     * Queue standings snapshots to be saved to the database for caching, once the current
+     * transaction commits. They are written by the SnapshotWriteBehindQueue, so the response
+     * does not wait for the insert.
      * 
      * @param snapshotDate the date of the snapshot
      * @param standings map of team ID to team standing
@@ -144,62 +524,68 @@ public class StandingsService {
             snapshots.add(StandingsSnapshot.fromTeamStanding(snapshotDate, standing));
         }
         
-        standingsSnapshotRepository.saveAll(snapshots);
-        logger.info("Saved {} standings snapshots for {}", snapshots.size(), snapshotDate);
+        // Standings calculated from games that are rolled back must not be saved
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    snapshotWriteBehindQueue.enqueue(snapshotDate, snapshots);
+                }
+            });
+        } else {
+            snapshotWriteBehindQueue.enqueue(snapshotDate, snapshots);
+        }
+        logger.info("Queued {} standings snapshots for {}", snapshots.size(), snapshotDate);
     }
     
     /**
-     * Retrieve standings from cache and group them according to the groupBy parameter.
+     * Group ranked standings in memory according to the groupBy parameter.
+     * Every division or conference is present, and teams within a group are sorted by the
+     * appropriate rank.
      * 
-     * @param date the date to retrieve standings for
+     * @param standings the ranked team standings
      * @param groupBy how to group the standings (DIVISION or CONFERENCE)
      * @return map of group name to list of team standings
      */
-    private Map<String, List<TeamStanding>> retrieveStandingsFromCache(LocalDate date, GroupBy groupBy) {
+    private Map<String, List<TeamStanding>> groupStandings(Collection<TeamStanding> standings, GroupBy groupBy) {
         Map<String, List<TeamStanding>> result = new HashMap<>();
         
         if (groupBy == GroupBy.DIVISION) {
-            // Retrieve standings grouped by division
             for (Division division : Division.values()) {
-                List<StandingsSnapshot> snapshots = standingsSnapshotRepository
-                        .findBySnapshotDateAndTeam_Division(date, division);
-                
-                List<TeamStanding> standings = convertSnapshotsToStandings(snapshots, groupBy);
-                result.put(division.name(), standings);
+                result.put(division.name(), new ArrayList<>());
+            }
+            for (TeamStanding standing : standings) {
+                result.get(standing.getTeam().getDivision().name()).add(standing);
             }
+            result.values().forEach(group -> group.sort(Comparator.comparing(TeamStanding::getDivisionRank)));
         } else {
-            // Retrieve standings grouped by conference
             for (Conference conference : Conference.values()) {
-                List<StandingsSnapshot> snapshots = standingsSnapshotRepository
-                        .findBySnapshotDateAndTeam_Conference(date, conference);
-                
-                List<TeamStanding> standings = convertSnapshotsToStandings(snapshots, groupBy);
-                result.put(conference.name(), standings);
+                result.put(conference.name(), new ArrayList<>());
+            }
+            for (TeamStanding standing : standings) {
+                result.get(standing.getTeam().getConference().name()).add(standing);
             }
+            result.values().forEach(group -> group.sort(Comparator.comparing(TeamStanding::getConferenceRank)));
         }
         
         return result;
     }
     
     /**
-     * Convert StandingsSnapshot entities to TeamStanding objects and sort by rank.
+     * Convert StandingsSnapshot entities to TeamStanding objects.
      * 
      * @param snapshots list of standings snapshots
-     * @param groupBy how the standings are grouped (determines which rank to sort by)
-     * @return list of team standings sorted by appropriate rank
+     * @return list of team standings, in snapshot order
      */
-    private List<TeamStanding> convertSnapshotsToStandings(List<StandingsSnapshot> snapshots, GroupBy groupBy) {
+    private List<TeamStanding> convertSnapshotsToStandings(List<StandingsSnapshot> snapshots) {
         List<TeamStanding> standings = new ArrayList<>();
         
         for (StandingsSnapshot snapshot : snapshots) {
-            standings.add(TeamStanding.fromSnapshot(snapshot));
-        }
-        
-        // Sort by the appropriate rank based on grouping
-        if (groupBy == GroupBy.DIVISION) {
-            standings.sort(Comparator.comparing(TeamStanding::getDivisionRank));
-        } else {
-            standings.sort(Comparator.comparing(TeamStanding::getConferenceRank));
+            // Prefer the registry's shared team instance over the fetched one
+            Team team = teamRegistry.byId(snapshot.getTeam().getId());
+            standings.add(team != null
+                    ? TeamStanding.fromSnapshot(snapshot, team)
+                    : TeamStanding.fromSnapshot(snapshot));
         }
         
         return standings;
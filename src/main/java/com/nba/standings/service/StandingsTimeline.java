@@ -0,0 +1,60 @@
+package com.nba.standings.service;
+
+import com.nba.standings.model.entity.Team;
+import com.nba.standings.model.projection.GameResult;
+import com.nba.standings.service.StandingsCalculator.TeamStanding;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Standings for every date in a range, produced lazily from a single sweep over the game results.
+ * Holds only the loaded results and teams; the standings for each date are computed and handed
+ * to the consumer one date at a time, so a whole season is never held in memory.
+ */
+public class StandingsTimeline {
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final List<GameResult> results;
+    private final List<Team> allTeams;
+    private final StandingsCalculator standingsCalculator;
+    private final Function<Map<Long, TeamStanding>, Map<String, List<TeamStanding>>> grouping;
+
+    StandingsTimeline(LocalDate from,
+                      LocalDate to,
+                      List<GameResult> results,
+                      List<Team> allTeams,
+                      StandingsCalculator standingsCalculator,
+                      Function<Map<Long, TeamStanding>, Map<String, List<TeamStanding>>> grouping) {
+        this.from = from;
+        this.to = to;
+        this.results = results;
+        this.allTeams = allTeams;
+        this.standingsCalculator = standingsCalculator;
+        this.grouping = grouping;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    /**
+     * Compute the standings for each date in order and pass them to the consumer.
+     * The TeamStanding instances are reused between dates, so the consumer must finish
+     * with them before returning.
+     *
+     * @param consumer receives each date with its standings grouped by division or conference
+     */
+    public void forEachDate(BiConsumer<LocalDate, Map<String, List<TeamStanding>>> consumer) {
+        standingsCalculator.sweepStandings(results, allTeams, from, to,
+                (date, standings) -> consumer.accept(date, grouping.apply(standings)));
+    }
+}
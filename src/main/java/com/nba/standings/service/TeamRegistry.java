@@ -0,0 +1,164 @@
+package com.nba.standings.service;
+
+import com.nba.standings.model.entity.Team;
+import com.nba.standings.model.enums.Conference;
+import com.nba.standings.model.enums.Division;
+import com.nba.standings.repository.TeamRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory registry of all teams, loaded once from the teams table.
+ *
+ * Teams are seeded by migration and never change, so the hot paths look them up here instead of
+ * querying the repository. Lookups by internal ID and by NBA API team ID are array-indexed (both
+ * are small integers), and the members of each division and conference are precomputed. The
+ * registry is loaded at startup, before the season cube, or on first use if that comes earlier.
+ *
+ * The loaded data is immutable and replaced as a whole by {@link #reload()}, so lookups need no
+ * locking. The Team instances are detached and may be shared between threads.
+ */
+@Component
+public class TeamRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(TeamRegistry.class);
+
+    /** Largest ID that is array-indexed; the seeded IDs are all far below it. */
+    private static final int MAX_INDEXED_ID = 1 << 16;
+
+    private final TeamRepository teamRepository;
+
+    private volatile Teams loaded;
+
+    /**
+     * One loaded set of teams.
+     *
+     * @param sorted all teams sorted by internal ID
+     * @param byId teams indexed by internal ID
+     * @param byNbaTeamId teams indexed by NBA API team ID
+     * @param byDivision the teams of each division, sorted by internal ID
+     * @param byConference the teams of each conference, sorted by internal ID
+     */
+    private record Teams(List<Team> sorted, Team[] byId, Team[] byNbaTeamId,
+                         Map<Division, List<Team>> byDivision, Map<Conference, List<Team>> byConference) {
+    }
+
+    public TeamRegistry(TeamRepository teamRepository) {
+        this.teamRepository = teamRepository;
+    }
+
+    /**
+     * Load the teams from the database, replacing any previously loaded teams.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public synchronized void reload() {
+        List<Team> sorted = new ArrayList<>(teamRepository.findAll());
+        sorted.sort(Comparator.comparing(Team::getId));
+
+        int maxId = 0;
+        int maxNbaTeamId = 0;
+        for (Team team : sorted) {
+            maxId = Math.max(maxId, checkIndexable(team.getId(), "ID"));
+            maxNbaTeamId = Math.max(maxNbaTeamId, checkIndexable(team.getNbaTeamId(), "NBA team ID"));
+        }
+
+        Team[] byId = new Team[maxId + 1];
+        Team[] byNbaTeamId = new Team[maxNbaTeamId + 1];
+        Map<Division, List<Team>> byDivision = new EnumMap<>(Division.class);
+        Map<Conference, List<Team>> byConference = new EnumMap<>(Conference.class);
+        for (Division division : Division.values()) {
+            byDivision.put(division, new ArrayList<>());
+        }
+        for (Conference conference : Conference.values()) {
+            byConference.put(conference, new ArrayList<>());
+        }
+        for (Team team : sorted) {
+            byId[team.getId().intValue()] = team;
+            byNbaTeamId[team.getNbaTeamId()] = team;
+            byDivision.get(team.getDivision()).add(team);
+            byConference.get(team.getConference()).add(team);
+        }
+        byDivision.replaceAll((division, teams) -> List.copyOf(teams));
+        byConference.replaceAll((conference, teams) -> List.copyOf(teams));
+
+        loaded = new Teams(List.copyOf(sorted), byId, byNbaTeamId, byDivision, byConference);
+        logger.info("Loaded {} teams into the team registry", sorted.size());
+    }
+
+    /**
+     * @return all teams, sorted by internal ID
+     */
+    public List<Team> teams() {
+        return loaded().sorted();
+    }
+
+    /**
+     * @param id the internal team ID
+     * @return the team, or null if there is no team with the ID
+     */
+    public Team byId(Long id) {
+        return lookup(loaded().byId(), id);
+    }
+
+    /**
+     * @param nbaTeamId the NBA API team ID
+     * @return the team, or null if there is no team with the ID
+     */
+    public Team byNbaTeamId(Long nbaTeamId) {
+        return lookup(loaded().byNbaTeamId(), nbaTeamId);
+    }
+
+    /**
+     * @return the teams of a division, sorted by internal ID
+     */
+    public List<Team> division(Division division) {
+        return loaded().byDivision().get(division);
+    }
+
+    /**
+     * @return the teams of a conference, sorted by internal ID
+     */
+    public List<Team> conference(Conference conference) {
+        return loaded().byConference().get(conference);
+    }
+
+    private Teams loaded() {
+        Teams teams = loaded;
+        if (teams == null) {
+            synchronized (this) {
+                if (loaded == null) {
+                    reload();
+                }
+                teams = loaded;
+            }
+        }
+        return teams;
+    }
+
+    private static Team lookup(Team[] teams, Long id) {
+        if (id == null || id < 0 || id >= teams.length) {
+            return null;
+        }
+        return teams[id.intValue()];
+    }
+
+    private static int checkIndexable(Number id, String name) {
+        if (id.longValue() < 0 || id.longValue() > MAX_INDEXED_ID) {
+            throw new IllegalStateException("Team " + name + " " + id + " is outside the indexable range 0.."
+                    + MAX_INDEXED_ID);
+        }
+        return id.intValue();
+    }
+}
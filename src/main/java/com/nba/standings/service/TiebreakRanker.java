@@ -0,0 +1,245 @@
+package com.nba.standings.service;
+
+import com.nba.standings.model.enums.Division;
+import com.nba.standings.service.StandingsCalculator.TeamStanding;
+
+/**
+ * Ranks the teams of one division or conference using the NBA tiebreaker procedure.
+ *
+ * Teams are ordered by winning percentage. Each group of teams with the same percentage is
+ * then separated with these criteria, in order:
+ * <ul>
+ *   <li>Two teams: head-to-head record, division leader, division record (same division only),
+ *       conference record</li>
+ *   <li>Three or more teams: division leader, head-to-head record among all tied teams,
+ *       division record (all in the same division only), conference record</li>
+ * </ul>
+ * When a criterion separates a group, each remaining tied subgroup restarts with the two-team or
+ * multi-team procedure as its size dictates. The division leader criterion only applies to
+ * conference ranking. Head-to-head only applies when every tied team has played at least one of
+ * the others. Records against playoff teams and point differential are not tracked. Teams still
+ * tied after every criterion are ordered by wins and then by team name.
+ *
+ * All inputs come from precomputed records, so breaking a tie never rescans games.
+ */
+final class TiebreakRanker {
+
+    /**
+     * Per-team records the tiebreakers are evaluated on, addressed by team index.
+     */
+    interface Records {
+        int wins(int team);
+
+        int losses(int team);
+
+        int headToHeadWins(int team, int opponent);
+
+        int divisionWins(int team);
+
+        int divisionLosses(int team);
+
+        int conferenceWins(int team);
+
+        int conferenceLosses(int team);
+
+        Division division(int team);
+
+        String teamName(int team);
+
+        boolean isDivisionLeader(int team);
+    }
+
+    private enum Criterion {
+        HEAD_TO_HEAD, DIVISION_LEADER, DIVISION_RECORD, CONFERENCE_RECORD
+    }
+
+    private static final Criterion[] TWO_TEAM_CRITERIA = {
+            Criterion.HEAD_TO_HEAD, Criterion.DIVISION_LEADER, Criterion.DIVISION_RECORD, Criterion.CONFERENCE_RECORD
+    };
+
+    private static final Criterion[] MULTI_TEAM_CRITERIA = {
+            Criterion.DIVISION_LEADER, Criterion.HEAD_TO_HEAD, Criterion.DIVISION_RECORD, Criterion.CONFERENCE_RECORD
+    };
+
+    private TiebreakRanker() {
+    }
+
+    /**
+     * Sort the members of one division in place and record their 1-based ranks.
+     *
+     * @param members team indexes of the division members
+     * @param records records of all teams
+     * @param ranks output array indexed by team index
+     */
+    static void rankDivision(int[] members, Records records, int[] ranks) {
+        rank(members, records, ranks, false);
+    }
+
+    /**
+     * Sort the members of one conference in place and record their 1-based ranks.
+     * Division leaders must already be known to the records.
+     *
+     * @param members team indexes of the conference members
+     * @param records records of all teams
+     * @param ranks output array indexed by team index
+     */
+    static void rankConference(int[] members, Records records, int[] ranks) {
+        rank(members, records, ranks, true);
+    }
+
+    private static void rank(int[] members, Records records, int[] ranks, boolean conferenceRanking) {
+        int[] wins = new int[members.length];
+        int[] losses = new int[members.length];
+        for (int i = 0; i < members.length; i++) {
+            wins[i] = records.wins(members[i]);
+            losses[i] = records.losses(members[i]);
+        }
+
+        sortByRecord(members, 0, wins, losses);
+        forEachTiedRun(members, 0, members.length, wins, losses, records, conferenceRanking);
+
+        for (int i = 0; i < members.length; i++) {
+            ranks[members[i]] = i + 1;
+        }
+    }
+
+    /**
+     * Separate teams that are tied on winning percentage.
+     * Members from {@code from} (inclusive) to {@code to} (exclusive) all have the same percentage.
+     */
+    private static void breakTie(int[] members, int from, int to, Records records, boolean conferenceRanking) {
+        int size = to - from;
+        if (size < 2) {
+            return;
+        }
+
+        int[] criterionWins = new int[size];
+        int[] criterionLosses = new int[size];
+        for (Criterion criterion : size == 2 ? TWO_TEAM_CRITERIA : MULTI_TEAM_CRITERIA) {
+            if (!fillRecords(criterion, members, from, to, records, conferenceRanking, criterionWins, criterionLosses)) {
+                continue;
+            }
+
+            sortByRecord(members, from, criterionWins, criterionLosses);
+            boolean separated = TeamStanding.compareWinPct(criterionWins[0], criterionLosses[0],
+                    criterionWins[size - 1], criterionLosses[size - 1]) != 0;
+            if (separated) {
+                // Every group of teams still tied restarts from the first criterion
+                forEachTiedRun(members, from, to, criterionWins, criterionLosses, records, conferenceRanking);
+                return;
+            }
+        }
+
+        // No criterion separates the teams: order by wins, then by team name
+        for (int i = from + 1; i < to; i++) {
+            int team = members[i];
+            int j = i - 1;
+            while (j >= from && compareFallback(members[j], team, records) > 0) {
+                members[j + 1] = members[j];
+                j--;
+            }
+            members[j + 1] = team;
+        }
+    }
+
+    /**
+     * Call breakTie for every run of members with an equal record, given members sorted by that record.
+     * The record arrays are indexed relative to {@code from}.
+     */
+    private static void forEachTiedRun(int[] members, int from, int to, int[] wins, int[] losses,
+                                       Records records, boolean conferenceRanking) {
+        int size = to - from;
+        int start = 0;
+        for (int i = 1; i <= size; i++) {
+            if (i == size || TeamStanding.compareWinPct(wins[start], losses[start], wins[i], losses[i]) != 0) {
+                breakTie(members, from + start, from + i, records, conferenceRanking);
+                start = i;
+            }
+        }
+    }
+
+    /**
+     * Evaluate a criterion for each tied team.
+     *
+     * @return false if the criterion does not apply to this group
+     */
+    private static boolean fillRecords(Criterion criterion, int[] members, int from, int to, Records records,
+                                       boolean conferenceRanking, int[] wins, int[] losses) {
+        switch (criterion) {
+            case DIVISION_LEADER -> {
+                if (!conferenceRanking) {
+                    return false;
+                }
+                for (int i = from; i < to; i++) {
+                    boolean leader = records.isDivisionLeader(members[i]);
+                    wins[i - from] = leader ? 1 : 0;
+                    losses[i - from] = leader ? 0 : 1;
+                }
+            }
+            case HEAD_TO_HEAD -> {
+                for (int i = from; i < to; i++) {
+                    int teamWins = 0;
+                    int teamLosses = 0;
+                    for (int j = from; j < to; j++) {
+                        if (i != j) {
+                            teamWins += records.headToHeadWins(members[i], members[j]);
+                            teamLosses += records.headToHeadWins(members[j], members[i]);
+                        }
+                    }
+                    if (teamWins + teamLosses == 0) {
+                        return false;
+                    }
+                    wins[i - from] = teamWins;
+                    losses[i - from] = teamLosses;
+                }
+            }
+            case DIVISION_RECORD -> {
+                Division division = records.division(members[from]);
+                for (int i = from; i < to; i++) {
+                    if (records.division(members[i]) != division) {
+                        return false;
+                    }
+                    wins[i - from] = records.divisionWins(members[i]);
+                    losses[i - from] = records.divisionLosses(members[i]);
+                }
+            }
+            case CONFERENCE_RECORD -> {
+                for (int i = from; i < to; i++) {
+                    wins[i - from] = records.conferenceWins(members[i]);
+                    losses[i - from] = records.conferenceLosses(members[i]);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Insertion sort of members by winning percentage descending, moving the record arrays along.
+     * Groups hold at most 15 teams, so this avoids any comparator allocation.
+     */
+    private static void sortByRecord(int[] members, int from, int[] wins, int[] losses) {
+        for (int i = 1; i < wins.length; i++) {
+            int team = members[from + i];
+            int teamWins = wins[i];
+            int teamLosses = losses[i];
+            int j = i - 1;
+            while (j >= 0 && TeamStanding.compareWinPct(wins[j], losses[j], teamWins, teamLosses) < 0) {
+                members[from + j + 1] = members[from + j];
+                wins[j + 1] = wins[j];
+                losses[j + 1] = losses[j];
+                j--;
+            }
+            members[from + j + 1] = team;
+            wins[j + 1] = teamWins;
+            losses[j + 1] = teamLosses;
+        }
+    }
+
+    private static int compareFallback(int a, int b, Records records) {
+        int winsCompare = Integer.compare(records.wins(b), records.wins(a));
+        if (winsCompare != 0) {
+            return winsCompare;
+        }
+        return records.teamName(a).compareTo(records.teamName(b));
+    }
+}
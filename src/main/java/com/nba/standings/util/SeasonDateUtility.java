@@ -18,52 +18,103 @@ public class SeasonDateUtility {
     private static final Logger logger = LoggerFactory.getLogger(SeasonDateUtility.class);
     
     /**
-     * Determine the season start date based on a given date.
+     * The start of the 2004-05 season, the first played in the current 30-team, six-division
+     * alignment. The team registry and the Division and Conference enums only model that
+     * alignment, so standings are available from this date on.
+     */
+    public static final LocalDate FIRST_SEASON_START = LocalDate.of(2004, Month.OCTOBER, 1);
+    
+    /**
+     * Determine the season a date belongs to, identified by the year in which it started.
      * NBA season starts on October 1st.
      * If the given date is before October, the season started in the previous year.
      * 
      * @param date the reference date
-     * @return the season start date (October 1st of the appropriate year)
+     * @return the season, e.g. 2025 for the 2025-26 season
      */
-    public LocalDate determineSeasonStart(LocalDate date) {
-        int year = date.getYear();
-        
+    public static int seasonOf(LocalDate date) {
         // If the date is before October (months 1-9), the season started in the previous year
         if (date.getMonth().getValue() < Month.OCTOBER.getValue()) {
-            year = year - 1;
+            return date.getYear() - 1;
         }
-        
-        return LocalDate.of(year, Month.OCTOBER, 1);
+        return date.getYear();
     }
     
     /**
-     * Validate that the date is within the current NBA season.
-     * NBA season starts on October 1st and ends around June of the following year.
+     * Get the first date of a season.
+     * 
+     * @param season the season, identified by the year in which it started
+     * @return October 1st of that year
+     */
+    public static LocalDate seasonStart(int season) {
+        return LocalDate.of(season, Month.OCTOBER, 1);
+    }
+    
+    /**
+     * Get the last date of a season.
+     * 
+     * @param season the season, identified by the year in which it started
+     * @return September 30th of the following year
+     */
+    public static LocalDate seasonEnd(int season) {
+        return seasonStart(season + 1).minusDays(1);
+    }
+    
+    /**
+     * Determine the season start date based on a given date.
+     * NBA season starts on October 1st.
+     * If the given date is before October, the season started in the previous year.
+     * 
+     * @param date the reference date
+     * @return the season start date (October 1st of the appropriate year)
+     */
+    public LocalDate determineSeasonStart(LocalDate date) {
+        return seasonStart(seasonOf(date));
+    }
+    
+    /**
+     * Validate that standings can be requested for the date.
+     * Any date from the start of the 2004-05 season up to today is accepted, so past seasons
+     * of the current league alignment can be viewed as well as the current one.
      * 
      * @param date the date to validate
-     * @throws InvalidDateException if the date is before the current season start or in the future
+     * @throws InvalidDateException if the date is in the future or before the 2004-05 season
      */
-    public void validateDateWithinCurrentSeason(LocalDate date) {
+    public void validateDate(LocalDate date) {
         logger.info("SEASON_UTIL: Validating date: {}", date);
         LocalDate today = LocalDate.now();
-        logger.info("SEASON_UTIL: Today's date: {}", today);
         
         // Date cannot be in the future
         if (date.isAfter(today)) {
             logger.error("SEASON_UTIL: Date {} is after today {}", date, today);
             throw new InvalidDateException("Date cannot be in the future");
         }
-        logger.info("SEASON_UTIL: Date is not in the future - OK");
-        
-        // Determine the current season start date
-        LocalDate seasonStart = determineSeasonStart(today);
-        logger.info("SEASON_UTIL: Current season start date: {}", seasonStart);
         
-        // Date must be on or after the season start
-        if (date.isBefore(seasonStart)) {
-            logger.error("SEASON_UTIL: Date {} is before season start {}", date, seasonStart);
-            throw new InvalidDateException("Date must be within the current NBA season (on or after " + seasonStart + ")");
+        // Date must be within a season that has been played
+        if (date.isBefore(FIRST_SEASON_START)) {
+            logger.error("SEASON_UTIL: Date {} is before the first season start {}", date, FIRST_SEASON_START);
+            throw new InvalidDateException("Date must be on or after the start of the 2004-05 season ("
+                    + FIRST_SEASON_START + "), the first in the current league alignment");
+        }
+        logger.info("SEASON_UTIL: Date is valid - OK");
+    }
+    
+    /**
+     * Validate that a date range can be requested: both ends are valid dates, in order, and
+     * within the same season.
+     * 
+     * @param from the first date of the range
+     * @param to the last date of the range
+     * @throws InvalidDateException if the range is invalid
+     */
+    public void validateDateRange(LocalDate from, LocalDate to) {
+        validateDate(from);
+        validateDate(to);
+        if (to.isBefore(from)) {
+            throw new InvalidDateException("Date 'to' must not be before 'from'");
+        }
+        if (seasonOf(from) != seasonOf(to)) {
+            throw new InvalidDateException("Dates 'from' and 'to' must be within the same season");
         }
-        logger.info("SEASON_UTIL: Date is within current season - OK");
     }
 }
@@ -0,0 +1,159 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Packs the existing row-per-team standings snapshots into packed_standings_snapshots, so
+ * switching standings.snapshots.format to "packed" keeps the snapshots already calculated.
+ * The row-per-team table is left in place for the "rows" format.
+ *
+ * The migration writes format version 1 with its own copy of the encoding rather than through
+ * PackedStandingsSnapshot, so that later format versions do not change what it writes.
+ */
+public class V7__Pack_standings_snapshots extends BaseJavaMigration {
+
+    private static final String SELECT_SNAPSHOTS_SQL =
+            "SELECT snapshot_date, team_id, wins, losses, division_rank, conference_rank, head_to_head, "
+                    + "streak, last_ten_results FROM standings_snapshots ORDER BY snapshot_date, team_id";
+
+    private static final String INSERT_PACKED_SNAPSHOT_SQL =
+            "INSERT INTO packed_standings_snapshots (snapshot_date, format_version, payload) VALUES (?, ?, ?)";
+
+    private static final short FORMAT_VERSION = 1;
+
+    private static final int FLAG_HEAD_TO_HEAD = 1;
+
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * One row of standings_snapshots. Null ranks stay null.
+     */
+    private record Row(long teamId, int wins, int losses, Integer divisionRank, Integer conferenceRank,
+                       int streak, int lastTenResults, int[] headToHeadWins) {
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (Statement select = connection.createStatement();
+             PreparedStatement insert = connection.prepareStatement(INSERT_PACKED_SNAPSHOT_SQL)) {
+            // Stream the rows instead of loading every snapshot at once
+            select.setFetchSize(1000);
+
+            LocalDate date = null;
+            List<Row> rowsOfDate = new ArrayList<>();
+            int batched = 0;
+            try (ResultSet rows = select.executeQuery(SELECT_SNAPSHOTS_SQL)) {
+                while (rows.next()) {
+                    LocalDate rowDate = rows.getDate("snapshot_date").toLocalDate();
+                    if (date != null && !rowDate.equals(date)) {
+                        batched = addBatch(insert, date, rowsOfDate, batched);
+                        rowsOfDate.clear();
+                    }
+                    date = rowDate;
+                    rowsOfDate.add(new Row(
+                            rows.getLong("team_id"),
+                            rows.getInt("wins"),
+                            rows.getInt("losses"),
+                            getNullableInt(rows, "division_rank"),
+                            getNullableInt(rows, "conference_rank"),
+                            rows.getInt("streak"),
+                            rows.getInt("last_ten_results"),
+                            decodeHeadToHead(rows.getBytes("head_to_head"))));
+                }
+            }
+            if (date != null) {
+                addBatch(insert, date, rowsOfDate, batched);
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private static int addBatch(PreparedStatement insert, LocalDate date, List<Row> rows, int batched)
+            throws SQLException {
+        insert.setDate(1, Date.valueOf(date));
+        insert.setShort(2, FORMAT_VERSION);
+        insert.setBytes(3, encode(rows));
+        insert.addBatch();
+        if (++batched >= BATCH_SIZE) {
+            insert.executeBatch();
+            return 0;
+        }
+        return batched;
+    }
+
+    private static Integer getNullableInt(ResultSet rows, String column) throws SQLException {
+        int value = rows.getInt(column);
+        return rows.wasNull() ? null : value;
+    }
+
+    /**
+     * Decode the head_to_head column: one u16 of wins per team, in team ID order.
+     */
+    private static int[] decodeHeadToHead(byte[] headToHead) {
+        if (headToHead == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(headToHead);
+        int[] headToHeadWins = new int[headToHead.length / Short.BYTES];
+        for (int i = 0; i < headToHeadWins.length; i++) {
+            headToHeadWins[i] = Short.toUnsignedInt(buffer.getShort());
+        }
+        return headToHeadWins;
+    }
+
+    /**
+     * Encode the rows of one date, already ordered by team ID, as a format version 1 payload.
+     * A missing rank is written as 0.
+     */
+    private static byte[] encode(List<Row> rows) {
+        int teamCount = rows.size();
+        boolean headToHead = !rows.isEmpty() && rows.stream().allMatch(
+                row -> row.headToHeadWins() != null && row.headToHeadWins().length == teamCount);
+
+        ByteBuffer buffer = ByteBuffer.allocate(3 + teamCount * 11 + (headToHead ? teamCount * teamCount : 0));
+        buffer.putShort((short) checkRange(teamCount, 0, 0xFFFF, "team count"));
+        buffer.put((byte) (headToHead ? FLAG_HEAD_TO_HEAD : 0));
+        for (Row row : rows) {
+            buffer.putShort((short) checkRange(row.teamId(), 0, 0xFFFF, "team ID"));
+            buffer.putShort((short) checkRange(row.wins(), 0, 0xFFFF, "wins"));
+            buffer.putShort((short) checkRange(row.losses(), 0, 0xFFFF, "losses"));
+            buffer.put((byte) encodeRank(row.divisionRank(), "division rank"));
+            buffer.put((byte) encodeRank(row.conferenceRank(), "conference rank"));
+            buffer.put((byte) checkRange(row.streak(), Byte.MIN_VALUE, Byte.MAX_VALUE, "streak"));
+            buffer.putShort((short) checkRange(row.lastTenResults(), 0, 0xFFFF, "last-10 results"));
+        }
+        if (headToHead) {
+            for (Row row : rows) {
+                for (int wins : row.headToHeadWins()) {
+                    buffer.put((byte) checkRange(wins, 0, 0xFF, "head-to-head wins"));
+                }
+            }
+        }
+        return buffer.array();
+    }
+
+    private static long encodeRank(Integer rank, String name) {
+        return rank == null ? 0 : checkRange(rank, 1, 0xFF, name);
+    }
+
+    private static long checkRange(long value, long min, long max, String name) {
+        if (value < min || value > max) {
+            throw new IllegalArgumentException(
+                    "Cannot pack " + name + " " + value + ": outside the range " + min + ".." + max);
+        }
+        return value;
+    }
+}
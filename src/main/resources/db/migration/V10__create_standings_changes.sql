@@ -0,0 +1,12 @@
+-- Log of changes to the games and schedule that standings responses are built from: each row
+-- records the season and the first date whose standings or clinch statuses the change affects.
+-- The number of rows and the latest row ID at or before a date form that date's content
+-- version, which the standings endpoint uses as its ETag without loading any standings.
+CREATE TABLE standings_changes (
+    id BIGSERIAL PRIMARY KEY,
+    season INTEGER NOT NULL,
+    changed_from DATE NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_standings_change_season_date ON standings_changes(season, changed_from);
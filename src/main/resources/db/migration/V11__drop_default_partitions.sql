@@ -0,0 +1,31 @@
+-- Drop the default partitions of games and standings_snapshots. A row dated in a season without
+-- a partition silently landed in them, where partition pruning no longer isolates its season and
+-- a later CREATE TABLE ... PARTITION OF for that season fails on the rows already there. Without
+-- them such a row is rejected instead; SeasonPartitionMaintainer creates the current and the next
+-- season's partitions at startup, so ingest never reaches a season that has none.
+--
+-- Any rows already in the default partitions are moved into partitions of their own seasons.
+ALTER TABLE games DETACH PARTITION games_default;
+ALTER TABLE standings_snapshots DETACH PARTITION standings_snapshots_default;
+
+DO $$
+DECLARE
+    season INTEGER;
+BEGIN
+    FOR season IN
+        SELECT EXTRACT(YEAR FROM game_date - INTERVAL '9 months')::INTEGER FROM games_default
+        UNION
+        SELECT EXTRACT(YEAR FROM snapshot_date - INTERVAL '9 months')::INTEGER FROM standings_snapshots_default
+    LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS games_%s PARTITION OF games FOR VALUES FROM (%L) TO (%L)',
+                season, make_date(season, 10, 1), make_date(season + 1, 10, 1));
+        EXECUTE format('CREATE TABLE IF NOT EXISTS standings_snapshots_%s PARTITION OF standings_snapshots FOR VALUES FROM (%L) TO (%L)',
+                season, make_date(season, 10, 1), make_date(season + 1, 10, 1));
+    END LOOP;
+END $$;
+
+INSERT INTO games SELECT * FROM games_default ORDER BY game_date, id;
+INSERT INTO standings_snapshots SELECT * FROM standings_snapshots_default ORDER BY snapshot_date, team_id;
+
+DROP TABLE games_default;
+DROP TABLE standings_snapshots_default;
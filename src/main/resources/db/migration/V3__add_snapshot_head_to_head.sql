@@ -0,0 +1,5 @@
+-- Store each team's head-to-head wins so incremental calculation can apply tiebreakers
+ALTER TABLE standings_snapshots ADD COLUMN head_to_head BYTEA;
+
+-- Cached snapshots were ranked without tiebreakers; clear them so they are recalculated
+DELETE FROM standings_snapshots;
@@ -0,0 +1,12 @@
+-- Create scheduled_games table for regular-season games that have not finished yet
+CREATE TABLE scheduled_games (
+    id BIGSERIAL PRIMARY KEY,
+    nba_game_id BIGINT UNIQUE NOT NULL,
+    game_date DATE NOT NULL,
+    home_team_id BIGINT NOT NULL REFERENCES teams(id),
+    away_team_id BIGINT NOT NULL REFERENCES teams(id),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Create indexes for scheduled_games table
+CREATE INDEX idx_scheduled_game_date ON scheduled_games(game_date);
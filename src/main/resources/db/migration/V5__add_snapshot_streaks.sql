@@ -0,0 +1,6 @@
+-- Store each team's streak and last-10 results so cached reads do not re-derive them
+ALTER TABLE standings_snapshots ADD COLUMN streak INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE standings_snapshots ADD COLUMN last_ten_results INTEGER NOT NULL DEFAULT 0;
+
+-- Cached snapshots have no streak data; clear them so they are recalculated
+DELETE FROM standings_snapshots;
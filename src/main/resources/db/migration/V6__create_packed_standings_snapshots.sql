@@ -0,0 +1,7 @@
+-- Compact snapshot storage: the standings of every team for a date packed into one row
+CREATE TABLE packed_standings_snapshots (
+    snapshot_date DATE PRIMARY KEY,
+    format_version SMALLINT NOT NULL,
+    payload BYTEA NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,105 @@
+-- Partition games and standings_snapshots by season on their date columns. A season runs from
+-- October 1 to September 30, matching SeasonDateUtility, so queries bounded to one season only
+-- touch that season's partition. Games are appended in date order, so their B-tree date index
+-- is replaced with a BRIN index. Snapshots are written in whatever order dates are requested,
+-- backfilled or flushed, which would leave BRIN ranges overlapping, so they keep a B-tree.
+--
+-- Partitioned tables need the partition key in every unique constraint, so a game is unique
+-- by (nba_game_id, game_date) and both primary keys include the date.
+
+-- Move the existing tables aside, keeping their id sequences
+ALTER TABLE games RENAME TO games_unpartitioned;
+ALTER INDEX games_pkey RENAME TO games_unpartitioned_pkey;
+ALTER INDEX games_nba_game_id_key RENAME TO games_unpartitioned_nba_game_id_key;
+DROP INDEX idx_game_date;
+DROP INDEX idx_home_team;
+DROP INDEX idx_away_team;
+ALTER SEQUENCE games_id_seq OWNED BY NONE;
+
+ALTER TABLE standings_snapshots RENAME TO standings_snapshots_unpartitioned;
+ALTER INDEX standings_snapshots_pkey RENAME TO standings_snapshots_unpartitioned_pkey;
+ALTER INDEX standings_snapshots_snapshot_date_team_id_key RENAME TO standings_snapshots_unpartitioned_key;
+DROP INDEX idx_snapshot_date;
+DROP INDEX idx_team_date;
+ALTER SEQUENCE standings_snapshots_id_seq OWNED BY NONE;
+
+-- Create the partitioned tables
+CREATE TABLE games (
+    id BIGINT NOT NULL DEFAULT nextval('games_id_seq'),
+    nba_game_id BIGINT NOT NULL,
+    game_date DATE NOT NULL,
+    home_team_id BIGINT NOT NULL REFERENCES teams(id),
+    away_team_id BIGINT NOT NULL REFERENCES teams(id),
+    home_score INTEGER NOT NULL,
+    away_score INTEGER NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, game_date),
+    UNIQUE (nba_game_id, game_date)
+) PARTITION BY RANGE (game_date);
+ALTER SEQUENCE games_id_seq OWNED BY games.id;
+
+CREATE TABLE standings_snapshots (
+    id BIGINT NOT NULL DEFAULT nextval('standings_snapshots_id_seq'),
+    snapshot_date DATE NOT NULL,
+    team_id BIGINT NOT NULL REFERENCES teams(id),
+    wins INTEGER NOT NULL,
+    losses INTEGER NOT NULL,
+    win_pct DECIMAL(5,3) NOT NULL,
+    division_rank INTEGER,
+    conference_rank INTEGER,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    head_to_head BYTEA,
+    streak INTEGER NOT NULL DEFAULT 0,
+    last_ten_results INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (id, snapshot_date),
+    UNIQUE (snapshot_date, team_id)
+) PARTITION BY RANGE (snapshot_date);
+ALTER SEQUENCE standings_snapshots_id_seq OWNED BY standings_snapshots.id;
+
+-- One partition per season from the earliest stored season through five seasons ahead;
+-- dates outside that range go to a default partition instead of being rejected
+DO $$
+DECLARE
+    current_season INTEGER := EXTRACT(YEAR FROM CURRENT_DATE - INTERVAL '9 months')::INTEGER;
+    first_season INTEGER;
+    season INTEGER;
+BEGIN
+    SELECT EXTRACT(YEAR FROM MIN(d) - INTERVAL '9 months')::INTEGER INTO first_season
+    FROM (SELECT MIN(game_date) AS d FROM games_unpartitioned
+          UNION ALL
+          SELECT MIN(snapshot_date) FROM standings_snapshots_unpartitioned) earliest;
+    first_season := LEAST(COALESCE(first_season, current_season), current_season);
+
+    FOR season IN first_season .. current_season + 5 LOOP
+        EXECUTE format('CREATE TABLE games_%s PARTITION OF games FOR VALUES FROM (%L) TO (%L)',
+                season, make_date(season, 10, 1), make_date(season + 1, 10, 1));
+        EXECUTE format('CREATE TABLE standings_snapshots_%s PARTITION OF standings_snapshots FOR VALUES FROM (%L) TO (%L)',
+                season, make_date(season, 10, 1), make_date(season + 1, 10, 1));
+    END LOOP;
+END $$;
+
+CREATE TABLE games_default PARTITION OF games DEFAULT;
+CREATE TABLE standings_snapshots_default PARTITION OF standings_snapshots DEFAULT;
+
+-- Copy the data over in date order, which keeps the games BRIN ranges tight, and drop the old tables
+INSERT INTO games (id, nba_game_id, game_date, home_team_id, away_team_id, home_score, away_score, created_at)
+SELECT id, nba_game_id, game_date, home_team_id, away_team_id, home_score, away_score, created_at
+FROM games_unpartitioned
+ORDER BY game_date, id;
+
+INSERT INTO standings_snapshots (id, snapshot_date, team_id, wins, losses, win_pct, division_rank, conference_rank,
+                                 created_at, head_to_head, streak, last_ten_results)
+SELECT id, snapshot_date, team_id, wins, losses, win_pct, division_rank, conference_rank,
+       created_at, head_to_head, streak, last_ten_results
+FROM standings_snapshots_unpartitioned
+ORDER BY snapshot_date, team_id;
+
+DROP TABLE games_unpartitioned;
+DROP TABLE standings_snapshots_unpartitioned;
+
+-- Create indexes; the unique constraint already covers snapshot lookups by date
+CREATE INDEX idx_game_date ON games USING BRIN (game_date);
+CREATE INDEX idx_home_team ON games(home_team_id);
+CREATE INDEX idx_away_team ON games(away_team_id);
+CREATE INDEX idx_snapshot_date ON standings_snapshots(snapshot_date);
+CREATE INDEX idx_team_date ON standings_snapshots(team_id, snapshot_date);
@@ -0,0 +1,36 @@
+-- Add a season column to games and standings_snapshots: the year in which the season of the
+-- row's date started, matching SeasonDateUtility.seasonOf. Indexes keyed (season, date) let
+-- season queries read one season's entries in date order, and the check constraints keep the
+-- column consistent with the date that the tables are partitioned on.
+
+ALTER TABLE games ADD COLUMN season INTEGER;
+UPDATE games SET season = EXTRACT(YEAR FROM game_date - INTERVAL '9 months')::INTEGER;
+ALTER TABLE games ALTER COLUMN season SET NOT NULL;
+ALTER TABLE games ADD CONSTRAINT games_season_check
+    CHECK (season = EXTRACT(YEAR FROM game_date - INTERVAL '9 months')::INTEGER);
+
+ALTER TABLE standings_snapshots ADD COLUMN season INTEGER;
+UPDATE standings_snapshots SET season = EXTRACT(YEAR FROM snapshot_date - INTERVAL '9 months')::INTEGER;
+ALTER TABLE standings_snapshots ALTER COLUMN season SET NOT NULL;
+ALTER TABLE standings_snapshots ADD CONSTRAINT standings_snapshots_season_check
+    CHECK (season = EXTRACT(YEAR FROM snapshot_date - INTERVAL '9 months')::INTEGER);
+
+CREATE INDEX idx_game_season_date ON games(season, game_date);
+CREATE INDEX idx_snapshot_season_date ON standings_snapshots(season, snapshot_date);
+
+-- Past seasons can now be requested back to 2004-05, the first season of the current league
+-- alignment (SeasonDateUtility.FIRST_SEASON_START), so give every season since then its own
+-- partition; until now only seasons from the earliest stored one on had been created, and
+-- nothing older could be stored, so the default partitions hold no rows of these seasons
+DO $$
+DECLARE
+    current_season INTEGER := EXTRACT(YEAR FROM CURRENT_DATE - INTERVAL '9 months')::INTEGER;
+    season INTEGER;
+BEGIN
+    FOR season IN 2004 .. current_season LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS games_%s PARTITION OF games FOR VALUES FROM (%L) TO (%L)',
+                season, make_date(season, 10, 1), make_date(season + 1, 10, 1));
+        EXECUTE format('CREATE TABLE IF NOT EXISTS standings_snapshots_%s PARTITION OF standings_snapshots FOR VALUES FROM (%L) TO (%L)',
+                season, make_date(season, 10, 1), make_date(season + 1, 10, 1));
+    END LOOP;
+END $$;
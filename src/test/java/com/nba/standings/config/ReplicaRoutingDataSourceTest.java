@@ -0,0 +1,121 @@
+package com.nba.standings.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private Connection primaryConnection;
+    private Connection firstReplicaConnection;
+    private Connection secondReplicaConnection;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primaryConnection = mock(Connection.class);
+        firstReplicaConnection = mock(Connection.class);
+        secondReplicaConnection = mock(Connection.class);
+        routingDataSource = new ReplicaRoutingDataSource(dataSource(primaryConnection),
+                List.of(dataSource(firstReplicaConnection), dataSource(secondReplicaConnection)),
+                Duration.ofSeconds(5), now::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void testReadOnlyTransactions_AlternateBetweenReplicas() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(firstReplicaConnection, routingDataSource.getConnection());
+        assertSame(secondReplicaConnection, routingDataSource.getConnection());
+        assertSame(firstReplicaConnection, routingDataSource.getConnection());
+    }
+
+    @Test
+    void testWritesAndNonTransactionalWork_UsePrimary() throws SQLException {
+        assertSame(primaryConnection, routingDataSource.getConnection());
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertSame(primaryConnection, routingDataSource.getConnection());
+    }
+
+    @Test
+    void testReadsRightAfterACommittedWrite_UsePrimaryUntilTheWindowPasses() throws SQLException {
+        TransactionSynchronizationManager.initSynchronization();
+        routingDataSource.getConnection();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // Nothing changes until the write commits
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertSame(firstReplicaConnection, routingDataSource.getConnection());
+
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        now.addAndGet(Duration.ofSeconds(4).toNanos());
+        assertSame(primaryConnection, routingDataSource.getConnection());
+
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertSame(secondReplicaConnection, routingDataSource.getConnection());
+    }
+
+    @Test
+    void testWritesCommittedOnAnotherThread_LeaveReadsOnTheReplicas() throws Exception {
+        Thread writer = new Thread(() -> {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                routingDataSource.getConnection();
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        });
+        writer.start();
+        writer.join();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertSame(firstReplicaConnection, routingDataSource.getConnection());
+    }
+
+    @Test
+    void testClose_ClosesEveryReplicaWhenOneFails() throws Exception {
+        DataSource failingReplica = mock(DataSource.class, withSettings().extraInterfaces(AutoCloseable.class));
+        DataSource replica = mock(DataSource.class, withSettings().extraInterfaces(AutoCloseable.class));
+        doThrow(new IllegalStateException("Pool already shut down")).when((AutoCloseable) failingReplica).close();
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(dataSource(primaryConnection),
+                List.of(failingReplica, replica), Duration.ofSeconds(5), now::get);
+
+        dataSource.close();
+
+        verify((AutoCloseable) failingReplica).close();
+        verify((AutoCloseable) replica).close();
+    }
+
+    private static DataSource dataSource(Connection connection) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+}
@@ -0,0 +1,65 @@
+package com.nba.standings.config;
+
+import com.nba.standings.client.NBAApiClient;
+import com.nba.standings.repository.TeamRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for read replica routing.
+ * The replica is the test database with a session variable set on connect, which shows where a query ran.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties", properties = {
+        "standings.datasource.replica-urls=" + ReplicaRoutingIntegrationTest.REPLICA_URL,
+        "standings.datasource.read-your-writes-window=0s"
+})
+class ReplicaRoutingIntegrationTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:testdb;INIT=SET @ROUTE = 'replica'";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private NBAApiClient nbaApiClient;
+
+    @Test
+    void testReadOnlyTransactionsUseTheReplicaAndWritesThePrimary() {
+        assertInstanceOf(LazyConnectionDataSourceProxy.class, dataSource);
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        assertEquals("replica", readOnly.execute(status -> {
+            teamRepository.count();
+            return route();
+        }));
+        assertNull(readWrite.execute(status -> route()));
+    }
+
+    private String route() {
+        return jdbcTemplate.queryForObject("SELECT @ROUTE", String.class);
+    }
+}
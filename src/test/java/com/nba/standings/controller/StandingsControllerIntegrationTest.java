@@ -3,12 +3,17 @@ package com.nba.standings.controller;
 import com.nba.standings.client.NBAApiClient;
 import com.nba.standings.dto.NBAGamesResponse;
 import com.nba.standings.model.entity.Game;
+import com.nba.standings.model.entity.StandingsChange;
 import com.nba.standings.model.entity.Team;
 import com.nba.standings.model.enums.Conference;
 import com.nba.standings.model.enums.Division;
 import com.nba.standings.repository.GameRepository;
+import com.nba.standings.repository.StandingsChangeRepository;
 import com.nba.standings.repository.StandingsSnapshotRepository;
 import com.nba.standings.repository.TeamRepository;
+import com.nba.standings.service.TeamRegistry;
+import com.nba.standings.util.SeasonDateUtility;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
@@ -23,12 +28,18 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
 import java.time.LocalDate;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -51,12 +62,18 @@ class StandingsControllerIntegrationTest {
     @Autowired
     private TeamRepository teamRepository;
 
+    @Autowired
+    private TeamRegistry teamRegistry;
+
     @Autowired
     private GameRepository gameRepository;
 
     @Autowired
     private StandingsSnapshotRepository standingsSnapshotRepository;
 
+    @Autowired
+    private StandingsChangeRepository standingsChangeRepository;
+
     @MockBean
     private NBAApiClient nbaApiClient;
 
@@ -77,6 +94,7 @@ class StandingsControllerIntegrationTest {
         heat = teamRepository.save(new Team(2, "Miami Heat", "MIA", Division.SOUTHEAST, Conference.EASTERN));
         lakers = teamRepository.save(new Team(3, "Los Angeles Lakers", "LAL", Division.PACIFIC, Conference.WESTERN));
         nuggets = teamRepository.save(new Team(4, "Denver Nuggets", "DEN", Division.NORTHWEST, Conference.WESTERN));
+        teamRegistry.reload();
 
         // Create test games
         LocalDate gameDate = LocalDate.of(2025, 10, 22);
@@ -149,7 +167,7 @@ class StandingsControllerIntegrationTest {
     @Test
     void testGetStandings_InvalidDate_BadRequest() throws Exception {
         mockMvc.perform(get("/api/standings")
-                        .param("date", "2020-01-01")
+                        .param("date", "2004-09-30")
                         .param("groupBy", "DIVISION"))
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.status").value(400))
@@ -216,4 +234,165 @@ class StandingsControllerIntegrationTest {
                 .andExpect(jsonPath("$.standings.EASTERN[1].losses").value(1))
                 .andExpect(jsonPath("$.standings.EASTERN[1].rank").value(2));
     }
+
+    @Test
+    void testGetTimeline_StreamsStandingsForEachDate() throws Exception {
+        LocalDate today = LocalDate.now();
+        LocalDate seasonStart = new SeasonDateUtility().determineSeasonStart(today);
+        gameRepository.save(new Game(200L, seasonStart, heat, celtics, 100, 90));
+
+        MvcResult result = mockMvc.perform(get("/api/standings/timeline")
+                        .param("from", seasonStart.toString())
+                        .param("to", today.toString())
+                        .param("groupBy", "CONFERENCE"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Games from earlier seasons are not counted
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize((int) seasonStart.datesUntil(today.plusDays(1)).count())))
+                .andExpect(jsonPath("$[0].date").value(seasonStart.toString()))
+                .andExpect(jsonPath("$[0].groupBy").value("CONFERENCE"))
+                .andExpect(jsonPath("$[0].standings.EASTERN[0].teamName").value("Miami Heat"))
+                .andExpect(jsonPath("$[0].standings.EASTERN[0].wins").value(1))
+                .andExpect(jsonPath("$[0].standings.EASTERN[1].teamName").value("Boston Celtics"))
+                .andExpect(jsonPath("$[0].standings.EASTERN[1].losses").value(1));
+    }
+
+    @Test
+    void testGetStandings_GzipAccepted_ReturnsGzippedJson() throws Exception {
+        LocalDate seasonStart = new SeasonDateUtility().determineSeasonStart(LocalDate.now());
+        gameRepository.save(new Game(200L, seasonStart, heat, celtics, 100, 90));
+
+        MvcResult result = mockMvc.perform(get("/api/standings")
+                        .param("date", seasonStart.toString())
+                        .param("groupBy", "CONFERENCE")
+                        .header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().stringValues("Vary", hasItem("Accept-Encoding")))
+                .andReturn();
+
+        String json;
+        try (GZIPInputStream gzip = new GZIPInputStream(
+                new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            json = new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertThat(json, containsString("\"date\":\"" + seasonStart + "\""));
+        assertThat(json, containsString("\"teamName\":\"Miami Heat\""));
+    }
+
+    @Test
+    void testGetStandings_MatchingETag_NotModified() throws Exception {
+        LocalDate today = LocalDate.now();
+
+        MvcResult result = mockMvc.perform(get("/api/standings")
+                        .param("date", today.toString())
+                        .param("groupBy", "DIVISION"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=60, public"))
+                .andExpect(header().string("ETag", startsWith("W/\"")))
+                .andReturn();
+        String etag = result.getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/standings")
+                        .param("date", today.toString())
+                        .param("groupBy", "DIVISION")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+
+        // The other grouping is different content
+        mockMvc.perform(get("/api/standings")
+                        .param("date", today.toString())
+                        .param("groupBy", "CONFERENCE")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testGetStandings_FinishedSeason_ImmutableCacheControl() throws Exception {
+        LocalDate lastSeasonStart = new SeasonDateUtility().determineSeasonStart(LocalDate.now().minusDays(1))
+                .minusYears(1);
+
+        mockMvc.perform(get("/api/standings")
+                        .param("date", lastSeasonStart.toString())
+                        .param("groupBy", "DIVISION"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"));
+    }
+
+    @Test
+    void testGetStandings_PastDateOfCurrentSeason_ShortCacheControl() throws Exception {
+        LocalDate today = LocalDate.now();
+        LocalDate seasonStart = new SeasonDateUtility().determineSeasonStart(today);
+        Assumptions.assumeTrue(seasonStart.isBefore(today.minusDays(1)),
+                "no past date in the current season yet");
+
+        // Clinch statuses of the current season still change with the schedule
+        mockMvc.perform(get("/api/standings")
+                        .param("date", seasonStart.toString())
+                        .param("groupBy", "DIVISION"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=60, public"));
+    }
+
+    @Test
+    void testGetStandings_PastDateETagIsItsContentVersion() throws Exception {
+        LocalDate date = LocalDate.of(2024, 11, 1);
+
+        MvcResult result = mockMvc.perform(get("/api/standings")
+                        .param("date", date.toString())
+                        .param("groupBy", "DIVISION"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String etag = result.getResponse().getHeader("ETag");
+        assertThat(etag, startsWith("W/\"DIVISION-"));
+
+        // The response body is not cached here, so the tag is checked against the version alone
+        mockMvc.perform(get("/api/standings")
+                        .param("date", date.toString())
+                        .param("groupBy", "DIVISION")
+                        .header("If-None-Match", "\"other\", " + etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().bytes(new byte[0]));
+
+        // A change after the date leaves it as it is, one on or before it does not
+        standingsChangeRepository.save(new StandingsChange(2024, date.plusDays(1)));
+        mockMvc.perform(get("/api/standings")
+                        .param("date", date.toString())
+                        .param("groupBy", "DIVISION")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        standingsChangeRepository.save(new StandingsChange(2024, date));
+        mockMvc.perform(get("/api/standings")
+                        .param("date", date.toString())
+                        .param("groupBy", "DIVISION")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)));
+    }
+
+    @Test
+    void testGetTimeline_ToBeforeFrom_BadRequest() throws Exception {
+        LocalDate today = LocalDate.now();
+        mockMvc.perform(get("/api/standings/timeline")
+                        .param("from", today.toString())
+                        .param("to", today.minusDays(1).toString())
+                        .param("groupBy", "DIVISION"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
+    @Test
+    void testGetTimeline_AcrossSeasons_BadRequest() throws Exception {
+        mockMvc.perform(get("/api/standings/timeline")
+                        .param("from", "2025-04-13")
+                        .param("to", "2025-10-22")
+                        .param("groupBy", "DIVISION"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Dates 'from' and 'to' must be within the same season"));
+    }
 }
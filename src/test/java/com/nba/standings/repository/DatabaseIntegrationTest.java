@@ -126,7 +126,7 @@ class DatabaseIntegrationTest {
     }
 
     @Test
-    void testStandingsSnapshotRepository_FindBySnapshotDate() {
+    void testStandingsSnapshotRepository_FindWithTeamBySnapshotDate() {
         LocalDate snapshotDate = LocalDate.of(2024, 10, 22);
 
         StandingsSnapshot snapshot1 = new StandingsSnapshot(snapshotDate, celtics, 5, 2, new BigDecimal("0.714"), 1, 3);
@@ -138,71 +138,11 @@ class DatabaseIntegrationTest {
         entityManager.persist(snapshot3);
         entityManager.flush();
 
-        List<StandingsSnapshot> snapshots = standingsSnapshotRepository.findBySnapshotDate(snapshotDate);
+        List<StandingsSnapshot> snapshots = standingsSnapshotRepository.findWithTeamBySnapshotDate(snapshotDate);
 
         assertEquals(3, snapshots.size());
     }
 
-    @Test
-    void testStandingsSnapshotRepository_ExistsBySnapshotDate() {
-        LocalDate snapshotDate = LocalDate.of(2024, 10, 22);
-        LocalDate otherDate = LocalDate.of(2024, 10, 24);
-
-        StandingsSnapshot snapshot = new StandingsSnapshot(snapshotDate, celtics, 5, 2, new BigDecimal("0.714"), 1, 3);
-        entityManager.persist(snapshot);
-        entityManager.flush();
-
-        assertTrue(standingsSnapshotRepository.existsBySnapshotDate(snapshotDate));
-        assertFalse(standingsSnapshotRepository.existsBySnapshotDate(otherDate));
-    }
-
-    @Test
-    void testStandingsSnapshotRepository_FindBySnapshotDateAndDivision() {
-        LocalDate snapshotDate = LocalDate.of(2024, 10, 22);
-
-        StandingsSnapshot snapshot1 = new StandingsSnapshot(snapshotDate, celtics, 5, 2, new BigDecimal("0.714"), 1, 3);
-        StandingsSnapshot snapshot2 = new StandingsSnapshot(snapshotDate, heat, 4, 3, new BigDecimal("0.571"), 1, 5);
-        StandingsSnapshot snapshot3 = new StandingsSnapshot(snapshotDate, lakers, 6, 1, new BigDecimal("0.857"), 1, 2);
-        StandingsSnapshot snapshot4 = new StandingsSnapshot(snapshotDate, warriors, 5, 2, new BigDecimal("0.714"), 2, 4);
-
-        entityManager.persist(snapshot1);
-        entityManager.persist(snapshot2);
-        entityManager.persist(snapshot3);
-        entityManager.persist(snapshot4);
-        entityManager.flush();
-
-        List<StandingsSnapshot> atlanticSnapshots = standingsSnapshotRepository
-                .findBySnapshotDateAndTeam_Division(snapshotDate, Division.ATLANTIC);
-        List<StandingsSnapshot> pacificSnapshots = standingsSnapshotRepository
-                .findBySnapshotDateAndTeam_Division(snapshotDate, Division.PACIFIC);
-
-        assertEquals(1, atlanticSnapshots.size());
-        assertEquals("Boston Celtics", atlanticSnapshots.get(0).getTeam().getTeamName());
-        assertEquals(2, pacificSnapshots.size());
-    }
-
-    @Test
-    void testStandingsSnapshotRepository_FindBySnapshotDateAndConference() {
-        LocalDate snapshotDate = LocalDate.of(2024, 10, 22);
-
-        StandingsSnapshot snapshot1 = new StandingsSnapshot(snapshotDate, celtics, 5, 2, new BigDecimal("0.714"), 1, 3);
-        StandingsSnapshot snapshot2 = new StandingsSnapshot(snapshotDate, heat, 4, 3, new BigDecimal("0.571"), 2, 5);
-        StandingsSnapshot snapshot3 = new StandingsSnapshot(snapshotDate, lakers, 6, 1, new BigDecimal("0.857"), 1, 2);
-
-        entityManager.persist(snapshot1);
-        entityManager.persist(snapshot2);
-        entityManager.persist(snapshot3);
-        entityManager.flush();
-
-        List<StandingsSnapshot> easternSnapshots = standingsSnapshotRepository
-                .findBySnapshotDateAndTeam_Conference(snapshotDate, Conference.EASTERN);
-        List<StandingsSnapshot> westernSnapshots = standingsSnapshotRepository
-                .findBySnapshotDateAndTeam_Conference(snapshotDate, Conference.WESTERN);
-
-        assertEquals(2, easternSnapshots.size());
-        assertEquals(1, westernSnapshots.size());
-    }
-
     @Test
     void testStandingsSnapshotRepository_UniqueConstraint() {
         LocalDate snapshotDate = LocalDate.of(2024, 10, 22);
@@ -231,7 +171,7 @@ class DatabaseIntegrationTest {
         entityManager.flush();
 
         // Verify games are saved
-        List<Game> games = gameRepository.findByGameDateLessThanEqual(gameDate);
+        List<Game> games = gameRepository.findByGameDateBetween(gameDate, gameDate);
         assertEquals(2, games.size());
 
         // Create standings snapshots
@@ -242,9 +182,9 @@ class DatabaseIntegrationTest {
         entityManager.flush();
 
         // Verify snapshots are saved and queryable
-        assertTrue(standingsSnapshotRepository.existsBySnapshotDate(gameDate));
-        List<StandingsSnapshot> easternSnapshots = standingsSnapshotRepository
-                .findBySnapshotDateAndTeam_Conference(gameDate, Conference.EASTERN);
-        assertEquals(2, easternSnapshots.size());
+        List<StandingsSnapshot> snapshots = standingsSnapshotRepository.findWithTeamBySnapshotDate(gameDate);
+        assertEquals(2, snapshots.stream()
+                .filter(snapshot -> snapshot.getTeam().getConference() == Conference.EASTERN)
+                .count());
     }
 }
@@ -0,0 +1,128 @@
+package com.nba.standings.repository;
+
+import com.nba.standings.client.NBAApiClient;
+import com.nba.standings.model.entity.Game;
+import com.nba.standings.model.entity.Team;
+import com.nba.standings.model.enums.Conference;
+import com.nba.standings.model.enums.Division;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares saveAll() with the bulk insert path when loading a full season of games.
+ * Only runs when STANDINGS_BENCHMARK=true; each round is rolled back.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+@EnabledIfEnvironmentVariable(named = "STANDINGS_BENCHMARK", matches = "true")
+class GameBulkInsertBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameBulkInsertBenchmarkTest.class);
+
+    private static final int SEASON_GAMES = 1230;
+    private static final int TEAMS = 30;
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private NBAApiClient nbaApiClient;
+
+    private List<Team> teams;
+
+    @BeforeEach
+    void setUp() {
+        gameRepository.deleteAll();
+        teamRepository.deleteAll();
+        teams = new ArrayList<>();
+        for (int i = 0; i < TEAMS; i++) {
+            Division division = Division.values()[i % Division.values().length];
+            Conference conference = i % 2 == 0 ? Conference.EASTERN : Conference.WESTERN;
+            teams.add(teamRepository.save(new Team(i + 1, "Team " + i, "T" + i, division, conference)));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        teamRepository.deleteAll();
+    }
+
+    @Test
+    void benchmarkSeasonLoad() {
+        long saveAll = bestOf(games -> {
+            gameRepository.saveAll(games);
+            entityManager.flush();
+        });
+        long insertNew = bestOf(gameRepository::insertNew);
+
+        logger.info("Loading {} games: saveAll {} ms, insertNew {} ms", SEASON_GAMES,
+                saveAll / 1_000_000.0, insertNew / 1_000_000.0);
+        assertEquals(0, gameRepository.count());
+    }
+
+    /**
+     * Run a load once to warm up, then the given number of rounds, each in a rolled back
+     * transaction that checks every game was written.
+     *
+     * @return the fastest round in nanoseconds
+     */
+    private long bestOf(Consumer<List<Game>> load) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round <= ROUNDS; round++) {
+            List<Game> games = createSeason();
+            long elapsed = transactionTemplate.execute(status -> {
+                long start = System.nanoTime();
+                load.accept(games);
+                long time = System.nanoTime() - start;
+                assertEquals(SEASON_GAMES, gameRepository.count());
+                status.setRollbackOnly();
+                return time;
+            });
+            if (round > 0) {
+                best = Math.min(best, elapsed);
+            }
+        }
+        return best;
+    }
+
+    private List<Game> createSeason() {
+        LocalDate seasonStart = LocalDate.of(2024, 10, 22);
+        List<Game> games = new ArrayList<>(SEASON_GAMES);
+        for (int i = 0; i < SEASON_GAMES; i++) {
+            Team home = teams.get(i % TEAMS);
+            Team away = teams.get((i * 7 + 1) % TEAMS == i % TEAMS ? (i + 1) % TEAMS : (i * 7 + 1) % TEAMS);
+            games.add(new Game(1_000_000L + i, seasonStart.plusDays(i / 8), home, away,
+                    100 + i % 20, 95 + i % 17));
+        }
+        return games;
+    }
+}
@@ -4,6 +4,7 @@ import com.nba.standings.model.entity.Game;
 import com.nba.standings.model.entity.Team;
 import com.nba.standings.model.enums.Conference;
 import com.nba.standings.model.enums.Division;
+import com.nba.standings.model.projection.GameResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,6 +14,8 @@ import org.springframework.test.context.TestPropertySource;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -40,76 +43,119 @@ class GameRepositoryTest {
     }
 
     @Test
-    void testFindByGameDateBetween() {
-        LocalDate date1 = LocalDate.of(2025, 10, 20);
-        LocalDate date2 = LocalDate.of(2025, 10, 22);
-        LocalDate date3 = LocalDate.of(2025, 10, 25);
+    void testInsertNew_InsertsGamesInBulk() {
+        LocalDate date = LocalDate.of(2025, 10, 20);
         
-        Game game1 = new Game(100L, date1, celtics, lakers, 110, 105);
-        Game game2 = new Game(101L, date2, lakers, celtics, 100, 95);
-        Game game3 = new Game(102L, date3, celtics, lakers, 115, 110);
+        Set<Long> inserted = gameRepository.insertNew(List.of(
+                new Game(100L, date, celtics, lakers, 110, 105),
+                new Game(101L, date.plusDays(1), lakers, celtics, 100, 95)));
         
-        entityManager.persist(game1);
-        entityManager.persist(game2);
-        entityManager.persist(game3);
+        assertEquals(Set.of(100L, 101L), inserted);
+        List<Game> result = gameRepository.findByGameDateBetween(date, date.plusDays(1));
+        assertEquals(List.of(100L, 101L), result.stream().map(Game::getNbaGameId).toList());
+        assertEquals(lakers.getId(), result.get(1).getHomeTeam().getId());
+        assertEquals(95, result.get(1).getAwayScore());
+    }
+
+    @Test
+    void testInsertNew_SkipsGamesThatAreAlreadyStored() {
+        LocalDate date = LocalDate.of(2025, 10, 20);
+        entityManager.persist(new Game(100L, date, celtics, lakers, 110, 105));
         entityManager.flush();
         
-        List<Game> result = gameRepository.findByGameDateBetween(date1, date2);
+        Set<Long> inserted = gameRepository.insertNew(List.of(
+                new Game(100L, date, celtics, lakers, 90, 80),
+                new Game(101L, date.plusDays(1), lakers, celtics, 100, 95),
+                new Game(101L, date.plusDays(1), lakers, celtics, 100, 95)));
         
-        assertEquals(2, result.size());
+        assertEquals(Set.of(101L), inserted);
+        entityManager.clear();
+        List<Game> result = gameRepository.findByGameDateBetween(date, date.plusDays(1));
+        assertEquals(List.of(100L, 101L), result.stream().map(Game::getNbaGameId).toList());
+        assertEquals(110, result.get(0).getHomeScore());
+        assertTrue(gameRepository.insertNew(List.of()).isEmpty());
     }
 
     @Test
-    void testFindByGameDateLessThanEqual() {
-        LocalDate date1 = LocalDate.of(2025, 10, 20);
-        LocalDate date2 = LocalDate.of(2025, 10, 22);
-        LocalDate date3 = LocalDate.of(2025, 10, 25);
+    void testInsertNew_SkipsGamesStoredUnderAnotherDate() {
+        LocalDate date = LocalDate.of(2025, 10, 20);
+        entityManager.persist(new Game(100L, date, celtics, lakers, 110, 105));
+        entityManager.flush();
         
-        Game game1 = new Game(100L, date1, celtics, lakers, 110, 105);
-        Game game2 = new Game(101L, date2, lakers, celtics, 100, 95);
-        Game game3 = new Game(102L, date3, celtics, lakers, 115, 110);
+        // The API re-dated the game, e.g. after a time zone correction
+        Set<Long> inserted = gameRepository.insertNew(List.of(
+                new Game(100L, date.plusDays(1), celtics, lakers, 110, 105)));
         
-        entityManager.persist(game1);
-        entityManager.persist(game2);
-        entityManager.persist(game3);
+        assertTrue(inserted.isEmpty());
+        entityManager.clear();
+        List<Game> result = gameRepository.findByGameDateBetween(date, date.plusDays(1));
+        assertEquals(List.of(date), result.stream().map(Game::getGameDate).toList());
+    }
+
+    @Test
+    void testFindResultsByGameDateBetween_ReturnsResultsInDateOrder() {
+        LocalDate date = LocalDate.of(2025, 10, 20);
+        entityManager.persist(new Game(101L, date.plusDays(2), lakers, celtics, 100, 95));
+        entityManager.persist(new Game(100L, date, celtics, lakers, 99, 105));
+        entityManager.persist(new Game(102L, date.plusDays(5), celtics, lakers, 120, 90));
         entityManager.flush();
         
-        List<Game> result = gameRepository.findByGameDateLessThanEqual(date2);
+        List<GameResult> results = gameRepository.findResultsByGameDateBetween(date, date.plusDays(2));
         
-        assertEquals(2, result.size());
+        assertEquals(List.of(
+                new GameResult(date, celtics.getId(), lakers.getId(), false),
+                new GameResult(date.plusDays(2), lakers.getId(), celtics.getId(), true)), results);
     }
 
     @Test
-    void testExistsByNbaGameId() {
-        Game game = new Game(100L, LocalDate.of(2025, 10, 20), celtics, lakers, 110, 105);
-        entityManager.persist(game);
+    void testStreamResultsByGameDateBetween_MatchesListQuery() {
+        LocalDate date = LocalDate.of(2025, 10, 20);
+        entityManager.persist(new Game(101L, date.plusDays(2), lakers, celtics, 100, 95));
+        entityManager.persist(new Game(100L, date, celtics, lakers, 99, 105));
+        entityManager.persist(new Game(102L, date.plusDays(5), celtics, lakers, 120, 90));
         entityManager.flush();
         
-        assertTrue(gameRepository.existsByNbaGameId(100L));
-        assertFalse(gameRepository.existsByNbaGameId(999L));
+        try (Stream<GameResult> results = gameRepository.streamResultsByGameDateBetween(date, date.plusDays(2))) {
+            assertEquals(gameRepository.findResultsByGameDateBetween(date, date.plusDays(2)), results.toList());
+        }
     }
 
     @Test
-    void testFindMostRecentGameDate() {
+    void testFindByGameDateBetween() {
         LocalDate date1 = LocalDate.of(2025, 10, 20);
-        LocalDate date2 = LocalDate.of(2025, 10, 25);
+        LocalDate date2 = LocalDate.of(2025, 10, 22);
+        LocalDate date3 = LocalDate.of(2025, 10, 25);
         
         Game game1 = new Game(100L, date1, celtics, lakers, 110, 105);
         Game game2 = new Game(101L, date2, lakers, celtics, 100, 95);
+        Game game3 = new Game(102L, date3, celtics, lakers, 115, 110);
         
         entityManager.persist(game1);
         entityManager.persist(game2);
+        entityManager.persist(game3);
         entityManager.flush();
         
-        LocalDate result = gameRepository.findMostRecentGameDate();
+        List<Game> result = gameRepository.findByGameDateBetween(date1, date2);
         
-        assertEquals(date2, result);
+        assertEquals(2, result.size());
     }
 
     @Test
-    void testFindMostRecentGameDate_NoGames() {
-        LocalDate result = gameRepository.findMostRecentGameDate();
+    void testSeasonQueries_UseTheSeasonOfEachGame() {
+        LocalDate date = LocalDate.of(2025, 10, 22);
+        entityManager.persist(new Game(100L, LocalDate.of(2025, 4, 13), celtics, lakers, 110, 105));
+        entityManager.persist(new Game(101L, date, lakers, celtics, 100, 95));
+        entityManager.flush();
+        // Bulk inserts write the season column too
+        gameRepository.insertNew(List.of(new Game(102L, date.plusDays(2), celtics, lakers, 115, 110)));
         
-        assertNull(result);
+        assertEquals(2024, gameRepository.findByGameDateBetween(LocalDate.of(2025, 4, 13), LocalDate.of(2025, 4, 13))
+                .get(0).getSeason());
+        assertEquals(2025, gameRepository.findByGameDateBetween(date.plusDays(2), date.plusDays(2)).get(0).getSeason());
+        assertEquals(LocalDate.of(2025, 4, 13), gameRepository.findMostRecentGameDateInSeason(2024));
+        assertEquals(date.plusDays(2), gameRepository.findMostRecentGameDateInSeason(2025));
+        assertNull(gameRepository.findMostRecentGameDateInSeason(2026));
+        assertEquals(1, gameRepository.countBySeasonAndGameDateLessThanEqual(2025, date.plusDays(1)));
+        assertEquals(2, gameRepository.countBySeasonAndGameDateLessThanEqual(2025, date.plusDays(2)));
     }
 }
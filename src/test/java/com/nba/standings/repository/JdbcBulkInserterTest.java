@@ -0,0 +1,24 @@
+package com.nba.standings.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JdbcBulkInserterTest {
+
+    @Test
+    void testToCopyText_FormatsAndEscapesValues() {
+        List<Object[]> rows = List.of(
+                new Object[] {LocalDate.of(2024, 10, 22), 7L, new BigDecimal("0.500"), new byte[] {0x01, (byte) 0xAB}},
+                new Object[] {null, -3, true, "tab\there\\ and\nline"});
+
+        String text = JdbcBulkInserter.toCopyText(rows);
+
+        assertEquals("2024-10-22\t7\t0.500\t\\\\x01ab\n"
+                + "\\N\t-3\ttrue\ttab\\there\\\\ and\\nline\n", text);
+    }
+}
@@ -0,0 +1,15 @@
+package com.nba.standings.repository;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeasonPartitionMaintainerTest {
+
+    @Test
+    void testPartitionDdl_CoversOneSeason() {
+        assertEquals("CREATE TABLE IF NOT EXISTS games_2025 PARTITION OF games"
+                        + " FOR VALUES FROM ('2025-10-01') TO ('2026-10-01')",
+                SeasonPartitionMaintainer.partitionDdl("games", 2025));
+    }
+}
@@ -4,6 +4,7 @@ import com.nba.standings.model.entity.StandingsSnapshot;
 import com.nba.standings.model.entity.Team;
 import com.nba.standings.model.enums.Conference;
 import com.nba.standings.model.enums.Division;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -47,7 +48,7 @@ class StandingsSnapshotRepositoryTest {
     }
 
     @Test
-    void testFindBySnapshotDate() {
+    void testFindWithTeamBySnapshotDate() {
         StandingsSnapshot snapshot1 = new StandingsSnapshot(testDate, celtics, 3, 0, new BigDecimal("1.000"), 1, 1);
         StandingsSnapshot snapshot2 = new StandingsSnapshot(testDate, lakers, 2, 1, new BigDecimal("0.667"), 1, 2);
         
@@ -55,62 +56,24 @@ class StandingsSnapshotRepositoryTest {
         entityManager.persist(snapshot2);
         entityManager.flush();
         
-        List<StandingsSnapshot> result = standingsSnapshotRepository.findBySnapshotDate(testDate);
+        entityManager.clear();
         
-        assertEquals(2, result.size());
-    }
-
-    @Test
-    void testExistsBySnapshotDate() {
-        StandingsSnapshot snapshot = new StandingsSnapshot(testDate, celtics, 3, 0, new BigDecimal("1.000"), 1, 1);
-        entityManager.persist(snapshot);
-        entityManager.flush();
+        List<StandingsSnapshot> result = standingsSnapshotRepository.findWithTeamBySnapshotDate(testDate);
         
-        assertTrue(standingsSnapshotRepository.existsBySnapshotDate(testDate));
-        assertFalse(standingsSnapshotRepository.existsBySnapshotDate(LocalDate.of(2025, 10, 25)));
-    }
-
-    @Test
-    void testFindBySnapshotDateAndTeam_Division() {
-        StandingsSnapshot snapshot1 = new StandingsSnapshot(testDate, celtics, 3, 0, new BigDecimal("1.000"), 1, 1);
-        StandingsSnapshot snapshot2 = new StandingsSnapshot(testDate, lakers, 2, 1, new BigDecimal("0.667"), 1, 2);
-        StandingsSnapshot snapshot3 = new StandingsSnapshot(testDate, warriors, 1, 2, new BigDecimal("0.333"), 2, 3);
-        
-        entityManager.persist(snapshot1);
-        entityManager.persist(snapshot2);
-        entityManager.persist(snapshot3);
-        entityManager.flush();
-        
-        List<StandingsSnapshot> atlanticResult = standingsSnapshotRepository
-                .findBySnapshotDateAndTeam_Division(testDate, Division.ATLANTIC);
-        List<StandingsSnapshot> pacificResult = standingsSnapshotRepository
-                .findBySnapshotDateAndTeam_Division(testDate, Division.PACIFIC);
-        
-        assertEquals(1, atlanticResult.size());
-        assertEquals("Boston Celtics", atlanticResult.get(0).getTeam().getTeamName());
-        
-        assertEquals(2, pacificResult.size());
+        assertEquals(2, result.size());
+        assertTrue(result.stream().allMatch(snapshot -> Hibernate.isInitialized(snapshot.getTeam())));
+        assertTrue(standingsSnapshotRepository.findWithTeamBySnapshotDate(testDate.plusDays(1)).isEmpty());
     }
 
     @Test
-    void testFindBySnapshotDateAndTeam_Conference() {
-        StandingsSnapshot snapshot1 = new StandingsSnapshot(testDate, celtics, 3, 0, new BigDecimal("1.000"), 1, 1);
-        StandingsSnapshot snapshot2 = new StandingsSnapshot(testDate, lakers, 2, 1, new BigDecimal("0.667"), 1, 2);
-        StandingsSnapshot snapshot3 = new StandingsSnapshot(testDate, warriors, 1, 2, new BigDecimal("0.333"), 2, 3);
-        
-        entityManager.persist(snapshot1);
-        entityManager.persist(snapshot2);
-        entityManager.persist(snapshot3);
+    void testFindLatestSnapshotDateInSeasonBefore_IgnoresEarlierSeasons() {
+        LocalDate lastSeason = LocalDate.of(2025, 4, 13);
+        entityManager.persist(new StandingsSnapshot(lastSeason, celtics, 60, 22, new BigDecimal("0.732"), 1, 1));
+        entityManager.persist(new StandingsSnapshot(testDate, celtics, 3, 0, new BigDecimal("1.000"), 1, 1));
         entityManager.flush();
         
-        List<StandingsSnapshot> easternResult = standingsSnapshotRepository
-                .findBySnapshotDateAndTeam_Conference(testDate, Conference.EASTERN);
-        List<StandingsSnapshot> westernResult = standingsSnapshotRepository
-                .findBySnapshotDateAndTeam_Conference(testDate, Conference.WESTERN);
-        
-        assertEquals(1, easternResult.size());
-        assertEquals("Boston Celtics", easternResult.get(0).getTeam().getTeamName());
-        
-        assertEquals(2, westernResult.size());
+        assertEquals(testDate, standingsSnapshotRepository.findLatestSnapshotDateInSeasonBefore(2025, testDate.plusDays(1)));
+        assertNull(standingsSnapshotRepository.findLatestSnapshotDateInSeasonBefore(2025, testDate));
+        assertEquals(lastSeason, standingsSnapshotRepository.findLatestSnapshotDateInSeasonBefore(2024, lastSeason.plusDays(1)));
     }
 }
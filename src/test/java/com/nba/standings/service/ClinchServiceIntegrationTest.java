@@ -0,0 +1,151 @@
+package com.nba.standings.service;
+
+import com.nba.standings.client.NBAApiClient;
+import com.nba.standings.model.entity.Game;
+import com.nba.standings.model.entity.ScheduledGame;
+import com.nba.standings.model.entity.Team;
+import com.nba.standings.model.enums.ClinchStatus;
+import com.nba.standings.model.enums.Conference;
+import com.nba.standings.model.enums.Division;
+import com.nba.standings.repository.GameRepository;
+import com.nba.standings.repository.ScheduledGameRepository;
+import com.nba.standings.repository.StandingsSnapshotRepository;
+import com.nba.standings.repository.TeamRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for ClinchService.
+ * Tests that clinch statuses are derived from the stored games and schedule of a season.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties",
+        properties = "standings.clinch.games-per-team=2")
+@Transactional
+class ClinchServiceIntegrationTest {
+
+    @Autowired
+    private ClinchService clinchService;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamRegistry teamRegistry;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private ScheduledGameRepository scheduledGameRepository;
+
+    @Autowired
+    private StandingsSnapshotRepository standingsSnapshotRepository;
+
+    @MockBean
+    private NBAApiClient nbaApiClient;
+
+    private Team celtics;
+    private Team heat;
+    private Team lakers;
+    private Team nuggets;
+
+    @BeforeEach
+    void setUp() {
+        // Clean up database
+        standingsSnapshotRepository.deleteAll();
+        scheduledGameRepository.deleteAll();
+        gameRepository.deleteAll();
+        teamRepository.deleteAll();
+
+        // Create test teams
+        celtics = teamRepository.save(new Team(1, "Boston Celtics", "BOS", Division.ATLANTIC, Conference.EASTERN));
+        heat = teamRepository.save(new Team(2, "Miami Heat", "MIA", Division.SOUTHEAST, Conference.EASTERN));
+        lakers = teamRepository.save(new Team(3, "Los Angeles Lakers", "LAL", Division.PACIFIC, Conference.WESTERN));
+        nuggets = teamRepository.save(new Team(4, "Denver Nuggets", "DEN", Division.NORTHWEST, Conference.WESTERN));
+        teamRegistry.reload();
+    }
+
+    @Test
+    void testGetClinchStatuses_OnlyReportsConferencesWithCompleteSchedule() {
+        // Two games each in the East, only one known game each in the West
+        gameRepository.save(new Game(100L, LocalDate.of(2024, 10, 22), celtics, heat, 110, 105));
+        scheduledGameRepository.save(new ScheduledGame(200L, LocalDate.of(2024, 11, 5), heat, celtics));
+        gameRepository.save(new Game(101L, LocalDate.of(2024, 10, 22), lakers, nuggets, 115, 108));
+
+        Map<Long, ClinchStatus> statuses = clinchService.getClinchStatuses(LocalDate.of(2024, 10, 23));
+
+        // Two-team conferences: both teams are guaranteed a top-6 seed
+        assertEquals(Map.of(celtics.getId(), ClinchStatus.CLINCHED_PLAYOFF,
+                heat.getId(), ClinchStatus.CLINCHED_PLAYOFF), statuses);
+    }
+
+    @Test
+    void testGetClinchStatuses_TreatsLaterFinalGamesAsRemaining() {
+        gameRepository.save(new Game(100L, LocalDate.of(2024, 10, 22), celtics, heat, 110, 105));
+        gameRepository.save(new Game(101L, LocalDate.of(2024, 11, 5), heat, celtics, 99, 101));
+
+        Map<Long, ClinchStatus> before = clinchService.getClinchStatuses(LocalDate.of(2024, 10, 21));
+        Map<Long, ClinchStatus> after = clinchService.getClinchStatuses(LocalDate.of(2024, 11, 5));
+
+        assertEquals(2, before.size());
+        assertEquals(2, after.size());
+        assertEquals(ClinchStatus.CLINCHED_PLAYOFF, after.get(celtics.getId()));
+    }
+
+    @Test
+    void testOnGamesSaved_RecalculatesStaleDates() {
+        // Statuses are cached by date for the application's lifetime, so use a date no other test uses
+        gameRepository.save(new Game(100L, LocalDate.of(2024, 10, 22), celtics, heat, 110, 105));
+        LocalDate date = LocalDate.of(2024, 10, 30);
+        assertTrue(clinchService.getClinchStatuses(date).isEmpty());
+
+        // The missing game arrives and completes the Eastern schedule
+        Game game = gameRepository.save(new Game(101L, LocalDate.of(2024, 10, 30), heat, celtics, 99, 101));
+        clinchService.onGamesSaved(new GamesSavedEvent(List.of(game)));
+
+        assertEquals(2, clinchService.getClinchStatuses(date).size());
+    }
+
+    @Test
+    void testGetClinchStatuses_RecalculatesUndecidedDates() {
+        gameRepository.save(new Game(100L, LocalDate.of(2024, 10, 22), celtics, heat, 110, 105));
+        LocalDate date = LocalDate.of(2024, 12, 1);
+        assertTrue(clinchService.getClinchStatuses(date).isEmpty());
+
+        // The rest of the schedule is stored without any event reaching the service
+        scheduledGameRepository.save(new ScheduledGame(200L, LocalDate.of(2024, 12, 10), heat, celtics));
+
+        assertEquals(2, clinchService.getClinchStatuses(date).size());
+    }
+
+    @Test
+    void testOnScheduleChanged_DropsTheSeasonsDates() {
+        gameRepository.save(new Game(100L, LocalDate.of(2024, 10, 22), celtics, heat, 110, 105));
+        scheduledGameRepository.save(new ScheduledGame(200L, LocalDate.of(2024, 12, 10), heat, celtics));
+        gameRepository.save(new Game(101L, LocalDate.of(2024, 10, 22), lakers, nuggets, 115, 108));
+        scheduledGameRepository.save(new ScheduledGame(202L, LocalDate.of(2024, 12, 10), nuggets, lakers));
+        LocalDate date = LocalDate.of(2024, 12, 2);
+        assertEquals(4, clinchService.getClinchStatuses(date).size());
+
+        // An extra game means the East no longer adds up to the season length
+        scheduledGameRepository.save(new ScheduledGame(201L, LocalDate.of(2024, 12, 12), celtics, heat));
+        assertEquals(4, clinchService.getClinchStatuses(date).size());
+        clinchService.onScheduleChanged(new ScheduleChangedEvent(Set.of(2024)));
+
+        assertEquals(Map.of(lakers.getId(), ClinchStatus.CLINCHED_PLAYOFF,
+                nuggets.getId(), ClinchStatus.CLINCHED_PLAYOFF), clinchService.getClinchStatuses(date));
+    }
+}
@@ -0,0 +1,118 @@
+package com.nba.standings.service;
+
+import com.nba.standings.model.entity.Game;
+import com.nba.standings.model.entity.Team;
+import com.nba.standings.model.enums.Conference;
+import com.nba.standings.model.enums.Division;
+import com.nba.standings.model.projection.GameResult;
+import com.nba.standings.model.projection.Matchup;
+import com.nba.standings.repository.GameRepository;
+import com.nba.standings.repository.ScheduledGameRepository;
+import com.nba.standings.util.SeasonDateUtility;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClinchServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 10, 23);
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private ScheduledGameRepository scheduledGameRepository;
+
+    @Mock
+    private TeamRegistry teamRegistry;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ClinchService clinchService;
+    private Team celtics;
+    private Team heat;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        clinchService = new ClinchService(gameRepository, scheduledGameRepository, teamRegistry,
+                new SeasonDateUtility(), 2, Duration.ofHours(1), transactionManager);
+        celtics = createTeamWithId(1L, new Team(1, "Boston Celtics", "BOS", Division.ATLANTIC, Conference.EASTERN));
+        heat = createTeamWithId(2L, new Team(2, "Miami Heat", "MIA", Division.SOUTHEAST, Conference.EASTERN));
+        when(teamRegistry.teams()).thenReturn(List.of(celtics, heat));
+        when(scheduledGameRepository.findUnplayedMatchupsBetween(any(), any()))
+                .thenReturn(List.of(new Matchup(heat.getId(), celtics.getId())));
+    }
+
+    @Test
+    void testGetClinchStatuses_CachesDecidedDatesOnReplicaReads() {
+        stubResults();
+
+        assertEquals(2, clinchService.getClinchStatuses(DATE).size());
+        assertEquals(2, clinchService.getClinchStatuses(DATE).size());
+
+        verify(gameRepository, times(1)).findResultsByGameDateBetween(any(), any());
+        verify(transactionManager).getTransaction(argThat(definition -> definition.isReadOnly()));
+    }
+
+    @Test
+    void testGetClinchStatuses_CalculationOverlappingAnInvalidationIsNotCached() {
+        when(gameRepository.findResultsByGameDateBetween(any(), any()))
+                .thenAnswer(invocation -> {
+                    // New games are saved while the statuses are being calculated
+                    clinchService.onGamesSaved(new GamesSavedEvent(List.of(
+                            new Game(101L, DATE, heat, celtics, 99, 101))));
+                    return results();
+                })
+                .thenAnswer(invocation -> results());
+
+        assertEquals(2, clinchService.getClinchStatuses(DATE).size());
+        assertEquals(2, clinchService.getClinchStatuses(DATE).size());
+        assertEquals(2, clinchService.getClinchStatuses(DATE).size());
+
+        // Recalculated once, and then on the primary since it follows the invalidation
+        verify(gameRepository, times(2)).findResultsByGameDateBetween(any(), any());
+        verify(transactionManager).getTransaction(argThat(definition -> !definition.isReadOnly()));
+    }
+
+    @Test
+    void testOnScheduleChanged_NextCalculationReadsThePrimary() {
+        stubResults();
+        clinchService.getClinchStatuses(DATE);
+
+        clinchService.onScheduleChanged(new ScheduleChangedEvent(Set.of(2024)));
+        clinchService.getClinchStatuses(DATE);
+
+        verify(gameRepository, times(2)).findResultsByGameDateBetween(any(), any());
+        verify(transactionManager).getTransaction(argThat(definition -> definition.isReadOnly()));
+        verify(transactionManager).getTransaction(argThat(definition -> !definition.isReadOnly()));
+    }
+
+    private void stubResults() {
+        when(gameRepository.findResultsByGameDateBetween(any(), any())).thenAnswer(invocation -> results());
+    }
+
+    private List<GameResult> results() {
+        return List.of(new GameResult(LocalDate.of(2024, 10, 22), celtics.getId(), heat.getId(), true));
+    }
+
+    private Team createTeamWithId(Long id, Team team) throws Exception {
+        Field idField = Team.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(team, id);
+        return team;
+    }
+}
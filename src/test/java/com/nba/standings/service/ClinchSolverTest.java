@@ -0,0 +1,139 @@
+package com.nba.standings.service;
+
+import com.nba.standings.model.entity.Team;
+import com.nba.standings.model.enums.Conference;
+import com.nba.standings.model.enums.Division;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClinchSolverTest {
+
+    private List<Team> teams;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Six Eastern teams and two Western teams
+        teams = new ArrayList<>();
+        for (long id = 1; id <= 8; id++) {
+            Division division = id <= 3 ? Division.ATLANTIC : id <= 6 ? Division.CENTRAL : Division.PACIFIC;
+            Conference conference = id <= 6 ? Conference.EASTERN : Conference.WESTERN;
+            teams.add(createTeamWithId(id, "Team " + id, division, conference));
+        }
+    }
+
+    private Team createTeamWithId(Long id, String name, Division division, Conference conference) throws Exception {
+        Team team = new Team(id.intValue(), name, "T" + id, division, conference);
+        Field idField = Team.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(team, id);
+        return team;
+    }
+
+    @Test
+    void testSolver_MatchesExhaustiveSearchOverAllOutcomes() {
+        Random random = new Random(11L);
+        for (int trial = 0; trial < 300; trial++) {
+            LeagueRecords records = new LeagueRecords(teams);
+            for (int g = 0; g < random.nextInt(30); g++) {
+                int winner = random.nextInt(8);
+                int loser = (winner + 1 + random.nextInt(7)) % 8;
+                records.recordWin(winner, loser);
+            }
+            int remaining = random.nextInt(11);
+            int[] home = new int[remaining];
+            int[] away = new int[remaining];
+            for (int g = 0; g < remaining; g++) {
+                home[g] = random.nextInt(8);
+                away[g] = (home[g] + 1 + random.nextInt(7)) % 8;
+            }
+
+            ClinchSolver solver = new ClinchSolver(records, home, away);
+            int[] eastern = records.conferenceGroups()[0];
+            for (int spots = 1; spots <= 4; spots++) {
+                for (int team : eastern) {
+                    boolean[] expected = exhaustive(records, home, away, eastern, team, spots);
+                    assertEquals(expected[0], solver.hasClinchedTop(team, eastern, spots),
+                            "clinch, trial " + trial + ", team " + team + ", spots " + spots);
+                    assertEquals(expected[1], solver.canFinishInTop(team, eastern, spots),
+                            "alive, trial " + trial + ", team " + team + ", spots " + spots);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return {clinched in every outcome, top spots reachable in some outcome}
+     */
+    private boolean[] exhaustive(LeagueRecords records, int[] home, int[] away, int[] members, int team, int spots) {
+        boolean clinched = true;
+        boolean reachable = false;
+        int[] finalWins = new int[records.teamCount()];
+        for (int outcome = 0; outcome < 1 << home.length; outcome++) {
+            for (int i = 0; i < finalWins.length; i++) {
+                finalWins[i] = records.wins(i);
+            }
+            for (int g = 0; g < home.length; g++) {
+                finalWins[(outcome >> g & 1) == 1 ? home[g] : away[g]]++;
+            }
+
+            int atLeastAsMany = 0;
+            int moreWins = 0;
+            for (int rival : members) {
+                if (rival != team) {
+                    atLeastAsMany += finalWins[rival] >= finalWins[team] ? 1 : 0;
+                    moreWins += finalWins[rival] > finalWins[team] ? 1 : 0;
+                }
+            }
+            clinched &= atLeastAsMany < spots;
+            reachable |= moreWins < spots;
+        }
+        return new boolean[] {clinched, reachable};
+    }
+
+    @Test
+    void testSolve_KeepsKnownStatusesWithoutRecheckingThem() {
+        LeagueRecords records = new LeagueRecords(teams);
+        for (int i = 0; i < 5; i++) {
+            records.recordWin(0, 1 + i);
+        }
+        int[] home = {1, 2, 3, 4};
+        int[] away = {2, 3, 4, 5};
+        int[][] conferences = {records.conferenceGroups()[0]};
+        int[] spots = {1, 3};
+
+        ClinchSolver solver = new ClinchSolver(records, home, away);
+        byte[][] statuses = solver.solve(conferences, spots, null);
+
+        // Team 0 has 5 wins and nobody else can reach more than 2
+        assertEquals(ClinchSolver.CLINCHED, statuses[0][0]);
+        assertEquals(ClinchSolver.CLINCHED, statuses[1][0]);
+        // Team 5 can win at most 1 game, behind team 0 and whoever wins 1-2 and 2-3
+        assertEquals(ClinchSolver.ELIMINATED, statuses[0][5]);
+        assertEquals(ClinchSolver.OPEN, statuses[1][5]);
+        // The Western teams are not part of the solved conferences
+        assertEquals(ClinchSolver.OPEN, statuses[0][6]);
+
+        ClinchSolver incremental = new ClinchSolver(records, home, away);
+        byte[][] known = new byte[spots.length][records.teamCount()];
+        for (int level = 0; level < spots.length; level++) {
+            for (int team = 0; team < records.teamCount(); team++) {
+                if (statuses[level][team] != ClinchSolver.OPEN) {
+                    known[level][team] = statuses[level][team];
+                }
+            }
+        }
+        byte[][] rechecked = incremental.solve(conferences, spots, known);
+
+        for (int level = 0; level < spots.length; level++) {
+            assertArrayEquals(statuses[level], rechecked[level]);
+        }
+        assertTrue(incremental.flowsSolved() <= solver.flowsSolved());
+    }
+}
@@ -9,20 +9,28 @@ import com.nba.standings.model.entity.Game;
 import com.nba.standings.model.entity.Team;
 import com.nba.standings.model.enums.Conference;
 import com.nba.standings.model.enums.Division;
+import com.nba.standings.model.entity.ScheduledGame;
+import com.nba.standings.model.entity.StandingsChange;
 import com.nba.standings.repository.GameRepository;
+import com.nba.standings.repository.ScheduledGameRepository;
+import com.nba.standings.repository.StandingsChangeRepository;
 import com.nba.standings.repository.TeamRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import reactor.core.publisher.Mono;
 
 import java.lang.reflect.Field;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -40,7 +48,15 @@ class NBADataServiceTest {
     @Mock
     private GameRepository gameRepository;
 
-    @InjectMocks
+    @Mock
+    private ScheduledGameRepository scheduledGameRepository;
+
+    @Mock
+    private StandingsChangeRepository standingsChangeRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private NBADataService nbaDataService;
 
     private Team celtics;
@@ -54,6 +70,8 @@ class NBADataServiceTest {
         lakers = new Team(2, "Los Angeles Lakers", "LAL", Division.PACIFIC, Conference.WESTERN);
         startDate = LocalDate.of(2025, 10, 1);
         endDate = LocalDate.of(2025, 10, 24);
+        nbaDataService = new NBADataService(nbaApiClient, new TeamRegistry(teamRepository), gameRepository,
+                scheduledGameRepository, standingsChangeRepository, eventPublisher);
     }
     
     private Team createTeamWithId(Long id, Team team) throws Exception {
@@ -89,13 +107,13 @@ class NBADataServiceTest {
         
         when(nbaApiClient.getAllGames(startDate, endDate)).thenReturn(Mono.just(response));
         when(teamRepository.findAll()).thenReturn(List.of(celticsWithId, lakersWithId));
-        when(gameRepository.existsByNbaGameId(100L)).thenReturn(false);
-        when(gameRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(gameRepository.insertNew(anyList())).thenReturn(Set.of(100L));
         
         List<Game> result = nbaDataService.fetchAndSaveGames(startDate, endDate);
         
         assertEquals(1, result.size());
-        verify(gameRepository).saveAll(anyList());
+        verify(gameRepository).insertNew(anyList());
+        verify(eventPublisher).publishEvent(any(GamesSavedEvent.class));
     }
 
     @Test
@@ -124,12 +142,14 @@ class NBADataServiceTest {
         
         when(nbaApiClient.getAllGames(startDate, endDate)).thenReturn(Mono.just(response));
         when(teamRepository.findAll()).thenReturn(List.of(celticsWithId, lakersWithId));
-        when(gameRepository.existsByNbaGameId(100L)).thenReturn(true);
+        when(gameRepository.insertNew(anyList())).thenReturn(Set.of());
         
         List<Game> result = nbaDataService.fetchAndSaveGames(startDate, endDate);
         
         assertEquals(0, result.size());
-        verify(gameRepository, never()).saveAll(anyList());
+        verify(scheduledGameRepository, never()).deleteByNbaGameIdIn(anyList());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        verify(standingsChangeRepository, never()).saveAll(anyList());
     }
 
     @Test
@@ -158,12 +178,134 @@ class NBADataServiceTest {
         
         when(nbaApiClient.getAllGames(startDate, endDate)).thenReturn(Mono.just(response));
         when(teamRepository.findAll()).thenReturn(List.of(celticsWithId, lakersWithId));
-        when(gameRepository.existsByNbaGameId(100L)).thenReturn(false);
         
         List<Game> result = nbaDataService.fetchAndSaveGames(startDate, endDate);
         
         assertEquals(0, result.size());
-        verify(gameRepository, never()).saveAll(anyList());
+        verify(gameRepository, never()).insertNew(anyList());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFetchAndSaveGames_SavesNonFinalRegularSeasonGamesAsScheduled() throws Exception {
+        Team celticsWithId = createTeamWithId(1L, celtics);
+        Team lakersWithId = createTeamWithId(2L, lakers);
+        
+        NBAGameDTO scheduled = createGameDTO(200L, "7:30 pm ET", false);
+        NBAGameDTO playoff = createGameDTO(201L, "7:30 pm ET", true);
+        NBAGameDTO alreadyScheduled = createGameDTO(202L, "7:30 pm ET", false);
+        
+        NBAGamesResponse response = new NBAGamesResponse();
+        response.setData(List.of(scheduled, playoff, alreadyScheduled));
+        
+        when(nbaApiClient.getAllGames(startDate, endDate)).thenReturn(Mono.just(response));
+        when(teamRepository.findAll()).thenReturn(List.of(celticsWithId, lakersWithId));
+        when(scheduledGameRepository.insertNew(anyList())).thenReturn(Set.of(200L));
+        
+        nbaDataService.fetchAndSaveGames(startDate, endDate);
+        
+        // Already scheduled games are skipped by the insert, so only the playoff game is left out
+        ArgumentCaptor<List<ScheduledGame>> captor = ArgumentCaptor.forClass(List.class);
+        verify(scheduledGameRepository).insertNew(captor.capture());
+        assertEquals(List.of(200L, 202L), captor.getValue().stream().map(ScheduledGame::getNbaGameId).toList());
+        assertEquals(celticsWithId, captor.getValue().get(0).getHomeTeam());
+        verify(gameRepository, never()).insertNew(anyList());
+        verify(eventPublisher).publishEvent(new ScheduleChangedEvent(Set.of(2025)));
+        // The remaining schedule of every date of the season changed
+        assertEquals(Map.of(2025, LocalDate.of(2025, 10, 1)), recordedChanges());
+    }
+
+    @Test
+    void testFetchAndSaveGames_RemovesFinishedGamesFromSchedule() throws Exception {
+        Team celticsWithId = createTeamWithId(1L, celtics);
+        Team lakersWithId = createTeamWithId(2L, lakers);
+        
+        NBAGamesResponse response = new NBAGamesResponse();
+        response.setData(List.of(createGameDTO(100L, "Final", false)));
+        
+        when(nbaApiClient.getAllGames(startDate, endDate)).thenReturn(Mono.just(response));
+        when(teamRepository.findAll()).thenReturn(List.of(celticsWithId, lakersWithId));
+        when(gameRepository.insertNew(anyList())).thenReturn(Set.of(100L));
+        
+        nbaDataService.fetchAndSaveGames(startDate, endDate);
+        
+        verify(scheduledGameRepository).deleteByNbaGameIdIn(List.of(100L));
+        verify(scheduledGameRepository, never()).insertNew(anyList());
+        verify(eventPublisher, never()).publishEvent(any(ScheduleChangedEvent.class));
+        // The game was not scheduled, so it was missing from the remaining games of earlier dates
+        assertEquals(Map.of(2025, LocalDate.of(2025, 10, 1)), recordedChanges());
+    }
+
+    @Test
+    void testFetchAndSaveGames_PublishesScheduleChangeWhenFinishedGamesWereScheduled() throws Exception {
+        Team celticsWithId = createTeamWithId(1L, celtics);
+        Team lakersWithId = createTeamWithId(2L, lakers);
+        
+        NBAGamesResponse response = new NBAGamesResponse();
+        response.setData(List.of(createGameDTO(100L, "Final", false)));
+        
+        when(nbaApiClient.getAllGames(startDate, endDate)).thenReturn(Mono.just(response));
+        when(teamRepository.findAll()).thenReturn(List.of(celticsWithId, lakersWithId));
+        when(gameRepository.insertNew(anyList())).thenReturn(Set.of(100L));
+        when(scheduledGameRepository.deleteByNbaGameIdIn(List.of(100L))).thenReturn(1L);
+        
+        nbaDataService.fetchAndSaveGames(startDate, endDate);
+        
+        verify(eventPublisher).publishEvent(any(GamesSavedEvent.class));
+        verify(eventPublisher).publishEvent(new ScheduleChangedEvent(Set.of(2025)));
+        assertEquals(Map.of(2025, LocalDate.of(2025, 10, 24)), recordedChanges());
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Map<Integer, LocalDate> recordedChanges() {
+        ArgumentCaptor<List<StandingsChange>> captor = ArgumentCaptor.forClass(List.class);
+        verify(standingsChangeRepository).saveAll(captor.capture());
+        return captor.getValue().stream()
+                .collect(Collectors.toMap(StandingsChange::getSeason, StandingsChange::getChangedFrom));
+    }
+
+    @Test
+    void testFetchAndSaveGames_ReturnsAndPublishesOnlyInsertedGames() throws Exception {
+        Team celticsWithId = createTeamWithId(1L, celtics);
+        Team lakersWithId = createTeamWithId(2L, lakers);
+        
+        NBAGamesResponse response = new NBAGamesResponse();
+        response.setData(List.of(createGameDTO(100L, "Final", false), createGameDTO(101L, "Final", false),
+                createGameDTO(102L, "Final", false)));
+        
+        when(nbaApiClient.getAllGames(startDate, endDate)).thenReturn(Mono.just(response));
+        when(teamRepository.findAll()).thenReturn(List.of(celticsWithId, lakersWithId));
+        when(gameRepository.insertNew(anyList())).thenReturn(Set.of(101L));
+        
+        List<Game> result = nbaDataService.fetchAndSaveGames(startDate, endDate);
+        
+        // One set-based insert for the whole response, and only the new game is reported
+        verify(gameRepository, times(1)).insertNew(anyList());
+        assertEquals(List.of(101L), result.stream().map(Game::getNbaGameId).toList());
+        verify(scheduledGameRepository).deleteByNbaGameIdIn(List.of(101L));
+        ArgumentCaptor<GamesSavedEvent> captor = ArgumentCaptor.forClass(GamesSavedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertEquals(result, captor.getValue().games());
+    }
+    
+    private NBAGameDTO createGameDTO(Long id, String status, boolean postseason) {
+        NBATeamDTO homeTeamDTO = new NBATeamDTO();
+        homeTeamDTO.setId(1L);
+        
+        NBATeamDTO awayTeamDTO = new NBATeamDTO();
+        awayTeamDTO.setId(2L);
+        
+        NBAGameDTO gameDTO = new NBAGameDTO();
+        gameDTO.setId(id);
+        gameDTO.setDate(LocalDate.of(2025, 10, 24));
+        gameDTO.setHomeTeam(homeTeamDTO);
+        gameDTO.setVisitorTeam(awayTeamDTO);
+        gameDTO.setHomeTeamScore(110);
+        gameDTO.setVisitorTeamScore(105);
+        gameDTO.setStatus(status);
+        gameDTO.setPostseason(postseason);
+        return gameDTO;
     }
 
     @Test
@@ -0,0 +1,176 @@
+package com.nba.standings.service;
+
+import com.nba.standings.client.NBAApiClient;
+import com.nba.standings.model.entity.Game;
+import com.nba.standings.model.entity.PackedStandingsSnapshot;
+import com.nba.standings.model.entity.StandingsSnapshot;
+import com.nba.standings.model.entity.Team;
+import com.nba.standings.model.enums.Conference;
+import com.nba.standings.model.enums.Division;
+import com.nba.standings.repository.JdbcBulkInserter;
+import com.nba.standings.repository.PackedStandingsSnapshotRepository;
+import com.nba.standings.repository.TeamRepository;
+import com.nba.standings.service.StandingsCalculator.TeamStanding;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for PackedSnapshotStore.
+ * Tests that packed snapshots read back the same values as they were saved with.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+@Transactional
+class PackedSnapshotStoreIntegrationTest {
+
+    @Autowired
+    private JdbcBulkInserter jdbcBulkInserter;
+
+    @Autowired
+    private PackedStandingsSnapshotRepository packedStandingsSnapshotRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamRegistry teamRegistry;
+
+    @Autowired
+    private StandingsCalculator standingsCalculator;
+
+    @MockBean
+    private NBAApiClient nbaApiClient;
+
+    private PackedSnapshotStore packedSnapshotStore;
+    private List<Team> teams;
+
+    @BeforeEach
+    void setUp() {
+        packedStandingsSnapshotRepository.deleteAll();
+        teamRepository.deleteAll();
+
+        teams = List.of(
+                teamRepository.save(new Team(1, "Boston Celtics", "BOS", Division.ATLANTIC, Conference.EASTERN)),
+                teamRepository.save(new Team(2, "Miami Heat", "MIA", Division.SOUTHEAST, Conference.EASTERN)),
+                teamRepository.save(new Team(3, "Los Angeles Lakers", "LAL", Division.PACIFIC, Conference.WESTERN)),
+                teamRepository.save(new Team(4, "Denver Nuggets", "DEN", Division.NORTHWEST, Conference.WESTERN)));
+        teamRegistry.reload();
+
+        packedSnapshotStore = new PackedSnapshotStore(jdbcBulkInserter, packedStandingsSnapshotRepository, teamRegistry);
+    }
+
+    @Test
+    void testSave_StoresOneRowPerDateAndReadsBackEveryValue() {
+        Team celtics = teams.get(0);
+        Team heat = teams.get(1);
+        Team lakers = teams.get(2);
+        Team nuggets = teams.get(3);
+        LocalDate firstDate = LocalDate.of(2024, 10, 22);
+        LocalDate secondDate = LocalDate.of(2024, 10, 24);
+        List<Game> games = List.of(
+                new Game(100L, firstDate, celtics, heat, 110, 105),
+                new Game(101L, firstDate, lakers, nuggets, 115, 108),
+                new Game(102L, secondDate, heat, celtics, 101, 99),
+                new Game(103L, secondDate, celtics, lakers, 120, 100));
+        Map<Long, TeamStanding> first = standingsCalculator.calculateRankedStandings(games.subList(0, 2), teams);
+        Map<Long, TeamStanding> second = standingsCalculator.calculateRankedStandings(games, teams);
+
+        List<StandingsSnapshot> saved = new ArrayList<>();
+        first.values().forEach(standing -> saved.add(StandingsSnapshot.fromTeamStanding(firstDate, standing)));
+        second.values().forEach(standing -> saved.add(StandingsSnapshot.fromTeamStanding(secondDate, standing)));
+        packedSnapshotStore.saveAllIgnoringExisting(saved);
+
+        assertEquals(2, packedStandingsSnapshotRepository.count());
+        List<StandingsSnapshot> snapshots = packedSnapshotStore.findByDate(secondDate);
+        assertEquals(4, snapshots.size());
+        for (StandingsSnapshot snapshot : snapshots) {
+            TeamStanding expected = second.get(snapshot.getTeam().getId());
+            assertSame(teamRegistry.byId(snapshot.getTeam().getId()), snapshot.getTeam());
+            assertEquals(secondDate, snapshot.getSnapshotDate());
+            assertEquals(expected.getWins(), snapshot.getWins());
+            assertEquals(expected.getLosses(), snapshot.getLosses());
+            assertEquals(expected.getWinPct(), snapshot.getWinPct());
+            assertEquals(expected.getDivisionRank(), snapshot.getDivisionRank());
+            assertEquals(expected.getConferenceRank(), snapshot.getConferenceRank());
+            assertEquals(expected.getStreak(), snapshot.getStreak());
+            assertEquals(expected.getLastTenResults(), snapshot.getLastTenResults());
+            assertArrayEquals(expected.getHeadToHeadRow(), snapshot.getHeadToHeadWins());
+        }
+
+        // The Nuggets lost their only game, so their streak is negative
+        StandingsSnapshot nuggetsSnapshot = snapshots.stream()
+                .filter(snapshot -> snapshot.getTeam().getId().equals(nuggets.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(-1, nuggetsSnapshot.getStreak());
+        assertTrue(packedSnapshotStore.findByDate(secondDate.plusDays(1)).isEmpty());
+    }
+
+    @Test
+    void testFindDates_UsesPackedRows() {
+        for (LocalDate date : List.of(LocalDate.of(2024, 10, 22), LocalDate.of(2024, 10, 24))) {
+            packedSnapshotStore.saveAllIgnoringExisting(teams.stream()
+                    .map(team -> StandingsSnapshot.restore(date, team, 0, 0, 1, 1, null, 0, 0))
+                    .toList());
+        }
+
+        assertEquals(LocalDate.of(2024, 10, 22),
+                packedSnapshotStore.findLatestDateInSeasonBefore(LocalDate.of(2024, 10, 24)));
+        assertNull(packedSnapshotStore.findLatestDateInSeasonBefore(LocalDate.of(2024, 10, 22)));
+        assertEquals(List.of(LocalDate.of(2024, 10, 24)),
+                packedSnapshotStore.findDatesBetween(LocalDate.of(2024, 10, 23), LocalDate.of(2024, 10, 31)));
+        assertNull(packedSnapshotStore.findByDate(LocalDate.of(2024, 10, 22)).get(0).getHeadToHeadWins());
+    }
+
+    @Test
+    void testSaveAllIgnoringExisting_KeepsStoredDates() {
+        LocalDate date = LocalDate.of(2024, 10, 22);
+        packedSnapshotStore.saveAllIgnoringExisting(teams.stream()
+                .map(team -> StandingsSnapshot.restore(date, team, 1, 0, 1, 1, null, 1, 1))
+                .toList());
+
+        packedSnapshotStore.saveAllIgnoringExisting(teams.stream()
+                .map(team -> StandingsSnapshot.restore(date, team, 0, 1, 1, 1, null, -1, 0))
+                .toList());
+
+        assertEquals(1, packedStandingsSnapshotRepository.count());
+        assertEquals(1, packedSnapshotStore.findByDate(date).get(0).getWins());
+    }
+
+    @Test
+    void testEncode_RejectsValuesOutsideTheFormatAndTruncatedPayloads() {
+        PackedStandingsSnapshot.Entry entry = new PackedStandingsSnapshot.Entry(1L, 10, 5, 1, 1, 200, 0, null);
+        assertThrows(IllegalArgumentException.class, () -> PackedStandingsSnapshot.encode(List.of(entry)));
+
+        byte[] payload = PackedStandingsSnapshot.encode(List.of(
+                new PackedStandingsSnapshot.Entry(1L, 10, 5, 1, 1, 3, 0b111, new int[] {0})));
+        assertThrows(IllegalArgumentException.class,
+                () -> PackedStandingsSnapshot.decode(Arrays.copyOf(payload, payload.length - 1)));
+    }
+
+    @Test
+    void testEncode_KeepsMissingRanks() {
+        byte[] payload = PackedStandingsSnapshot.encode(List.of(
+                new PackedStandingsSnapshot.Entry(1L, 0, 0, null, null, 0, 0, null),
+                new PackedStandingsSnapshot.Entry(2L, 1, 0, 1, 2, 1, 1, null)));
+
+        List<PackedStandingsSnapshot.Entry> entries = PackedStandingsSnapshot.decode(payload);
+        assertNull(entries.get(0).divisionRank());
+        assertNull(entries.get(0).conferenceRank());
+        assertEquals(1, entries.get(1).divisionRank());
+        assertEquals(2, entries.get(1).conferenceRank());
+    }
+}
@@ -0,0 +1,148 @@
+package com.nba.standings.service;
+
+import com.nba.standings.model.entity.Game;
+import com.nba.standings.model.entity.Team;
+import com.nba.standings.model.enums.Conference;
+import com.nba.standings.model.enums.Division;
+import com.nba.standings.service.PlayoffSimulator.SimulationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayoffSimulatorTest {
+
+    private PlayoffSimulator simulator;
+    private List<Team> teams;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        simulator = new PlayoffSimulator();
+        teams = new ArrayList<>();
+        long id = 1;
+        for (Division division : Division.values()) {
+            Conference conference = division.ordinal() < 3 ? Conference.EASTERN : Conference.WESTERN;
+            for (int i = 0; i < 5; i++) {
+                teams.add(createTeamWithId(id++, division.name() + " Team " + i, division, conference));
+            }
+        }
+    }
+
+    private Team createTeamWithId(Long id, String name, Division division, Conference conference) throws Exception {
+        Team team = new Team(id.intValue(), name, "T" + id, division, conference);
+        Field idField = Team.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(team, id);
+        return team;
+    }
+
+    /**
+     * Every team plays every other team of its conference once at home.
+     */
+    private int[][] conferenceRoundRobin(LeagueRecords records) {
+        List<int[]> games = new ArrayList<>();
+        for (int home = 0; home < records.teamCount(); home++) {
+            for (int away = 0; away < records.teamCount(); away++) {
+                if (home != away && records.conference(home) == records.conference(away)) {
+                    games.add(new int[] {home, away});
+                }
+            }
+        }
+        int[][] schedule = new int[2][games.size()];
+        for (int g = 0; g < games.size(); g++) {
+            schedule[0][g] = games.get(g)[0];
+            schedule[1][g] = games.get(g)[1];
+        }
+        return schedule;
+    }
+
+    @Test
+    void testSimulate_SeedProbabilitiesSumToOne() {
+        LeagueRecords records = new LeagueRecords(teams);
+        int[][] schedule = conferenceRoundRobin(records);
+
+        SimulationResult result = simulator.simulate(records, schedule[0], schedule[1], 20_000, 42L);
+
+        assertEquals(15, result.getMaxSeed());
+        for (int team = 0; team < records.teamCount(); team++) {
+            assertEquals(1.0, result.seedRangeProbability(team, 1, 15), 1e-9);
+            // 14 games each, no prior record: every team is a coin flip
+            assertEquals(14.0, result.projectedWins(team), 0.2);
+        }
+        for (int seed = 1; seed <= 15; seed++) {
+            double totalEastern = 0.0;
+            for (int team = 0; team < 15; team++) {
+                totalEastern += result.seedProbability(team, seed);
+            }
+            assertEquals(1.0, totalEastern, 1e-9, "Each seed is taken by exactly one team");
+        }
+    }
+
+    @Test
+    void testSimulate_SameSeedGivesSameResult() {
+        LeagueRecords records = new LeagueRecords(teams);
+        int[][] schedule = conferenceRoundRobin(records);
+        int simulations = PlayoffSimulator.LEAF_SIMULATIONS * 5 + 17;
+
+        SimulationResult first = simulator.simulate(records, schedule[0], schedule[1], simulations, 7L);
+        SimulationResult second = simulator.simulate(records, schedule[0], schedule[1], simulations, 7L);
+
+        for (int team = 0; team < records.teamCount(); team++) {
+            assertEquals(first.projectedWins(team), second.projectedWins(team));
+            for (int seed = 1; seed <= first.getMaxSeed(); seed++) {
+                assertEquals(first.seedProbability(team, seed), second.seedProbability(team, seed));
+            }
+        }
+    }
+
+    @Test
+    void testSimulate_DoesNotModifyStartingRecords() {
+        LeagueRecords records = new LeagueRecords(teams);
+        records.recordWin(0, 1);
+        int[][] schedule = conferenceRoundRobin(records);
+
+        simulator.simulate(records, schedule[0], schedule[1], 10_000, 1L);
+
+        assertEquals(1, records.wins(0));
+        assertEquals(1, records.losses(1));
+        assertEquals(1, records.headToHeadWins(0, 1));
+        assertEquals(0, records.wins(2));
+    }
+
+    @Test
+    void testSimulate_ClinchedTeamAlwaysFinishesFirst() {
+        List<Game> games = new ArrayList<>();
+        LocalDate date = LocalDate.of(2024, 10, 22);
+        long gameId = 1;
+        // Team 0 is 20-0 and every other Eastern team is 0-2, with only 14 games left each
+        for (int i = 0; i < 20; i++) {
+            Team opponent = teams.get(1 + i % 14);
+            games.add(new Game(gameId++, date, teams.get(0), opponent, 110, 100));
+        }
+        for (int i = 1; i < 15; i++) {
+            games.add(new Game(gameId++, date, teams.get(15 + i), teams.get(i), 110, 100));
+        }
+        LeagueRecords records = PrimitiveStandingsEngine.countRecords(games, teams);
+        int[][] schedule = conferenceRoundRobin(records);
+
+        SimulationResult result = simulator.simulate(records, schedule[0], schedule[1], 10_000, 3L);
+
+        assertEquals(1.0, result.seedProbability(0, 1));
+        for (int team = 1; team < 15; team++) {
+            assertEquals(0.0, result.seedProbability(team, 1));
+        }
+        assertTrue(result.projectedWins(0) >= 20.0);
+    }
+
+    @Test
+    void testLog5_FavorsBetterTeamAndIsSymmetric() {
+        assertEquals(0.5, PlayoffSimulator.log5(0.6, 0.6), 1e-12);
+        assertTrue(PlayoffSimulator.log5(0.7, 0.3) > 0.8);
+        assertEquals(1.0, PlayoffSimulator.log5(0.7, 0.3) + PlayoffSimulator.log5(0.3, 0.7), 1e-12);
+    }
+}
@@ -0,0 +1,144 @@
+package com.nba.standings.service;
+
+import com.nba.standings.model.entity.Game;
+import com.nba.standings.model.entity.Team;
+import com.nba.standings.model.enums.Conference;
+import com.nba.standings.model.enums.Division;
+import com.nba.standings.model.projection.GameResult;
+import com.nba.standings.service.StandingsCalculator.TeamStanding;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveStandingsEngineTest {
+
+    private PrimitiveStandingsEngine engine;
+    private StandingsCalculator referenceEngine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new PrimitiveStandingsEngine();
+        referenceEngine = new StandingsCalculator();
+    }
+
+    private Team createTeamWithId(Long id, String name, Division division, Conference conference) throws Exception {
+        Team team = new Team(id.intValue(), name, "T" + id, division, conference);
+        Field idField = Team.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(team, id);
+        return team;
+    }
+
+    @Test
+    void testCalculateRankedStandings_MatchesReferenceEngineForEverySeasonDate() throws Exception {
+        List<Team> teams = new ArrayList<>();
+        long id = 1;
+        for (Division division : Division.values()) {
+            Conference conference = division.ordinal() < 3 ? Conference.EASTERN : Conference.WESTERN;
+            for (int i = 0; i < 5; i++) {
+                teams.add(createTeamWithId(id++, division.name() + " Team " + i, division, conference));
+            }
+        }
+
+        Random random = new Random(7L);
+        List<Game> games = new ArrayList<>();
+        LocalDate start = LocalDate.of(2024, 10, 22);
+        LocalDate end = LocalDate.of(2025, 4, 13);
+        long gameId = 1;
+
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            List<Team> available = new ArrayList<>(teams);
+            Collections.shuffle(available, random);
+            int gamesToday = random.nextInt(available.size() / 2 + 1);
+            for (int i = 0; i < gamesToday; i++) {
+                int homeScore = 90 + random.nextInt(40);
+                int awayScore = homeScore + (random.nextBoolean() ? 1 : -1) * (1 + random.nextInt(15));
+                games.add(new Game(gameId++, date, available.get(2 * i), available.get(2 * i + 1), homeScore, awayScore));
+            }
+
+            Map<Long, TeamStanding> expected = referenceEngine.calculateRankedStandings(games, teams);
+            Map<Long, TeamStanding> actual = engine.calculateRankedStandings(games, teams);
+            assertSameStandings(expected, actual, date);
+
+            // The projection-based entry point gives the same standings in both engines
+            List<GameResult> results = games.stream().map(GameResult::of).toList();
+            assertSameStandings(expected, engine.calculateRankedStandingsFromResults(results.stream(), teams), date);
+            assertSameStandings(expected, referenceEngine.calculateRankedStandingsFromResults(results.stream(), teams), date);
+        }
+    }
+
+    @Test
+    void testCalculateRankedStandings_RanksByExactWinPct() throws Exception {
+        // 40-39 (.50633) and 41-40 (.50617) both round to .506, but 40-39 is the better record
+        Team bulls = createTeamWithId(1L, "Chicago Bulls", Division.CENTRAL, Conference.EASTERN);
+        Team pistons = createTeamWithId(2L, "Detroit Pistons", Division.CENTRAL, Conference.EASTERN);
+        Team pacers = createTeamWithId(3L, "Indiana Pacers", Division.CENTRAL, Conference.EASTERN);
+        List<Team> teams = List.of(bulls, pistons, pacers);
+
+        List<Game> games = new ArrayList<>();
+        long gameId = 1;
+        LocalDate date = LocalDate.of(2025, 4, 13);
+        for (int i = 0; i < 40; i++) {
+            games.add(new Game(gameId++, date, bulls, pacers, 100, 90));
+        }
+        for (int i = 0; i < 39; i++) {
+            games.add(new Game(gameId++, date, bulls, pacers, 90, 100));
+        }
+        for (int i = 0; i < 41; i++) {
+            games.add(new Game(gameId++, date, pistons, pacers, 100, 90));
+        }
+        for (int i = 0; i < 40; i++) {
+            games.add(new Game(gameId++, date, pistons, pacers, 90, 100));
+        }
+
+        Map<Long, TeamStanding> actual = engine.calculateRankedStandings(games, teams);
+
+        assertEquals(0, actual.get(1L).getWinPct().compareTo(actual.get(2L).getWinPct()));
+        assertEquals(1, actual.get(1L).getDivisionRank());
+        assertEquals(2, actual.get(2L).getDivisionRank());
+        assertSameStandings(referenceEngine.calculateRankedStandings(games, teams), actual, date);
+    }
+
+    @Test
+    void testCalculateRankedStandings_TeamsWithoutGamesCountAsZeroWinPct() throws Exception {
+        Team celtics = createTeamWithId(1L, "Boston Celtics", Division.ATLANTIC, Conference.EASTERN);
+        Team nets = createTeamWithId(2L, "Brooklyn Nets", Division.ATLANTIC, Conference.EASTERN);
+        Team knicks = createTeamWithId(3L, "New York Knicks", Division.ATLANTIC, Conference.EASTERN);
+        List<Team> teams = List.of(celtics, nets, knicks);
+
+        List<Game> games = List.of(new Game(1L, LocalDate.of(2025, 10, 22), knicks, celtics, 110, 100));
+
+        Map<Long, TeamStanding> actual = engine.calculateRankedStandings(games, teams);
+
+        // Nets (0-0) tie the Celtics (0-1) on percentage and wins, then lose the tie on name
+        assertEquals(1, actual.get(3L).getDivisionRank());
+        assertEquals(2, actual.get(1L).getDivisionRank());
+        assertEquals(3, actual.get(2L).getDivisionRank());
+        assertSameStandings(referenceEngine.calculateRankedStandings(games, teams), actual, LocalDate.of(2025, 10, 22));
+    }
+
+    private void assertSameStandings(Map<Long, TeamStanding> expected, Map<Long, TeamStanding> actual, LocalDate date) {
+        assertEquals(expected.keySet(), actual.keySet());
+        for (Map.Entry<Long, TeamStanding> entry : expected.entrySet()) {
+            TeamStanding expectedStanding = entry.getValue();
+            TeamStanding actualStanding = actual.get(entry.getKey());
+            String context = expectedStanding.getTeam().getTeamName() + " on " + date;
+            assertEquals(expectedStanding.getWins(), actualStanding.getWins(), context);
+            assertEquals(expectedStanding.getLosses(), actualStanding.getLosses(), context);
+            assertEquals(expectedStanding.getWinPct(), actualStanding.getWinPct(), context);
+            assertEquals(expectedStanding.getDivisionRank(), actualStanding.getDivisionRank(), context);
+            assertEquals(expectedStanding.getConferenceRank(), actualStanding.getConferenceRank(), context);
+            assertEquals(expectedStanding.getStreak(), actualStanding.getStreak(), context);
+            assertEquals(expectedStanding.getLastTenResults(), actualStanding.getLastTenResults(), context);
+        }
+    }
+}
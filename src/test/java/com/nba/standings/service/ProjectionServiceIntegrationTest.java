@@ -0,0 +1,138 @@
+package com.nba.standings.service;
+
+import com.nba.standings.client.NBAApiClient;
+import com.nba.standings.model.entity.Game;
+import com.nba.standings.model.entity.ScheduledGame;
+import com.nba.standings.model.entity.Team;
+import com.nba.standings.model.enums.Conference;
+import com.nba.standings.model.enums.Division;
+import com.nba.standings.repository.GameRepository;
+import com.nba.standings.repository.ScheduledGameRepository;
+import com.nba.standings.repository.StandingsSnapshotRepository;
+import com.nba.standings.repository.TeamRepository;
+import com.nba.standings.service.ProjectionService.Projections;
+import com.nba.standings.service.ProjectionService.TeamProjection;
+import com.nba.standings.util.SeasonDateUtility;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for ProjectionService.
+ * Tests that projections start from the stored games and simulate only the remaining schedule.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties",
+        properties = "standings.projections.simulations=20000")
+@Transactional
+class ProjectionServiceIntegrationTest {
+
+    @Autowired
+    private ProjectionService projectionService;
+
+    @Autowired
+    private SeasonDateUtility seasonDateUtility;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamRegistry teamRegistry;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private ScheduledGameRepository scheduledGameRepository;
+
+    @Autowired
+    private StandingsSnapshotRepository standingsSnapshotRepository;
+
+    @MockBean
+    private NBAApiClient nbaApiClient;
+
+    private Team celtics;
+    private Team heat;
+    private Team lakers;
+    private Team nuggets;
+
+    @BeforeEach
+    void setUp() {
+        // Clean up database
+        standingsSnapshotRepository.deleteAll();
+        scheduledGameRepository.deleteAll();
+        gameRepository.deleteAll();
+        teamRepository.deleteAll();
+
+        // Create test teams
+        celtics = teamRepository.save(new Team(1, "Boston Celtics", "BOS", Division.ATLANTIC, Conference.EASTERN));
+        heat = teamRepository.save(new Team(2, "Miami Heat", "MIA", Division.SOUTHEAST, Conference.EASTERN));
+        lakers = teamRepository.save(new Team(3, "Los Angeles Lakers", "LAL", Division.PACIFIC, Conference.WESTERN));
+        nuggets = teamRepository.save(new Team(4, "Denver Nuggets", "DEN", Division.NORTHWEST, Conference.WESTERN));
+        teamRegistry.reload();
+    }
+
+    @Test
+    void testGetProjections_SimulatesOnlyGamesThatAreNotFinal() {
+        LocalDate seasonStart = seasonDateUtility.determineSeasonStart(LocalDate.now());
+
+        gameRepository.save(new Game(100L, seasonStart.plusDays(21), celtics, heat, 110, 105));
+        gameRepository.save(new Game(101L, seasonStart.plusDays(21), lakers, nuggets, 100, 108));
+        // Scheduled before it went final; must not be played twice
+        scheduledGameRepository.save(new ScheduledGame(100L, seasonStart.plusDays(21), celtics, heat));
+        scheduledGameRepository.save(new ScheduledGame(200L, seasonStart.plusDays(40), heat, celtics));
+        scheduledGameRepository.save(new ScheduledGame(201L, seasonStart.plusDays(40), nuggets, lakers));
+
+        Projections projections = projectionService.getProjections();
+
+        assertEquals(20000, projections.simulations());
+        assertEquals(2, projections.remainingGames());
+        assertEquals(4, projections.teams().size());
+
+        Map<String, TeamProjection> byName = projections.teams().stream()
+                .collect(Collectors.toMap(projection -> projection.team().getTeamName(), Function.identity()));
+        TeamProjection celticsProjection = byName.get("Boston Celtics");
+        assertEquals(1, celticsProjection.wins());
+        assertEquals(0, celticsProjection.losses());
+        assertEquals(1, celticsProjection.conferenceRank());
+        assertTrue(celticsProjection.projectedWins() > 1.0 && celticsProjection.projectedWins() < 2.0);
+
+        // Two-team conferences: every team makes the playoffs and none reaches the play-in
+        for (TeamProjection projection : projections.teams()) {
+            assertEquals(1.0, Arrays.stream(projection.seedProbabilities()).sum(), 1e-9);
+            assertEquals(1.0, projection.playoffProbability(), 1e-9);
+            assertEquals(0.0, projection.playInProbability(), 1e-9);
+        }
+
+        // The Celtics keep the head-to-head tiebreaker unless they lose the remaining game
+        assertTrue(celticsProjection.seedProbabilities()[0] > 0.5);
+    }
+
+    @Test
+    void testGetProjections_WithNoRemainingGames_ReturnsCurrentStandings() {
+        LocalDate seasonStart = seasonDateUtility.determineSeasonStart(LocalDate.now());
+        gameRepository.save(new Game(100L, seasonStart.plusDays(21), heat, celtics, 110, 105));
+
+        Projections projections = projectionService.getProjections();
+
+        assertEquals(0, projections.remainingGames());
+        TeamProjection heatProjection = projections.teams().stream()
+                .filter(projection -> projection.team().getId().equals(heat.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(1.0, heatProjection.seedProbabilities()[0]);
+        assertEquals(1.0, heatProjection.projectedWins());
+    }
+}
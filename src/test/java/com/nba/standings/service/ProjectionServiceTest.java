@@ -0,0 +1,129 @@
+package com.nba.standings.service;
+
+import com.nba.standings.model.entity.Game;
+import com.nba.standings.model.entity.Team;
+import com.nba.standings.model.enums.Conference;
+import com.nba.standings.model.enums.Division;
+import com.nba.standings.repository.GameRepository;
+import com.nba.standings.repository.ScheduledGameRepository;
+import com.nba.standings.service.ProjectionService.Projections;
+import com.nba.standings.util.SeasonDateUtility;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectionServiceTest {
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private ScheduledGameRepository scheduledGameRepository;
+
+    @Mock
+    private TeamRegistry teamRegistry;
+
+    @Mock
+    private NBADataService nbaDataService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PlayoffSimulator playoffSimulator;
+    private ProjectionService projectionService;
+    private Team celtics;
+    private Team heat;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        playoffSimulator = spy(new PlayoffSimulator());
+        projectionService = new ProjectionService(gameRepository, teamRegistry, scheduledGameRepository,
+                nbaDataService, playoffSimulator, new SeasonDateUtility(), 1000, transactionManager);
+        celtics = createTeamWithId(1L, new Team(1, "Boston Celtics", "BOS", Division.ATLANTIC, Conference.EASTERN));
+        heat = createTeamWithId(2L, new Team(2, "Miami Heat", "MIA", Division.SOUTHEAST, Conference.EASTERN));
+        when(teamRegistry.teams()).thenReturn(List.of(celtics, heat));
+    }
+
+    @Test
+    void testGetProjections_CachedUntilCurrentSeasonGamesAreSaved() {
+        Projections first = projectionService.getProjections();
+        assertSame(first, projectionService.getProjections());
+        verify(playoffSimulator, times(1)).simulate(any(), any(), any(), anyInt(), anyLong());
+
+        // Games and schedule changes of other seasons leave the projection as it is
+        int season = SeasonDateUtility.seasonOf(LocalDate.now());
+        projectionService.onScheduleChanged(new ScheduleChangedEvent(Set.of(season - 1)));
+        projectionService.onGamesSaved(new GamesSavedEvent(List.of(
+                new Game(100L, SeasonDateUtility.seasonStart(season - 1), celtics, heat, 110, 105))));
+        assertSame(first, projectionService.getProjections());
+
+        projectionService.onGamesSaved(new GamesSavedEvent(List.of(
+                new Game(101L, LocalDate.now(), celtics, heat, 110, 105))));
+        Projections afterGames = projectionService.getProjections();
+        assertNotSame(first, afterGames);
+
+        projectionService.onScheduleChanged(new ScheduleChangedEvent(Set.of(season)));
+        assertNotSame(afterGames, projectionService.getProjections());
+        verify(gameRepository, times(3)).findByGameDateBetween(any(), any());
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    void testGetProjections_ConcurrentCallersShareOneSimulation() throws Exception {
+        CountDownLatch simulating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            simulating.countDown();
+            assertTrue(release.await(10, TimeUnit.SECONDS));
+            return invocation.callRealMethod();
+        }).when(playoffSimulator).simulate(any(), any(), any(), anyInt(), anyLong());
+
+        CompletableFuture<Projections> first = CompletableFuture.supplyAsync(projectionService::getProjections);
+        assertTrue(simulating.await(10, TimeUnit.SECONDS));
+        // The data is loaded and its transaction ended before the simulation started
+        verify(transactionManager).commit(any());
+        CompletableFuture<Projections> second = CompletableFuture.supplyAsync(projectionService::getProjections);
+        release.countDown();
+
+        assertSame(first.get(10, TimeUnit.SECONDS), second.get(10, TimeUnit.SECONDS));
+        verify(playoffSimulator, times(1)).simulate(any(), any(), any(), anyInt(), anyLong());
+    }
+
+    @Test
+    void testGetProjections_RunOverlappingAChangeIsNotCached() {
+        doAnswer(invocation -> {
+            projectionService.onScheduleChanged(
+                    new ScheduleChangedEvent(Set.of(SeasonDateUtility.seasonOf(LocalDate.now()))));
+            return invocation.callRealMethod();
+        }).doCallRealMethod().when(playoffSimulator).simulate(any(), any(), any(), anyInt(), anyLong());
+
+        Projections first = projectionService.getProjections();
+
+        assertNotSame(first, projectionService.getProjections());
+        verify(playoffSimulator, times(2)).simulate(any(), any(), any(), anyInt(), anyLong());
+    }
+
+    private Team createTeamWithId(Long id, Team team) throws Exception {
+        Field idField = Team.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(team, id);
+        return team;
+    }
+}
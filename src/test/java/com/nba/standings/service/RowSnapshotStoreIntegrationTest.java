@@ -0,0 +1,81 @@
+package com.nba.standings.service;
+
+import com.nba.standings.client.NBAApiClient;
+import com.nba.standings.model.entity.StandingsSnapshot;
+import com.nba.standings.model.entity.Team;
+import com.nba.standings.model.enums.Conference;
+import com.nba.standings.model.enums.Division;
+import com.nba.standings.repository.JdbcBulkInserter;
+import com.nba.standings.repository.StandingsSnapshotRepository;
+import com.nba.standings.repository.TeamRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for RowSnapshotStore.
+ * Tests that idempotent writes skip the rows already stored under uk_snapshot_date_team.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+@Transactional
+class RowSnapshotStoreIntegrationTest {
+
+    @Autowired
+    private JdbcBulkInserter jdbcBulkInserter;
+
+    @Autowired
+    private StandingsSnapshotRepository standingsSnapshotRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @MockBean
+    private NBAApiClient nbaApiClient;
+
+    private RowSnapshotStore rowSnapshotStore;
+    private Team celtics;
+    private Team heat;
+
+    @BeforeEach
+    void setUp() {
+        standingsSnapshotRepository.deleteAll();
+        teamRepository.deleteAll();
+
+        celtics = teamRepository.save(new Team(1, "Boston Celtics", "BOS", Division.ATLANTIC, Conference.EASTERN));
+        heat = teamRepository.save(new Team(2, "Miami Heat", "MIA", Division.SOUTHEAST, Conference.EASTERN));
+
+        rowSnapshotStore = new RowSnapshotStore(jdbcBulkInserter, standingsSnapshotRepository);
+    }
+
+    @Test
+    void testSaveAllIgnoringExisting_SkipsStoredTeamsAndRepeatsSafely() {
+        LocalDate date = LocalDate.of(2024, 10, 22);
+        rowSnapshotStore.saveAllIgnoringExisting(
+                List.of(StandingsSnapshot.restore(date, celtics, 1, 0, 1, 1, null, 1, 1)));
+
+        List<StandingsSnapshot> snapshots = List.of(
+                StandingsSnapshot.restore(date, celtics, 0, 1, 2, 2, null, -1, 0),
+                StandingsSnapshot.restore(date, heat, 0, 1, 2, 2, null, -1, 0));
+        rowSnapshotStore.saveAllIgnoringExisting(snapshots);
+        rowSnapshotStore.saveAllIgnoringExisting(snapshots);
+
+        List<StandingsSnapshot> stored = rowSnapshotStore.findByDate(date);
+        assertEquals(2, stored.size());
+        StandingsSnapshot celticsSnapshot = stored.stream()
+                .filter(snapshot -> snapshot.getTeam().getId().equals(celtics.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(1, celticsSnapshot.getWins());
+        assertEquals(2024, celticsSnapshot.getSeason());
+    }
+}
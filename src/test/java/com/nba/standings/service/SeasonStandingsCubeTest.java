@@ -0,0 +1,216 @@
+package com.nba.standings.service;
+
+import com.nba.standings.model.entity.Game;
+import com.nba.standings.model.entity.Team;
+import com.nba.standings.model.enums.Conference;
+import com.nba.standings.model.enums.Division;
+import com.nba.standings.model.projection.GameResult;
+import com.nba.standings.repository.GameRepository;
+import com.nba.standings.repository.TeamRepository;
+import com.nba.standings.service.StandingsCalculator.TeamStanding;
+import com.nba.standings.util.SeasonDateUtility;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeasonStandingsCubeTest {
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    private SeasonStandingsCube cube;
+    private Team celtics;
+    private Team heat;
+    private Team lakers;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        celtics = createTeamWithId(1L, new Team(1, "Boston Celtics", "BOS", Division.ATLANTIC, Conference.EASTERN));
+        heat = createTeamWithId(2L, new Team(2, "Miami Heat", "MIA", Division.SOUTHEAST, Conference.EASTERN));
+        lakers = createTeamWithId(3L, new Team(3, "Los Angeles Lakers", "LAL", Division.PACIFIC, Conference.WESTERN));
+
+        cube = new SeasonStandingsCube(gameRepository, new TeamRegistry(teamRepository), new StandingsCalculator(),
+                new SeasonDateUtility(), true);
+    }
+
+    private void stubStoredGames(List<Game> games) {
+        when(gameRepository.streamResultsByGameDateBetween(any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(games.stream().map(GameResult::of));
+    }
+
+    private Team createTeamWithId(Long id, Team team) throws Exception {
+        Field idField = Team.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(team, id);
+        return team;
+    }
+
+    @Test
+    void testGetStandings_ReturnsCumulativeRecordsForDate() {
+        when(teamRepository.findAll()).thenReturn(List.of(celtics, heat, lakers));
+        stubStoredGames(List.of(
+                new Game(1L, LocalDate.of(2024, 10, 22), celtics, heat, 110, 100),
+                new Game(2L, LocalDate.of(2024, 10, 24), heat, lakers, 99, 101),
+                new Game(3L, LocalDate.of(2024, 10, 26), lakers, celtics, 120, 118)));
+        cube.load();
+
+        Map<Long, TeamStanding> standings = cube.getStandings(LocalDate.of(2024, 10, 25)).orElseThrow();
+
+        assertEquals(1, standings.get(1L).getWins());
+        assertEquals(0, standings.get(1L).getLosses());
+        assertEquals(0, standings.get(2L).getWins());
+        assertEquals(2, standings.get(2L).getLosses());
+        assertEquals(1, standings.get(3L).getWins());
+        assertEquals(0, standings.get(3L).getLosses());
+        assertEquals(1, standings.get(1L).getConferenceRank());
+        assertEquals(2, standings.get(2L).getConferenceRank());
+    }
+
+    @Test
+    void testLoad_ClosesTheResultStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(teamRepository.findAll()).thenReturn(List.of(celtics, heat, lakers));
+        when(gameRepository.streamResultsByGameDateBetween(eq(SeasonDateUtility.FIRST_SEASON_START), any(LocalDate.class)))
+                .thenReturn(Stream.of(GameResult.of(new Game(1L, LocalDate.of(2024, 10, 22), celtics, heat, 110, 100)))
+                        .onClose(() -> closed.set(true)));
+
+        cube.load();
+
+        assertTrue(closed.get());
+        verify(gameRepository, never()).findAll();
+    }
+
+    @Test
+    void testGetStandings_DoesNotServeMostRecentGameDateOrLater() {
+        when(teamRepository.findAll()).thenReturn(List.of(celtics, heat, lakers));
+        stubStoredGames(List.of(
+                new Game(1L, LocalDate.of(2024, 10, 22), celtics, heat, 110, 100)));
+        cube.load();
+
+        assertEquals(Optional.empty(), cube.getStandings(LocalDate.of(2024, 10, 22)));
+        assertEquals(Optional.empty(), cube.getStandings(LocalDate.of(2024, 10, 23)));
+        assertEquals(Optional.empty(), cube.getStandings(LocalDate.of(2025, 10, 23)));
+    }
+
+    @Test
+    void testOnGamesSaved_ExtendsCube() {
+        when(teamRepository.findAll()).thenReturn(List.of(celtics, heat, lakers));
+        stubStoredGames(List.of(
+                new Game(1L, LocalDate.of(2024, 10, 22), celtics, heat, 110, 100)));
+        cube.load();
+
+        cube.onGamesSaved(new GamesSavedEvent(List.of(
+                new Game(2L, LocalDate.of(2024, 10, 22), lakers, heat, 100, 90),
+                new Game(3L, LocalDate.of(2024, 10, 23), heat, celtics, 100, 90))));
+
+        Map<Long, TeamStanding> standings = cube.getStandings(LocalDate.of(2024, 10, 22)).orElseThrow();
+
+        assertEquals(1, standings.get(1L).getWins());
+        assertEquals(0, standings.get(2L).getWins());
+        assertEquals(2, standings.get(2L).getLosses());
+        assertEquals(1, standings.get(3L).getWins());
+    }
+
+    @Test
+    void testOnGamesSaved_DoesNotReviveSeasonWithUnknownTeam() throws Exception {
+        Team expansion = createTeamWithId(99L, new Team(99, "Expansion Team", "EXP", Division.PACIFIC, Conference.WESTERN));
+        TeamRegistry teamRegistry = new TeamRegistry(teamRepository);
+        cube = new SeasonStandingsCube(gameRepository, teamRegistry, new StandingsCalculator(),
+                new SeasonDateUtility(), true);
+        when(teamRepository.findAll()).thenReturn(List.of(celtics, heat, lakers));
+        stubStoredGames(List.of(
+                new Game(1L, LocalDate.of(2024, 10, 22), celtics, heat, 110, 100),
+                new Game(2L, LocalDate.of(2024, 10, 23), expansion, lakers, 100, 90)));
+        cube.load();
+
+        cube.onGamesSaved(new GamesSavedEvent(List.of(
+                new Game(3L, LocalDate.of(2024, 10, 24), heat, lakers, 100, 90),
+                new Game(4L, LocalDate.of(2024, 10, 26), celtics, lakers, 100, 90))));
+
+        // The rebuilt season would miss the games played before the unknown team showed up
+        assertEquals(Optional.empty(), cube.getStandings(LocalDate.of(2024, 10, 25)));
+
+        // A reload with the team known serves the season again
+        when(teamRepository.findAll()).thenReturn(List.of(celtics, heat, lakers, expansion));
+        teamRegistry.reload();
+        stubStoredGames(List.of(
+                new Game(1L, LocalDate.of(2024, 10, 22), celtics, heat, 110, 100),
+                new Game(2L, LocalDate.of(2024, 10, 23), expansion, lakers, 100, 90),
+                new Game(3L, LocalDate.of(2024, 10, 24), heat, lakers, 100, 90),
+                new Game(4L, LocalDate.of(2024, 10, 26), celtics, lakers, 100, 90)));
+        cube.load();
+
+        Map<Long, TeamStanding> standings = cube.getStandings(LocalDate.of(2024, 10, 25)).orElseThrow();
+        assertEquals(1, standings.get(99L).getWins());
+        assertEquals(2, standings.get(3L).getLosses());
+    }
+
+    @Test
+    void testGetStandings_BreaksTiesWithHeadToHead() {
+        when(teamRepository.findAll()).thenReturn(List.of(celtics, heat, lakers));
+        stubStoredGames(List.of(
+                new Game(1L, LocalDate.of(2024, 10, 22), heat, celtics, 105, 100),
+                new Game(2L, LocalDate.of(2024, 10, 23), celtics, lakers, 110, 100),
+                new Game(3L, LocalDate.of(2024, 10, 24), lakers, heat, 99, 98),
+                new Game(4L, LocalDate.of(2024, 10, 26), lakers, celtics, 120, 118)));
+        cube.load();
+
+        Map<Long, TeamStanding> standings = cube.getStandings(LocalDate.of(2024, 10, 25)).orElseThrow();
+
+        // Celtics and Heat are both 1-1; the Heat won their meeting
+        assertEquals(1, standings.get(2L).getConferenceRank());
+        assertEquals(2, standings.get(1L).getConferenceRank());
+        assertEquals(1, standings.get(2L).getConferenceWins());
+        assertEquals(1, standings.get(1L).getConferenceLosses());
+    }
+
+    @Test
+    void testGetStandings_TracksStreaksWhenGamesArriveOutOfOrder() {
+        when(teamRepository.findAll()).thenReturn(List.of(celtics, heat, lakers));
+        stubStoredGames(List.of(
+                new Game(3L, LocalDate.of(2024, 10, 26), celtics, heat, 110, 100),
+                new Game(1L, LocalDate.of(2024, 10, 22), heat, celtics, 110, 100),
+                new Game(4L, LocalDate.of(2024, 10, 28), lakers, heat, 110, 100)));
+        cube.load();
+        cube.onGamesSaved(new GamesSavedEvent(List.of(
+                new Game(2L, LocalDate.of(2024, 10, 24), celtics, lakers, 110, 100))));
+
+        Map<Long, TeamStanding> standings = cube.getStandings(LocalDate.of(2024, 10, 27)).orElseThrow();
+
+        // Celtics went L, W, W; the Heat went W, L
+        assertEquals(2, standings.get(1L).getStreak());
+        assertEquals(0b011, standings.get(1L).getLastTenResults());
+        assertEquals(2, standings.get(1L).getLastTenWins());
+        assertEquals(1, standings.get(1L).getLastTenLosses());
+        assertEquals(-1, standings.get(2L).getStreak());
+        assertEquals(0b10, standings.get(2L).getLastTenResults());
+        assertEquals(-1, standings.get(3L).getStreak());
+    }
+
+    @Test
+    void testGetStandings_WhenDisabled_ReturnsEmpty() {
+        SeasonStandingsCube disabledCube = new SeasonStandingsCube(gameRepository, new TeamRegistry(teamRepository),
+                new StandingsCalculator(), new SeasonDateUtility(), false);
+        disabledCube.load();
+
+        assertEquals(Optional.empty(), disabledCube.getStandings(LocalDate.of(2024, 10, 22)));
+        verifyNoInteractions(gameRepository, teamRepository);
+    }
+}
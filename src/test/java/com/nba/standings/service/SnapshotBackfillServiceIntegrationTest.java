@@ -0,0 +1,136 @@
+package com.nba.standings.service;
+
+import com.nba.standings.client.NBAApiClient;
+import com.nba.standings.model.entity.Game;
+import com.nba.standings.model.entity.StandingsSnapshot;
+import com.nba.standings.model.entity.Team;
+import com.nba.standings.model.enums.Conference;
+import com.nba.standings.model.enums.Division;
+import com.nba.standings.repository.GameRepository;
+import com.nba.standings.repository.StandingsSnapshotRepository;
+import com.nba.standings.repository.TeamRepository;
+import com.nba.standings.service.SnapshotBackfillService.BackfillResult;
+import com.nba.standings.service.StandingsCalculator.TeamStanding;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for SnapshotBackfillService.
+ * Tests that batch-inserted snapshots match calculated standings with a real database.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+@Transactional
+class SnapshotBackfillServiceIntegrationTest {
+
+    @Autowired
+    private SnapshotBackfillService snapshotBackfillService;
+
+    @Autowired
+    private StandingsCalculator standingsCalculator;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamRegistry teamRegistry;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private StandingsSnapshotRepository standingsSnapshotRepository;
+
+    @MockBean
+    private NBAApiClient nbaApiClient;
+
+    private Team celtics;
+    private Team heat;
+    private Team lakers;
+    private Team nuggets;
+
+    @BeforeEach
+    void setUp() {
+        // Clean up database
+        standingsSnapshotRepository.deleteAll();
+        gameRepository.deleteAll();
+        teamRepository.deleteAll();
+
+        // Create test teams
+        celtics = teamRepository.save(new Team(1, "Boston Celtics", "BOS", Division.ATLANTIC, Conference.EASTERN));
+        heat = teamRepository.save(new Team(2, "Miami Heat", "MIA", Division.SOUTHEAST, Conference.EASTERN));
+        lakers = teamRepository.save(new Team(3, "Los Angeles Lakers", "LAL", Division.PACIFIC, Conference.WESTERN));
+        nuggets = teamRepository.save(new Team(4, "Denver Nuggets", "DEN", Division.NORTHWEST, Conference.WESTERN));
+        teamRegistry.reload();
+
+        // Previous season game that must not be counted
+        gameRepository.save(new Game(1L, LocalDate.of(2024, 4, 10), heat, celtics, 100, 90));
+
+        gameRepository.save(new Game(100L, LocalDate.of(2024, 10, 22), celtics, heat, 110, 105));
+        gameRepository.save(new Game(101L, LocalDate.of(2024, 10, 22), lakers, nuggets, 115, 108));
+        gameRepository.save(new Game(102L, LocalDate.of(2024, 10, 24), heat, celtics, 101, 99));
+        gameRepository.save(new Game(103L, LocalDate.of(2024, 10, 26), nuggets, lakers, 120, 100));
+    }
+
+    @Test
+    void testBackfillSeason_WritesSnapshotsForEveryDateBeforeLatestGameDate() {
+        BackfillResult result = snapshotBackfillService.backfillSeason(LocalDate.of(2024, 11, 15));
+
+        // October 1st through October 25th, four teams each
+        assertEquals(LocalDate.of(2024, 10, 1), result.seasonStart());
+        assertEquals(LocalDate.of(2024, 10, 25), result.throughDate());
+        assertEquals(25, result.datesWritten());
+        assertEquals(100, result.rowsWritten());
+        assertEquals(100, standingsSnapshotRepository.count());
+        assertTrue(standingsSnapshotRepository.findWithTeamBySnapshotDate(LocalDate.of(2024, 10, 26)).isEmpty());
+
+        LocalDate date = LocalDate.of(2024, 10, 24);
+        Map<Long, TeamStanding> expected = standingsCalculator.calculateRankedStandings(
+                gameRepository.findByGameDateBetween(LocalDate.of(2024, 10, 1), date),
+                List.of(celtics, heat, lakers, nuggets));
+        List<StandingsSnapshot> snapshots = standingsSnapshotRepository.findWithTeamBySnapshotDate(date);
+        assertEquals(4, snapshots.size());
+        for (StandingsSnapshot snapshot : snapshots) {
+            TeamStanding standing = expected.get(snapshot.getTeam().getId());
+            assertEquals(standing.getWins(), snapshot.getWins());
+            assertEquals(standing.getLosses(), snapshot.getLosses());
+            assertEquals(0, standing.getWinPct().compareTo(snapshot.getWinPct()));
+            assertEquals(standing.getDivisionRank(), snapshot.getDivisionRank());
+            assertEquals(standing.getConferenceRank(), snapshot.getConferenceRank());
+            assertArrayEquals(standing.getHeadToHeadRow(), snapshot.getHeadToHeadWins());
+            assertEquals(standing.getStreak(), snapshot.getStreak());
+            assertEquals(standing.getLastTenResults(), snapshot.getLastTenResults());
+        }
+    }
+
+    @Test
+    void testBackfillSeason_SkipsDatesThatAreAlreadyCached() {
+        snapshotBackfillService.backfillSeason(LocalDate.of(2024, 10, 1));
+
+        BackfillResult result = snapshotBackfillService.backfillSeason(LocalDate.of(2024, 10, 1));
+
+        assertEquals(0, result.datesWritten());
+        assertEquals(0, result.rowsWritten());
+        assertEquals(100, standingsSnapshotRepository.count());
+    }
+
+    @Test
+    void testBackfillSeason_WithNoGames_WritesNothing() {
+        BackfillResult result = snapshotBackfillService.backfillSeason(LocalDate.of(2025, 11, 1));
+
+        assertNull(result.throughDate());
+        assertEquals(0, result.rowsWritten());
+        assertEquals(0, standingsSnapshotRepository.count());
+    }
+}
@@ -0,0 +1,163 @@
+package com.nba.standings.service;
+
+import com.nba.standings.model.entity.StandingsSnapshot;
+import com.nba.standings.model.entity.Team;
+import com.nba.standings.model.enums.Conference;
+import com.nba.standings.model.enums.Division;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SnapshotWriteBehindQueueTest {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2024, 10, 22);
+    private static final LocalDate SECOND_DATE = LocalDate.of(2024, 10, 23);
+    private static final LocalDate THIRD_DATE = LocalDate.of(2024, 10, 24);
+
+    @Mock
+    private SnapshotStore snapshotStore;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SnapshotWriteBehindQueue queue;
+    private Team celtics;
+    private Team heat;
+
+    @BeforeEach
+    void setUp() {
+        // Flush only when the tests ask for it
+        queue = createQueue(100, 10);
+        celtics = new Team(1, "Boston Celtics", "BOS", Division.ATLANTIC, Conference.EASTERN);
+        heat = new Team(2, "Miami Heat", "MIA", Division.SOUTHEAST, Conference.EASTERN);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        queue.close();
+    }
+
+    @Test
+    void testEnqueue_ServesSnapshotsUntilFlushed() {
+        List<StandingsSnapshot> snapshots = snapshots(FIRST_DATE);
+
+        queue.enqueue(FIRST_DATE, snapshots);
+        assertEquals(snapshots, queue.findPending(FIRST_DATE));
+        assertTrue(queue.findPending(SECOND_DATE).isEmpty());
+
+        assertEquals(1, queue.flush());
+        verify(snapshotStore).saveAllIgnoringExisting(snapshots);
+        verify(transactionManager).commit(any());
+        assertTrue(queue.findPending(FIRST_DATE).isEmpty());
+        assertEquals(0, queue.pendingDates());
+    }
+
+    @Test
+    void testEnqueue_DateAlreadyQueuedKeepsItsFirstSnapshots() {
+        List<StandingsSnapshot> first = snapshots(FIRST_DATE);
+
+        queue.enqueue(FIRST_DATE, first);
+        queue.enqueue(FIRST_DATE, snapshots(FIRST_DATE));
+
+        assertSame(first.get(0), queue.findPending(FIRST_DATE).get(0));
+        assertEquals(1, queue.pendingDates());
+    }
+
+    @Test
+    void testEnqueue_FullQueueWritesSynchronously() throws InterruptedException {
+        queue.close();
+        queue = createQueue(100, 2);
+        List<StandingsSnapshot> third = snapshots(THIRD_DATE);
+
+        queue.enqueue(FIRST_DATE, snapshots(FIRST_DATE));
+        queue.enqueue(SECOND_DATE, snapshots(SECOND_DATE));
+        queue.enqueue(THIRD_DATE, third);
+
+        verify(snapshotStore).saveAllIgnoringExisting(third);
+        assertEquals(2, queue.pendingDates());
+        assertTrue(queue.findPending(THIRD_DATE).isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFlush_WritesOldestDatesFirstInBatches() throws InterruptedException {
+        queue.close();
+        queue = createQueue(2, 10);
+
+        queue.enqueue(SECOND_DATE, snapshots(SECOND_DATE));
+        queue.enqueue(FIRST_DATE, snapshots(FIRST_DATE));
+        queue.enqueue(THIRD_DATE, snapshots(THIRD_DATE));
+        // A full batch is flushed in the background, so the dates may already be written; the
+        // two oldest dates fill the first batch whether it starts before the third is enqueued or not
+        queue.flush();
+
+        ArgumentCaptor<List<StandingsSnapshot>> batches = ArgumentCaptor.forClass(List.class);
+        verify(snapshotStore, times(2)).saveAllIgnoringExisting(batches.capture());
+        assertEquals(List.of(FIRST_DATE, FIRST_DATE, SECOND_DATE, SECOND_DATE), dates(batches.getAllValues().get(0)));
+        assertEquals(List.of(THIRD_DATE, THIRD_DATE), dates(batches.getAllValues().get(1)));
+        assertEquals(0, queue.pendingDates());
+    }
+
+    @Test
+    void testFlush_FailedWriteKeepsDatesQueued() {
+        doThrow(new QueryTimeoutException("timeout")).when(snapshotStore).saveAllIgnoringExisting(anyList());
+        queue.enqueue(FIRST_DATE, snapshots(FIRST_DATE));
+
+        assertThrows(QueryTimeoutException.class, () -> queue.flush());
+        verify(transactionManager).rollback(any());
+        assertEquals(2, queue.findPending(FIRST_DATE).size());
+
+        doNothing().when(snapshotStore).saveAllIgnoringExisting(anyList());
+        assertEquals(1, queue.flush());
+        assertEquals(0, queue.pendingDates());
+    }
+
+    @Test
+    void testFlush_RejectedDateDoesNotHoldBackTheRestOfTheBatch() {
+        List<StandingsSnapshot> second = snapshots(SECOND_DATE);
+        doAnswer(invocation -> {
+            List<StandingsSnapshot> snapshots = invocation.getArgument(0);
+            if (dates(snapshots).contains(FIRST_DATE)) {
+                throw new DataIntegrityViolationException("fk_snapshot_team");
+            }
+            return null;
+        }).when(snapshotStore).saveAllIgnoringExisting(anyList());
+        queue.enqueue(FIRST_DATE, snapshots(FIRST_DATE));
+        queue.enqueue(SECOND_DATE, second);
+
+        assertEquals(1, queue.flush());
+        verify(snapshotStore).saveAllIgnoringExisting(second);
+        assertEquals(0, queue.pendingDates());
+    }
+
+    private SnapshotWriteBehindQueue createQueue(int batchSize, int maxPendingDates) {
+        return new SnapshotWriteBehindQueue(snapshotStore, transactionManager, batchSize, maxPendingDates,
+                Duration.ofHours(1));
+    }
+
+    private List<StandingsSnapshot> snapshots(LocalDate date) {
+        return List.of(
+                StandingsSnapshot.restore(date, celtics, 1, 0, 1, 1, null, 1, 1),
+                StandingsSnapshot.restore(date, heat, 0, 1, 2, 2, null, -1, 0));
+    }
+
+    private static List<LocalDate> dates(List<StandingsSnapshot> snapshots) {
+        return snapshots.stream().map(StandingsSnapshot::getSnapshotDate).toList();
+    }
+}
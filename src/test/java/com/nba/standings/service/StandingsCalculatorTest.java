@@ -1,19 +1,24 @@
 package com.nba.standings.service;
 
 import com.nba.standings.model.entity.Game;
+import com.nba.standings.model.entity.StandingsSnapshot;
 import com.nba.standings.model.entity.Team;
 import com.nba.standings.model.enums.Conference;
 import com.nba.standings.model.enums.Division;
+import com.nba.standings.model.projection.GameResult;
 import com.nba.standings.service.StandingsCalculator.TeamStanding;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
 import java.math.BigDecimal;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -193,4 +198,287 @@ class StandingsCalculatorTest {
         
         assertTrue(standing1.compareTo(standing2) < 0);
     }
+
+    @Test
+    void testAssignDivisionRanks_TwoTeamTieBrokenByHeadToHead() throws Exception {
+        Team bostonTeam = createTeamWithId(11L, 11, "Boston Celtics", "BOS", Division.ATLANTIC, Conference.EASTERN);
+        Team torontoTeam = createTeamWithId(12L, 12, "Toronto Raptors", "TOR", Division.ATLANTIC, Conference.EASTERN);
+        Team brooklynTeam = createTeamWithId(13L, 13, "Brooklyn Nets", "BKN", Division.ATLANTIC, Conference.EASTERN);
+        Team newYorkTeam = createTeamWithId(14L, 14, "New York Knicks", "NYK", Division.ATLANTIC, Conference.EASTERN);
+        LocalDate date = LocalDate.of(2025, 11, 1);
+        List<Game> games = List.of(
+            new Game(1L, date, torontoTeam, bostonTeam, 110, 100),
+            new Game(2L, date, bostonTeam, brooklynTeam, 110, 100),
+            new Game(3L, date, bostonTeam, newYorkTeam, 110, 100),
+            new Game(4L, date, brooklynTeam, torontoTeam, 110, 100),
+            new Game(5L, date, torontoTeam, newYorkTeam, 110, 100)
+        );
+        
+        Map<Long, TeamStanding> standings = calculator.calculateRankedStandings(games,
+                List.of(bostonTeam, torontoTeam, brooklynTeam, newYorkTeam));
+        
+        // Boston and Toronto are both 2-1; Toronto won their meeting
+        assertEquals(1, standings.get(12L).getDivisionRank());
+        assertEquals(2, standings.get(11L).getDivisionRank());
+        assertEquals(3, standings.get(13L).getDivisionRank());
+        assertEquals(4, standings.get(14L).getDivisionRank());
+    }
+
+    @Test
+    void testAssignConferenceRanks_DivisionLeaderWinsTie() throws Exception {
+        Team bostonTeam = createTeamWithId(11L, 11, "Boston Celtics", "BOS", Division.ATLANTIC, Conference.EASTERN);
+        Team newYorkTeam = createTeamWithId(12L, 12, "New York Knicks", "NYK", Division.ATLANTIC, Conference.EASTERN);
+        Team chicagoTeam = createTeamWithId(13L, 13, "Chicago Bulls", "CHI", Division.CENTRAL, Conference.EASTERN);
+        Team indianaTeam = createTeamWithId(14L, 14, "Indiana Pacers", "IND", Division.CENTRAL, Conference.EASTERN);
+        LocalDate date = LocalDate.of(2025, 11, 1);
+        List<Game> games = List.of(
+            new Game(1L, date, newYorkTeam, lakers, 110, 100),
+            new Game(2L, date, lakers, newYorkTeam, 110, 100),
+            new Game(3L, date, lakers, bostonTeam, 110, 100),
+            new Game(4L, date, bostonTeam, lakers, 100, 110),
+            new Game(5L, date, chicagoTeam, lakers, 110, 100),
+            new Game(6L, date, lakers, chicagoTeam, 100, 110),
+            new Game(7L, date, indianaTeam, lakers, 110, 100),
+            new Game(8L, date, lakers, indianaTeam, 110, 100)
+        );
+        
+        Map<Long, TeamStanding> standings = calculator.calculateRankedStandings(games,
+                List.of(bostonTeam, newYorkTeam, chicagoTeam, indianaTeam, lakers));
+        
+        // New York (Atlantic leader) and Indiana (second in the Central) are both 1-1 and never met
+        assertEquals(1, standings.get(13L).getConferenceRank());
+        assertEquals(2, standings.get(12L).getConferenceRank());
+        assertEquals(3, standings.get(14L).getConferenceRank());
+        assertEquals(4, standings.get(11L).getConferenceRank());
+    }
+
+    @Test
+    void testAssignDivisionRanks_MultiTeamTieRestartsAfterDivisionRecord() throws Exception {
+        Team torontoTeam = createTeamWithId(11L, 11, "Toronto Raptors", "TOR", Division.ATLANTIC, Conference.EASTERN);
+        Team philadelphiaTeam = createTeamWithId(12L, 12, "Philadelphia 76ers", "PHI", Division.ATLANTIC, Conference.EASTERN);
+        Team brooklynTeam = createTeamWithId(13L, 13, "Brooklyn Nets", "BKN", Division.ATLANTIC, Conference.EASTERN);
+        Team newYorkTeam = createTeamWithId(14L, 14, "New York Knicks", "NYK", Division.ATLANTIC, Conference.EASTERN);
+        LocalDate date = LocalDate.of(2025, 11, 1);
+        List<Game> games = List.of(
+            // Toronto, Philadelphia and Brooklyn each go 1-1 against the other two
+            new Game(1L, date, torontoTeam, philadelphiaTeam, 110, 100),
+            new Game(2L, date, philadelphiaTeam, brooklynTeam, 110, 100),
+            new Game(3L, date, brooklynTeam, torontoTeam, 110, 100),
+            // Toronto's third win comes in the division, the others' outside it
+            new Game(4L, date, torontoTeam, newYorkTeam, 110, 100),
+            new Game(5L, date, philadelphiaTeam, lakers, 110, 100),
+            new Game(6L, date, brooklynTeam, lakers, 110, 100)
+        );
+        
+        Map<Long, TeamStanding> standings = calculator.calculateRankedStandings(games,
+                List.of(torontoTeam, philadelphiaTeam, brooklynTeam, newYorkTeam, lakers));
+        
+        // Toronto wins on division record; Philadelphia and Brooklyn restart as a two-team tie on head-to-head
+        assertEquals(1, standings.get(11L).getDivisionRank());
+        assertEquals(2, standings.get(12L).getDivisionRank());
+        assertEquals(3, standings.get(13L).getDivisionRank());
+        assertEquals(4, standings.get(14L).getDivisionRank());
+    }
+
+    @Test
+    void testCalculateStandings_TracksHeadToHeadAndGroupRecords() {
+        List<Game> games = List.of(
+            new Game(1L, LocalDate.now(), lakers, warriors, 110, 105),
+            new Game(2L, LocalDate.now(), celtics, lakers, 100, 95)
+        );
+        
+        Map<Long, TeamStanding> standings = calculator.calculateStandings(games, List.of(celtics, lakers, warriors));
+        
+        TeamStanding lakersStanding = standings.get(2L);
+        assertEquals(1, lakersStanding.getHeadToHeadWins(standings.get(3L)));
+        assertEquals(0, lakersStanding.getHeadToHeadWins(standings.get(1L)));
+        assertEquals(1, lakersStanding.getDivisionWins());
+        assertEquals(0, lakersStanding.getDivisionLosses());
+        assertEquals(1, lakersStanding.getConferenceWins());
+        assertEquals(0, lakersStanding.getConferenceLosses());
+        assertEquals(0, standings.get(1L).getConferenceWins());
+    }
+
+    @Test
+    void testCalculateStandings_TracksStreakAndLastTen() {
+        // Celtics win 5, lose 1, then win 7 in a row
+        List<Game> games = new ArrayList<>();
+        LocalDate date = LocalDate.of(2024, 10, 22);
+        for (int i = 0; i < 13; i++) {
+            boolean celticsWin = i != 5;
+            games.add(new Game((long) i, date.plusDays(i), celtics, lakers, celticsWin ? 110 : 100, celticsWin ? 100 : 110));
+        }
+        
+        Map<Long, TeamStanding> standings = calculator.calculateStandings(games, List.of(celtics, lakers, warriors));
+        
+        TeamStanding celticsStanding = standings.get(1L);
+        assertEquals(7, celticsStanding.getStreak());
+        assertEquals(10, celticsStanding.getLastTenGames());
+        assertEquals(9, celticsStanding.getLastTenWins());
+        assertEquals(1, celticsStanding.getLastTenLosses());
+        
+        TeamStanding lakersStanding = standings.get(2L);
+        assertEquals(-7, lakersStanding.getStreak());
+        assertEquals(1, lakersStanding.getLastTenWins());
+        assertEquals(9, lakersStanding.getLastTenLosses());
+        
+        TeamStanding warriorsStanding = standings.get(3L);
+        assertEquals(0, warriorsStanding.getStreak());
+        assertEquals(0, warriorsStanding.getLastTenGames());
+    }
+
+    @Test
+    void testCalculateStandingsFromCheckpoint_SeedsRecordsFromSnapshots() {
+        LocalDate checkpointDate = LocalDate.of(2025, 10, 23);
+        List<StandingsSnapshot> checkpoint = List.of(
+            new StandingsSnapshot(checkpointDate, celtics, 2, 0, new BigDecimal("1.000"), 1, 1),
+            new StandingsSnapshot(checkpointDate, lakers, 1, 1, new BigDecimal("0.500"), 1, 1),
+            new StandingsSnapshot(checkpointDate, warriors, 0, 2, BigDecimal.ZERO, 2, 2)
+        );
+        List<Game> games = List.of(
+            new Game(10L, checkpointDate.plusDays(1), warriors, celtics, 115, 110)
+        );
+        List<Team> teams = List.of(celtics, lakers, warriors);
+        
+        Map<Long, TeamStanding> standings = calculator.calculateStandingsFromCheckpoint(checkpoint, results(games), teams);
+        
+        assertEquals(2, standings.get(1L).getWins());
+        assertEquals(1, standings.get(1L).getLosses());
+        assertEquals(new BigDecimal("0.667"), standings.get(1L).getWinPct());
+        
+        assertEquals(1, standings.get(2L).getWins());
+        assertEquals(1, standings.get(2L).getLosses());
+        
+        assertEquals(1, standings.get(3L).getWins());
+        assertEquals(2, standings.get(3L).getLosses());
+        assertEquals(new BigDecimal("0.333"), standings.get(3L).getWinPct());
+    }
+
+    @Test
+    void testCalculateStandingsFromCheckpoint_MatchesFullCalculationForEverySeasonDate() throws Exception {
+        List<Team> teams = createLeague();
+        LocalDate seasonStart = LocalDate.of(2024, 10, 22);
+        LocalDate seasonEnd = LocalDate.of(2025, 4, 13);
+        List<Game> season = createSyntheticSeason(teams, seasonStart, seasonEnd, 42L);
+        
+        List<StandingsSnapshot> checkpoint = List.of();
+        LocalDate checkpointDate = seasonStart.minusDays(1);
+        
+        for (LocalDate date = seasonStart; !date.isAfter(seasonEnd); date = date.plusDays(1)) {
+            Map<Long, TeamStanding> full = calculator.calculateStandings(gamesBetween(season, null, date), teams);
+            calculator.assignDivisionRanks(full);
+            calculator.assignConferenceRanks(full);
+            
+            Map<Long, TeamStanding> incremental = calculator.calculateStandingsFromCheckpoint(
+                    checkpoint, results(gamesBetween(season, checkpointDate, date)), teams);
+            calculator.assignDivisionRanks(incremental);
+            calculator.assignConferenceRanks(incremental);
+            
+            for (Team team : teams) {
+                TeamStanding expected = full.get(team.getId());
+                TeamStanding actual = incremental.get(team.getId());
+                String context = team.getTeamName() + " on " + date;
+                assertEquals(expected.getWins(), actual.getWins(), context);
+                assertEquals(expected.getLosses(), actual.getLosses(), context);
+                assertEquals(expected.getWinPct(), actual.getWinPct(), context);
+                assertEquals(expected.getDivisionRank(), actual.getDivisionRank(), context);
+                assertEquals(expected.getConferenceRank(), actual.getConferenceRank(), context);
+                assertEquals(expected.getStreak(), actual.getStreak(), context);
+                assertEquals(expected.getLastTenResults(), actual.getLastTenResults(), context);
+            }
+            
+            // Take a new checkpoint once a week, like cached snapshots accumulating over a season
+            if (date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                List<StandingsSnapshot> snapshots = new ArrayList<>();
+                for (TeamStanding standing : incremental.values()) {
+                    snapshots.add(StandingsSnapshot.fromTeamStanding(date, standing));
+                }
+                checkpoint = snapshots;
+                checkpointDate = date;
+            }
+        }
+    }
+    
+    @Test
+    void testSweepStandings_MatchesRankedStandingsForEveryDate() throws Exception {
+        List<Team> teams = createLeague();
+        LocalDate seasonStart = LocalDate.of(2024, 10, 22);
+        LocalDate seasonEnd = LocalDate.of(2025, 4, 13);
+        List<Game> season = new ArrayList<>(createSyntheticSeason(teams, seasonStart, seasonEnd, 11L));
+        Collections.shuffle(season, new Random(3L));
+        
+        LocalDate from = seasonStart.plusDays(30);
+        List<LocalDate> dates = new ArrayList<>();
+        List<GameResult> results = season.stream().map(GameResult::of).toList();
+        calculator.sweepStandings(results, teams, from, seasonEnd, (date, swept) -> {
+            dates.add(date);
+            Map<Long, TeamStanding> expected = calculator.calculateRankedStandings(gamesBetween(season, null, date), teams);
+            for (Team team : teams) {
+                String context = team.getTeamName() + " on " + date;
+                assertEquals(expected.get(team.getId()).getWins(), swept.get(team.getId()).getWins(), context);
+                assertEquals(expected.get(team.getId()).getLosses(), swept.get(team.getId()).getLosses(), context);
+                assertEquals(expected.get(team.getId()).getDivisionRank(), swept.get(team.getId()).getDivisionRank(), context);
+                assertEquals(expected.get(team.getId()).getConferenceRank(), swept.get(team.getId()).getConferenceRank(), context);
+            }
+        });
+        
+        assertEquals(from, dates.get(0));
+        assertEquals(seasonEnd, dates.get(dates.size() - 1));
+        assertEquals(from.datesUntil(seasonEnd.plusDays(1)).count(), dates.size());
+    }
+    
+    /**
+     * Creates a 30-team league with five teams in each division.
+     */
+    private List<Team> createLeague() throws Exception {
+        List<Team> teams = new ArrayList<>();
+        long id = 1;
+        for (Division division : Division.values()) {
+            Conference conference = division.ordinal() < 3 ? Conference.EASTERN : Conference.WESTERN;
+            for (int i = 0; i < 5; i++) {
+                teams.add(createTeamWithId(id, (int) id, division.name() + " Team " + i, "T" + id, division, conference));
+                id++;
+            }
+        }
+        return teams;
+    }
+    
+    /**
+     * Creates a reproducible season where every team plays at most once per day.
+     */
+    private List<Game> createSyntheticSeason(List<Team> teams, LocalDate start, LocalDate end, long seed) {
+        Random random = new Random(seed);
+        List<Game> games = new ArrayList<>();
+        long gameId = 1;
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            List<Team> available = new ArrayList<>(teams);
+            Collections.shuffle(available, random);
+            int gamesToday = random.nextInt(available.size() / 2 + 1);
+            for (int i = 0; i < gamesToday; i++) {
+                Team home = available.get(2 * i);
+                Team away = available.get(2 * i + 1);
+                int homeScore = 90 + random.nextInt(40);
+                int awayScore = homeScore + (random.nextBoolean() ? 1 : -1) * (1 + random.nextInt(15));
+                games.add(new Game(gameId++, date, home, away, homeScore, awayScore));
+            }
+        }
+        return games;
+    }
+    
+    /**
+     * Returns games played after {@code after} (exclusive, null for no lower bound) and on or before {@code upTo}.
+     */
+    private List<Game> gamesBetween(List<Game> games, LocalDate after, LocalDate upTo) {
+        List<Game> result = new ArrayList<>();
+        for (Game game : games) {
+            if ((after == null || game.getGameDate().isAfter(after)) && !game.getGameDate().isAfter(upTo)) {
+                result.add(game);
+            }
+        }
+        return result;
+    }
+    
+    private List<GameResult> results(List<Game> games) {
+        return games.stream().map(GameResult::of).toList();
+    }
 }
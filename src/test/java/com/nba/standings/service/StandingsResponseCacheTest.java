@@ -0,0 +1,154 @@
+package com.nba.standings.service;
+
+import com.nba.standings.model.entity.Game;
+import com.nba.standings.model.entity.Team;
+import com.nba.standings.model.enums.Conference;
+import com.nba.standings.model.enums.Division;
+import com.nba.standings.model.enums.GroupBy;
+import com.nba.standings.service.StandingsCalculator.TeamStanding;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StandingsResponseCacheTest {
+
+    private StandingsResponseCache cache;
+    private Team celtics;
+    private Map<String, List<TeamStanding>> standings;
+
+    @BeforeEach
+    void setUp() {
+        cache = new StandingsResponseCache(4, 1 << 20, Duration.ofMinutes(1), Duration.ofMinutes(15));
+        celtics = new Team(1, "Boston Celtics", "BOS", Division.ATLANTIC, Conference.EASTERN);
+        standings = Map.of("EASTERN", List.of(new TeamStanding(celtics)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testPut_InsideTransactionStoresOnlyAfterCommit() {
+        LocalDate date = LocalDate.of(2024, 11, 1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.put(date, GroupBy.CONFERENCE, standings, cache.startCalculation());
+        assertTrue(cache.get(date, GroupBy.CONFERENCE).isEmpty());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(standings, cache.get(date, GroupBy.CONFERENCE).orElseThrow());
+        assertTrue(cache.get(date, GroupBy.DIVISION).isEmpty());
+    }
+
+    @Test
+    void testOnGamesSaved_EvictsDatesFromEarliestGame() {
+        LocalDate before = LocalDate.of(2024, 11, 1);
+        LocalDate after = LocalDate.of(2024, 11, 3);
+        cache.put(before, GroupBy.CONFERENCE, standings, cache.startCalculation());
+        cache.put(after, GroupBy.CONFERENCE, standings, cache.startCalculation());
+        cache.put(after, GroupBy.DIVISION, standings, cache.startCalculation());
+
+        Team lakers = new Team(2, "Los Angeles Lakers", "LAL", Division.PACIFIC, Conference.WESTERN);
+        cache.onGamesSaved(new GamesSavedEvent(List.of(
+                new Game(1L, LocalDate.of(2024, 11, 4), celtics, lakers, 100, 90),
+                new Game(2L, LocalDate.of(2024, 11, 2), lakers, celtics, 100, 90))));
+
+        assertTrue(cache.get(before, GroupBy.CONFERENCE).isPresent());
+        assertTrue(cache.get(after, GroupBy.CONFERENCE).isEmpty());
+        assertTrue(cache.get(after, GroupBy.DIVISION).isEmpty());
+    }
+
+    @Test
+    void testPutBody_StoresJsonWithGzipVariantUntilEvicted() throws IOException {
+        LocalDate date = LocalDate.of(2024, 11, 1);
+        byte[] json = "{\"groupBy\":\"CONFERENCE\"}".getBytes(StandardCharsets.UTF_8);
+        cache.putBody(date, GroupBy.CONFERENCE, StandingsResponseCache.ResponseBody.of(json), cache.startCalculation());
+
+        StandingsResponseCache.ResponseBody body = cache.getBody(date, GroupBy.CONFERENCE).orElseThrow();
+        assertArrayEquals(json, body.json());
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body.gzip()))) {
+            assertArrayEquals(json, gzip.readAllBytes());
+        }
+
+        cache.evictFrom(date);
+        assertTrue(cache.getBody(date, GroupBy.CONFERENCE).isEmpty());
+    }
+
+    @Test
+    void testOnScheduleChanged_EvictsBodiesOfTheSeasonOnly() {
+        LocalDate date = LocalDate.of(2024, 11, 1);
+        LocalDate lastSeason = LocalDate.of(2024, 3, 1);
+        byte[] json = "{}".getBytes(StandardCharsets.UTF_8);
+        cache.put(date, GroupBy.CONFERENCE, standings, cache.startCalculation());
+        cache.putBody(date, GroupBy.CONFERENCE, StandingsResponseCache.ResponseBody.of(json), cache.startCalculation());
+        cache.putBody(lastSeason, GroupBy.CONFERENCE, StandingsResponseCache.ResponseBody.of(json),
+                cache.startCalculation());
+
+        cache.onScheduleChanged(new ScheduleChangedEvent(Set.of(2024)));
+
+        // Only the bodies include clinch statuses
+        assertTrue(cache.get(date, GroupBy.CONFERENCE).isPresent());
+        assertTrue(cache.getBody(date, GroupBy.CONFERENCE).isEmpty());
+        assertTrue(cache.getBody(lastSeason, GroupBy.CONFERENCE).isPresent());
+    }
+
+    @Test
+    void testEvictFrom_MarksProvisionalStandingsStaleButKeepsThem() {
+        LocalDate today = LocalDate.of(2024, 11, 1);
+        cache.putProvisional(today, Map.of(1L, new TeamStanding(celtics)), cache.startCalculation());
+        assertFalse(cache.getProvisional(today).orElseThrow().isStale());
+
+        cache.evictFrom(today);
+
+        StandingsResponseCache.ProvisionalStandings stale = cache.getProvisional(today).orElseThrow();
+        assertTrue(stale.isStale());
+        assertEquals(1, stale.standings().size());
+    }
+
+    @Test
+    void testPut_SkipsCalculationThatOverlappedAnEviction() {
+        LocalDate date = LocalDate.of(2024, 11, 1);
+        long token = cache.startCalculation();
+        cache.evictFrom(LocalDate.of(2024, 12, 1));
+
+        Map<String, List<TeamStanding>> returned = cache.put(date, GroupBy.CONFERENCE, standings, token);
+
+        assertEquals(standings, returned);
+        assertTrue(cache.get(date, GroupBy.CONFERENCE).isEmpty());
+    }
+
+    @Test
+    void testBindTo_PublishesHitMissAndSizeMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        LocalDate date = LocalDate.of(2024, 11, 1);
+
+        cache.get(date, GroupBy.CONFERENCE);
+        cache.put(date, GroupBy.CONFERENCE, standings, cache.startCalculation());
+        cache.get(date, GroupBy.CONFERENCE);
+
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "standings").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "standings").tag("result", "miss")
+                .functionCounter().count());
+        assertEquals(4.0, registry.get("standings.cache.maximum.size").gauge().value());
+    }
+}
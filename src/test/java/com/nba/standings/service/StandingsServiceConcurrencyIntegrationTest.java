@@ -0,0 +1,133 @@
+package com.nba.standings.service;
+
+import com.nba.standings.client.NBAApiClient;
+import com.nba.standings.dto.NBAGamesResponse;
+import com.nba.standings.model.entity.Game;
+import com.nba.standings.model.entity.Team;
+import com.nba.standings.model.enums.Conference;
+import com.nba.standings.model.enums.Division;
+import com.nba.standings.model.enums.GroupBy;
+import com.nba.standings.repository.GameRepository;
+import com.nba.standings.repository.StandingsSnapshotRepository;
+import com.nba.standings.repository.TeamRepository;
+import com.nba.standings.service.StandingsCalculator.TeamStanding;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Concurrency tests for StandingsService.
+ * Not transactional: concurrent requests run in their own transactions and must see each
+ * other's committed data, so the test cleans up after itself instead of rolling back.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class StandingsServiceConcurrencyIntegrationTest {
+
+    private static final int REQUESTS = 200;
+
+    // Cached standings live as long as the application context, so use a date no other test uses
+    private static final LocalDate DATE = LocalDate.of(2023, 11, 15);
+
+    @Autowired
+    private StandingsService standingsService;
+
+    @Autowired
+    private StandingsResponseCache standingsResponseCache;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamRegistry teamRegistry;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private StandingsSnapshotRepository standingsSnapshotRepository;
+
+    @Autowired
+    private SnapshotWriteBehindQueue snapshotWriteBehindQueue;
+
+    @MockBean
+    private NBAApiClient nbaApiClient;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+
+        Team celtics = teamRepository.save(new Team(1, "Boston Celtics", "BOS", Division.ATLANTIC, Conference.EASTERN));
+        Team heat = teamRepository.save(new Team(2, "Miami Heat", "MIA", Division.SOUTHEAST, Conference.EASTERN));
+        Team lakers = teamRepository.save(new Team(3, "Los Angeles Lakers", "LAL", Division.PACIFIC, Conference.WESTERN));
+        Team nuggets = teamRepository.save(new Team(4, "Denver Nuggets", "DEN", Division.NORTHWEST, Conference.WESTERN));
+        teamRegistry.reload();
+        gameRepository.save(new Game(100L, DATE.minusDays(1), celtics, heat, 110, 105));
+        gameRepository.save(new Game(101L, DATE, nuggets, lakers, 115, 108));
+
+        // A slow upstream call keeps the first request busy while the others arrive
+        NBAGamesResponse emptyResponse = new NBAGamesResponse();
+        emptyResponse.setData(List.of());
+        when(nbaApiClient.getAllGames(any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(Mono.just(emptyResponse).delayElement(Duration.ofMillis(300)));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        standingsResponseCache.evictFrom(DATE);
+        snapshotWriteBehindQueue.flush();
+        standingsSnapshotRepository.deleteAll();
+        gameRepository.deleteAll();
+        teamRepository.deleteAll();
+    }
+
+    @Test
+    void testGetStandings_ConcurrentMissesRunOneCalculation() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Map<String, List<TeamStanding>>>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < REQUESTS; i++) {
+                GroupBy groupBy = i % 2 == 0 ? GroupBy.DIVISION : GroupBy.CONFERENCE;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return standingsService.getStandings(DATE, groupBy);
+                }));
+            }
+            start.countDown();
+
+            for (int i = 0; i < REQUESTS; i++) {
+                Map<String, List<TeamStanding>> standings = results.get(i).get();
+                String leader = i % 2 == 0 ? Division.NORTHWEST.name() : Conference.WESTERN.name();
+                assertEquals("Denver Nuggets", standings.get(leader).get(0).getTeam().getTeamName());
+                assertEquals(1, standings.get(leader).get(0).getWins());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // One upstream fetch and one set of snapshots, with no unique constraint violations
+        verify(nbaApiClient, times(1)).getAllGames(any(LocalDate.class), any(LocalDate.class));
+        assertEquals(1, snapshotWriteBehindQueue.flush());
+        assertEquals(4, standingsSnapshotRepository.findWithTeamBySnapshotDate(DATE).size());
+    }
+}
@@ -14,12 +14,20 @@ import com.nba.standings.repository.GameRepository;
 import com.nba.standings.repository.StandingsSnapshotRepository;
 import com.nba.standings.repository.TeamRepository;
 import com.nba.standings.service.StandingsCalculator.TeamStanding;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
@@ -46,15 +54,33 @@ class StandingsServiceIntegrationTest {
     @Autowired
     private TeamRepository teamRepository;
 
+    @Autowired
+    private TeamRegistry teamRegistry;
+
     @Autowired
     private GameRepository gameRepository;
 
     @Autowired
     private StandingsSnapshotRepository standingsSnapshotRepository;
 
+    @Autowired
+    private SnapshotWriteBehindQueue snapshotWriteBehindQueue;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @MockBean
     private NBAApiClient nbaApiClient;
 
+    @SpyBean
+    private SeasonStandingsCube seasonStandingsCube;
+
+    @SpyBean
+    private StandingsResponseCache standingsResponseCache;
+
     private Team celtics;
     private Team heat;
     private Team lakers;
@@ -63,6 +89,7 @@ class StandingsServiceIntegrationTest {
     @BeforeEach
     void setUp() {
         // Clean up database
+        snapshotWriteBehindQueue.flush();
         standingsSnapshotRepository.deleteAll();
         gameRepository.deleteAll();
         teamRepository.deleteAll();
@@ -72,6 +99,7 @@ class StandingsServiceIntegrationTest {
         heat = teamRepository.save(new Team(2, "Miami Heat", "MIA", Division.SOUTHEAST, Conference.EASTERN));
         lakers = teamRepository.save(new Team(3, "Los Angeles Lakers", "LAL", Division.PACIFIC, Conference.WESTERN));
         nuggets = teamRepository.save(new Team(4, "Denver Nuggets", "DEN", Division.NORTHWEST, Conference.WESTERN));
+        teamRegistry.reload();
     }
 
     @Test
@@ -98,10 +126,21 @@ class StandingsServiceIntegrationTest {
         List<Game> savedGames = gameRepository.findAll();
         assertEquals(2, savedGames.size());
 
-        // Verify standings snapshots were saved
-        assertTrue(standingsSnapshotRepository.existsBySnapshotDate(requestDate));
-        List<StandingsSnapshot> snapshots = standingsSnapshotRepository.findBySnapshotDate(requestDate);
-        assertEquals(4, snapshots.size());
+        // Snapshots are queued once the calculation commits, and written when the queue is flushed
+        assertTrue(snapshotWriteBehindQueue.findPending(requestDate).isEmpty());
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        try {
+            assertEquals(4, snapshotWriteBehindQueue.findPending(requestDate).size());
+            assertEquals(1, snapshotWriteBehindQueue.flush());
+            List<StandingsSnapshot> snapshots = standingsSnapshotRepository.findWithTeamBySnapshotDate(requestDate);
+            assertEquals(4, snapshots.size());
+        } finally {
+            // The data is committed, so it is not rolled back with the test
+            standingsSnapshotRepository.deleteAll();
+            gameRepository.deleteAll();
+            teamRepository.deleteAll();
+        }
     }
 
     @Test
@@ -143,9 +182,22 @@ class StandingsServiceIntegrationTest {
         nuggetsStanding.setDivisionRank(2);
         nuggetsStanding.setConferenceRank(2);
         standingsSnapshotRepository.save(StandingsSnapshot.fromTeamStanding(requestDate, nuggetsStanding));
-
-        // Get standings
-        Map<String, List<TeamStanding>> standings = standingsService.getStandings(requestDate, GroupBy.CONFERENCE);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Get standings, counting the SQL statements issued
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        Map<String, List<TeamStanding>> standings;
+        try {
+            standings = standingsService.getStandings(requestDate, GroupBy.CONFERENCE);
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        // The snapshots are read with their teams in a single statement
+        assertEquals(1, statistics.getPrepareStatementCount());
 
         // Verify API was NOT called
         verify(nbaApiClient, never()).getAllGames(any(LocalDate.class), any(LocalDate.class));
@@ -158,6 +210,19 @@ class StandingsServiceIntegrationTest {
         assertEquals(2, standings.get("WESTERN").size());
     }
 
+    @Test
+    void testGamesSaved_CubeAppliesGamesBeforeResponseCacheEvicts() {
+        GamesSavedEvent event = new GamesSavedEvent(List.of(
+                new Game(100L, LocalDate.of(2010, 10, 26), celtics, heat, 110, 105)));
+        TestTransaction.end();
+
+        eventPublisher.publishEvent(event);
+
+        InOrder inOrder = inOrder(seasonStandingsCube, standingsResponseCache);
+        inOrder.verify(seasonStandingsCube).onGamesSaved(event);
+        inOrder.verify(standingsResponseCache).onGamesSaved(event);
+    }
+
     @Test
     void testGetStandings_ByDivision_CorrectGrouping() {
         LocalDate requestDate = LocalDate.of(2024, 10, 22);
@@ -6,24 +6,29 @@ import com.nba.standings.model.entity.Team;
 import com.nba.standings.model.enums.Conference;
 import com.nba.standings.model.enums.Division;
 import com.nba.standings.model.enums.GroupBy;
+import com.nba.standings.model.projection.GameResult;
 import com.nba.standings.repository.GameRepository;
-import com.nba.standings.repository.StandingsSnapshotRepository;
-import com.nba.standings.repository.TeamRepository;
+import com.nba.standings.repository.StandingsChangeRepository;
 import com.nba.standings.service.StandingsCalculator.TeamStanding;
 import com.nba.standings.util.SeasonDateUtility;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -33,13 +38,16 @@ import static org.mockito.Mockito.*;
 class StandingsServiceTest {
 
     @Mock
-    private StandingsSnapshotRepository standingsSnapshotRepository;
+    private SnapshotStore snapshotStore;
 
     @Mock
     private GameRepository gameRepository;
 
     @Mock
-    private TeamRepository teamRepository;
+    private StandingsChangeRepository standingsChangeRepository;
+
+    @Mock
+    private TeamRegistry teamRegistry;
 
     @Mock
     private NBADataService nbaDataService;
@@ -47,83 +55,368 @@ class StandingsServiceTest {
     @Mock
     private StandingsCalculator standingsCalculator;
 
+    @Mock
+    private StandingsEngine standingsEngine;
+
     @Mock
     private SeasonDateUtility seasonDateUtility;
 
-    @InjectMocks
+    @Mock
+    private SeasonStandingsCube seasonStandingsCube;
+
+    @Mock
+    private SnapshotWriteBehindQueue snapshotWriteBehindQueue;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StandingsResponseCache standingsResponseCache;
+
     private StandingsService standingsService;
 
+    private static final LocalDate SEASON_START = LocalDate.of(2025, 10, 1);
+    private static final int SEASON = 2025;
+
+    private final List<Runnable> backgroundTasks = new ArrayList<>();
+
     private Team celtics;
     private Team lakers;
     private LocalDate testDate;
 
     @BeforeEach
     void setUp() {
+        // Constructed explicitly: StandingsCalculator is itself a StandingsEngine, so injection by type is ambiguous
+        standingsService = createService(Duration.ofMinutes(1));
         celtics = new Team(1, "Boston Celtics", "BOS", Division.ATLANTIC, Conference.EASTERN);
         lakers = new Team(2, "Los Angeles Lakers", "LAL", Division.PACIFIC, Conference.WESTERN);
         testDate = LocalDate.of(2025, 10, 24);
     }
 
+    private StandingsService createService(Duration provisionalFreshness) {
+        standingsResponseCache = new StandingsResponseCache(16, 1 << 20, provisionalFreshness, Duration.ofMinutes(15));
+        return new StandingsService(snapshotStore, gameRepository, standingsChangeRepository, teamRegistry,
+                nbaDataService, standingsCalculator, standingsEngine, seasonDateUtility, seasonStandingsCube,
+                standingsResponseCache, snapshotWriteBehindQueue, transactionManager, backgroundTasks::add);
+    }
+
     @Test
     void testGetStandings_WhenCached() {
-        when(standingsSnapshotRepository.existsBySnapshotDate(testDate)).thenReturn(true);
-        
         StandingsSnapshot snapshot1 = new StandingsSnapshot(testDate, celtics, 3, 0, new BigDecimal("1.000"), 1, 1);
-        when(standingsSnapshotRepository.findBySnapshotDateAndTeam_Division(testDate, Division.ATLANTIC))
-                .thenReturn(List.of(snapshot1));
+        when(snapshotStore.findByDate(testDate)).thenReturn(List.of(snapshot1));
         
         Map<String, List<TeamStanding>> result = standingsService.getStandings(testDate, GroupBy.DIVISION);
         
         assertNotNull(result);
+        assertEquals(Division.values().length, result.size());
+        assertEquals(3, result.get("ATLANTIC").get(0).getWins());
+        assertEquals(new BigDecimal("1.000"), result.get("ATLANTIC").get(0).getWinPct());
+        verify(snapshotStore, times(1)).findByDate(testDate);
         verify(nbaDataService, never()).fetchAndSaveGames(any(), any());
-        verify(standingsCalculator, never()).calculateStandings(any(), any());
+        verify(standingsEngine, never()).calculateRankedStandings(any(), any());
+    }
+
+    @Test
+    void testGetStandings_ServedFromSeasonCube() {
+        TeamStanding celticsStanding = new TeamStanding(celtics);
+        celticsStanding.setWins(3);
+        celticsStanding.calculateWinPct();
+        celticsStanding.setDivisionRank(1);
+        celticsStanding.setConferenceRank(1);
+        
+        TeamStanding lakersStanding = new TeamStanding(lakers);
+        lakersStanding.setLosses(3);
+        lakersStanding.calculateWinPct();
+        lakersStanding.setDivisionRank(1);
+        lakersStanding.setConferenceRank(1);
+        
+        Map<Long, TeamStanding> standings = new HashMap<>();
+        standings.put(1L, celticsStanding);
+        standings.put(2L, lakersStanding);
+        when(seasonStandingsCube.getStandings(testDate)).thenReturn(Optional.of(standings));
+        
+        Map<String, List<TeamStanding>> result = standingsService.getStandings(testDate, GroupBy.CONFERENCE);
+        
+        assertEquals(List.of(celticsStanding), result.get("EASTERN"));
+        assertEquals(List.of(lakersStanding), result.get("WESTERN"));
+        verifyNoInteractions(snapshotStore, gameRepository, teamRegistry, nbaDataService);
+    }
+
+    @Test
+    void testGetStandings_RepeatedRequestServedFromResponseCache() {
+        TeamStanding celticsStanding = new TeamStanding(celtics);
+        celticsStanding.setConferenceRank(1);
+        when(seasonStandingsCube.getStandings(testDate)).thenReturn(Optional.of(Map.of(1L, celticsStanding)));
+        
+        Map<String, List<TeamStanding>> first = standingsService.getStandings(testDate, GroupBy.CONFERENCE);
+        Map<String, List<TeamStanding>> second = standingsService.getStandings(testDate, GroupBy.CONFERENCE);
+        
+        assertSame(first, second);
+        assertThrows(UnsupportedOperationException.class, () -> second.get("EASTERN").clear());
+        verify(seasonStandingsCube, times(1)).getStandings(testDate);
+        verify(transactionManager, times(1)).getTransaction(any());
+        assertEquals(1, standingsResponseCache.stats().hitCount());
+        
+        // New games on or before the date evict it, so the next request recalculates
+        standingsResponseCache.evictFrom(testDate.minusDays(3));
+        standingsService.getStandings(testDate, GroupBy.CONFERENCE);
+        verify(seasonStandingsCube, times(2)).getStandings(testDate);
+    }
+
+    @Test
+    void testGetStandings_Today_CalculatedWithoutSnapshotsAndKeptWhileFresh() {
+        LocalDate today = LocalDate.now();
+        List<Team> teams = List.of(celtics, lakers);
+        when(teamRegistry.teams()).thenReturn(teams);
+        when(seasonDateUtility.determineSeasonStart(any())).thenReturn(SEASON_START);
+        when(gameRepository.findMostRecentGameDateInSeason(SEASON)).thenReturn(today);
+        Stream<GameResult> results = Stream.empty();
+        when(gameRepository.streamResultsByGameDateBetween(SEASON_START, today)).thenReturn(results);
+        TeamStanding celticsStanding = new TeamStanding(celtics);
+        celticsStanding.setConferenceRank(1);
+        when(standingsEngine.calculateRankedStandingsFromResults(results, teams)).thenReturn(Map.of(1L, celticsStanding));
+        
+        Map<String, List<TeamStanding>> first = standingsService.getStandings(today, GroupBy.CONFERENCE);
+        Map<String, List<TeamStanding>> second = standingsService.getStandings(today, GroupBy.CONFERENCE);
+        
+        assertEquals(List.of(celticsStanding), first.get("EASTERN"));
+        assertEquals(first, second);
+        verify(nbaDataService, times(1)).fetchAndSaveGames(today, today);
+        verify(snapshotWriteBehindQueue, never()).enqueue(any(), anyList());
+        assertTrue(backgroundTasks.isEmpty());
+    }
+
+    @Test
+    void testGetStandings_TodayStale_ServesStaleCopyAndRefreshesInBackground() {
+        standingsService = createService(Duration.ZERO);
+        LocalDate today = LocalDate.now();
+        List<Team> teams = List.of(celtics, lakers);
+        when(teamRegistry.teams()).thenReturn(teams);
+        when(seasonDateUtility.determineSeasonStart(any())).thenReturn(SEASON_START);
+        when(gameRepository.findMostRecentGameDateInSeason(SEASON)).thenReturn(today);
+        when(gameRepository.streamResultsByGameDateBetween(SEASON_START, today))
+                .thenAnswer(invocation -> Stream.empty());
+        TeamStanding before = new TeamStanding(celtics);
+        TeamStanding after = new TeamStanding(celtics);
+        after.setWins(1);
+        when(standingsEngine.calculateRankedStandingsFromResults(any(), eq(teams)))
+                .thenReturn(Map.of(1L, before), Map.of(1L, after));
+        
+        standingsService.getStandings(today, GroupBy.CONFERENCE);
+        
+        // The stale copy is returned at once, and only one refresh is started
+        assertEquals(List.of(before), standingsService.getStandings(today, GroupBy.CONFERENCE).get("EASTERN"));
+        assertEquals(List.of(before), standingsService.getStandings(today, GroupBy.CONFERENCE).get("EASTERN"));
+        assertEquals(1, backgroundTasks.size());
+        
+        backgroundTasks.remove(0).run();
+        assertEquals(List.of(after), standingsService.getStandings(today, GroupBy.DIVISION).get("ATLANTIC"));
+        verify(nbaDataService, times(2)).fetchAndSaveGames(today, today);
+    }
+
+    @Test
+    void testGetStandings_WhenQueuedForWriting_ServedFromQueue() {
+        StandingsSnapshot snapshot = new StandingsSnapshot(testDate, celtics, 3, 0, new BigDecimal("1.000"), 1, 1);
+        when(snapshotWriteBehindQueue.findPending(testDate)).thenReturn(List.of(snapshot));
+        
+        Map<String, List<TeamStanding>> result = standingsService.getStandings(testDate, GroupBy.DIVISION);
+        
+        assertEquals(3, result.get("ATLANTIC").get(0).getWins());
+        verify(snapshotStore, never()).findByDate(any());
+        verifyNoInteractions(nbaDataService);
     }
 
     @Test
     void testGetStandings_WhenNotCached() {
-        when(standingsSnapshotRepository.existsBySnapshotDate(testDate)).thenReturn(false);
-        when(gameRepository.findMostRecentGameDate()).thenReturn(null);
-        when(seasonDateUtility.determineSeasonStart(testDate)).thenReturn(LocalDate.of(2025, 10, 1));
+        when(seasonDateUtility.determineSeasonStart(any())).thenReturn(SEASON_START);
+        when(gameRepository.findMostRecentGameDateInSeason(SEASON)).thenReturn(null);
         
-        List<Game> games = new ArrayList<>();
-        when(gameRepository.findByGameDateLessThanEqual(testDate)).thenReturn(games);
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<GameResult> results = Stream.<GameResult>empty().onClose(() -> closed.set(true));
+        when(gameRepository.streamResultsByGameDateBetween(SEASON_START, testDate)).thenReturn(results);
         
         List<Team> teams = List.of(celtics, lakers);
-        when(teamRepository.findAll()).thenReturn(teams);
+        when(teamRegistry.teams()).thenReturn(teams);
         
         Map<Long, TeamStanding> standings = new HashMap<>();
         TeamStanding celticsStanding = new TeamStanding(celtics);
         standings.put(celtics.getId(), celticsStanding);
-        when(standingsCalculator.calculateStandings(games, teams)).thenReturn(standings);
-        
-        StandingsSnapshot snapshot = new StandingsSnapshot(testDate, celtics, 0, 0, BigDecimal.ZERO, 1, 1);
-        when(standingsSnapshotRepository.findBySnapshotDateAndTeam_Division(testDate, Division.ATLANTIC))
-                .thenReturn(List.of(snapshot));
+        when(standingsEngine.calculateRankedStandingsFromResults(results, teams)).thenReturn(standings);
         
         Map<String, List<TeamStanding>> result = standingsService.getStandings(testDate, GroupBy.DIVISION);
         
-        assertNotNull(result);
+        // The calculated standings are grouped in memory instead of being read back
+        assertEquals(List.of(celticsStanding), result.get("ATLANTIC"));
         verify(nbaDataService).fetchAndSaveGames(any(), eq(testDate));
-        verify(standingsCalculator).calculateStandings(games, teams);
+        verify(standingsEngine).calculateRankedStandingsFromResults(results, teams);
+        // The snapshots are queued to be written in the background, not saved in the request
+        verify(snapshotWriteBehindQueue).enqueue(eq(testDate), anyList());
+        verify(snapshotStore, never()).saveAllIgnoringExisting(anyList());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void testGetStandings_WhenNotCached_UsesCheckpoint() {
+        LocalDate checkpointDate = testDate.minusDays(1);
+        when(seasonDateUtility.determineSeasonStart(any())).thenReturn(SEASON_START);
+        when(gameRepository.findMostRecentGameDateInSeason(SEASON)).thenReturn(checkpointDate);
+        
+        List<Team> teams = List.of(celtics, lakers);
+        when(teamRegistry.teams()).thenReturn(teams);
+        
+        List<StandingsSnapshot> checkpoint = createCheckpoint(checkpointDate, teams);
+        when(snapshotStore.findLatestDateInSeasonBefore(testDate)).thenReturn(checkpointDate);
+        when(snapshotStore.findByDate(testDate)).thenReturn(List.of());
+        when(snapshotStore.findByDate(checkpointDate)).thenReturn(checkpoint);
+        when(gameRepository.countBySeasonAndGameDateLessThanEqual(SEASON, checkpointDate)).thenReturn(1L);
+        
+        List<GameResult> newResults = List.of(new GameResult(testDate, 1L, 2L, true));
+        when(gameRepository.findResultsByGameDateBetween(testDate, testDate)).thenReturn(newResults);
+        
+        Map<Long, TeamStanding> standings = new HashMap<>();
+        when(standingsCalculator.calculateStandingsFromCheckpoint(checkpoint, newResults, teams)).thenReturn(standings);
+        
+        standingsService.getStandings(testDate, GroupBy.DIVISION);
+        
+        verify(standingsCalculator).calculateStandingsFromCheckpoint(checkpoint, newResults, teams);
         verify(standingsCalculator).assignDivisionRanks(standings);
         verify(standingsCalculator).assignConferenceRanks(standings);
-        verify(standingsSnapshotRepository).saveAll(anyList());
+        verify(standingsEngine, never()).calculateRankedStandingsFromResults(any(), any());
+        verify(gameRepository, never()).streamResultsByGameDateBetween(any(), any());
     }
 
     @Test
-    void testGetStandings_GroupByConference() {
-        when(standingsSnapshotRepository.existsBySnapshotDate(testDate)).thenReturn(true);
+    void testGetStandings_PastSeason_DoesNotFetchWhenLaterGamesAreStored() {
+        LocalDate pastDate = LocalDate.of(2025, 4, 13);
+        LocalDate pastSeasonStart = LocalDate.of(2024, 10, 1);
+        when(seasonDateUtility.determineSeasonStart(any())).thenReturn(pastSeasonStart);
+        when(gameRepository.findMostRecentGameDateInSeason(2024)).thenReturn(LocalDate.of(2025, 6, 22));
+        
+        List<Team> teams = List.of(celtics, lakers);
+        when(teamRegistry.teams()).thenReturn(teams);
+        Stream<GameResult> results = Stream.empty();
+        when(gameRepository.streamResultsByGameDateBetween(pastSeasonStart, pastDate)).thenReturn(results);
+        when(standingsEngine.calculateRankedStandingsFromResults(results, teams)).thenReturn(new HashMap<>());
+        
+        standingsService.getStandings(pastDate, GroupBy.DIVISION);
+        
+        // The season's games were fetched without gaps up to a later date, so none are missing
+        verify(nbaDataService, never()).fetchAndSaveGames(any(), any());
+        verify(standingsEngine).calculateRankedStandingsFromResults(results, teams);
+    }
+
+    @Test
+    void testGetStandings_WhenCheckpointIsStale_FallsBackToFullCalculation() {
+        LocalDate checkpointDate = testDate.minusDays(1);
+        when(seasonDateUtility.determineSeasonStart(any())).thenReturn(SEASON_START);
+        when(gameRepository.findMostRecentGameDateInSeason(SEASON)).thenReturn(checkpointDate);
+        
+        List<Team> teams = List.of(celtics, lakers);
+        when(teamRegistry.teams()).thenReturn(teams);
+        
+        // Checkpoint accounts for one game, but two games are stored up to its date
+        List<StandingsSnapshot> checkpoint = createCheckpoint(checkpointDate, teams);
+        when(snapshotStore.findLatestDateInSeasonBefore(testDate)).thenReturn(checkpointDate);
+        when(snapshotStore.findByDate(testDate)).thenReturn(List.of());
+        when(snapshotStore.findByDate(checkpointDate)).thenReturn(checkpoint);
+        when(gameRepository.countBySeasonAndGameDateLessThanEqual(SEASON, checkpointDate)).thenReturn(2L);
         
+        Stream<GameResult> results = Stream.empty();
+        when(gameRepository.streamResultsByGameDateBetween(SEASON_START, testDate)).thenReturn(results);
+        when(standingsEngine.calculateRankedStandingsFromResults(results, teams)).thenReturn(new HashMap<>());
+        
+        standingsService.getStandings(testDate, GroupBy.DIVISION);
+        
+        verify(standingsEngine).calculateRankedStandingsFromResults(results, teams);
+        verify(standingsCalculator, never()).calculateStandingsFromCheckpoint(any(), any(), any());
+    }
+
+    @Test
+    void testGetStandings_WhenCheckpointHasNoHeadToHead_FallsBackToFullCalculation() {
+        LocalDate checkpointDate = testDate.minusDays(1);
+        when(seasonDateUtility.determineSeasonStart(any())).thenReturn(SEASON_START);
+        when(gameRepository.findMostRecentGameDateInSeason(SEASON)).thenReturn(checkpointDate);
+        
+        List<Team> teams = List.of(celtics, lakers);
+        when(teamRegistry.teams()).thenReturn(teams);
+        
+        // Snapshots saved before head-to-head tracking cannot seed tiebreakers
+        List<StandingsSnapshot> checkpoint = List.of(
+                new StandingsSnapshot(checkpointDate, celtics, 1, 0, new BigDecimal("1.000"), 1, 1),
+                new StandingsSnapshot(checkpointDate, lakers, 0, 1, BigDecimal.ZERO, 1, 1));
+        when(snapshotStore.findLatestDateInSeasonBefore(testDate)).thenReturn(checkpointDate);
+        when(snapshotStore.findByDate(testDate)).thenReturn(List.of());
+        when(snapshotStore.findByDate(checkpointDate)).thenReturn(checkpoint);
+        
+        Stream<GameResult> results = Stream.empty();
+        when(gameRepository.streamResultsByGameDateBetween(SEASON_START, testDate)).thenReturn(results);
+        when(standingsEngine.calculateRankedStandingsFromResults(results, teams)).thenReturn(new HashMap<>());
+        
+        standingsService.getStandings(testDate, GroupBy.DIVISION);
+        
+        verify(standingsEngine).calculateRankedStandingsFromResults(results, teams);
+        verify(standingsCalculator, never()).calculateStandingsFromCheckpoint(any(), any(), any());
+    }
+    
+    /**
+     * Creates checkpoint snapshots, with head-to-head results, for a single Celtics win over the Lakers.
+     */
+    private List<StandingsSnapshot> createCheckpoint(LocalDate checkpointDate, List<Team> teams) {
+        TeamStanding celticsStanding = new TeamStanding(celtics, 0, teams.size());
+        TeamStanding lakersStanding = new TeamStanding(lakers, 1, teams.size());
+        celticsStanding.recordWinOver(lakersStanding);
+        return List.of(
+                StandingsSnapshot.fromTeamStanding(checkpointDate, celticsStanding),
+                StandingsSnapshot.fromTeamStanding(checkpointDate, lakersStanding));
+    }
+
+    @Test
+    void testGetStandings_GroupByConference() {
         StandingsSnapshot snapshot1 = new StandingsSnapshot(testDate, celtics, 3, 0, new BigDecimal("1.000"), 1, 1);
-        when(standingsSnapshotRepository.findBySnapshotDateAndTeam_Conference(testDate, Conference.EASTERN))
-                .thenReturn(List.of(snapshot1));
-        when(standingsSnapshotRepository.findBySnapshotDateAndTeam_Conference(testDate, Conference.WESTERN))
-                .thenReturn(new ArrayList<>());
+        when(snapshotStore.findByDate(testDate)).thenReturn(List.of(snapshot1));
         
         Map<String, List<TeamStanding>> result = standingsService.getStandings(testDate, GroupBy.CONFERENCE);
         
         assertNotNull(result);
         assertTrue(result.containsKey("EASTERN"));
         assertTrue(result.containsKey("WESTERN"));
+        assertEquals(1, result.get("EASTERN").size());
+        assertTrue(result.get("WESTERN").isEmpty());
+    }
+
+    @Test
+    void testGetTimeline_LoadsSeasonGamesOnceAndGroupsEachDate() {
+        LocalDate from = testDate.minusDays(1);
+        LocalDate seasonStart = SEASON_START;
+        when(seasonDateUtility.determineSeasonStart(any())).thenReturn(SEASON_START);
+        when(gameRepository.findMostRecentGameDateInSeason(SEASON)).thenReturn(from);
+        
+        List<Team> teams = List.of(celtics, lakers);
+        List<GameResult> results = List.of(new GameResult(from, 1L, 2L, true));
+        when(teamRegistry.teams()).thenReturn(teams);
+        when(gameRepository.findResultsByGameDateBetween(seasonStart, testDate)).thenReturn(results);
+        
+        TeamStanding celticsStanding = new TeamStanding(celtics);
+        celticsStanding.setDivisionRank(1);
+        doAnswer(invocation -> {
+            BiConsumer<LocalDate, Map<Long, TeamStanding>> consumer = invocation.getArgument(4);
+            consumer.accept(from, Map.of(1L, celticsStanding));
+            consumer.accept(testDate, Map.of(1L, celticsStanding));
+            return null;
+        }).when(standingsCalculator).sweepStandings(eq(results), eq(teams), eq(from), eq(testDate), any());
+        
+        StandingsTimeline timeline = standingsService.getTimeline(from, testDate, GroupBy.DIVISION);
+        List<LocalDate> dates = new ArrayList<>();
+        timeline.forEachDate((date, standings) -> {
+            dates.add(date);
+            assertEquals(List.of(celticsStanding), standings.get("ATLANTIC"));
+            assertEquals(Division.values().length, standings.size());
+        });
+        
+        assertEquals(List.of(from, testDate), dates);
+        verify(nbaDataService).fetchAndSaveGames(from, testDate);
+        verify(gameRepository, times(1)).findResultsByGameDateBetween(seasonStart, testDate);
+        verify(gameRepository, never()).findByGameDateBetween(any(), any());
+        verify(transactionManager).getTransaction(argThat(definition -> definition.isReadOnly()));
+        verify(snapshotStore, never()).findByDate(any());
     }
 }
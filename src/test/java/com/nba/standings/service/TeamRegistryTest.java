@@ -0,0 +1,80 @@
+package com.nba.standings.service;
+
+import com.nba.standings.model.entity.Team;
+import com.nba.standings.model.enums.Conference;
+import com.nba.standings.model.enums.Division;
+import com.nba.standings.repository.TeamRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TeamRegistryTest {
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    private TeamRegistry teamRegistry;
+    private Team celtics;
+    private Team heat;
+    private Team lakers;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        celtics = createTeamWithId(1L, new Team(2, "Boston Celtics", "BOS", Division.ATLANTIC, Conference.EASTERN));
+        heat = createTeamWithId(2L, new Team(16, "Miami Heat", "MIA", Division.SOUTHEAST, Conference.EASTERN));
+        lakers = createTeamWithId(3L, new Team(14, "Los Angeles Lakers", "LAL", Division.PACIFIC, Conference.WESTERN));
+
+        teamRegistry = new TeamRegistry(teamRepository);
+    }
+
+    private Team createTeamWithId(Long id, Team team) throws Exception {
+        Field idField = Team.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(team, id);
+        return team;
+    }
+
+    @Test
+    void testLookups_LoadTeamsOnceAndIndexByBothIds() {
+        when(teamRepository.findAll()).thenReturn(List.of(lakers, celtics, heat));
+
+        assertEquals(List.of(celtics, heat, lakers), teamRegistry.teams());
+        assertSame(heat, teamRegistry.byId(2L));
+        assertSame(lakers, teamRegistry.byNbaTeamId(14L));
+        assertNull(teamRegistry.byId(4L));
+        assertNull(teamRegistry.byNbaTeamId(99L));
+        assertNull(teamRegistry.byId(null));
+
+        verify(teamRepository, times(1)).findAll();
+    }
+
+    @Test
+    void testMembership_PrecomputedPerDivisionAndConference() {
+        when(teamRepository.findAll()).thenReturn(List.of(lakers, heat, celtics));
+
+        assertEquals(List.of(celtics, heat), teamRegistry.conference(Conference.EASTERN));
+        assertEquals(List.of(lakers), teamRegistry.conference(Conference.WESTERN));
+        assertEquals(List.of(heat), teamRegistry.division(Division.SOUTHEAST));
+        assertTrue(teamRegistry.division(Division.CENTRAL).isEmpty());
+    }
+
+    @Test
+    void testReload_ReplacesLoadedTeams() {
+        when(teamRepository.findAll()).thenReturn(List.of(celtics)).thenReturn(List.of(celtics, heat));
+
+        assertNull(teamRegistry.byId(2L));
+        teamRegistry.reload();
+
+        assertSame(heat, teamRegistry.byId(2L));
+        assertEquals(2, teamRegistry.teams().size());
+    }
+}